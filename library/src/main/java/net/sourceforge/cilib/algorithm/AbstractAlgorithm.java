@@ -10,6 +10,7 @@ import com.google.common.base.Preconditions;
 import fj.Equal;
 import fj.data.List;
 import fj.function.Booleans;
+import net.sourceforge.cilib.measurement.MeasurementCache;
 import net.sourceforge.cilib.moo.archive.Archive;
 import net.sourceforge.cilib.problem.Problem;
 import net.sourceforge.cilib.stoppingcondition.StoppingCondition;
@@ -31,6 +32,9 @@ public abstract class AbstractAlgorithm implements Algorithm {
     private volatile boolean running;
     private boolean initialised;
     protected Problem optimisationProblem;
+    private transient MeasurementCache measurementCache;
+    private transient volatile boolean iterating;
+    private transient volatile Progress progress;
     /**
      * This {@linkplain ThreadLocal} variable maintains the stack of the currently
      * executing algorithm. It is defined as a static member and as a result is not
@@ -87,6 +91,7 @@ public abstract class AbstractAlgorithm implements Algorithm {
         iteration = 0;
         running = true;
         initialised = true;
+        getMeasurementCache().resume();
 
         currentAlgorithmStack.get().push(this);
         algorithmInitialisation();
@@ -99,9 +104,17 @@ public abstract class AbstractAlgorithm implements Algorithm {
     @Override
     public final void performIteration() {
         currentAlgorithmStack.get().push(this);
-        algorithmIteration();
-        iteration++;
-        currentAlgorithmStack.get().pop();
+        getMeasurementCache().suspend();
+        progress = null;
+        iterating = true;
+        try {
+            algorithmIteration();
+            iteration++;
+        } finally {
+            iterating = false;
+            getMeasurementCache().resume();
+            currentAlgorithmStack.get().pop();
+        }
     }
 
     /**
@@ -192,6 +205,19 @@ public abstract class AbstractAlgorithm implements Algorithm {
         return iteration;
     }
 
+    /**
+     * Gets the cache of the values of the measurements of this algorithm in the
+     * current iteration, which is shared by the stopping conditions and the
+     * measurements of a simulation.
+     * @return the measurement cache.
+     */
+    public final synchronized MeasurementCache getMeasurementCache() {
+        if (measurementCache == null) {
+            measurementCache = new MeasurementCache();
+        }
+        return measurementCache;
+    }
+
     /**
      * Returns the percentage the algorithm is from completed (as a fraction). The percentage
      * complete is calculated based on the stopping condition that is closest to finished.
@@ -208,6 +234,37 @@ public abstract class AbstractAlgorithm implements Algorithm {
         return percentageComplete;
     }
 
+    /**
+     * Gets the progress of the algorithm. Within an iteration, the progress is
+     * determined once, when it is first requested, and the same snapshot is
+     * returned for the rest of the iteration, so that control parameters that
+     * depend on the progress do not evaluate the stopping conditions every time
+     * they are used. Outside an iteration, the current progress is determined.
+     * @return the progress of the algorithm.
+     */
+    public final Progress getProgress() {
+        if (!iterating) {
+            return createProgress();
+        }
+
+        Progress current = progress;
+        if (current == null) {
+            synchronized (this) {
+                current = progress;
+                if (current == null) {
+                    current = createProgress();
+                    progress = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private Progress createProgress() {
+        int evaluations = optimisationProblem == null ? 0 : optimisationProblem.getFitnessEvaluations();
+        return new Progress(iteration, evaluations, getPercentageComplete());
+    }
+
     /**
      * Returns true if the algorithm has finished executing.
      * @return true if the algorithm is finished
@@ -232,6 +289,17 @@ public abstract class AbstractAlgorithm implements Algorithm {
         return (AbstractAlgorithm) currentAlgorithmStack.get().peek();
     }
 
+    /**
+     * Replaces the algorithm stack of the current thread with an empty stack.
+     * Used to set up worker threads which execute part of an algorithm.
+     * @return the new, empty, stack of the current thread.
+     */
+    static AlgorithmStack resetAlgorithmStack() {
+        AlgorithmStack stack = new AlgorithmStack();
+        currentAlgorithmStack.set(stack);
+        return stack;
+    }
+
     /**
      * Static accessor to allow the current level of algorithm composition to be returned.
      * @see AlgorithmStack#asList()
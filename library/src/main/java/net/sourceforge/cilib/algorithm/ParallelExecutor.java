@@ -0,0 +1,272 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.algorithm;
+
+import com.google.common.base.Throwables;
+import fj.F;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.sourceforge.cilib.math.random.generator.MersenneTwister;
+import net.sourceforge.cilib.math.random.generator.Rand;
+
+/**
+ * Executes independent units of work of an algorithm (candidates, sub-populations,
+ * trial vectors, ...) concurrently on a process wide pool of daemon threads.
+ * <p>
+ * The results do not depend on the number of threads or on the order in which the
+ * tasks are scheduled:
+ * <ul>
+ *   <li>every task gets its own random number stream, seeded from the {@link Rand}
+ *       of the calling thread in task order, and the calling thread's generator is
+ *       restored afterwards, so the caller's stream resumes right after the seeds
+ *       whether the tasks ran in parallel or not;</li>
+ *   <li>every task sees the algorithm stack of the calling thread, so that
+ *       {@link AbstractAlgorithm#get()} returns the same algorithm as it would
+ *       have in the calling thread.</li>
+ * </ul>
+ * Tasks submitted from within a task, or when the pool has a single thread, are
+ * executed in the calling thread, with exactly the same seeding.
+ * <p>
+ * Algorithms and strategies that can hand their units of work to this class do
+ * so only when their {@code parallel} property is set, which it is not by
+ * default. Since every unit of work then draws from its own random number stream,
+ * a parallel run gives different results than a sequential run, but the same
+ * results for any number of threads. The units of work share the optimisation
+ * problem, which must be safe to evaluate concurrently.
+ * <p>
+ * The number of threads defaults to the number of available processors and can
+ * be changed with the {@code cilib.threads} system property.
+ */
+public final class ParallelExecutor {
+
+    private static final int THREADS = Integer.getInteger("cilib.threads", Runtime.getRuntime().availableProcessors());
+    private static ExecutorService executor;
+
+    private ParallelExecutor() {
+    }
+
+    /**
+     * Gets the number of threads used to execute tasks.
+     * @return the number of threads.
+     */
+    public static int getParallelism() {
+        return THREADS;
+    }
+
+    /**
+     * Executes the given tasks and waits for all of them to complete.
+     * @param <T> the result type of the tasks.
+     * @param tasks the tasks to execute.
+     * @return the results of the tasks, in the same order as the tasks.
+     * @throws RuntimeException if any of the tasks failed.
+     */
+    public static <T> List<T> invokeAll(List<? extends Callable<T>> tasks) {
+        long[] seeds = new long[tasks.size()];
+        for (int i = 0; i < seeds.length; i++) {
+            seeds[i] = Rand.nextLong();
+        }
+        MersenneTwister caller = Rand.getGenerator();
+
+        List<T> results = new ArrayList<T>(tasks.size());
+        try {
+            if (THREADS < 2 || tasks.size() < 2 || Thread.currentThread() instanceof Worker) {
+                for (int i = 0; i < seeds.length; i++) {
+                    Rand.setSeed(seeds[i]);
+                    results.add(tasks.get(i).call());
+                }
+            } else {
+                fj.data.List<Algorithm> algorithms = AbstractAlgorithm.getAlgorithmList();
+                List<Future<T>> futures = new ArrayList<Future<T>>(tasks.size());
+                for (int i = 0; i < seeds.length; i++) {
+                    futures.add(getExecutor().submit(new SeededTask<T>(tasks.get(i), seeds[i], algorithms)));
+                }
+                try {
+                    for (Future<T> future : futures) {
+                        results.add(future.get());
+                    }
+                } finally {
+                    for (Future<T> future : futures) {
+                        future.cancel(true);
+                    }
+                }
+            }
+        } catch (ExecutionException e) {
+            throw Throwables.propagate(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw Throwables.propagate(e);
+        } catch (Exception e) {
+            throw Throwables.propagate(e);
+        } finally {
+            Rand.setGenerator(caller);
+        }
+        return results;
+    }
+
+    /**
+     * Executes the given tasks and passes their results to the given handler, in
+     * task order, as soon as they are available. The handler is called in the
+     * calling thread and may cancel tasks of which the results are no longer
+     * needed: tasks that have not started yet are not executed, and the results
+     * of tasks that are already running are discarded. Tasks are seeded exactly as
+     * in {@link #invokeAll(List)}, whether or not they are cancelled.
+     * @param <T> the result type of the tasks.
+     * @param tasks the tasks to execute.
+     * @param handler the handler of the results.
+     * @throws RuntimeException if any of the tasks that were not cancelled failed.
+     */
+    public static <T> void invokeAll(List<? extends Callable<T>> tasks, ResultHandler<T> handler) {
+        long[] seeds = new long[tasks.size()];
+        for (int i = 0; i < seeds.length; i++) {
+            seeds[i] = Rand.nextLong();
+        }
+        MersenneTwister caller = Rand.getGenerator();
+
+        boolean[] cancelled = new boolean[tasks.size()];
+        try {
+            if (THREADS < 2 || tasks.size() < 2 || Thread.currentThread() instanceof Worker) {
+                for (int i = 0; i < seeds.length; i++) {
+                    if (!cancelled[i]) {
+                        Rand.setSeed(seeds[i]);
+                        T result = tasks.get(i).call();
+                        for (int index : handler.handle(i, result)) {
+                            cancelled[index] = true;
+                        }
+                    }
+                }
+            } else {
+                fj.data.List<Algorithm> algorithms = AbstractAlgorithm.getAlgorithmList();
+                List<Future<T>> futures = new ArrayList<Future<T>>(tasks.size());
+                for (int i = 0; i < seeds.length; i++) {
+                    futures.add(getExecutor().submit(new SeededTask<T>(tasks.get(i), seeds[i], algorithms)));
+                }
+                try {
+                    for (int i = 0; i < seeds.length; i++) {
+                        if (!cancelled[i]) {
+                            for (int index : handler.handle(i, futures.get(i).get())) {
+                                cancelled[index] = true;
+                                futures.get(index).cancel(false);
+                            }
+                        }
+                    }
+                } finally {
+                    for (Future<T> future : futures) {
+                        future.cancel(true);
+                    }
+                }
+            }
+        } catch (ExecutionException e) {
+            throw Throwables.propagate(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw Throwables.propagate(e);
+        } catch (Exception e) {
+            throw Throwables.propagate(e);
+        } finally {
+            Rand.setGenerator(caller);
+        }
+    }
+
+    /**
+     * Applies a function to each of the given inputs, as separate tasks executed
+     * by {@link #invokeAll(List)}.
+     * @param <A> the input type.
+     * @param <B> the result type.
+     * @param inputs the inputs.
+     * @param f the function to apply.
+     * @return the results, in the same order as the inputs.
+     */
+    public static <A, B> List<B> map(Iterable<? extends A> inputs, final F<A, B> f) {
+        List<Callable<B>> tasks = new ArrayList<Callable<B>>();
+        for (final A input : inputs) {
+            tasks.add(new Callable<B>() {
+                @Override
+                public B call() {
+                    return f.f(input);
+                }
+            });
+        }
+        return invokeAll(tasks);
+    }
+
+    private static synchronized ExecutorService getExecutor() {
+        if (executor == null) {
+            executor = Executors.newFixedThreadPool(THREADS, new ThreadFactory() {
+                private final AtomicInteger count = new AtomicInteger();
+
+                @Override
+                public Thread newThread(Runnable runnable) {
+                    Thread thread = new Worker(runnable, "cilib-worker-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+        }
+        return executor;
+    }
+
+    /**
+     * Receives the results of the tasks executed by
+     * {@link ParallelExecutor#invokeAll(List, ResultHandler)}.
+     * @param <T> the result type of the tasks.
+     */
+    public interface ResultHandler<T> {
+        /**
+         * Handles the result of a task.
+         * @param index the index of the task.
+         * @param result the result of the task.
+         * @return the indices of the tasks to cancel, possibly empty.
+         */
+        Iterable<Integer> handle(int index, T result);
+    }
+
+    /**
+     * Marks the threads of the pool, so that nested calls are not submitted to it.
+     */
+    private static class Worker extends Thread {
+        Worker(Runnable runnable, String name) {
+            super(runnable, name);
+        }
+    }
+
+    /**
+     * Sets up the random number stream and algorithm stack of a worker thread
+     * before executing a task.
+     */
+    private static class SeededTask<T> implements Callable<T> {
+        private final Callable<T> task;
+        private final long seed;
+        private final fj.data.List<Algorithm> algorithms;
+
+        SeededTask(Callable<T> task, long seed, fj.data.List<Algorithm> algorithms) {
+            this.task = task;
+            this.seed = seed;
+            this.algorithms = algorithms;
+        }
+
+        @Override
+        public T call() throws Exception {
+            Rand.setSeed(seed);
+            AlgorithmStack stack = AbstractAlgorithm.resetAlgorithmStack();
+            for (Algorithm algorithm : algorithms) {
+                stack.push(algorithm);
+            }
+            try {
+                return task.call();
+            } finally {
+                AbstractAlgorithm.resetAlgorithmStack();
+            }
+        }
+    }
+}
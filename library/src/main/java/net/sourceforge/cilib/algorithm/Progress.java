@@ -0,0 +1,48 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.algorithm;
+
+/**
+ * An immutable snapshot of the progress of an algorithm, as returned by
+ * {@link AbstractAlgorithm#getProgress()}.
+ */
+public final class Progress {
+
+    private final int iterations;
+    private final int evaluations;
+    private final double percentageComplete;
+
+    public Progress(int iterations, int evaluations, double percentageComplete) {
+        this.iterations = iterations;
+        this.evaluations = evaluations;
+        this.percentageComplete = percentageComplete;
+    }
+
+    /**
+     * Gets the number of iterations that were completed.
+     * @return the number of iterations.
+     */
+    public int getIterations() {
+        return iterations;
+    }
+
+    /**
+     * Gets the number of fitness evaluations of the optimisation problem.
+     * @return the number of fitness evaluations, or 0 if there is no problem.
+     */
+    public int getEvaluations() {
+        return evaluations;
+    }
+
+    /**
+     * Gets the percentage complete, as {@link AbstractAlgorithm#getPercentageComplete()}.
+     * @return the percentage complete as a fraction.
+     */
+    public double getPercentageComplete() {
+        return percentageComplete;
+    }
+}
@@ -6,12 +6,18 @@
  */
 package net.sourceforge.cilib.algorithm.population;
 
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
 import net.sourceforge.cilib.algorithm.AbstractAlgorithm;
 import net.sourceforge.cilib.algorithm.initialisation.PopulationInitialisationStrategy;
 import net.sourceforge.cilib.coevolution.cooperative.ParticipatingAlgorithm;
 import net.sourceforge.cilib.coevolution.cooperative.contributionselection.ContributionSelectionStrategy;
 import net.sourceforge.cilib.coevolution.cooperative.contributionselection.ZeroContributionSelectionStrategy;
+import net.sourceforge.cilib.entity.BestEntityCache;
 import net.sourceforge.cilib.entity.Entity;
+import net.sourceforge.cilib.entity.Topologies;
 import net.sourceforge.cilib.entity.topologies.GBestNeighbourhood;
 import net.sourceforge.cilib.entity.topologies.Neighbourhood;
 import fj.data.List;
@@ -30,6 +36,7 @@ public abstract class SinglePopulationBasedAlgorithm<E extends Entity> extends A
     protected List<E> topology;
     protected Neighbourhood<E> neighbourhood;
     protected ContributionSelectionStrategy contributionSelection;
+    private transient Map<Class<?>, BestEntityCache<E>> bestEntityCaches;
 
     /**
      * Create an empty {@linkplain PopulationBasedAlgorithm}.
@@ -45,9 +52,19 @@ public abstract class SinglePopulationBasedAlgorithm<E extends Entity> extends A
      * @param copy The {@linkplain PopulationBasedAlgorithm} to copy.
      */
     protected SinglePopulationBasedAlgorithm(SinglePopulationBasedAlgorithm copy) {
+        this(copy, true);
+    }
+
+    /**
+     * Create a copy of the provided instance, with or without its entities.
+     * @param copy The {@linkplain PopulationBasedAlgorithm} to copy.
+     * @param copyTopology Whether to clone the entities of {@code copy}. If not,
+     *        the copy starts with an empty topology.
+     */
+    protected SinglePopulationBasedAlgorithm(SinglePopulationBasedAlgorithm copy, boolean copyTopology) {
         super(copy);
         this.initialisationStrategy = copy.initialisationStrategy.getClone();
-        this.topology = copy.topology.map(Entities.clone_());
+        this.topology = copyTopology ? copy.topology.map(Entities.clone_()) : List.<E>nil();
         this.neighbourhood = copy.neighbourhood;
         this.contributionSelection = copy.contributionSelection.getClone();
     }
@@ -56,7 +73,116 @@ public abstract class SinglePopulationBasedAlgorithm<E extends Entity> extends A
      * {@inheritDoc}
      */
     @Override
-    public abstract SinglePopulationBasedAlgorithm getClone();
+    public abstract SinglePopulationBasedAlgorithm<E> getClone();
+
+    /**
+     * Creates a copy of this algorithm that has the given topology. Unlike
+     * {@link #getClone()}, the entities are not cloned: the copy holds the given
+     * entities by reference, which allows entities to be moved between populations
+     * at a cost that depends on the number of entities moved rather than on the
+     * size of the populations. The entities should not remain part of another
+     * population that is still in use.
+     *
+     * @param entities The topology of the copy.
+     * @return A copy of this algorithm with the given topology.
+     */
+    public SinglePopulationBasedAlgorithm<E> withTopology(List<? extends Entity> entities) {
+        SinglePopulationBasedAlgorithm<E> copy = getCloneWithoutTopology();
+        copy.topology = asTopology(entities);
+        copy.linkEntities();
+        return copy;
+    }
+
+    /**
+     * Creates a copy of this algorithm with an empty topology, for
+     * {@link #withTopology(List)}. The default implementation clones the whole
+     * algorithm and then drops the entities. Subclasses that override
+     * {@link #getClone()} should also override this method, using
+     * {@link #SinglePopulationBasedAlgorithm(SinglePopulationBasedAlgorithm, boolean)}
+     * so that the entities are not cloned.
+     *
+     * @return A copy of this algorithm without entities.
+     */
+    protected SinglePopulationBasedAlgorithm<E> getCloneWithoutTopology() {
+        SinglePopulationBasedAlgorithm<E> copy = getClone();
+        copy.topology = List.<E>nil();
+        return copy;
+    }
+
+    /**
+     * Uses the given entities as a topology. The entities of a population are not
+     * type checked when they are moved between populations, but lists are immutable,
+     * so entities of the right type may be referenced through a list of a supertype.
+     */
+    @SuppressWarnings("unchecked")
+    private List<E> asTopology(List<? extends Entity> entities) {
+        return (List<E>) entities;
+    }
+
+    /**
+     * Restores the relationships between the entities of the topology that are
+     * set up when the algorithm is copied, such as neighbourhood bests. Called by
+     * {@link #withTopology(List)}. The default implementation does nothing.
+     */
+    protected void linkEntities() {
+    }
+
+    /**
+     * Gets the best entity of the topology. The best entities of the fitness
+     * comparators are cached (see {@link BestEntityCache}), so that repeated
+     * queries cost constant time as long as the entities are not modified.
+     * @param comparator the comparator of the entities.
+     * @return the best entity, as {@link Topologies#getBestEntity(List, Comparator)}.
+     */
+    public E getBestEntity(Comparator<? super E> comparator) {
+        BestEntityCache<E> cache = getBestEntityCache(comparator);
+        if (cache == null) {
+            return Topologies.getBestEntity(topology, comparator);
+        }
+        return cache.getBestEntity(topology);
+    }
+
+    /**
+     * Gets the best entities of the neighbourhoods of the topology, which are
+     * cached in the same way as {@link #getBestEntity(Comparator)}, within an
+     * iteration.
+     * @param comparator the comparator of the entities.
+     * @return the set of neighbourhood bests, as
+     *         {@link Topologies#getNeighbourhoodBestEntities(List, Neighbourhood, Comparator)},
+     *         which must not be modified.
+     */
+    public Set<E> getNeighbourhoodBestEntities(Comparator<? super E> comparator) {
+        BestEntityCache<E> cache = getBestEntityCache(comparator);
+        if (cache == null) {
+            return Topologies.getNeighbourhoodBestEntities(topology, neighbourhood, comparator);
+        }
+        return cache.getNeighbourhoodBestEntities(topology, neighbourhood, getIterations());
+    }
+
+    private synchronized BestEntityCache<E> getBestEntityCache(Comparator<? super E> comparator) {
+        if (!BestEntityCache.isCacheable(comparator)) {
+            return null;
+        }
+
+        if (bestEntityCaches == null) {
+            bestEntityCaches = new HashMap<Class<?>, BestEntityCache<E>>();
+        }
+        BestEntityCache<E> cache = bestEntityCaches.get(comparator.getClass());
+        if (cache == null) {
+            cache = createBestEntityCache(comparator);
+            bestEntityCaches.put(comparator.getClass(), cache);
+        }
+        return cache;
+    }
+
+    /**
+     * Creates the cache of the bests of a comparator.
+     * @param comparator the comparator.
+     * @return the cache.
+     */
+    protected BestEntityCache<E> createBestEntityCache(Comparator<? super E> comparator) {
+        return new BestEntityCache<E>(comparator);
+    }
 
     /**
      * Perform the iteration within the algorithm.
@@ -9,6 +9,7 @@ package net.sourceforge.cilib.boa;
 import java.util.Arrays;
 import java.util.List;
 
+import net.sourceforge.cilib.algorithm.ParallelExecutor;
 import net.sourceforge.cilib.algorithm.initialisation.ClonedPopulationInitialisationStrategy;
 import net.sourceforge.cilib.algorithm.population.SinglePopulationBasedAlgorithm;
 import net.sourceforge.cilib.boa.bee.ExplorerBee;
@@ -17,8 +18,11 @@ import net.sourceforge.cilib.boa.bee.OnlookerBee;
 import net.sourceforge.cilib.boa.bee.WorkerBee;
 import net.sourceforge.cilib.controlparameter.ConstantControlParameter;
 import net.sourceforge.cilib.controlparameter.ControlParameter;
+import net.sourceforge.cilib.entity.Property;
+import net.sourceforge.cilib.problem.solution.Fitness;
 import net.sourceforge.cilib.problem.solution.OptimisationSolution;
 import net.sourceforge.cilib.type.types.container.Vector;
+import net.sourceforge.cilib.util.functions.Entities;
 import net.sourceforge.cilib.util.selection.recipes.RouletteWheelSelector;
 import net.sourceforge.cilib.util.selection.recipes.Selector;
 
@@ -58,7 +62,9 @@ public class ABC extends SinglePopulationBasedAlgorithm<HoneyBee> {
     private ControlParameter workerBeePercentage;       //control parameter for number of worker bees
     private ControlParameter forageLimit;               //control parameter for the forage limit
     private ControlParameter explorerBeeUpdateLimit;    //control parameter to limit the explorer bee position updates per iteration
-    private HoneyBee bestBee;                            //reference to best solution found so far
+    private Vector bestPosition;                        //values of the best solution found so far
+    private Fitness bestFitness;                        //fitness of the best solution found so far
+    private boolean parallel;                           //whether the bees of a phase forage concurrently
 
     /**
      * Default constructor. Creates a new instance of {@code ABC}.
@@ -77,6 +83,7 @@ public class ABC extends SinglePopulationBasedAlgorithm<HoneyBee> {
         forageLimit = ConstantControlParameter.of(500);
         workerBeePercentage = ConstantControlParameter.of(0.5);
         explorerBeeUpdateLimit = ConstantControlParameter.of(1.0);
+        parallel = false;
     }
 
     /**
@@ -84,7 +91,16 @@ public class ABC extends SinglePopulationBasedAlgorithm<HoneyBee> {
      * @param copy ABC reference of which a deep copy is made.
      */
     public ABC(ABC copy) {
-        super(copy);
+        this(copy, true);
+    }
+
+    /**
+     * Creates a copy of the provided instance, with or without its bees.
+     * @param copy ABC reference of which a copy is made.
+     * @param copyTopology Whether to clone the bees of {@code copy}.
+     */
+    protected ABC(ABC copy, boolean copyTopology) {
+        super(copy, copyTopology);
 
         explorerBee = copy.explorerBee.getClone();
         dancingSelectionStrategy = new RouletteWheelSelector();
@@ -92,6 +108,12 @@ public class ABC extends SinglePopulationBasedAlgorithm<HoneyBee> {
         forageLimit = copy.forageLimit.getClone();
         workerBeePercentage = copy.workerBeePercentage.getClone();
         explorerBeeUpdateLimit = copy.explorerBeeUpdateLimit.getClone();
+        parallel = copy.parallel;
+
+        if (copy.bestPosition != null) {
+            bestPosition = Vector.copyOf(copy.bestPosition);
+            bestFitness = copy.bestFitness;
+        }
 
         final int workerBeeCount = Double.valueOf(workerBeePercentage.getParameter() * topology.length()).intValue();
         workerBees = topology.take(workerBeeCount);
@@ -106,6 +128,14 @@ public class ABC extends SinglePopulationBasedAlgorithm<HoneyBee> {
         return new ABC(this);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected ABC getCloneWithoutTopology() {
+        return new ABC(this, false);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -121,6 +151,7 @@ public class ABC extends SinglePopulationBasedAlgorithm<HoneyBee> {
                 return new OnlookerBee((WorkerBee) b);
             }
 	});
+        topology = workerBees.append(onlookerBees);
 
         explorerBee.setExplorerBeeUpdateLimit(this.explorerBeeUpdateLimit);
     }
@@ -130,34 +161,110 @@ public class ABC extends SinglePopulationBasedAlgorithm<HoneyBee> {
      */
     @Override
     protected void algorithmIteration() {
-        for (HoneyBee bee : workerBees) {
-            bee.updatePosition();
-            if (bestBee == null) {
-                bestBee = bee.getClone();
-            } else if (bee.getBestFitness().compareTo(bestBee.getBestFitness()) > 0) {
-                bestBee = bee.getClone();
+        if (parallel) {
+            workerBees = fj.data.List.iterableList(ParallelExecutor.map(workerBees, new F<HoneyBee, HoneyBee>() {
+                @Override
+                public HoneyBee f(HoneyBee bee) {
+                    HoneyBee copy = bee.getClone();
+                    if (copy instanceof WorkerBee) {
+                        ((WorkerBee) copy).forage();
+                    } else {
+                        copy.updatePosition();
+                    }
+                    return copy;
+                }
+            }));
+
+            // Scouting is left until all the bees have foraged, as the explorer bee
+            // limits the number of scouts per iteration.
+            for (HoneyBee bee : workerBees) {
+                if (bee instanceof WorkerBee && ((WorkerBee) bee).getFailureCount() >= ((WorkerBee) bee).getForageLimit().getParameter()) {
+                    ((WorkerBee) bee).scout();
+                }
+            }
+        } else {
+            for (HoneyBee bee : workerBees) {
+                bee.updatePosition();
+            }
+        }
+        updateBest(workerBees);
+
+        final F<HoneyBee, HoneyBee> dance = dance(workerBees);
+        F<HoneyBee, HoneyBee> follow = new F<HoneyBee, HoneyBee>() {
+            @Override
+            public HoneyBee f(HoneyBee bee) {
+                HoneyBee selectedBee = dance.f(bee);
+                copyValues((Vector) selectedBee.getPosition(), (Vector) bee.getPosition());
+                bee.put(Property.FITNESS, selectedBee.getFitness());
+                bee.updatePosition();
+                return bee;
+            }
+        };
+        if (parallel) {
+            onlookerBees = fj.data.List.iterableList(ParallelExecutor.map(onlookerBees, Entities.<HoneyBee>clone_().andThen(follow)));
+        } else {
+            for (HoneyBee bee : onlookerBees) {
+                follow.f(bee);
             }
         }
+        updateBest(onlookerBees);
 
-        for (HoneyBee bee : onlookerBees) {
-            HoneyBee selectedBee = dancingSelectionStrategy.on(workerBees).select();
-            bee.setPosition(Vector.copyOf((Vector) selectedBee.getPosition()));
-            bee.updatePosition();
-            if (bestBee == null) {
-                bestBee = bee;
-            } else if (bee.getBestFitness().compareTo(bestBee.getBestFitness()) > 0) {
-                bestBee = bee;
+        topology = workerBees.append(onlookerBees);
+    }
+
+    /**
+     * Creates the function that selects the worker bee that an onlooker bee
+     * follows. The worker bees do not move while the onlooker bees follow them,
+     * so a roulette wheel is weighed only once per iteration.
+     */
+    private F<HoneyBee, HoneyBee> dance(final fj.data.List<HoneyBee> workers) {
+        if (dancingSelectionStrategy instanceof RouletteWheelSelector) {
+            final RouletteWheelSelector.Wheel<HoneyBee> wheel = ((RouletteWheelSelector<HoneyBee>) dancingSelectionStrategy).wheel(workers);
+            return new F<HoneyBee, HoneyBee>() {
+                @Override
+                public HoneyBee f(HoneyBee onlooker) {
+                    return wheel.spin();
+                }
+            };
+        }
+
+        return new F<HoneyBee, HoneyBee>() {
+            @Override
+            public HoneyBee f(HoneyBee onlooker) {
+                return dancingSelectionStrategy.on(workers).select();
+            }
+        };
+    }
+
+    /**
+     * Records the values of the best of the given bees if it is better than the
+     * best solution found so far.
+     */
+    private void updateBest(fj.data.List<HoneyBee> bees) {
+        for (HoneyBee bee : bees) {
+            if (bestPosition == null) {
+                bestPosition = Vector.copyOf((Vector) bee.getPosition());
+                bestFitness = bee.getBestFitness();
+            } else if (bee.getBestFitness().compareTo(bestFitness) > 0) {
+                copyValues((Vector) bee.getPosition(), bestPosition);
+                bestFitness = bee.getBestFitness();
             }
         }
     }
 
+    private static void copyValues(Vector from, Vector to) {
+        for (int i = 0; i < from.size(); i++) {
+            to.setReal(i, from.doubleValueOf(i));
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public OptimisationSolution getBestSolution() {
-        Preconditions.checkNotNull(bestBee, "Best solution cannot be determined before algorithm is run");
-        return new OptimisationSolution(bestBee.getPosition(), bestBee.getFitness());
+        Preconditions.checkNotNull(bestPosition, "Best solution cannot be determined before algorithm is run");
+        return new OptimisationSolution(Vector.copyOf(bestPosition), bestFitness);
     }
 
     /**
@@ -256,20 +363,17 @@ public class ABC extends SinglePopulationBasedAlgorithm<HoneyBee> {
         this.explorerBeeUpdateLimit = explorerBeeUpdateLimit;
     }
 
-    /**
-     * Gets the bee with the highest fitness during the algorithm execution.
-     * @return the bee with the highest fitness.
-     */
-    public HoneyBee getBestBee() {
-        return bestBee;
+    public boolean isParallel() {
+        return parallel;
     }
 
     /**
-     * Sets the bee with the highest fitness during the algorithm execution.
-     * @param bestBee the new bee with the highest fitness.
+     * Sets whether the bees of each phase forage concurrently, from the positions at the
+     * start of the phase, see {@link ParallelExecutor}.
+     * @param parallel whether the bees forage concurrently.
      */
-    public void setBestBee(HoneyBee bestBee) {
-        this.bestBee = bestBee;
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
     }
 
     /**
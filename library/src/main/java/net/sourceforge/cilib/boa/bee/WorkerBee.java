@@ -52,6 +52,18 @@ public class WorkerBee extends AbstractBee {
      */
     @Override
     public void updatePosition() {
+        if (forage()) {
+            scout();
+        }
+    }
+
+    /**
+     * Forages around the current food source, following one of the worker bees
+     * of the algorithm on the stack.
+     * @return whether the bee has now failed to improve its food source as many
+     *         times as the forage limit allows, and should {@link #scout()}.
+     */
+    public boolean forage() {
         ABC algorithm = (ABC) AbstractAlgorithm.get();
         HoneyBee target = targetSelectionStrategy.on(algorithm.getWorkerBees()).select();
 
@@ -62,13 +74,21 @@ public class WorkerBee extends AbstractBee {
         boolean success = this.positionUpdateStrategy.updatePosition(this, target);
         if (!success) {
             failureCount++;
-            if (failureCount >= forageLimit.getParameter()) {
-                failureCount = 0;
-                ExplorerBee explorerBee = algorithm.getExplorerBee();
-                if (explorerBee.searchAllowed(algorithm.getIterations())) {
-                    this.setPosition(explorerBee.getNewPosition(algorithm.getIterations(), (Vector) this.getPosition()));
-                }
-            }
+            return failureCount >= forageLimit.getParameter();
+        }
+        return false;
+    }
+
+    /**
+     * Abandons the current food source, and moves to a random position if the
+     * explorer bee of the algorithm on the stack allows it.
+     */
+    public void scout() {
+        ABC algorithm = (ABC) AbstractAlgorithm.get();
+        failureCount = 0;
+        ExplorerBee explorerBee = algorithm.getExplorerBee();
+        if (explorerBee.searchAllowed(algorithm.getIterations())) {
+            this.setPosition(explorerBee.getNewPosition(algorithm.getIterations(), (Vector) this.getPosition()));
         }
     }
 
@@ -36,19 +36,19 @@ public class VisualPositionUpdateStategy implements BeePositionUpdateStrategy {
     public boolean updatePosition(HoneyBee bee, HoneyBee otherBee) {
         int j = Rand.nextInt(bee.getDimension());
 
-        Vector newPosition = (Vector) bee.getPosition();
-        Vector oldPosition = Vector.copyOf((Vector) bee.getPosition());
+        Vector position = (Vector) bee.getPosition();
         Vector otherPosition = (Vector) otherBee.getPosition();
-        double value = newPosition.doubleValueOf(j);
+        double value = position.doubleValueOf(j);
         double other = otherPosition.doubleValueOf(j);
-        newPosition.setReal(j, value + (Rand.nextDouble() * 2 - 1) * (value - other));
+        position.setReal(j, value + (Rand.nextDouble() * 2 - 1) * (value - other));
 
-        //Determine if new position is better than old and update
+        //Determine if new position is better than old and update, only the
+        //changed dimension has to be restored otherwise
         Fitness oldFitness = bee.getFitness().getClone();
         bee.updateFitness(bee.getBehaviour().getFitnessCalculator().getFitness(bee));
         Fitness newFitness = bee.getFitness();
         if (newFitness.compareTo(oldFitness) < 0) {
-            bee.setPosition(oldPosition);
+            position.setReal(j, value);
             bee.put(Property.FITNESS, oldFitness);
             return false;
         }
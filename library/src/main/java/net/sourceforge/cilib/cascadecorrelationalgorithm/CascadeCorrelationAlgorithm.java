@@ -12,9 +12,12 @@ import com.google.common.collect.Lists;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Callable;
 import net.sourceforge.cilib.algorithm.AbstractAlgorithm;
+import net.sourceforge.cilib.algorithm.ParallelExecutor;
 import net.sourceforge.cilib.algorithm.population.SinglePopulationBasedAlgorithm;
 import net.sourceforge.cilib.entity.initialisation.MaskedInitialisationStrategy;
+import net.sourceforge.cilib.nn.architecture.CascadeActivationCache;
 import net.sourceforge.cilib.nn.architecture.builder.CascadeArchitectureBuilder;
 import net.sourceforge.cilib.nn.architecture.builder.LayerConfiguration;
 import net.sourceforge.cilib.nn.architecture.visitors.CascadeVisitor;
@@ -40,9 +43,13 @@ public class CascadeCorrelationAlgorithm extends AbstractAlgorithm {
     private CascadeOutputLayerTrainingProblem phase2Problem;
     private Fitness trackedFitness;
     private Neuron neuronPrototype;
+    private int candidatePoolSize;
+    private int poolWeightEvaluationCount;
 
     public CascadeCorrelationAlgorithm() {
         neuronPrototype = new Neuron();
+        candidatePoolSize = 1;
+        poolWeightEvaluationCount = 0;
         trackedFitness = InferiorFitness.instance();
         phase1Problem = new CascadeHiddenNeuronCorrelationProblem();
         phase2Problem = new CascadeOutputLayerTrainingProblem();
@@ -55,6 +62,8 @@ public class CascadeCorrelationAlgorithm extends AbstractAlgorithm {
         phase2Algorithm = rhs.phase2Algorithm.getClone();
         phase1Problem = rhs.phase1Problem.getClone();
         phase2Problem = rhs.phase2Problem.getClone();
+        candidatePoolSize = rhs.candidatePoolSize;
+        poolWeightEvaluationCount = rhs.poolWeightEvaluationCount;
     }
 
     /**
@@ -90,6 +99,12 @@ public class CascadeCorrelationAlgorithm extends AbstractAlgorithm {
         phase2Problem.setValidationSet(problem.getValidationSet());
         phase2Problem.setGeneralisationSet(problem.getGeneralisationSet());
         phase2Problem.setNeuralNetwork(network);
+
+        //the activations of the frozen units are shared by both phases and the network
+        CascadeActivationCache activationCache = new CascadeActivationCache();
+        phase1Problem.setActivationCache(activationCache);
+        phase2Problem.setActivationCache(activationCache);
+        ((CascadeVisitor) network.getOperationVisitor()).setActivationCache(activationCache);
     }
 
     /**
@@ -112,23 +127,51 @@ public class CascadeCorrelationAlgorithm extends AbstractAlgorithm {
      * a new layer just before the output layer. If the algorithm produces
      * multiple solutions, one new neuron is added for each solution.
      * Regardless of the number of solutions, only one layer is added.
+     * <p>
+     * If the candidate pool size is larger than one, a pool of candidate
+     * neurons is trained concurrently (see {@link ParallelExecutor}) and only
+     * the candidate with the highest correlation is installed. The activations
+     * and residual errors of the network are cached once and shared by all
+     * the candidates.
      */
     @VisibleForTesting
     protected void phase1() {
         NNTrainingProblem problem = (NNTrainingProblem) optimisationProblem;
         NeuralNetwork network = problem.getNeuralNetwork();
         Vector trackedWeights = network.getWeights();
-        
-        AbstractAlgorithm alg1 = (AbstractAlgorithm) phase1Algorithm.getClone();
 
         phase1Problem.initialise();
 
-        alg1.setOptimisationProblem(phase1Problem);
-        alg1.performInitialisation();
-        alg1.runAlgorithm();
+        OptimisationSolution bestCandidate;
+        if (candidatePoolSize == 1) {
+            bestCandidate = trainCandidate(phase1Problem);
+        } else {
+            final int weightEvaluationCount = phase1Problem.getWeightEvaluationCount();
+            List<Callable<OptimisationSolution>> candidates = new ArrayList<Callable<OptimisationSolution>>(candidatePoolSize);
+            for (int curCandidate = 0; curCandidate < candidatePoolSize; ++curCandidate) {
+                final CascadeHiddenNeuronCorrelationProblem candidateProblem = phase1Problem.getClone();
+                candidates.add(new Callable<OptimisationSolution>() {
+                    @Override
+                    public OptimisationSolution call() {
+                        OptimisationSolution solution = trainCandidate(candidateProblem);
+                        synchronized (CascadeCorrelationAlgorithm.this) {
+                            poolWeightEvaluationCount += candidateProblem.getWeightEvaluationCount() - weightEvaluationCount;
+                        }
+                        return solution;
+                    }
+                });
+            }
+
+            bestCandidate = null;
+            for (OptimisationSolution candidate : ParallelExecutor.invokeAll(candidates)) {
+                if (bestCandidate == null || candidate.getFitness().compareTo(bestCandidate.getFitness()) > 0) {
+                    bestCandidate = candidate;
+                }
+            }
+        }
 
         //List<OptimisationSolution> solutions = Lists.<OptimisationSolution>newLinkedList(alg1.getSolutions());
-        List<OptimisationSolution> solutions = Arrays.asList(alg1.getBestSolution());
+        List<OptimisationSolution> solutions = Arrays.asList(bestCandidate);
 
         List<LayerConfiguration> layers = network.getArchitecture().getArchitectureBuilder().getLayerConfigurations();
 
@@ -170,6 +213,22 @@ public class CascadeCorrelationAlgorithm extends AbstractAlgorithm {
         network.setWeights(trackedWeights);
     }
 
+    /**
+     * Trains a single candidate neuron on the given, initialised, problem
+     * using a clone of the phase 1 algorithm.
+     * @param candidateProblem The problem to train the candidate neuron on.
+     * @return The best solution found by the phase 1 algorithm.
+     */
+    private OptimisationSolution trainCandidate(CascadeHiddenNeuronCorrelationProblem candidateProblem) {
+        AbstractAlgorithm alg1 = (AbstractAlgorithm) phase1Algorithm.getClone();
+
+        alg1.setOptimisationProblem(candidateProblem);
+        alg1.performInitialisation();
+        alg1.runAlgorithm();
+
+        return alg1.getBestSolution();
+    }
+
     /**
      * Performs the output-training phase.
      * A clone is made of the phase 2 algorithm to ensure a clean start.
@@ -261,6 +320,25 @@ public class CascadeCorrelationAlgorithm extends AbstractAlgorithm {
         this.phase2Algorithm = algorithm;
     }
 
+    /**
+     * Sets the number of candidate neurons that are trained during each
+     * correlation phase. Only the best candidate is added to the network.
+     * @param candidatePoolSize The number of candidate neurons.
+     */
+    public void setCandidatePoolSize(int candidatePoolSize) {
+        Preconditions.checkArgument(candidatePoolSize > 0, "The candidate pool size must be positive.");
+        this.candidatePoolSize = candidatePoolSize;
+    }
+
+    /**
+     * Gets the number of candidate neurons that are trained during each
+     * correlation phase.
+     * @return The number of candidate neurons.
+     */
+    public int getCandidatePoolSize() {
+        return candidatePoolSize;
+    }
+
     /**
      * Gets the number of evaluations performed during the correlation
      * phase.
@@ -286,7 +364,7 @@ public class CascadeCorrelationAlgorithm extends AbstractAlgorithm {
      * @return The number of weight evaluations.
      */
     public int getPhase1WeightEvaluationCount() {
-        return phase1Problem.getWeightEvaluationCount();
+        return phase1Problem.getWeightEvaluationCount() + poolWeightEvaluationCount;
     }
 
     /**
@@ -14,7 +14,6 @@ import net.sourceforge.cilib.algorithm.population.SinglePopulationBasedAlgorithm
 import net.sourceforge.cilib.clustering.entity.ClusterParticle;
 import net.sourceforge.cilib.clustering.iterationstrategies.SinglePopulationDataClusteringIterationStrategy;
 import net.sourceforge.cilib.clustering.iterationstrategies.StandardDataClusteringIterationStrategy;
-import net.sourceforge.cilib.entity.Topologies;
 import net.sourceforge.cilib.entity.comparator.SocialBestFitnessComparator;
 import net.sourceforge.cilib.io.DataTable;
 import net.sourceforge.cilib.io.pattern.StandardPattern;
@@ -62,7 +61,16 @@ public class DataClusteringPSO extends SinglePopulationBasedAlgorithm<ClusterPar
      * @param copy Th DataClusteringPSO to be copied
      */
     public DataClusteringPSO(DataClusteringPSO copy) {
-        super(copy);
+        this(copy, true);
+    }
+
+    /*
+     * copy constructor for DataClusteringPSO, with or without its particles
+     * @param copy The DataClusteringPSO to be copied
+     * @param copyTopology Whether to clone the particles of copy
+     */
+    protected DataClusteringPSO(DataClusteringPSO copy, boolean copyTopology) {
+        super(copy, copyTopology);
         iterationStrategy = copy.iterationStrategy.getClone();
         isExplorer = copy.isExplorer;
         numberOfCentroids = copy.numberOfCentroids;
@@ -77,6 +85,14 @@ public class DataClusteringPSO extends SinglePopulationBasedAlgorithm<ClusterPar
         return new DataClusteringPSO(this);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected DataClusteringPSO getCloneWithoutTopology() {
+        return new DataClusteringPSO(this, false);
+    }
+
     /*
      * Calls the IterationStrategy's performIteration method
      */
@@ -108,7 +124,7 @@ public class DataClusteringPSO extends SinglePopulationBasedAlgorithm<ClusterPar
      */
     @Override
     public OptimisationSolution getBestSolution() {
-        ClusterParticle bestEntity = Topologies.getBestEntity(topology, new SocialBestFitnessComparator<ClusterParticle>());
+        ClusterParticle bestEntity = getBestEntity(new SocialBestFitnessComparator<ClusterParticle>());
         return new OptimisationSolution(bestEntity.getBestPosition(), bestEntity.getBestFitness());
     }
 
@@ -119,7 +135,7 @@ public class DataClusteringPSO extends SinglePopulationBasedAlgorithm<ClusterPar
     @Override
     public List<OptimisationSolution> getSolutions() {
         List<OptimisationSolution> solutions = Lists.newLinkedList();
-        for (ClusterParticle e : Topologies.getNeighbourhoodBestEntities(topology, getNeighbourhood(), new SocialBestFitnessComparator<ClusterParticle>())) {
+        for (ClusterParticle e : getNeighbourhoodBestEntities(new SocialBestFitnessComparator<ClusterParticle>())) {
             solutions.add(new OptimisationSolution(e.getBestPosition(), e.getBestFitness()));
         }
         return solutions;
@@ -12,9 +12,9 @@ import net.sourceforge.cilib.algorithm.AbstractAlgorithm;
 import net.sourceforge.cilib.io.ARFFFileReader;
 import net.sourceforge.cilib.io.DataTable;
 import net.sourceforge.cilib.io.DataTableBuilder;
+import net.sourceforge.cilib.io.DataTableRegistry;
 import net.sourceforge.cilib.io.StandardPatternDataTable;
 import net.sourceforge.cilib.io.exception.CIlibIOException;
-import net.sourceforge.cilib.io.pattern.StandardPattern;
 import net.sourceforge.cilib.io.transform.DataOperator;
 import net.sourceforge.cilib.io.transform.PatternConversionOperator;
 import net.sourceforge.cilib.io.transform.TypeConversionOperator;
@@ -28,10 +28,12 @@ import net.sourceforge.cilib.io.transform.TypeConversionOperator;
  * If no window size is set, the dataset is assumed to be static and 
  * the window size becomes the size of the dataset and the value of
  * isTemporal becomes false.
+ * The dataset is read through the {@link DataTableRegistry}, so the windows are
+ * views on patterns that are shared between all samples using the same dataset.
  */
 public class SlidingWindow {
-    private DataTable completeDataset;
-    private DataTable currentDataset;
+    private StandardPatternDataTable completeDataset;
+    private StandardPatternDataTable currentDataset;
     private DataTableBuilder tableBuilder;
     private int windowSize;
     private int slideSize;
@@ -111,16 +113,12 @@ public class SlidingWindow {
         
         if(hasNotFinished()) {
             if(slidingTime == getIterationToChange()) {
-                currentDataset = new StandardPatternDataTable();
-                
                 int upTo = currentIndex + slideSize;
                 if(currentIndex + slideSize > completeDataset.size()) {
                     upTo = completeDataset.size();
                 }
                  
-                for(int i = currentIndex; i < upTo; i++) {
-                    currentDataset.addRow((StandardPattern) completeDataset.getRow(i));
-                }
+                currentDataset = completeDataset.select(currentIndex, upTo);
                 
                 currentIndex = upTo;
                 slidingTime = 0;
@@ -146,14 +144,12 @@ public class SlidingWindow {
         tableBuilder.addDataOperator(new TypeConversionOperator());
         tableBuilder.addDataOperator(patternConverstionOperator);
         try {
-            tableBuilder.buildDataTable();
+            completeDataset = DataTableRegistry.getPatternStore(tableBuilder).view();
             
         } catch (CIlibIOException ex) {
             Logger.getLogger(DataClusteringPSO.class.getName()).log(Level.SEVERE, null, ex);
         }
         
-        completeDataset = tableBuilder.getDataTable();
-        
         if((windowSize == 0) || windowSize == completeDataset.size()) {
             windowSize = completeDataset.size();
             isTemporal = false;
@@ -165,9 +161,7 @@ public class SlidingWindow {
             slideSize = windowSize;
         }
         
-        for(int i = 0; i < currentIndex + slideSize; i++) {
-            currentDataset.addRow((StandardPattern) completeDataset.getRow(i));
-        }
+        currentDataset = completeDataset.select(0, currentIndex + slideSize);
         
         currentIndex+= slideSize;
 
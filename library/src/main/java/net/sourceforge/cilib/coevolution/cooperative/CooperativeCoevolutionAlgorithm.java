@@ -6,8 +6,10 @@
  */
 package net.sourceforge.cilib.coevolution.cooperative;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import net.sourceforge.cilib.algorithm.ParallelExecutor;
 import net.sourceforge.cilib.algorithm.population.MultiPopulationBasedAlgorithm;
 import net.sourceforge.cilib.algorithm.population.SinglePopulationBasedAlgorithm;
 import net.sourceforge.cilib.coevolution.CoevolutionAlgorithm;
@@ -21,6 +23,7 @@ import net.sourceforge.cilib.coevolution.cooperative.problemdistribution.Perfect
 import net.sourceforge.cilib.coevolution.cooperative.problemdistribution.ProblemDistributionStrategy;
 import net.sourceforge.cilib.problem.solution.OptimisationSolution;
 import net.sourceforge.cilib.type.types.container.Vector;
+import net.sourceforge.cilib.util.functions.Algorithms;
 
 /**
  * This class forms the basis for any co-operative coevolution optimisation
@@ -58,6 +61,7 @@ public class CooperativeCoevolutionAlgorithm extends MultiPopulationBasedAlgorit
     protected ProblemDistributionStrategy problemDistribution;
     protected ContributionSelectionStrategy contributionSelection;
     protected ContextUpdateStrategy contextUpdate;
+    protected boolean parallel;
 
     /**
      * Constructor
@@ -67,6 +71,7 @@ public class CooperativeCoevolutionAlgorithm extends MultiPopulationBasedAlgorit
         problemDistribution = new PerfectSplitDistributionStrategy();
         contributionSelection = new TopologyBestContributionSelectionStrategy();
         contextUpdate = new SelectiveContextUpdateStrategy();
+        parallel = false;
     }
 
     /**
@@ -79,6 +84,7 @@ public class CooperativeCoevolutionAlgorithm extends MultiPopulationBasedAlgorit
         problemDistribution = copy.problemDistribution;
         contributionSelection = copy.contributionSelection.getClone();
         contextUpdate = copy.contextUpdate.getClone();
+        parallel = copy.parallel;
     }
 
     /**
@@ -105,6 +111,11 @@ public class CooperativeCoevolutionAlgorithm extends MultiPopulationBasedAlgorit
      */
     @Override
     protected void algorithmIteration() {
+        if (parallel) {
+            parallelIteration();
+            return;
+        }
+
         //iterate through each algorithm
         algorithmIterator.setAlgorithms(subPopulationsAlgorithms);
         while (algorithmIterator.hasNext()) {
@@ -119,6 +130,29 @@ public class CooperativeCoevolutionAlgorithm extends MultiPopulationBasedAlgorit
         }
     }
 
+    /**
+     * Iterates all the participating algorithms concurrently, against the context
+     * at the start of the iteration, and then updates the context with their
+     * contributions in the order of the algorithm iterator.
+     */
+    private void parallelIteration() {
+        Vector snapshot = Vector.copyOf(context.getPosition());
+        List<SinglePopulationBasedAlgorithm<?>> algorithms = new ArrayList<SinglePopulationBasedAlgorithm<?>>();
+        algorithmIterator.setAlgorithms(subPopulationsAlgorithms);
+        while (algorithmIterator.hasNext()) {
+            SinglePopulationBasedAlgorithm<?> algorithm = algorithmIterator.next();
+            ((CooperativeCoevolutionProblemAdapter) algorithm.getOptimisationProblem()).updateContext(snapshot);
+            algorithms.add(algorithm);
+        }
+
+        ParallelExecutor.map(algorithms, Algorithms.<SinglePopulationBasedAlgorithm<?>>performIteration());
+
+        for (SinglePopulationBasedAlgorithm<?> algorithm : algorithms) {
+            CooperativeCoevolutionProblemAdapter problem = (CooperativeCoevolutionProblemAdapter) algorithm.getOptimisationProblem();
+            contextUpdate.updateContext(context, ((ParticipatingAlgorithm) algorithm).getContributionSelectionStrategy().getContribution(algorithm), problem.getProblemAllocation());
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -174,6 +208,19 @@ public class CooperativeCoevolutionAlgorithm extends MultiPopulationBasedAlgorit
         this.problemDistribution = problemDistribution;
     }
 
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    /**
+     * Sets whether the participating algorithms are iterated concurrently, against the
+     * context at the start of the iteration, see {@link ParallelExecutor}.
+     * @param parallel whether to iterate the participating algorithms concurrently.
+     */
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+
     public ContextEntity getContext() {
         return context;
     }
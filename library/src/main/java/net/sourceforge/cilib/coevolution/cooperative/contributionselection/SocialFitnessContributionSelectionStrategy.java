@@ -10,7 +10,6 @@ import java.util.Comparator;
 import net.sourceforge.cilib.algorithm.population.SinglePopulationBasedAlgorithm;
 import net.sourceforge.cilib.entity.MemoryBasedEntity;
 import net.sourceforge.cilib.entity.SocialEntity;
-import net.sourceforge.cilib.entity.Topologies;
 import net.sourceforge.cilib.entity.comparator.SocialBestFitnessComparator;
 import net.sourceforge.cilib.type.types.container.Vector;
 
@@ -28,7 +27,7 @@ public class SocialFitnessContributionSelectionStrategy implements
      */
     @Override
     public Vector getContribution(SinglePopulationBasedAlgorithm algorithm) {
-        MemoryBasedEntity entity = (MemoryBasedEntity) Topologies.getBestEntity(algorithm.getTopology(),
+        MemoryBasedEntity entity = (MemoryBasedEntity) algorithm.getBestEntity(
                 (Comparator) new SocialBestFitnessComparator<SocialEntity>());
         return (Vector) entity.getBestPosition();
     }
@@ -7,7 +7,8 @@
 package net.sourceforge.cilib.coevolution.cooperative.contributionselection;
 
 import net.sourceforge.cilib.algorithm.population.SinglePopulationBasedAlgorithm;
-import net.sourceforge.cilib.entity.Topologies;
+import net.sourceforge.cilib.entity.Entity;
+import net.sourceforge.cilib.entity.comparator.AscendingFitnessComparator;
 import net.sourceforge.cilib.type.types.container.Vector;
 
 /**
@@ -22,7 +23,7 @@ public class TopologyBestContributionSelectionStrategy implements
      */
     @Override
     public Vector getContribution(SinglePopulationBasedAlgorithm algorithm) {
-        return (Vector) Topologies.getBestEntity(algorithm.getTopology()).getPosition();
+        return (Vector) ((Entity) algorithm.getBestEntity(new AscendingFitnessComparator())).getPosition();
     }
 
     /**
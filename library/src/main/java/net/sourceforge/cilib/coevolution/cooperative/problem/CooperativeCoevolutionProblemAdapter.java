@@ -9,7 +9,9 @@ package net.sourceforge.cilib.coevolution.cooperative.problem;
 import net.sourceforge.cilib.algorithm.Algorithm;
 import net.sourceforge.cilib.coevolution.cooperative.CooperativeCoevolutionAlgorithm;
 import net.sourceforge.cilib.entity.Entity;
+import net.sourceforge.cilib.functions.SeparableFunction;
 import net.sourceforge.cilib.problem.AbstractProblem;
+import net.sourceforge.cilib.problem.FunctionOptimisationProblem;
 import net.sourceforge.cilib.problem.Problem;
 import net.sourceforge.cilib.problem.solution.Fitness;
 import net.sourceforge.cilib.type.StringBasedDomainRegistry;
@@ -30,6 +32,8 @@ public class CooperativeCoevolutionProblemAdapter extends AbstractProblem {
     private final Problem problem;
     private Vector context;
     private final DimensionAllocation problemAllocation;
+    private boolean prepared;
+    private double contextValue;
 
     /**
      * Creates an CooperativeCoevolutionProblemAdapter, which is assigned to
@@ -44,6 +48,8 @@ public class CooperativeCoevolutionProblemAdapter extends AbstractProblem {
         this.problem = problem;
         this.problemAllocation = problemAllocation;
         this.context = Vector.copyOf(context);
+        this.prepared = false;
+        this.contextValue = Double.NaN;
         this.domainRegistry = new StringBasedDomainRegistry();
 
         StringBuilder builder = new StringBuilder();
@@ -66,6 +72,8 @@ public class CooperativeCoevolutionProblemAdapter extends AbstractProblem {
         this.context = Vector.copyOf(copy.context);
         this.problem = copy.problem.getClone();
         this.problemAllocation = copy.problemAllocation.getClone();
+        this.prepared = false;
+        this.contextValue = Double.NaN;
     }
 
     /**
@@ -73,12 +81,63 @@ public class CooperativeCoevolutionProblemAdapter extends AbstractProblem {
      */
     @Override
     protected Fitness calculateFitness(Type solution) {
+        SeparableFunction function = getSeparableFunction();
+        if (function != null) {
+            return calculateFitness(function, (Vector) solution);
+        }
+
         for (int i = 0; i < problemAllocation.getSize(); ++i) {
             context.set(problemAllocation.getProblemIndex(i), ((Vector) solution).get(i));
         }
         return problem.getFitness(context);
     }
 
+    /**
+     * Calculates the fitness of a solution of a separable function by adding the
+     * terms of the allocated dimensions to the value of the rest of the context,
+     * which is only calculated when the context changes.
+     */
+    private Fitness calculateFitness(SeparableFunction function, Vector solution) {
+        int dimension = context.size();
+        if (!prepared) {
+            // initialises functions that are randomly initialised on first use
+            ((FunctionOptimisationProblem) problem).getFunction().f(context);
+            prepared = true;
+        }
+
+        if (Double.isNaN(contextValue)) {
+            boolean[] allocated = new boolean[dimension];
+            for (int i = 0; i < problemAllocation.getSize(); ++i) {
+                allocated[problemAllocation.getProblemIndex(i)] = true;
+            }
+            double value = function.getConstant(dimension);
+            for (int i = 0; i < dimension; ++i) {
+                if (!allocated[i]) {
+                    value += function.getTerm(i, context.doubleValueOf(i), dimension);
+                }
+            }
+            contextValue = value;
+        }
+
+        double value = contextValue;
+        for (int i = 0; i < problemAllocation.getSize(); ++i) {
+            value += function.getTerm(problemAllocation.getProblemIndex(i), solution.doubleValueOf(i), dimension);
+        }
+        return ((FunctionOptimisationProblem) problem).getFitnessOfValue(value);
+    }
+
+    /**
+     * Gets the function of the original problem, if it can be evaluated partially.
+     */
+    private SeparableFunction getSeparableFunction() {
+        if (problem instanceof FunctionOptimisationProblem
+                && ((FunctionOptimisationProblem) problem).getFunction() instanceof SeparableFunction) {
+            SeparableFunction function = (SeparableFunction) ((FunctionOptimisationProblem) problem).getFunction();
+            return function.isSeparable() ? function : null;
+        }
+        return null;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -100,5 +159,6 @@ public class CooperativeCoevolutionProblemAdapter extends AbstractProblem {
      */
     public void updateContext(Vector context) {
         this.context = Vector.copyOf(context);
+        this.contextValue = Double.NaN;
     }
 }
@@ -42,7 +42,7 @@ public class ExponentiallyVaryingControlParameter implements ControlParameter {
     @Override
     public double getParameter(double initialVal, double finalVal) {
         return initialVal + (finalVal - initialVal) 
-                * (Math.exp(AbstractAlgorithm.get().getPercentageComplete() * curve) - 1) 
+                * (Math.exp(AbstractAlgorithm.get().getProgress().getPercentageComplete() * curve) - 1) 
                 / (Math.exp(curve) - 1) ;
     }
 
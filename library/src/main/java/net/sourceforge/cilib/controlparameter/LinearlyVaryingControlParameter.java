@@ -42,7 +42,7 @@ public class LinearlyVaryingControlParameter implements ControlParameter {
     
     @Override
     public double getParameter(double initialVal, double finalVal) {
-        return initialVal + (finalVal - initialVal) * AbstractAlgorithm.get().getPercentageComplete();
+        return initialVal + (finalVal - initialVal) * AbstractAlgorithm.get().getProgress().getPercentageComplete();
     } 
 
     public void setInitialValue(double initialValue) {
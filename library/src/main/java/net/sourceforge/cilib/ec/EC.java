@@ -14,7 +14,7 @@ import net.sourceforge.cilib.algorithm.population.SinglePopulationBasedAlgorithm
 import net.sourceforge.cilib.ec.iterationstrategies.GeneticAlgorithmIterationStrategy;
 import net.sourceforge.cilib.entity.Entity;
 import net.sourceforge.cilib.entity.Property;
-import net.sourceforge.cilib.entity.Topologies;
+import net.sourceforge.cilib.entity.comparator.AscendingFitnessComparator;
 import net.sourceforge.cilib.entity.initialisation.InitialisationStrategy;
 import net.sourceforge.cilib.entity.initialisation.NullInitialisationStrategy;
 import net.sourceforge.cilib.problem.solution.OptimisationSolution;
@@ -49,7 +49,16 @@ public class EC<I extends Individual> extends SinglePopulationBasedAlgorithm<Ind
      * @param copy The instance to copy.
      */
     public EC(EC copy) {
-        super(copy);
+        this(copy, true);
+    }
+
+    /**
+     * Create a copy of the provided instance, with or without its individuals.
+     * @param copy The instance to copy.
+     * @param copyTopology Whether to clone the individuals of {@code copy}.
+     */
+    protected EC(EC copy, boolean copyTopology) {
+        super(copy, copyTopology);
         this.iterationStrategy = copy.iterationStrategy.getClone();
         this.strategyParameterInitialisation = copy.strategyParameterInitialisation.getClone();
     }
@@ -58,8 +67,16 @@ public class EC<I extends Individual> extends SinglePopulationBasedAlgorithm<Ind
      * {@inheritDoc}
      */
     @Override
-    public EC getClone() {
-        return new EC(this);
+    public EC<I> getClone() {
+        return new EC<I>(this);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected EC<I> getCloneWithoutTopology() {
+        return new EC<I>(this, false);
     }
 
     /**
@@ -91,7 +108,7 @@ public class EC<I extends Individual> extends SinglePopulationBasedAlgorithm<Ind
      */
     @Override
     public OptimisationSolution getBestSolution() {
-        Entity bestEntity = Topologies.getBestEntity(topology);
+        Entity bestEntity = getBestEntity(new AscendingFitnessComparator<Individual>());
         OptimisationSolution solution = new OptimisationSolution(bestEntity.getPosition().getClone(), bestEntity.getFitness());
 
         return solution;
@@ -10,6 +10,7 @@ import java.util.Arrays;
 
 import fj.F;
 
+import net.sourceforge.cilib.algorithm.ParallelExecutor;
 import net.sourceforge.cilib.algorithm.population.AbstractIterationStrategy;
 import net.sourceforge.cilib.controlparameter.ConstantControlParameter;
 import net.sourceforge.cilib.ec.EC;
@@ -57,6 +58,7 @@ public class DDEIterationStrategy  extends AbstractIterationStrategy<EC> {
     private ProbabilityDistributionFunction scalingFactorRandom;
     private Selector<Individual> offspringSelectionStrategy;
     private Selector<Individual> nextGenerationSelectionStrategy;
+    private boolean parallel;
 
     /**
      * Create an instance of the {@linkplain DDEIterationStrategy}.
@@ -73,6 +75,7 @@ public class DDEIterationStrategy  extends AbstractIterationStrategy<EC> {
 
         offspringSelectionStrategy = new FeasibilitySelector();
         nextGenerationSelectionStrategy = new FeasibilitySelector();
+        parallel = false;
     }
 
     /**
@@ -88,6 +91,7 @@ public class DDEIterationStrategy  extends AbstractIterationStrategy<EC> {
         this.scalingFactorRandom = copy.scalingFactorRandom;
         this.offspringSelectionStrategy = copy.offspringSelectionStrategy;
         this.nextGenerationSelectionStrategy = copy.offspringSelectionStrategy;
+        this.parallel = copy.parallel;
     }
 
     /**
@@ -109,48 +113,67 @@ public class DDEIterationStrategy  extends AbstractIterationStrategy<EC> {
         //generate the scaling factor randomly each iteration
         trialVectorCreationStrategy.setScaleParameter(scalingFactorRandom.getRandomNumber());
 
-        ec.setTopology(topology.map(new F<Individual, Individual>(){
-            @Override
-            public Individual f(Individual current) {
-                Individual bestOffspring = current.getClone();
-
-                //take the best offspring from a set of offsprings created with the same trial vector
-                for(int o = 0; o < totalOffspring; o++) {
-                    // Create the trial vector by applying mutation
-                    Individual targetEntity = targetVectorSelectionStrategy.on(topology).exclude(current).select();
-
-                    // Create the trial vector / entity
-                    Individual trialEntity = trialVectorCreationStrategy.create(targetEntity.getClone(), current.getClone(), topology);
-
-                    // Create the offspring by applying cross-over
-                    Individual currentOffspring = crossoverStrategy
-                        .crossover(Arrays.asList(current, trialEntity)).get(0); // Order is VERY important here!!
-                    boundaryConstraint.enforce(currentOffspring);
-                    currentOffspring.updateFitness(currentOffspring.getBehaviour().getFitnessCalculator().getFitness(currentOffspring));
-
-                    //Select the best offspring so far
-                    if(o > 0) {
-                        bestOffspring = offspringSelectionStrategy.on(Arrays.asList(bestOffspring, currentOffspring)).select();
-                    } else {
-                        bestOffspring = currentOffspring;
-                    }
-
+        if (parallel) {
+            ec.setTopology(fj.data.List.iterableList(ParallelExecutor.map(topology, new F<Individual, Individual>() {
+                @Override
+                public Individual f(Individual current) {
+                    return select(current, topology, trialVectorCreationStrategy.getClone(), crossoverStrategy.getClone());
                 }
-
-                Individual result = current;
-                //select the best between the current entity and the offspring entity
-                if(Rand.nextDouble() > selectorParameter) {
-                    if(bestOffspring.getFitness().compareTo(current.getFitness()) > 0 ){
-                        result = bestOffspring;
-                    }
-                } else {
-                    bestOffspring = nextGenerationSelectionStrategy.on(Arrays.asList(bestOffspring, current)).select();
-                    result = bestOffspring;
+            })));
+        } else {
+            ec.setTopology(topology.map(new F<Individual, Individual>() {
+                @Override
+                public Individual f(Individual current) {
+                    return select(current, topology, trialVectorCreationStrategy, crossoverStrategy);
                 }
+            }));
+        }
+    }
 
-                return result;
+    /**
+     * Creates the offspring of an individual, and selects the individual of the
+     * next generation. Only the individuals of the previous generation are used,
+     * so the individuals of the next generation may be created in any order.
+     */
+    private Individual select(Individual current, fj.data.List<Individual> topology,
+            CreationStrategy creationStrategy, CrossoverStrategy crossover) {
+        Individual bestOffspring = current.getClone();
+
+        //take the best offspring from a set of offsprings created with the same trial vector
+        for(int o = 0; o < totalOffspring; o++) {
+            // Create the trial vector by applying mutation
+            Individual targetEntity = targetVectorSelectionStrategy.on(topology).exclude(current).select();
+
+            // Create the trial vector / entity
+            Individual trialEntity = creationStrategy.create(targetEntity.getClone(), current.getClone(), topology);
+
+            // Create the offspring by applying cross-over
+            Individual currentOffspring = crossover
+                .crossover(Arrays.asList(current, trialEntity)).get(0); // Order is VERY important here!!
+            boundaryConstraint.enforce(currentOffspring);
+            currentOffspring.updateFitness(currentOffspring.getBehaviour().getFitnessCalculator().getFitness(currentOffspring));
+
+            //Select the best offspring so far
+            if(o > 0) {
+                bestOffspring = offspringSelectionStrategy.on(Arrays.asList(bestOffspring, currentOffspring)).select();
+            } else {
+                bestOffspring = currentOffspring;
             }
-        }));
+
+        }
+
+        Individual result = current;
+        //select the best between the current entity and the offspring entity
+        if(Rand.nextDouble() > selectorParameter) {
+            if(bestOffspring.getFitness().compareTo(current.getFitness()) > 0 ){
+                result = bestOffspring;
+            }
+        } else {
+            bestOffspring = nextGenerationSelectionStrategy.on(Arrays.asList(bestOffspring, current)).select();
+            result = bestOffspring;
+        }
+
+        return result;
     }
 
     /**
@@ -282,4 +305,17 @@ public class DDEIterationStrategy  extends AbstractIterationStrategy<EC> {
     public void setNextGenerationSelectionStrategy(Selector nextGenerationSelectionStrategy) {
         this.nextGenerationSelectionStrategy = nextGenerationSelectionStrategy;
     }
+
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    /**
+     * Sets whether the offspring are created and evaluated concurrently, see
+     * {@link ParallelExecutor}.
+     * @param parallel whether to create the offspring concurrently.
+     */
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
 }
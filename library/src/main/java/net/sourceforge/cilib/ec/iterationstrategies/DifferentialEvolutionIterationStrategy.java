@@ -9,6 +9,7 @@ package net.sourceforge.cilib.ec.iterationstrategies;
 import java.util.Arrays;
 import java.util.List;
 
+import net.sourceforge.cilib.algorithm.ParallelExecutor;
 import net.sourceforge.cilib.algorithm.population.AbstractIterationStrategy;
 import net.sourceforge.cilib.ec.EC;
 import net.sourceforge.cilib.ec.Individual;
@@ -31,6 +32,7 @@ public class DifferentialEvolutionIterationStrategy extends AbstractIterationStr
     protected Selector<Individual> targetVectorSelectionStrategy; // x
     protected CreationStrategy trialVectorCreationStrategy; // y
     protected CrossoverStrategy crossoverStrategy; // z
+    private boolean parallel;
 
     /**
      * Create an instance of the {@linkplain DifferentialEvolutionIterationStrategy}.
@@ -39,6 +41,7 @@ public class DifferentialEvolutionIterationStrategy extends AbstractIterationStr
         this.targetVectorSelectionStrategy = new RandomSelector();
         this.trialVectorCreationStrategy = new RandCreationStrategy();
         this.crossoverStrategy = new DifferentialEvolutionBinomialCrossover();
+        this.parallel = false;
     }
 
     /**
@@ -49,6 +52,7 @@ public class DifferentialEvolutionIterationStrategy extends AbstractIterationStr
         this.targetVectorSelectionStrategy = copy.targetVectorSelectionStrategy;
         this.trialVectorCreationStrategy = copy.trialVectorCreationStrategy.getClone();
         this.crossoverStrategy = copy.crossoverStrategy.getClone();
+        this.parallel = copy.parallel;
     }
 
     /**
@@ -67,30 +71,49 @@ public class DifferentialEvolutionIterationStrategy extends AbstractIterationStr
     public void performIteration(EC ec) {
         final fj.data.List<Individual> topology = ec.getTopology();
 
-        ec.setTopology(topology.map(new F<Individual, Individual>() {
-            @Override
-            public Individual f(Individual current) {
-                // Create the trial vector by applying mutation
-                Individual targetEntity = targetVectorSelectionStrategy.on(topology).exclude(current).select();
-
-                // Create the trial vector / entity
-                Individual trialEntity = trialVectorCreationStrategy.create(targetEntity, current, topology);
-
-                // Create the offspring by applying cross-over
-                List<Individual> offspring = crossoverStrategy.crossover(Arrays.asList(current, trialEntity)); // Order is VERY important here!!
-
-                // Replace the parent (current) if the offspring is better
-                Individual offspringEntity = offspring.get(0);
-                boundaryConstraint.enforce(offspringEntity);
-                offspringEntity.updateFitness(offspringEntity.getBehaviour().getFitnessCalculator().getFitness(offspringEntity));
-
-                if (offspringEntity.getFitness().compareTo(current.getFitness()) > 0) { // the trial vector is better than the parent
-                    return offspringEntity; // Replace the parent with the offspring individual
-                } else {
-                    return current;
+        if (parallel) {
+            ec.setTopology(fj.data.List.iterableList(ParallelExecutor.map(topology, new F<Individual, Individual>() {
+                @Override
+                public Individual f(Individual current) {
+                    return select(current, topology, trialVectorCreationStrategy.getClone(), crossoverStrategy.getClone());
                 }
-            }
-        }));
+            })));
+        } else {
+            ec.setTopology(topology.map(new F<Individual, Individual>() {
+                @Override
+                public Individual f(Individual current) {
+                    return select(current, topology, trialVectorCreationStrategy, crossoverStrategy);
+                }
+            }));
+        }
+    }
+
+    /**
+     * Creates an offspring of an individual, and selects the better of the two.
+     * Only the individuals of the previous generation are used, so the
+     * individuals of the next generation may be created in any order.
+     */
+    private Individual select(Individual current, fj.data.List<Individual> topology,
+            CreationStrategy creationStrategy, CrossoverStrategy crossover) {
+        // Create the trial vector by applying mutation
+        Individual targetEntity = targetVectorSelectionStrategy.on(topology).exclude(current).select();
+
+        // Create the trial vector / entity
+        Individual trialEntity = creationStrategy.create(targetEntity, current, topology);
+
+        // Create the offspring by applying cross-over
+        List<Individual> offspring = crossover.crossover(Arrays.asList(current, trialEntity)); // Order is VERY important here!!
+
+        // Replace the parent (current) if the offspring is better
+        Individual offspringEntity = offspring.get(0);
+        boundaryConstraint.enforce(offspringEntity);
+        offspringEntity.updateFitness(offspringEntity.getBehaviour().getFitnessCalculator().getFitness(offspringEntity));
+
+        if (offspringEntity.getFitness().compareTo(current.getFitness()) > 0) { // the trial vector is better than the parent
+            return offspringEntity; // Replace the parent with the offspring individual
+        } else {
+            return current;
+        }
     }
 
     /**
@@ -141,4 +164,17 @@ public class DifferentialEvolutionIterationStrategy extends AbstractIterationStr
     public void setTrialVectorCreationStrategy(CreationStrategy trialVectorCreationStrategy) {
         this.trialVectorCreationStrategy = trialVectorCreationStrategy;
     }
+
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    /**
+     * Sets whether the offspring are created and evaluated concurrently, see
+     * {@link ParallelExecutor}.
+     * @param parallel whether to create the offspring concurrently.
+     */
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
 }
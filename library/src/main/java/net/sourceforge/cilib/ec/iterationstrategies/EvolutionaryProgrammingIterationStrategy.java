@@ -7,9 +7,12 @@
 package net.sourceforge.cilib.ec.iterationstrategies;
 
 import com.google.common.collect.Lists;
+import fj.F;
+import net.sourceforge.cilib.algorithm.ParallelExecutor;
 import net.sourceforge.cilib.algorithm.population.AbstractIterationStrategy;
 import net.sourceforge.cilib.ec.EC;
 import net.sourceforge.cilib.ec.Individual;
+import net.sourceforge.cilib.entity.Entity;
 import net.sourceforge.cilib.entity.operators.mutation.GaussianMutationStrategy;
 import net.sourceforge.cilib.entity.operators.mutation.MutationStrategy;
 import net.sourceforge.cilib.util.functions.Entities;
@@ -23,15 +26,18 @@ public class EvolutionaryProgrammingIterationStrategy extends AbstractIterationS
 
     private MutationStrategy mutationStrategy;
     private Selector<Individual> populationSelector;
+    private boolean parallel;
 
     public EvolutionaryProgrammingIterationStrategy() {
         this.mutationStrategy = new GaussianMutationStrategy();
         this.populationSelector = new ScoredSelector<>();
+        this.parallel = false;
     }
 
     private EvolutionaryProgrammingIterationStrategy(EvolutionaryProgrammingIterationStrategy copy) {
         this.mutationStrategy = copy.mutationStrategy.getClone();
         this.populationSelector = copy.populationSelector;
+        this.parallel = copy.parallel;
     }
 
     @Override
@@ -47,10 +53,7 @@ public class EvolutionaryProgrammingIterationStrategy extends AbstractIterationS
         // Apply the mutation
         this.mutationStrategy.mutate(Lists.newArrayList(offspring));
 
-        for (Individual individual : offspring) {
-            boundaryConstraint.enforce(individual);
-            individual.updateFitness(individual.getBehaviour().getFitnessCalculator().getFitness(individual));
-        }
+        evaluate(offspring);
         
         // Perform new population selection
         algorithm.setTopology(fj.data.List.iterableList(populationSelector
@@ -73,5 +76,37 @@ public class EvolutionaryProgrammingIterationStrategy extends AbstractIterationS
     public void setPopulationSelector(Selector<Individual> populationSelector) {
         this.populationSelector = populationSelector;
     }
-    
+
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    /**
+     * Sets whether the offspring are evaluated concurrently, see {@link ParallelExecutor}.
+     * @param parallel whether to evaluate the offspring concurrently.
+     */
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    /**
+     * Enforces the boundary constraint on the offspring and evaluates them.
+     */
+    private void evaluate(Iterable<? extends Entity> offspring) {
+        F<Entity, Entity> evaluation = new F<Entity, Entity>() {
+            @Override
+            public Entity f(Entity entity) {
+                boundaryConstraint.enforce(entity);
+                entity.updateFitness(entity.getBehaviour().getFitnessCalculator().getFitness(entity));
+                return entity;
+            }
+        };
+        if (parallel) {
+            ParallelExecutor.map(offspring, evaluation);
+        } else {
+            for (Entity entity : offspring) {
+                evaluation.f(entity);
+            }
+        }
+    }
 }
@@ -6,7 +6,9 @@
  */
 package net.sourceforge.cilib.ec.iterationstrategies;
 
+import fj.F;
 import java.util.List;
+import net.sourceforge.cilib.algorithm.ParallelExecutor;
 import net.sourceforge.cilib.algorithm.population.AbstractIterationStrategy;
 import net.sourceforge.cilib.algorithm.population.IterationStrategy;
 import net.sourceforge.cilib.ec.EC;
@@ -32,6 +34,7 @@ public class GeneticAlgorithmIterationStrategy extends AbstractIterationStrategy
     private CrossoverOperator crossover;
     private MutationStrategy mutationStrategy;
     private Selector<Individual> populationSelector;
+    private boolean parallel;
 
     /**
      * Create an instance of the {@linkplain IterationStrategy}. Default cross-over
@@ -43,6 +46,7 @@ public class GeneticAlgorithmIterationStrategy extends AbstractIterationStrategy
         this.crossover.setCrossoverStrategy(new UniformCrossoverStrategy());
         this.mutationStrategy = new GaussianMutationStrategy();
         this.populationSelector = new ElitistSelector<>();
+        this.parallel = false;
     }
 
     /**
@@ -53,6 +57,7 @@ public class GeneticAlgorithmIterationStrategy extends AbstractIterationStrategy
         this.crossover = copy.crossover.getClone();
         this.mutationStrategy = copy.mutationStrategy.getClone();
         this.populationSelector = copy.populationSelector;
+        this.parallel = copy.parallel;
     }
 
     /**
@@ -83,10 +88,7 @@ public class GeneticAlgorithmIterationStrategy extends AbstractIterationStrategy
         mutationStrategy.mutate(crossedOver);
 
         // Evaluate the fitness values of the generated offspring
-        for (Entity entity : crossedOver) {
-            boundaryConstraint.enforce(entity);
-            entity.updateFitness(entity.getBehaviour().getFitnessCalculator().getFitness(entity));
-        }
+        evaluate(crossedOver);
 
         // Perform new population selection
         ec.setTopology(fj.data.List.iterableList(populationSelector
@@ -133,4 +135,37 @@ public class GeneticAlgorithmIterationStrategy extends AbstractIterationStrategy
     public void setPopulationSelector(Selector<Individual> populationSelector) {
         this.populationSelector = populationSelector;
     }
+
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    /**
+     * Sets whether the offspring are evaluated concurrently, see {@link ParallelExecutor}.
+     * @param parallel whether to evaluate the offspring concurrently.
+     */
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    /**
+     * Enforces the boundary constraint on the offspring and evaluates them.
+     */
+    private void evaluate(Iterable<? extends Entity> offspring) {
+        F<Entity, Entity> evaluation = new F<Entity, Entity>() {
+            @Override
+            public Entity f(Entity entity) {
+                boundaryConstraint.enforce(entity);
+                entity.updateFitness(entity.getBehaviour().getFitnessCalculator().getFitness(entity));
+                return entity;
+            }
+        };
+        if (parallel) {
+            ParallelExecutor.map(offspring, evaluation);
+        } else {
+            for (Entity entity : offspring) {
+                evaluation.f(entity);
+            }
+        }
+    }
 }
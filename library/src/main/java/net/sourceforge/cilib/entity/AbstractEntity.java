@@ -6,6 +6,7 @@
  */
 package net.sourceforge.cilib.entity;
 
+import java.util.Arrays;
 import net.sourceforge.cilib.entity.behaviour.Behaviour;
 import net.sourceforge.cilib.problem.Problem;
 import net.sourceforge.cilib.problem.solution.Fitness;
@@ -26,6 +27,7 @@ public abstract class AbstractEntity implements Entity {
 
     protected Behaviour behaviour;
     private final Blackboard<Property, Type> properties;
+    private transient volatile BestEntityCache<?>[] caches;
 
     /**
      * Initialise the candidate solution of the {@linkplain Entity}.
@@ -61,6 +63,12 @@ public abstract class AbstractEntity implements Entity {
     @Override
     public final <T extends Type> void put(Property<T> p, T v) {
         properties.put(p, v);
+        BestEntityCache<?>[] current = caches;
+        if (current != null) {
+            for (BestEntityCache<?> cache : current) {
+                cache.modified(this);
+            }
+        }
     }
     
     @Override
@@ -112,13 +120,58 @@ public abstract class AbstractEntity implements Entity {
 
     @Override
     public void updateFitness(Fitness newFitness) {
-        properties.put(Property.PREVIOUS_FITNESS, getFitness().getClone());
-        properties.put(Property.FITNESS, newFitness);
+        put(Property.PREVIOUS_FITNESS, getFitness().getClone());
+        put(Property.FITNESS, newFitness);
     }
 
     @Override
     public abstract void initialise(Problem problem);
 
+    /**
+     * Notifies the given cache of the modifications of the properties of this
+     * entity, from now on, since this entity is in its topology.
+     * @param cache the cache of the bests of a topology that contains this entity.
+     */
+    final synchronized void attach(BestEntityCache<?> cache) {
+        BestEntityCache<?>[] current = caches;
+        if (current == null) {
+            caches = new BestEntityCache<?>[] {cache};
+            return;
+        }
+        for (BestEntityCache<?> c : current) {
+            if (c == cache) {
+                return;
+            }
+        }
+        BestEntityCache<?>[] attached = Arrays.copyOf(current, current.length + 1);
+        attached[current.length] = cache;
+        caches = attached;
+    }
+
+    /**
+     * Stops notifying the given cache, once this entity is no longer in its topology.
+     * @param cache the cache.
+     */
+    final synchronized void detach(BestEntityCache<?> cache) {
+        BestEntityCache<?>[] current = caches;
+        if (current == null) {
+            return;
+        }
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] == cache) {
+                if (current.length == 1) {
+                    caches = null;
+                    return;
+                }
+                BestEntityCache<?>[] attached = new BestEntityCache<?>[current.length - 1];
+                System.arraycopy(current, 0, attached, 0, i);
+                System.arraycopy(current, i + 1, attached, i, current.length - i - 1);
+                caches = attached;
+                return;
+            }
+        }
+    }
+
     @Override
     public int getDimension() {
         return getPosition().size();
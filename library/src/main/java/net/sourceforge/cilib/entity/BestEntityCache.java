@@ -0,0 +1,254 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.entity;
+
+import fj.data.List;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import net.sourceforge.cilib.entity.comparator.AscendingFitnessComparator;
+import net.sourceforge.cilib.entity.comparator.DescendingFitnessComparator;
+import net.sourceforge.cilib.entity.comparator.SocialBestFitnessComparator;
+import net.sourceforge.cilib.entity.topologies.Neighbourhood;
+
+/**
+ * Caches the best entity and the neighbourhood best entities of a topology for
+ * a comparator, with exactly the results of
+ * {@link Topologies#getBestEntity(List, Comparator)} and
+ * {@link Topologies#getNeighbourhoodBestEntities(List, Neighbourhood, Comparator)}.
+ * <p>
+ * The entities of the topology notify the cache when their properties are
+ * modified (see {@link AbstractEntity#put(Property, net.sourceforge.cilib.type.types.Type)}),
+ * so the cache keeps its own modification count, which is not affected by the
+ * entities of other topologies:
+ * <ul>
+ *   <li>as long as no entity of the topology is modified, the bests are returned
+ *       in constant time;</li>
+ *   <li>when entities were modified, the best entity is updated incrementally, by
+ *       only comparing the modified entities with the cached best entity, unless the
+ *       cached best entity itself was modified, or more entities were modified than
+ *       the topology contains;</li>
+ *   <li>the neighbourhood bests are recalculated when entities were modified, and
+ *       in every iteration, since neighbourhoods may depend on control parameters.</li>
+ * </ul>
+ * A different topology, i.e. a different list, invalidates the cache. Only the
+ * comparators for which {@link #isCacheable(Comparator)} holds may be cached,
+ * since the result of the comparison must only depend on the properties of the
+ * entities, and must be consistent, so that the best entity can be updated
+ * incrementally.
+ *
+ * @param <E> the entity type.
+ */
+public class BestEntityCache<E extends Entity> {
+
+    private final Comparator<? super E> comparator;
+
+    private List<E> topology;
+    private java.util.List<E> entities;
+    private Map<Entity, Integer> indices;
+    private boolean cacheable;
+
+    private long modifications;
+    private java.util.List<Entity> modified;
+
+    private long bestModification;
+    private E best;
+    private int bestIndex;
+
+    private long neighbourhoodModification;
+    private Neighbourhood<E> neighbourhood;
+    private int iteration;
+    private Set<E> neighbourhoodBests;
+
+    public BestEntityCache(Comparator<? super E> comparator) {
+        this.comparator = comparator;
+        this.modified = new ArrayList<Entity>();
+    }
+
+    /**
+     * Determines whether the bests of a comparator may be cached.
+     * @param comparator the comparator.
+     * @return true for the fitness comparators.
+     */
+    public static boolean isCacheable(Comparator<?> comparator) {
+        Class<?> type = comparator.getClass();
+        return type == AscendingFitnessComparator.class
+            || type == DescendingFitnessComparator.class
+            || type == SocialBestFitnessComparator.class;
+    }
+
+    /**
+     * Determines whether the comparison of an entity only depends on its
+     * properties. If any entity in the topology is not cacheable, the bests of
+     * the topology are calculated on every call.
+     * @param entity the entity.
+     * @return true if the entity is cacheable.
+     */
+    protected boolean isCacheable(E entity) {
+        return entity instanceof AbstractEntity;
+    }
+
+    /**
+     * Gets the best entity of a topology.
+     * @param topology the topology.
+     * @return the best entity, as {@link Topologies#getBestEntity(List, Comparator)}.
+     */
+    public synchronized E getBestEntity(List<E> topology) {
+        setTopology(topology);
+        if (!cacheable) {
+            return Topologies.getBestEntity(topology, comparator);
+        }
+
+        if (bestModification != modifications) {
+            if (bestModification < 0 || modified == null || !updateBest()) {
+                selectBest();
+            }
+            bestModification = modifications;
+            modified = new ArrayList<Entity>();
+        }
+        return best;
+    }
+
+    /**
+     * Gets the best entities of the neighbourhoods of a topology.
+     * @param topology the topology.
+     * @param neighbourhood the neighbourhood.
+     * @param iteration the current iteration.
+     * @return an unmodifiable set of the neighbourhood bests, as
+     *         {@link Topologies#getNeighbourhoodBestEntities(List, Neighbourhood, Comparator)}.
+     */
+    public synchronized Set<E> getNeighbourhoodBestEntities(List<E> topology, Neighbourhood<E> neighbourhood, int iteration) {
+        setTopology(topology);
+        if (!cacheable) {
+            return Topologies.getNeighbourhoodBestEntities(topology, neighbourhood, comparator);
+        }
+
+        if (neighbourhoodModification != modifications || neighbourhood != this.neighbourhood
+                || iteration != this.iteration) {
+            neighbourhoodBests = Collections.unmodifiableSet(
+                Topologies.getNeighbourhoodBestEntities(topology, neighbourhood, comparator));
+            this.neighbourhood = neighbourhood;
+            this.iteration = iteration;
+            neighbourhoodModification = modifications;
+        }
+        return neighbourhoodBests;
+    }
+
+    /**
+     * Records the modification of an entity of the topology. The modified
+     * entities are only recorded until there are as many records as entities,
+     * after which the best entity is selected again.
+     * @param entity the modified entity.
+     */
+    synchronized void modified(Entity entity) {
+        modifications++;
+        if (modified == null) {
+            return;
+        }
+        // the properties of an entity are mostly modified in succession
+        int size = modified.size();
+        if (size > 0 && modified.get(size - 1) == entity) {
+            return;
+        }
+        if (size >= entities.size()) {
+            modified = null;
+        } else {
+            modified.add(entity);
+        }
+    }
+
+    private void setTopology(List<E> topology) {
+        if (topology == this.topology) {
+            return;
+        }
+
+        Map<Entity, Integer> previous = indices;
+        this.topology = topology;
+        this.entities = new ArrayList<E>(topology.length());
+        this.indices = new IdentityHashMap<Entity, Integer>();
+        this.cacheable = true;
+        for (E e : topology) {
+            indices.put(e, entities.size());
+            entities.add(e);
+            cacheable &= isCacheable(e);
+        }
+
+        if (previous != null) {
+            for (Entity e : previous.keySet()) {
+                if (!indices.containsKey(e)) {
+                    ((AbstractEntity) e).detach(this);
+                }
+            }
+        }
+        if (cacheable) {
+            for (E e : entities) {
+                ((AbstractEntity) e).attach(this);
+            }
+        } else {
+            for (E e : entities) {
+                if (e instanceof AbstractEntity) {
+                    ((AbstractEntity) e).detach(this);
+                }
+            }
+            indices = null;
+        }
+        modified = new ArrayList<Entity>();
+        bestModification = -1;
+        neighbourhoodModification = -1;
+    }
+
+    /**
+     * Selects the best entity in a single pass, the last one of equal entities.
+     */
+    private void selectBest() {
+        best = null;
+        bestIndex = -1;
+        for (int i = 0; i < entities.size(); i++) {
+            E e = entities.get(i);
+            if (best == null || comparator.compare(e, best) >= 0) {
+                best = e;
+                bestIndex = i;
+            }
+        }
+    }
+
+    /**
+     * Compares the entities that were modified since the best entity was
+     * selected with the best entity. The unmodified entities are not better than
+     * the best entity, and those that are equal to it precede it, so the result is
+     * the same as that of {@link #selectBest()}, in whichever order the entities
+     * were modified.
+     * @return false if the best entity was modified, and has to be selected again.
+     */
+    private boolean updateBest() {
+        E result = best;
+        int resultIndex = bestIndex;
+        for (Entity m : modified) {
+            Integer i = indices.get(m);
+            if (i == null) {
+                // no longer in the topology
+                continue;
+            }
+            if (i == bestIndex) {
+                return false;
+            }
+
+            E e = entities.get(i);
+            int c = comparator.compare(e, result);
+            if (c > 0 || (c == 0 && i > resultIndex)) {
+                result = e;
+                resultIndex = i;
+            }
+        }
+        best = result;
+        bestIndex = resultIndex;
+        return true;
+    }
+}
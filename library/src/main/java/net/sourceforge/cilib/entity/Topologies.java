@@ -6,15 +6,13 @@
  */
 package net.sourceforge.cilib.entity;
 
-import java.util.Collections;
 import java.util.Comparator;
 import java.util.LinkedHashSet;
 import java.util.Set;
 
 import net.sourceforge.cilib.entity.comparator.AscendingFitnessComparator;
 import net.sourceforge.cilib.entity.topologies.Neighbourhood;
-
-import com.google.common.collect.Lists;
+import net.sourceforge.cilib.type.types.container.Vector;
 
 import fj.F;
 import fj.data.List;
@@ -64,16 +62,18 @@ public final class Topologies {
     }
 
     /**
-     * Returns an entity from a given topology using the given comparator.
+     * Returns an entity from a given topology using the given comparator. The
+     * entities are compared in a single pass; of entities that compare equal,
+     * the last one in the topology is returned.
      */
     public static <T extends Entity> T getBestEntity(List<T> p, Comparator<? super T> c) {
-        if (p.isEmpty()) {
-            return null;
+        T best = null;
+        for (T e : p) {
+            if (best == null || c.compare(e, best) >= 0) {
+                best = e;
+            }
         }
-
-        java.util.List<T> tmp = Lists.newArrayList(p);
-        Collections.sort(tmp, c);
-        return tmp.get(tmp.size() - 1);
+        return best;
     }
 
     /**
@@ -91,4 +91,35 @@ public final class Topologies {
     public static <T extends Entity> T getNeighbourhoodBest(List<T> p, T e, Neighbourhood<T> neighbourhood, Comparator<? super T> c) {
         return getBestEntity(neighbourhood.f(p, e), c);
     }
+
+    /**
+     * Determines whether the positions of all the entities in a topology are
+     * {@linkplain Vector}s.
+     */
+    public static boolean hasVectorPositions(List<? extends Entity> p) {
+        for (Entity e : p) {
+            if (!(e.getPosition() instanceof Vector)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Copies the positions of the entities in a topology, which must be
+     * {@linkplain Vector}s, into a matrix with a row per entity.
+     */
+    public static double[][] getPositionMatrix(List<? extends Entity> p) {
+        double[][] positions = new double[p.length()][];
+        int i = 0;
+        for (Entity e : p) {
+            Vector position = (Vector) e.getPosition();
+            double[] row = new double[position.size()];
+            for (int k = 0; k < row.length; k++) {
+                row[k] = position.doubleValueOf(k);
+            }
+            positions[i++] = row;
+        }
+        return positions;
+    }
 }
@@ -12,9 +12,7 @@ import java.util.List;
 import net.sourceforge.cilib.controlparameter.ConstantControlParameter;
 import net.sourceforge.cilib.entity.Entity;
 import net.sourceforge.cilib.type.types.container.Vector;
-import net.sourceforge.cilib.util.selection.Samples;
-import net.sourceforge.cilib.util.selection.Selection;
-import net.sourceforge.cilib.util.selection.arrangement.RandomArrangement;
+import net.sourceforge.cilib.util.selection.RandomSampling;
 import fj.P1;
 import net.sourceforge.cilib.controlparameter.AdaptableControlParameter;
 import net.sourceforge.cilib.controlparameter.ControlParameter;
@@ -57,10 +55,7 @@ public class RandCreationStrategy implements CreationStrategy {
     @Override
     public <T extends Entity> T create(T targetEntity, T current, fj.data.List<T> topology) {
         int number = Double.valueOf(this.numberOfDifferenceVectors.getParameter()).intValue();
-        List<T> participants = Selection.copyOf(topology)
-                .exclude(targetEntity, current)
-                .orderBy(new RandomArrangement())
-                .select(Samples.first(number).unique());
+        List<T> participants = RandomSampling.sample(topology, number, targetEntity, current);
         Vector differenceVector = determineDistanceVector(participants);
 
         Vector targetVector = (Vector) targetEntity.getPosition();
@@ -12,9 +12,7 @@ import net.sourceforge.cilib.controlparameter.ControlParameter;
 import net.sourceforge.cilib.entity.Entity;
 import net.sourceforge.cilib.entity.Topologies;
 import net.sourceforge.cilib.type.types.container.Vector;
-import net.sourceforge.cilib.util.selection.Samples;
-import net.sourceforge.cilib.util.selection.Selection;
-import net.sourceforge.cilib.util.selection.arrangement.RandomArrangement;
+import net.sourceforge.cilib.util.selection.RandomSampling;
 
 /**
  * This is an implementation of the Rand-to-best DE target creation strategy.
@@ -54,10 +52,8 @@ public class RandToBestCreationStrategy extends RandCreationStrategy {
     @Override
     public <T extends Entity> T create(T targetEntity, T current, fj.data.List<T> topology) {
         T bestEntity = Topologies.getBestEntity(topology);
-        List<T> participants = Selection.copyOf(topology)
-                .exclude(targetEntity, bestEntity, current)
-                .orderBy(new RandomArrangement())
-                .select(Samples.first((int) numberOfDifferenceVectors.getParameter()).unique());
+        List<T> participants = RandomSampling.sample(topology, (int) numberOfDifferenceVectors.getParameter(),
+                targetEntity, bestEntity, current);
         Vector differenceVector = determineDistanceVector(participants);
 
         Vector targetVector = ((Vector) targetEntity.getPosition()).multiply(1 - greedynessParameter.getParameter());
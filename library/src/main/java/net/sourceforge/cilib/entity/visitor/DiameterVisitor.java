@@ -6,27 +6,50 @@
  */
 package net.sourceforge.cilib.entity.visitor;
 
+import fj.data.List;
+import java.util.Arrays;
+import java.util.Comparator;
 import net.sourceforge.cilib.entity.Entity;
+import net.sourceforge.cilib.entity.Topologies;
+import net.sourceforge.cilib.type.types.container.StructuredType;
 import net.sourceforge.cilib.type.types.container.Vector;
 import net.sourceforge.cilib.util.distancemeasure.DistanceMeasure;
 import net.sourceforge.cilib.util.distancemeasure.EuclideanDistanceMeasure;
-import fj.F;
-import fj.Ord;
-import fj.data.List;
 
 /**
  * Visitor to determine the size of the diameter of the provided
  * Topology.
+ * <p>
+ * With the Euclidean distance, the positions are copied into a primitive matrix
+ * and the diameter is found without comparing all pairs of entities:
+ * <ul>
+ *   <li>a lower bound is found by iteratively moving to the farthest entity,
+ *       starting from the first entity;</li>
+ *   <li>the entities are ordered by their distance to the center of the bounding
+ *       box of the positions, and a pair of entities is only compared if the sum
+ *       of their distances to the center, which bounds their distance, exceeds
+ *       the diameter found so far.</li>
+ * </ul>
+ * In approximate mode only the lower bound is calculated, which costs linear time
+ * and is at least half of the diameter, since it is at least the distance from
+ * the first entity to the entity that is farthest from it. In practice, it is
+ * almost always the diameter.
+ * <p>
+ * Other distance measures compare all pairs of entities.
  */
 public class DiameterVisitor<E extends Entity> extends TopologyVisitor<E, Double> {
 
+    private static final int SWEEPS = 4;
+
     protected DistanceMeasure distanceMeasure;
+    private boolean approximate;
 
     /**
      * Default constructor.
      */
     public DiameterVisitor() {
         this.distanceMeasure = new EuclideanDistanceMeasure();
+        this.approximate = false;
     }
 
     /**
@@ -45,17 +68,125 @@ public class DiameterVisitor<E extends Entity> extends TopologyVisitor<E, Double
         this.distanceMeasure = distanceMeasure;
     }
 
+    /**
+     * Determines whether the diameter is approximated.
+     * @return true if the diameter is approximated.
+     */
+    public boolean isApproximate() {
+        return approximate;
+    }
+
+    /**
+     * Sets whether the (Euclidean) diameter is approximated, as described above.
+     * @param approximate true to approximate the diameter.
+     */
+    public void setApproximate(boolean approximate) {
+        this.approximate = approximate;
+    }
+
     @Override
     public Double f(final List<E> list) {
-        return list.map(new F<E, Double>() {
+        if (list.isEmpty()) {
+            return 0.0;
+        }
+
+        if (distanceMeasure.getClass() == EuclideanDistanceMeasure.class && Topologies.hasVectorPositions(list)) {
+            return euclideanDiameter(Topologies.getPositionMatrix(list));
+        }
+
+        StructuredType[] positions = new StructuredType[list.length()];
+        int n = 0;
+        for (E e : list) {
+            positions[n++] = e.getPosition();
+        }
+
+        double diameter = 0.0;
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                diameter = Math.max(diameter, distanceMeasure.distance(positions[i], positions[j]));
+            }
+        }
+        return diameter;
+    }
+
+    private double euclideanDiameter(double[][] positions) {
+        int n = positions.length;
+
+        // lower bound, moving to the farthest position until it no longer increases
+        double best = 0.0;
+        int current = 0;
+        for (int sweep = 0; sweep < SWEEPS; sweep++) {
+            int farthest = current;
+            double distance = 0.0;
+            for (int j = 0; j < n; j++) {
+                double d = squaredDistance(positions[current], positions[j]);
+                if (d > distance) {
+                    distance = d;
+                    farthest = j;
+                }
+            }
+            if (distance <= best) {
+                break;
+            }
+            best = distance;
+            current = farthest;
+        }
+
+        if (approximate) {
+            return Math.sqrt(best);
+        }
+
+        // distances to the center of the bounding box, in decreasing order
+        double[] center = getCenter(positions);
+        final double[] radius = new double[n];
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            radius[i] = Math.sqrt(squaredDistance(positions[i], center));
+            order[i] = i;
+        }
+        Arrays.sort(order, new Comparator<Integer>() {
             @Override
-            public Double f(final E outer) {
-                return list.map(new F<E, Double>() {
-                    public Double f(final E inner) {
-                        return distanceMeasure.distance(outer.getPosition(), inner.getPosition());
-                    }
-                }).maximum(Ord.doubleOrd);
+            public int compare(Integer a, Integer b) {
+                return Double.compare(radius[b], radius[a]);
             }
-        }).maximum(Ord.doubleOrd);
+        });
+
+        // a small margin protects the bound from rounding errors
+        double bound = Math.sqrt(best) * (1 - 1e-12);
+        for (int p = 0; p < n - 1 && radius[order[p]] + radius[order[p + 1]] > bound; p++) {
+            double[] x = positions[order[p]];
+            for (int q = p + 1; q < n && radius[order[p]] + radius[order[q]] > bound; q++) {
+                double d = squaredDistance(x, positions[order[q]]);
+                if (d > best) {
+                    best = d;
+                    bound = Math.sqrt(best) * (1 - 1e-12);
+                }
+            }
+        }
+        return Math.sqrt(best);
+    }
+
+    private static double[] getCenter(double[][] positions) {
+        int dimension = positions[0].length;
+        double[] center = new double[dimension];
+        for (int k = 0; k < dimension; k++) {
+            double min = positions[0][k];
+            double max = min;
+            for (double[] x : positions) {
+                min = Math.min(min, x[k]);
+                max = Math.max(max, x[k]);
+            }
+            center[k] = (min + max) / 2;
+        }
+        return center;
+    }
+
+    private static double squaredDistance(double[] x, double[] y) {
+        double sum = 0.0;
+        for (int k = 0; k < x.length; k++) {
+            double d = x[k] - y[k];
+            sum += d * d;
+        }
+        return sum;
     }
 }
@@ -11,7 +11,6 @@ import java.util.List;
 import net.sourceforge.cilib.algorithm.initialisation.ClonedPopulationInitialisationStrategy;
 import net.sourceforge.cilib.algorithm.population.IterationStrategy;
 import net.sourceforge.cilib.algorithm.population.SinglePopulationBasedAlgorithm;
-import net.sourceforge.cilib.entity.Topologies;
 import net.sourceforge.cilib.entity.comparator.DescendingFitnessComparator;
 import net.sourceforge.cilib.ff.firefly.Firefly;
 import net.sourceforge.cilib.ff.firefly.StandardFirefly;
@@ -54,7 +53,16 @@ public class FFA extends SinglePopulationBasedAlgorithm<Firefly> {
      * @param copy The instance to copy.
      */
     public FFA(FFA copy) {
-        super(copy);
+        this(copy, true);
+    }
+
+    /**
+     * Create a copy of the provided instance, with or without its fireflies.
+     * @param copy The instance to copy.
+     * @param copyTopology Whether to clone the fireflies of {@code copy}.
+     */
+    protected FFA(FFA copy, boolean copyTopology) {
+        super(copy, copyTopology);
         this.iterationStrategy = copy.iterationStrategy;
     }
 
@@ -66,6 +74,14 @@ public class FFA extends SinglePopulationBasedAlgorithm<Firefly> {
         return new FFA(this);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected FFA getCloneWithoutTopology() {
+        return new FFA(this, false);
+    }
+
     /**
      * Perform the required initialisation for the algorithm. Create the fireflies
      * and add them to the specified topology.
@@ -94,7 +110,7 @@ public class FFA extends SinglePopulationBasedAlgorithm<Firefly> {
      */
     @Override
     public OptimisationSolution getBestSolution() {
-        Firefly bestEntity = Topologies.getBestEntity(topology, new DescendingFitnessComparator<Firefly>());
+        Firefly bestEntity = getBestEntity(new DescendingFitnessComparator<Firefly>());
         return new OptimisationSolution(bestEntity.getPosition(), bestEntity.getFitness());
     }
 
@@ -121,7 +137,7 @@ public class FFA extends SinglePopulationBasedAlgorithm<Firefly> {
     @Override
     public List<OptimisationSolution> getSolutions() {
         List<OptimisationSolution> solutions = Lists.newLinkedList();
-        for (Firefly e : Topologies.getNeighbourhoodBestEntities(topology, neighbourhood, new DescendingFitnessComparator<Firefly>())) {
+        for (Firefly e : getNeighbourhoodBestEntities(new DescendingFitnessComparator<Firefly>())) {
             solutions.add(new OptimisationSolution(e.getPosition(), e.getFitness()));
         }
         return solutions;
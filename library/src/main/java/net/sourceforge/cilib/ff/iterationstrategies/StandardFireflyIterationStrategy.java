@@ -9,18 +9,37 @@ package net.sourceforge.cilib.ff.iterationstrategies;
 import net.sourceforge.cilib.algorithm.population.AbstractIterationStrategy;
 import net.sourceforge.cilib.ff.FFA;
 import net.sourceforge.cilib.ff.firefly.Firefly;
+import net.sourceforge.cilib.ff.positionupdatestrategies.FireflyPositionUpdateStrategy;
+import net.sourceforge.cilib.ff.positionupdatestrategies.StandardFireflyPositionUpdateStrategy;
 
 /**
  * Implementation of the standard iteration strategy for the Firefly algorithm.
+ * <p>
+ * Since the attractiveness of a firefly decays exponentially with distance,
+ * the pairs of fireflies of which the attractiveness is below a threshold may
+ * be ignored (see {@link #setAttractivenessThreshold(double)}). By default, all
+ * the pairs are considered.
  */
 public class StandardFireflyIterationStrategy extends AbstractIterationStrategy<FFA> {
 
+    private double attractivenessThreshold;
+
+    public StandardFireflyIterationStrategy() {
+        super();
+        this.attractivenessThreshold = 0.0;
+    }
+
+    public StandardFireflyIterationStrategy(StandardFireflyIterationStrategy copy) {
+        super(copy);
+        this.attractivenessThreshold = copy.attractivenessThreshold;
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public StandardFireflyIterationStrategy getClone() {
-        return this;
+        return new StandardFireflyIterationStrategy(this);
     }
 
     /**
@@ -47,7 +66,7 @@ public class StandardFireflyIterationStrategy extends AbstractIterationStrategy<
 
         for (Firefly current : topology) {
             for (Firefly other : topology) {
-                if (other.isBrighter(current)) {
+                if (other.isBrighter(current) && isAttracted(current, other)) {
                     current.updatePosition(other);
                     boundaryConstraint.enforce(current);
                     current.updateFitness(current.getBehaviour().getFitnessCalculator().getFitness(current));
@@ -55,4 +74,37 @@ public class StandardFireflyIterationStrategy extends AbstractIterationStrategy<
             }
         }
     }
+
+    /**
+     * Determines whether a firefly is attracted to another firefly, i.e. whether
+     * the attractiveness of the other firefly is at least the threshold.
+     * @param current the firefly that is attracted.
+     * @param other the firefly that attracts it.
+     * @return true if the pair is not ignored.
+     */
+    protected boolean isAttracted(Firefly current, Firefly other) {
+        if (attractivenessThreshold <= 0.0) {
+            return true;
+        }
+        FireflyPositionUpdateStrategy strategy = current.getPositionUpdateStrategy();
+        return !(strategy instanceof StandardFireflyPositionUpdateStrategy)
+            || ((StandardFireflyPositionUpdateStrategy) strategy).getAttractiveness(current, other) >= attractivenessThreshold;
+    }
+
+    public double getAttractivenessThreshold() {
+        return attractivenessThreshold;
+    }
+
+    /**
+     * Sets the attractiveness below which a firefly does not move toward a
+     * brighter firefly. Only the fireflies with a
+     * {@link StandardFireflyPositionUpdateStrategy} ignore such pairs, and only
+     * thresholds above the minimum brightness factor have an effect. The default
+     * is {@code 0}, which considers all the pairs, as the standard algorithm does.
+     *
+     * @param attractivenessThreshold the attractiveness threshold.
+     */
+    public void setAttractivenessThreshold(double attractivenessThreshold) {
+        this.attractivenessThreshold = attractivenessThreshold;
+    }
 }
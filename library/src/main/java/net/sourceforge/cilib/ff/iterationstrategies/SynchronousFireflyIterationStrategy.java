@@ -0,0 +1,190 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.ff.iterationstrategies;
+
+import fj.F;
+import java.util.ArrayList;
+import java.util.List;
+import net.sourceforge.cilib.algorithm.ParallelExecutor;
+import net.sourceforge.cilib.entity.Topologies;
+import net.sourceforge.cilib.ff.FFA;
+import net.sourceforge.cilib.ff.firefly.Firefly;
+import net.sourceforge.cilib.ff.positionupdatestrategies.CombinedFireflyPositionUpdateStrategy;
+import net.sourceforge.cilib.ff.positionupdatestrategies.FireflyPositionUpdateStrategy;
+import net.sourceforge.cilib.ff.positionupdatestrategies.StandardFireflyPositionUpdateStrategy;
+import net.sourceforge.cilib.type.types.container.Vector;
+import net.sourceforge.cilib.util.KDTree;
+import net.sourceforge.cilib.util.distancemeasure.EuclideanDistanceMeasure;
+
+/**
+ * A synchronous iteration strategy for the Firefly algorithm. Every firefly
+ * moves once per iteration, toward all the fireflies that were brighter than it
+ * at the start of the iteration, with their attractions combined into a single
+ * move (see {@link CombinedFireflyPositionUpdateStrategy#updatePosition(Firefly, List)}),
+ * and is evaluated once. The fireflies that are not attracted to any other
+ * firefly do not move. A position update strategy that cannot combine the
+ * attractions moves the firefly toward each of them in turn instead.
+ * <p>
+ * Since all the moves depend only on the state at the start of the iteration,
+ * they may be determined concurrently (see {@link #setParallel(boolean)}). When
+ * an attractiveness threshold is set and the fireflies use a
+ * {@link StandardFireflyPositionUpdateStrategy} with the Euclidean distance, the
+ * fireflies within the attraction range of each firefly are found with a
+ * {@link KDTree}, instead of comparing all the pairs.
+ */
+public class SynchronousFireflyIterationStrategy extends StandardFireflyIterationStrategy {
+
+    private boolean parallel;
+
+    public SynchronousFireflyIterationStrategy() {
+        super();
+        this.parallel = false;
+    }
+
+    public SynchronousFireflyIterationStrategy(SynchronousFireflyIterationStrategy copy) {
+        super(copy);
+        this.parallel = copy.parallel;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SynchronousFireflyIterationStrategy getClone() {
+        return new SynchronousFireflyIterationStrategy(this);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void performIteration(FFA algorithm) {
+        final List<Firefly> fireflies = new ArrayList<Firefly>();
+        for (Firefly f : algorithm.getTopology()) {
+            fireflies.add(f);
+        }
+        final double[][] positions = isSpatiallyIndexed(fireflies) ? Topologies.getPositionMatrix(algorithm.getTopology()) : null;
+        final KDTree tree = positions == null ? null : new KDTree(positions);
+
+        List<Integer> indices = new ArrayList<Integer>();
+        for (int i = 0; i < fireflies.size(); i++) {
+            indices.add(i);
+        }
+        F<Integer, Vector> move = new F<Integer, Vector>() {
+            @Override
+            public Vector f(Integer i) {
+                return move(fireflies, positions, tree, i);
+            }
+        };
+        List<Vector> moves;
+        if (parallel) {
+            moves = ParallelExecutor.map(indices, move);
+        } else {
+            moves = new ArrayList<Vector>();
+            for (Integer i : indices) {
+                moves.add(move.f(i));
+            }
+        }
+
+        List<Firefly> moved = new ArrayList<Firefly>();
+        for (int i = 0; i < fireflies.size(); i++) {
+            if (moves.get(i) != null) {
+                fireflies.get(i).setPosition(moves.get(i));
+                moved.add(fireflies.get(i));
+            }
+        }
+
+        F<Firefly, Firefly> evaluate = new F<Firefly, Firefly>() {
+            @Override
+            public Firefly f(Firefly current) {
+                boundaryConstraint.enforce(current);
+                current.updateFitness(current.getBehaviour().getFitnessCalculator().getFitness(current));
+                return current;
+            }
+        };
+        if (parallel) {
+            ParallelExecutor.map(moved, evaluate);
+        } else {
+            for (Firefly current : moved) {
+                evaluate.f(current);
+            }
+        }
+    }
+
+    /**
+     * Determines the new position of a firefly.
+     * @return the new position, or null if the firefly is not attracted to any other firefly.
+     */
+    private Vector move(List<Firefly> fireflies, double[][] positions, KDTree tree, int i) {
+        Firefly current = fireflies.get(i);
+        List<Firefly> attractors = new ArrayList<Firefly>();
+        for (int j : getCandidates(fireflies.size(), positions, tree, current, i)) {
+            Firefly other = fireflies.get(j);
+            if (other.isBrighter(current) && isAttracted(current, other)) {
+                attractors.add(other);
+            }
+        }
+        if (attractors.isEmpty()) {
+            return null;
+        }
+
+        FireflyPositionUpdateStrategy strategy = current.getPositionUpdateStrategy();
+        if (strategy instanceof CombinedFireflyPositionUpdateStrategy) {
+            return ((CombinedFireflyPositionUpdateStrategy) strategy).updatePosition(current, attractors);
+        }
+        return CombinedFireflyPositionUpdateStrategy.moveInTurn(strategy, current, attractors);
+    }
+
+    /**
+     * Gets the indices of the fireflies that may attract a firefly, in ascending
+     * order, so that the attractions are combined in topology order.
+     */
+    private int[] getCandidates(int size, double[][] positions, KDTree tree, Firefly current, int i) {
+        double range = tree == null ? Double.POSITIVE_INFINITY
+            : ((StandardFireflyPositionUpdateStrategy) current.getPositionUpdateStrategy()).getAttractionRange(getAttractivenessThreshold());
+        if (Double.isInfinite(range)) {
+            int[] all = new int[size];
+            for (int j = 0; j < size; j++) {
+                all[j] = j;
+            }
+            return all;
+        }
+        // widened slightly, since the pairs are filtered with the exact attractiveness
+        return tree.query(positions[i], range * (1.0 + 1e-9));
+    }
+
+    /**
+     * Determines whether the fireflies within the attraction range of a firefly
+     * can be found with a {@link KDTree}.
+     */
+    private boolean isSpatiallyIndexed(List<Firefly> fireflies) {
+        if (getAttractivenessThreshold() <= 0.0 || fireflies.isEmpty()) {
+            return false;
+        }
+        for (Firefly f : fireflies) {
+            if (f.getPositionUpdateStrategy().getClass() != StandardFireflyPositionUpdateStrategy.class
+                    || ((StandardFireflyPositionUpdateStrategy) f.getPositionUpdateStrategy()).getDistanceMeasure().getClass()
+                        != EuclideanDistanceMeasure.class) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    /**
+     * Sets whether the fireflies are moved and evaluated concurrently, see
+     * {@link ParallelExecutor}.
+     * @param parallel whether to move the fireflies concurrently.
+     */
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+}
@@ -0,0 +1,58 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.ff.positionupdatestrategies;
+
+import java.util.List;
+import net.sourceforge.cilib.ff.firefly.Firefly;
+import net.sourceforge.cilib.type.types.container.Vector;
+
+/**
+ * A firefly position update strategy that can also combine the attractions of
+ * several fireflies into a single move, as used by the
+ * {@link net.sourceforge.cilib.ff.iterationstrategies.SynchronousFireflyIterationStrategy}.
+ * <p>
+ * The default implementation moves the firefly toward each of the other
+ * fireflies in turn, as {@link #updatePosition(Firefly, Firefly)} would, so
+ * subclasses only need to override it when the attractions can be combined
+ * differently.
+ */
+public abstract class CombinedFireflyPositionUpdateStrategy implements FireflyPositionUpdateStrategy {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public abstract CombinedFireflyPositionUpdateStrategy getClone();
+
+    /**
+     * Updates the position of the given firefly with respect to several
+     * fireflies at once, with the attractions of all of them combined into a
+     * single move.
+     * @param firefly the firefly the position update is for.
+     * @param others the fireflies whose positions and attraction are used, at least one.
+     * @return A {@link Vector} containing the updated position.
+     */
+    public Vector updatePosition(Firefly firefly, List<Firefly> others) {
+        return moveInTurn(this, firefly, others);
+    }
+
+    /**
+     * Moves a firefly toward each of the other fireflies in turn, without
+     * changing the given firefly.
+     * @param strategy the strategy that moves the firefly toward a single other firefly.
+     * @param firefly the firefly the position update is for.
+     * @param others the fireflies whose positions and attraction are used, at least one.
+     * @return A {@link Vector} containing the updated position.
+     */
+    public static Vector moveInTurn(FireflyPositionUpdateStrategy strategy, Firefly firefly, List<Firefly> others) {
+        Firefly moving = firefly.getClone();
+        for (Firefly other : others) {
+            moving.setPosition(strategy.updatePosition(moving, other));
+        }
+        return moving.getPosition();
+    }
+}
@@ -6,6 +6,7 @@
  */
 package net.sourceforge.cilib.ff.positionupdatestrategies;
 
+import java.util.List;
 import net.sourceforge.cilib.controlparameter.ConstantControlParameter;
 import net.sourceforge.cilib.controlparameter.ControlParameter;
 import net.sourceforge.cilib.controlparameter.LinearlyVaryingControlParameter;
@@ -37,7 +38,7 @@ import net.sourceforge.cilib.util.distancemeasure.EuclideanDistanceMeasure;
  * </ul>
  * </p>
  */
-public class StandardFireflyPositionUpdateStrategy implements FireflyPositionUpdateStrategy {
+public class StandardFireflyPositionUpdateStrategy extends CombinedFireflyPositionUpdateStrategy {
 
     private DistanceMeasure distanceMeasure;
     private ControlParameter alpha;
@@ -82,6 +83,58 @@ public class StandardFireflyPositionUpdateStrategy implements FireflyPositionUpd
         return moveToward(firefly, other);
     }
 
+    /**
+     * Moves the firefly toward all the other fireflies, with the sum of the
+     * attractions of the others, and a single random step.
+     */
+    @Override
+    public Vector updatePosition(Firefly firefly, List<Firefly> others) {
+        Vector attraction = null;
+        for (Firefly other : others) {
+            Vector term = other.getPosition().subtract(firefly.getPosition())
+                .multiply(getAttractiveness(firefly, other));
+            attraction = attraction == null ? term : attraction.plus(term);
+        }
+
+        Vector thirdTerm = randomDirection(firefly).multiply(alpha.getParameter());
+
+        return firefly.getPosition().plus(attraction).plus(thirdTerm);
+    }
+
+    /**
+     * Determines the attraction of a firefly to another firefly, based on the
+     * minimum brightness factor, light absorption and the distance between them.
+     * @param firefly the firefly that is attracted.
+     * @param other the firefly that attracts it.
+     * @return the attractiveness of {@code other}.
+     */
+    public double getAttractiveness(Firefly firefly, Firefly other) {
+        double r = distanceMeasure.distance(firefly.getPosition(), other.getPosition());
+        return (1.0 - betaMin.getParameter()) *
+            Math.exp(-gamma.getParameter() * r * r) + betaMin.getParameter();
+    }
+
+    /**
+     * Determines the distance within which the attractiveness of a firefly is
+     * at least the given threshold. Beyond this distance, the attractiveness
+     * decays below the threshold.
+     * @param threshold the attractiveness threshold.
+     * @return the distance, which is infinite if the attractiveness never decays
+     *         below the threshold, i.e. if the threshold is at most the minimum
+     *         brightness factor.
+     */
+    public double getAttractionRange(double threshold) {
+        double beta = betaMin.getParameter();
+        double g = gamma.getParameter();
+        if (threshold <= beta || g <= 0.0) {
+            return Double.POSITIVE_INFINITY;
+        }
+        if (threshold > 1.0) {
+            return 0.0;
+        }
+        return Math.sqrt(Math.log((1.0 - beta) / (threshold - beta)) / g);
+    }
+
     /**
      * Move a firefly toward another firefly according to the distance
      * between them {@code r}, brightness factor {@code beta},
@@ -90,13 +143,8 @@ public class StandardFireflyPositionUpdateStrategy implements FireflyPositionUpd
      */
     private Vector moveToward(Firefly i, Firefly j) {
 
-        // determine the cartesian distance between two fireflies
-        double r = distanceMeasure.distance(i.getPosition(), j.getPosition());
-
-        // determine the attraction of the other firefly, based
-        // on the minimum brightness factor, light absorption and distance
-        double attractiveness = (1.0 - betaMin.getParameter()) *
-            Math.exp(-gamma.getParameter() * r * r) + betaMin.getParameter();
+        // determine the attraction of the other firefly
+        double attractiveness = getAttractiveness(i, j);
 
         Vector secondTerm = j.getPosition().subtract(i.getPosition())
             .multiply(attractiveness);
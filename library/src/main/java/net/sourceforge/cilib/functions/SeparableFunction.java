@@ -0,0 +1,47 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.functions;
+
+/**
+ * A function that is additively separable, i.e. of which the value is a constant
+ * plus a sum of terms that each depend on a single dimension:
+ * <pre>
+ * f(x) = c(n) + t(0, x_0, n) + t(1, x_1, n) + ... + t(n-1, x_{n-1}, n)
+ * </pre>
+ * The value of the function for an input that differs from another input in only a
+ * few dimensions can then be calculated from the value of the other input, by only
+ * recalculating the terms of the changed dimensions.
+ * <p>
+ * Functions that are randomly initialised (e.g. randomly shifted functions) are only
+ * initialised when they are first evaluated, so the terms may only be calculated
+ * after the function has been evaluated on an input of the same dimension.
+ */
+public interface SeparableFunction {
+
+    /**
+     * Determines whether the function is separable. Decorators are only separable
+     * when the decorated function is.
+     * @return whether the terms and constant of the function may be used.
+     */
+    boolean isSeparable();
+
+    /**
+     * Gets the term of a single dimension.
+     * @param index the index of the dimension.
+     * @param value the value of the input in the dimension.
+     * @param dimension the dimension of the input.
+     * @return the term.
+     */
+    double getTerm(int index, double value, int dimension);
+
+    /**
+     * Gets the part of the function value that does not depend on the input.
+     * @param dimension the dimension of the input.
+     * @return the constant.
+     */
+    double getConstant(int dimension);
+}
@@ -0,0 +1,74 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.functions.activation;
+
+/**
+ * The way in which the {@linkplain Sigmoid} and {@linkplain TanH} activation
+ * functions are evaluated. Approximating the functions is opt-in; the error
+ * bounds of the approximations are documented in {@linkplain FastActivations}.
+ */
+public enum ActivationApproximation {
+
+    /**
+     * Evaluate the functions exactly, using {@link Math#exp(double)}.
+     */
+    EXACT {
+        @Override
+        public double sigmoid(double x) {
+            return 1.0 / (1.0 + Math.exp(-x));
+        }
+
+        @Override
+        public double tanh(double x) {
+            return Math.tanh(x);
+        }
+    },
+
+    /**
+     * Interpolate the functions from a precomputed table.
+     */
+    TABLE {
+        @Override
+        public double sigmoid(double x) {
+            return FastActivations.tableSigmoid(x);
+        }
+
+        @Override
+        public double tanh(double x) {
+            return FastActivations.tableTanH(x);
+        }
+    },
+
+    /**
+     * Approximate the functions by a rational function.
+     */
+    RATIONAL {
+        @Override
+        public double sigmoid(double x) {
+            return FastActivations.rationalSigmoid(x);
+        }
+
+        @Override
+        public double tanh(double x) {
+            return FastActivations.rationalTanH(x);
+        }
+    };
+
+    /**
+     * Evaluates the logistic sigmoid, {@code 1 / (1 + e^-x)}.
+     * @param x the input.
+     * @return the (approximate) sigmoid of {@code x}.
+     */
+    public abstract double sigmoid(double x);
+
+    /**
+     * Evaluates the hyperbolic tangent.
+     * @param x the input.
+     * @return the (approximate) hyperbolic tangent of {@code x}.
+     */
+    public abstract double tanh(double x);
+}
@@ -0,0 +1,126 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.functions.activation;
+
+/**
+ * Approximations of the logistic sigmoid, {@code 1 / (1 + e^-x)}, and of the
+ * hyperbolic tangent that avoid the calls to {@link Math#exp(double)}.
+ * <p>
+ * The methods are static and operate on primitives, so that they can be
+ * inlined in a forward pass. The maximum absolute errors over the whole real
+ * line are:
+ * <table>
+ *   <tr><td>{@link #tableSigmoid(double)}</td><td>{@value #TABLE_SIGMOID_ERROR}</td></tr>
+ *   <tr><td>{@link #tableTanH(double)}</td><td>{@value #TABLE_TANH_ERROR}</td></tr>
+ *   <tr><td>{@link #rationalSigmoid(double)}</td><td>{@value #RATIONAL_SIGMOID_ERROR}</td></tr>
+ *   <tr><td>{@link #rationalTanH(double)}</td><td>{@value #RATIONAL_TANH_ERROR}</td></tr>
+ * </table>
+ * All the approximations are odd around their centre, monotonically
+ * non-decreasing and stay within the range of the exact function. {@code NaN}
+ * inputs give {@code NaN} outputs.
+ */
+public final class FastActivations {
+
+    /** Maximum absolute error of {@link #tableSigmoid(double)}. */
+    public static final double TABLE_SIGMOID_ERROR = 3.0E-6;
+    /** Maximum absolute error of {@link #tableTanH(double)}. */
+    public static final double TABLE_TANH_ERROR = 6.0E-6;
+    /** Maximum absolute error of {@link #rationalSigmoid(double)}. */
+    public static final double RATIONAL_SIGMOID_ERROR = 5.0E-5;
+    /** Maximum absolute error of {@link #rationalTanH(double)}. */
+    public static final double RATIONAL_TANH_ERROR = 1.0E-4;
+
+    /**
+     * The sigmoid is tabulated on {@code [-RANGE, RANGE]}, outside which it is within
+     * {@code 1.2E-7} of its asymptotes and is replaced by them.
+     */
+    private static final double RANGE = 16.0;
+    private static final int STEPS_PER_UNIT = 64;
+    private static final double[] SIGMOID = new double[(int) (2 * RANGE * STEPS_PER_UNIT) + 2];
+
+    /**
+     * Beyond this point the rational approximation of tanh exceeds one.
+     */
+    private static final double RATIONAL_LIMIT = 4.971;
+
+    static {
+        for (int i = 0; i < SIGMOID.length; i++) {
+            SIGMOID[i] = 1.0 / (1.0 + Math.exp(RANGE - (double) i / STEPS_PER_UNIT));
+        }
+    }
+
+    private FastActivations() {
+    }
+
+    /**
+     * Approximates the sigmoid by linear interpolation in a table with a step
+     * size of {@code 1/64}.
+     * @param x the input.
+     * @return the approximate sigmoid of {@code x}.
+     */
+    public static double tableSigmoid(double x) {
+        if (x >= 0.0) {
+            return 1.0 - lookup(-x);
+        }
+        return x < 0.0 ? lookup(x) : x;
+    }
+
+    /**
+     * Looks up the sigmoid of a non-positive number.
+     */
+    private static double lookup(double x) {
+        double position = (x + RANGE) * STEPS_PER_UNIT;
+        if (position <= 0.0) {
+            return 0.0;
+        }
+        int index = (int) position;
+        double fraction = position - index;
+        return SIGMOID[index] + fraction * (SIGMOID[index + 1] - SIGMOID[index]);
+    }
+
+    /**
+     * Approximates the hyperbolic tangent using {@code tanh(x) = 2 sigmoid(2x) - 1} and
+     * the tabulated sigmoid.
+     * @param x the input.
+     * @return the approximate hyperbolic tangent of {@code x}.
+     */
+    public static double tableTanH(double x) {
+        if (x >= 0.0) {
+            return 1.0 - 2.0 * lookup(-2.0 * x);
+        }
+        return x < 0.0 ? 2.0 * lookup(2.0 * x) - 1.0 : x;
+    }
+
+    /**
+     * Approximates the sigmoid using {@code sigmoid(x) = (1 + tanh(x / 2)) / 2} and
+     * {@link #rationalTanH(double)}.
+     * @param x the input.
+     * @return the approximate sigmoid of {@code x}.
+     */
+    public static double rationalSigmoid(double x) {
+        return 0.5 + 0.5 * rationalTanH(0.5 * x);
+    }
+
+    /**
+     * Approximates the hyperbolic tangent by the [7/6] Pad&eacute; approximant obtained
+     * from Lambert's continued fraction, clamped to {@code [-1, 1]}.
+     * @param x the input.
+     * @return the approximate hyperbolic tangent of {@code x}.
+     */
+    public static double rationalTanH(double x) {
+        if (x > RATIONAL_LIMIT) {
+            return 1.0;
+        }
+        if (x < -RATIONAL_LIMIT) {
+            return -1.0;
+        }
+        double x2 = x * x;
+        double value = x * (135135.0 + x2 * (17325.0 + x2 * (378.0 + x2)))
+                / (135135.0 + x2 * (62370.0 + x2 * (3150.0 + x2 * 28.0)));
+        return Math.max(-1.0, Math.min(1.0, value));
+    }
+}
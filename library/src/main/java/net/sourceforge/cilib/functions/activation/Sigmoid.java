@@ -23,6 +23,7 @@ public class Sigmoid extends ActivationFunction {
     private ControlParameter lambda; // steepness
     private ControlParameter gamma;  // range
     private ControlParameter offset;
+    private ActivationApproximation approximation;
 
     /**
      * Create a new instance of {@code Sigmoid}. The default instance has the {@code lambda}
@@ -37,12 +38,14 @@ public class Sigmoid extends ActivationFunction {
         this.lambda = ConstantControlParameter.of(lambda);
         this.gamma = ConstantControlParameter.of(gamma);
         this.offset = ConstantControlParameter.of(0.0);
+        this.approximation = ActivationApproximation.EXACT;
     }
 
     public Sigmoid(Sigmoid sigmoid) {
         this.lambda = sigmoid.getLambda().getClone();
         this.gamma = sigmoid.getGamma().getClone();
         this.offset = sigmoid.getOffset().getClone();
+        this.approximation = sigmoid.approximation;
     }
 
     @Override
@@ -63,7 +66,10 @@ public class Sigmoid extends ActivationFunction {
      */
     @Override
     public double f(double input) {
-        return gamma.getParameter() / (1.0 + Math.exp(-1.0 * lambda.getParameter() * (input - offset.getParameter())));
+        if (approximation == ActivationApproximation.EXACT) {
+            return gamma.getParameter() / (1.0 + Math.exp(-1.0 * lambda.getParameter() * (input - offset.getParameter())));
+        }
+        return gamma.getParameter() * approximation.sigmoid(lambda.getParameter() * (input - offset.getParameter()));
     }
 
     @Override
@@ -74,12 +80,13 @@ public class Sigmoid extends ActivationFunction {
     private boolean equals(Sigmoid other) {
         return Objects.equal(getLambda(), other.getLambda()) &&
                 Objects.equal(getGamma(), other.getGamma()) &&
-                Objects.equal(getOffset(), other.getOffset());
+                Objects.equal(getOffset(), other.getOffset()) &&
+                approximation == other.approximation;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hashCode(getLambda(), getGamma(), getOffset());
+        return Objects.hashCode(getLambda(), getGamma(), getOffset(), approximation);
     }
 
     @Override
@@ -152,6 +159,25 @@ public class Sigmoid extends ActivationFunction {
         this.offset = offset;
     }
 
+    /**
+     * Get the way in which the function is evaluated.
+     *
+     * @return The {@linkplain ActivationApproximation}.
+     */
+    public ActivationApproximation getApproximation() {
+        return approximation;
+    }
+
+    /**
+     * Set the way in which the function is evaluated. The default is
+     * {@link ActivationApproximation#EXACT}.
+     *
+     * @param approximation The value to set.
+     */
+    public void setApproximation(ActivationApproximation approximation) {
+        this.approximation = approximation;
+    }
+
     /**
      * {@inheritDoc}
      * The active range for sigmoid is -Sqrt(3) - Sqrt(3), and Sqrt(3) = 1.732050808
@@ -15,6 +15,16 @@ import net.sourceforge.cilib.type.types.container.Vector;
  */
 public class TanH extends ActivationFunction {
 
+    private ActivationApproximation approximation;
+
+    public TanH() {
+        this.approximation = ActivationApproximation.EXACT;
+    }
+
+    public TanH(TanH copy) {
+        this.approximation = copy.approximation;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -27,9 +37,7 @@ public class TanH extends ActivationFunction {
      * {@inheritDoc}
      */
     public double f(double input) {
-        double a = Math.exp(input);
-        double b = Math.exp(-input);
-        return ((a - b) / (a + b));
+        return approximation.tanh(input);
     }
 
     @Override
@@ -62,8 +70,27 @@ public class TanH extends ActivationFunction {
         return 1.732050808;
     }
 
+    /**
+     * Get the way in which the function is evaluated.
+     *
+     * @return The {@linkplain ActivationApproximation}.
+     */
+    public ActivationApproximation getApproximation() {
+        return approximation;
+    }
+
+    /**
+     * Set the way in which the function is evaluated. The default is
+     * {@link ActivationApproximation#EXACT}.
+     *
+     * @param approximation The value to set.
+     */
+    public void setApproximation(ActivationApproximation approximation) {
+        this.approximation = approximation;
+    }
+
     @Override
     public TanH getClone() {
-        return this;
+        return new TanH(this);
     }
 }
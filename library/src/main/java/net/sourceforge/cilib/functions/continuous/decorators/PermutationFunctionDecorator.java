@@ -7,6 +7,7 @@
 package net.sourceforge.cilib.functions.continuous.decorators;
 
 import net.sourceforge.cilib.functions.ContinuousFunction;
+import net.sourceforge.cilib.functions.SeparableFunction;
 import net.sourceforge.cilib.type.types.Numeric;
 import net.sourceforge.cilib.type.types.container.Vector;
 
@@ -15,10 +16,11 @@ import net.sourceforge.cilib.type.types.container.Vector;
  * Using the permuted indices, this decorator permutes the input
  * vector before applying the decorated function.
  */
-public class PermutationFunctionDecorator extends ContinuousFunction {
+public class PermutationFunctionDecorator extends ContinuousFunction implements SeparableFunction {
 
     private ContinuousFunction function;
     private Vector permutedIndices;
+    private int[] positions;
 
     /**
      * Default constructor that initialises an empty indices vector.
@@ -37,6 +39,7 @@ public class PermutationFunctionDecorator extends ContinuousFunction {
                 .range(0, input.size(), 1)
                 .build()
                 .permute();
+            positions = null;
         }
 
         Vector.Builder newInput = Vector.newBuilder();
@@ -48,6 +51,38 @@ public class PermutationFunctionDecorator extends ContinuousFunction {
         return function.f(newInput.build());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isSeparable() {
+        return function instanceof SeparableFunction && ((SeparableFunction) function).isSeparable();
+    }
+
+    /**
+     * Gets the term of a dimension of the input, which is the term of the
+     * dimension it is permuted to in the input of the decorated function.
+     */
+    @Override
+    public double getTerm(int index, double value, int dimension) {
+        if (positions == null) {
+            int[] inverse = new int[permutedIndices.size()];
+            for (int i = 0; i < inverse.length; i++) {
+                inverse[permutedIndices.intValueOf(i)] = i;
+            }
+            positions = inverse;
+        }
+        return ((SeparableFunction) function).getTerm(positions[index], value, dimension);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getConstant(int dimension) {
+        return ((SeparableFunction) function).getConstant(dimension);
+    }
+
     /**
      * Get the decorated function.
      * @return The decorated function.
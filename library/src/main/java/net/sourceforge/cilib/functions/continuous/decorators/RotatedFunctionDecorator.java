@@ -115,6 +115,10 @@ public class RotatedFunctionDecorator extends ContinuousFunction {
         }
     }
 
+    public MatrixType getMatrixType() {
+        return type;
+    }
+
     public void setCondition(int condition) {
         this.condition = condition;
     }
@@ -9,6 +9,7 @@ package net.sourceforge.cilib.functions.continuous.decorators;
 import net.sourceforge.cilib.controlparameter.ConstantControlParameter;
 import net.sourceforge.cilib.controlparameter.ControlParameter;
 import net.sourceforge.cilib.functions.ContinuousFunction;
+import net.sourceforge.cilib.functions.SeparableFunction;
 import net.sourceforge.cilib.type.types.container.Vector;
 
 /**
@@ -29,7 +30,7 @@ import net.sourceforge.cilib.type.types.container.Vector;
  *             (c < 0) means that g(x) is f(x) shifted c units downwards
  *
  */
-public class ShiftedFunctionDecorator extends ContinuousFunction {
+public class ShiftedFunctionDecorator extends ContinuousFunction implements SeparableFunction {
 
     private static final long serialVersionUID = 8687711759870298103L;
     private ContinuousFunction function;
@@ -57,6 +58,31 @@ public class ShiftedFunctionDecorator extends ContinuousFunction {
         return function.f(input.subtract(shiftVector)) + verticalShift.getParameter();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isSeparable() {
+        return function instanceof SeparableFunction && ((SeparableFunction) function).isSeparable();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getTerm(int index, double value, int dimension) {
+        double shift = randomShift ? shiftVector.doubleValueOf(index) : horizontalShift.getParameter();
+        return ((SeparableFunction) function).getTerm(index, value - shift, dimension);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getConstant(int dimension) {
+        return ((SeparableFunction) function).getConstant(dimension) + verticalShift.getParameter();
+    }
+
     /**
      * @return the function
      */
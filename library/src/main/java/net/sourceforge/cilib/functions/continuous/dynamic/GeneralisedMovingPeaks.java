@@ -6,12 +6,14 @@
  */
 package net.sourceforge.cilib.functions.continuous.dynamic;
 
+import java.util.Arrays;
+import java.util.Comparator;
 import net.sourceforge.cilib.algorithm.AbstractAlgorithm;
 import net.sourceforge.cilib.functions.DynamicFunction;
 import net.sourceforge.cilib.math.random.GaussianDistribution;
 import net.sourceforge.cilib.math.random.ProbabilityDistributionFunction;
 import net.sourceforge.cilib.math.random.UniformDistribution;
-import net.sourceforge.cilib.type.types.Bounds;
+import net.sourceforge.cilib.math.random.generator.Rand;
 import net.sourceforge.cilib.type.types.container.Vector;
 
 /**
@@ -32,7 +34,15 @@ import net.sourceforge.cilib.type.types.container.Vector;
  * doi={10.1109/CEC.1999.785502},
  * ISSN={},}
  * </pre>
- *
+ * <p/>
+ * The peak centres are kept as a primitive matrix, along with the heights and
+ * widths of the peaks, and are moved in place when the environment changes.
+ * Unless culling is disabled, an evaluation visits the peaks from the highest to
+ * the lowest: the height of a peak bounds its value anywhere in the search
+ * space, so the remaining peaks are skipped once a peak has been found that is
+ * at least as high, and a peak is abandoned as soon as the partial distance to
+ * its centre shows that it cannot beat the current maximum. Culling does not
+ * change the value of the function.
  */
 public class GeneralisedMovingPeaks extends DynamicFunction<Vector, Double> {
 
@@ -42,8 +52,11 @@ public class GeneralisedMovingPeaks extends DynamicFunction<Vector, Double> {
     private double widthSeverity, heightSeverity, shiftSeverity, lambda; //controls the severity and movement trends of peak movements.
     private double[] peakHeigths, peakWidths; //the current heights and widths of all peaks.
     private double minHeight, maxHeight, minWidth, maxWidth; //minimum and maximum values for peak heights and widths.
-    private Vector[] peakPositions, shiftVectors; //the positions of all peaks, as well as the previous shift vectors.
+    private double[][] peakCentres, shiftVectors; //the positions of all peaks, as well as the previous shift vectors.
     private int[][] movementDirections; //the movement directions of peaks in each dimension.
+    private boolean culling; //whether peaks that cannot beat the current maximum are skipped.
+    private int[] peakOrder; //the peaks, from the highest to the lowest.
+    private boolean bounded; //whether the height of every peak bounds its value.
 
     public GeneralisedMovingPeaks() {
         this.gaussian = new GaussianDistribution();
@@ -59,6 +72,7 @@ public class GeneralisedMovingPeaks extends DynamicFunction<Vector, Double> {
         this.maxHeight = 70.0;
         this.minWidth = 1.0;
         this.maxWidth = 12.0;
+        this.culling = true;
     }
 
     public GeneralisedMovingPeaks(int frequency, int peaks, double widthSeverity, double heightSeverity, double shiftSeverity, double lambda) {
@@ -75,6 +89,7 @@ public class GeneralisedMovingPeaks extends DynamicFunction<Vector, Double> {
         this.maxHeight = 70.0;
         this.minWidth = 1.0;
         this.maxWidth = 12.0;
+        this.culling = true;
     }
 
     @Override
@@ -84,22 +99,44 @@ public class GeneralisedMovingPeaks extends DynamicFunction<Vector, Double> {
             initialisePeaks(input.size());
         }
 
+        int dimensions = input.size();
+        double[] x = new double[dimensions];
+        for (int i = 0; i < dimensions; i++) {
+            x[i] = input.doubleValueOf(i);
+        }
+
         //evaluate function
         double maximum = Double.MIN_VALUE;
-        int dimensions = input.size();
+        boolean cull = culling && bounded;
+
+        for (int k = 0; k < peaks; k++) {
+            int p = cull ? peakOrder[k] : k;
+            double height = peakHeigths[p];
+            double width = peakWidths[p];
+            if (cull && height <= maximum) {
+                break; //no remaining peak is higher than the maximum.
+            }
 
-        for (int p = 0; p < peaks; p++) {
-            double thisPeak = 0.0;
+            //the squared distance beyond which this peak cannot beat the maximum.
+            double limit = cull ? (height / maximum - 1) / width : Double.POSITIVE_INFINITY;
+            double[] centre = peakCentres[p];
+            double distance = 0.0;
+            boolean beaten = false;
 
             for (int i = 0; i < dimensions; i++) {
-                thisPeak += Math.pow(input.doubleValueOf(i) - peakPositions[p].doubleValueOf(i), 2);
+                double difference = x[i] - centre[i];
+                distance += difference * difference;
+                if (distance >= limit && height / (1 + width * distance) <= maximum) {
+                    beaten = true;
+                    break;
+                }
             }
 
-            thisPeak = 1 + (peakWidths[p] * thisPeak);
-            thisPeak = peakHeigths[p] / thisPeak;
-
-            if (thisPeak > maximum) {
-                maximum = thisPeak;
+            if (!beaten) {
+                double thisPeak = height / (1 + width * distance);
+                if (thisPeak > maximum) {
+                    maximum = thisPeak;
+                }
             }
         }
 
@@ -118,8 +155,6 @@ public class GeneralisedMovingPeaks extends DynamicFunction<Vector, Double> {
         double upper = bounds.boundsOf(0).getUpperBound();
         double lower = bounds.boundsOf(0).getLowerBound();
 
-        Vector tempPosition;
-
         updateShiftVectors();
 
         for (int p = 0; p < peaks; p++) {
@@ -141,27 +176,23 @@ public class GeneralisedMovingPeaks extends DynamicFunction<Vector, Double> {
                 peakWidths[p] += offset;
             }
 
-            //change peak location
-            int dimensions = shiftVectors[0].size();
-
-            Double[] shift = new Double[dimensions];
-            for (int i = 0; i < dimensions; i++) {
-                shift[i] = shiftVectors[p].get(i).doubleValue() * movementDirections[p][i];
-            }
-
-            tempPosition = peakPositions[p].plus(Vector.of(shift));
-
-            //enforce boundary constraints
-            for (int i = 0; i < dimensions; i++) {
-                if (tempPosition.get(i).doubleValue() > upper ||
-                        tempPosition.get(i).doubleValue() < lower) {
-                    movementDirections[p][i] *= -1;
-                    shift[i] *= -1;
+            //change peak location, enforcing the boundary constraints
+            double[] centre = peakCentres[p];
+            double[] shiftVector = shiftVectors[p];
+            int[] directions = movementDirections[p];
+
+            for (int i = 0; i < centre.length; i++) {
+                double shift = shiftVector[i] * directions[i];
+                double moved = centre[i] + shift;
+                if (moved > upper || moved < lower) {
+                    directions[i] *= -1;
+                    shift *= -1;
                 }
+                centre[i] += shift;
             }
-
-            peakPositions[p] = peakPositions[p].plus(Vector.of(shift));
         }
+
+        orderPeaks();
     }
 
     /**
@@ -182,8 +213,8 @@ public class GeneralisedMovingPeaks extends DynamicFunction<Vector, Double> {
         movementDirections = new int[peaks][dimensions];
         peakHeigths = new double[peaks];
         peakWidths = new double[peaks];
-        peakPositions = new Vector[peaks];
-        shiftVectors = new Vector[peaks];
+        peakCentres = new double[peaks][dimensions];
+        shiftVectors = new double[peaks][dimensions];
 
         //get problem domain boundaries
         Vector bounds = (Vector) AbstractAlgorithm.get().getOptimisationProblem().getDomain().getBuiltRepresentation();
@@ -191,25 +222,19 @@ public class GeneralisedMovingPeaks extends DynamicFunction<Vector, Double> {
         double upper = bounds.boundsOf(0).getUpperBound();
         double lower = bounds.boundsOf(0).getLowerBound();
 
-        Double[] oneVector = new Double[dimensions];
-        for (int i = 0; i < dimensions; i++) {
-            oneVector[i] = 1.0;
-        }  // } What happened to Vector.fill?
-
         //initialise peaks and shift vectors
-        Double[] position = new Double[dimensions];
         for (int p = 0; p < peaks; p++) {
             for (int i = 0; i < dimensions; i++) {
-                position[i] = uniform.getRandomNumber(lower, upper);
-                movementDirections[p][i] = 1;
+                peakCentres[p][i] = uniform.getRandomNumber(lower, upper);
             }
+            Arrays.fill(movementDirections[p], 1);
+            Arrays.fill(shiftVectors[p], 1.0);
 
-            peakPositions[p] = Vector.of(position);
             peakHeigths[p] = uniform.getRandomNumber(minHeight, maxHeight);
             peakWidths[p] = uniform.getRandomNumber(minWidth, maxWidth);
-
-            shiftVectors[p] = Vector.of(oneVector);
         }
+
+        orderPeaks();
     }
 
     /**
@@ -219,21 +244,69 @@ public class GeneralisedMovingPeaks extends DynamicFunction<Vector, Double> {
      * on its previous move.
      */
     private void updateShiftVectors() {
-        int dimensions = peakPositions[0].size();
+        int dimensions = peakCentres[0].length;
 
-        Vector.Builder vectorBuilder = Vector.newBuilder();
+        //get a vector with random direction and magnitude <tt>changeSeverity</tt>.
+        double[] random = new double[dimensions];
         for (int i = 0; i < dimensions; i++) {
-            vectorBuilder.addWithin(0.0, new Bounds(-1.0, 1.0));
+            random[i] = Rand.nextDouble() * 2.0 - 1.0;
         }
 
-        //get a vector with random direction and magnitude <tt>changeSeverity</tt>.
-        Vector random = vectorBuilder.buildRandom().normalize().multiply(shiftSeverity);
+        double norm = length(random);
+        double scale = (Double.compare(norm, 0.0) != 0) ? 1.0 / norm : 1.0;
+        for (int i = 0; i < dimensions; i++) {
+            random[i] = random[i] * scale * shiftSeverity;
+        }
 
         //compute new shift vectors
-        Vector vector;
-        for (int i = 0; i < peaks; i++) {
-            vector = (random.multiply(1 - lambda)).plus(shiftVectors[i].multiply(lambda));
-            shiftVectors[i] = vector.multiply(shiftSeverity).divide(vector.length());
+        double[] vector = new double[dimensions];
+        for (int p = 0; p < peaks; p++) {
+            double[] shiftVector = shiftVectors[p];
+            for (int i = 0; i < dimensions; i++) {
+                vector[i] = random[i] * (1 - lambda) + shiftVector[i] * lambda;
+            }
+
+            double length = length(vector);
+            if (length == 0.0) {
+                throw new ArithmeticException("Vector division by zero");
+            }
+            scale = 1.0 / length;
+            for (int i = 0; i < dimensions; i++) {
+                shiftVector[i] = vector[i] * shiftSeverity * scale;
+            }
+        }
+    }
+
+    private static double length(double[] vector) {
+        double sum = 0.0;
+        for (double value : vector) {
+            sum += value * value;
+        }
+        return Math.sqrt(sum);
+    }
+
+    /**
+     * Order the peaks from the highest to the lowest, for culling. The height of
+     * a peak only bounds its value if no width is negative.
+     */
+    private void orderPeaks() {
+        Integer[] order = new Integer[peaks];
+        bounded = true;
+        for (int p = 0; p < peaks; p++) {
+            order[p] = p;
+            bounded &= peakWidths[p] >= 0.0;
+        }
+
+        Arrays.sort(order, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer a, Integer b) {
+                return Double.compare(peakHeigths[b], peakHeigths[a]);
+            }
+        });
+
+        peakOrder = new int[peaks];
+        for (int p = 0; p < peaks; p++) {
+            peakOrder[p] = order[p];
         }
     }
 
@@ -250,6 +323,20 @@ public class GeneralisedMovingPeaks extends DynamicFunction<Vector, Double> {
         return max;
     }
 
+    /**
+     * Sets whether evaluations skip the peaks that cannot beat the maximum found
+     * so far. Culling does not change the value of the function. The default is
+     * {@code true}.
+     * @param culling whether to cull peaks.
+     */
+    public void setCulling(boolean culling) {
+        this.culling = culling;
+    }
+
+    public boolean isCulling() {
+        return culling;
+    }
+
     // Getters and setters.... for use in the XML
     public int getFrequency() {
         return frequency;
@@ -23,60 +23,127 @@ import com.google.common.collect.Lists;
  * Problem Definitions and Evaluation Criteria for the CEC 2005 Special Session on Real-Parameter Optimization.
  * Natural Computing, 1-50. Available at: http://vg.perso.eisti.fr/These/Papiers/Bibli2/CEC05.pdf.
  * </p>
+ * <p>
+ * The weights of the components are computed for every evaluation, and are not
+ * stored in the components, so that the function may be evaluated concurrently.
+ * Components with a weight below the weight threshold are not evaluated.
+ * </p>
  */
 public class HybridCompositionFunction extends ContinuousFunction {
 
     private final List<SingleFunction> functions;
     private double scaleConstant;
+    private double weightThreshold;
+    private volatile boolean initialised;
 
     public HybridCompositionFunction() {
         this.functions = Lists.<SingleFunction>newArrayList();
         this.scaleConstant = 2000.0;
+        this.weightThreshold = 0.0;
+        this.initialised = false;
     }
 
     @Override
     public Double f(Vector input) {
-        int nDims = input.size();
+        initialise(input);
+
+        double[] x = SingleFunction.toArray(input);
+        return evaluate(x, new double[functions.size()], new double[x.length]);
+    }
+
+    /**
+     * Evaluates the function for every input, reusing the intermediate arrays
+     * of the evaluation.
+     * @param inputs The inputs, which must all have the same dimension.
+     * @return The value of the function for every input, in order.
+     */
+    public double[] evaluate(List<Vector> inputs) {
+        double[] values = new double[inputs.size()];
+        if (inputs.isEmpty()) {
+            return values;
+        }
+
+        initialise(inputs.get(0));
+
+        double[] weights = new double[functions.size()];
+        double[] scratch = new double[inputs.get(0).size()];
+        for (int n = 0; n < values.length; n++) {
+            values[n] = evaluate(SingleFunction.toArray(inputs.get(n)), weights, scratch);
+        }
+        return values;
+    }
+
+    private double evaluate(double[] input, double[] weights, double[] scratch) {
+        int nDims = input.length;
+        int count = functions.size();
 
         // Get the raw weights
         double wMax = Double.NEGATIVE_INFINITY;
         double wSum = 0.0;
-        for (SingleFunction f : functions) {
-            f.shift(input);
-            double sumSqr = Math.pow(f.getShifted().norm(), 2);
+        for (int k = 0; k < count; k++) {
+            SingleFunction f = functions.get(k);
+            double sumSqr = f.squaredDistance(input);
 
-            f.setWeight(Math.exp(-1.0 * sumSqr / (2.0 * nDims * f.getSigma() * f.getSigma())));
+            weights[k] = Math.exp(-1.0 * sumSqr / (2.0 * nDims * f.getSigma() * f.getSigma()));
 
-            if (wMax < f.getWeight())
-                wMax = f.getWeight();
+            if (wMax < weights[k])
+                wMax = weights[k];
 
-            wSum += f.getWeight();
+            wSum += weights[k];
         }
 
         // Modify the weights
         double w1mMaxPow = 1.0 - Math.pow(wMax, 10.0);
-        for (SingleFunction f : functions) {
-            if (f.getWeight() != wMax) {
-                f.setWeight(f.getWeight() * w1mMaxPow);
+        for (int k = 0; k < count; k++) {
+            if (weights[k] != wMax) {
+                weights[k] *= w1mMaxPow;
             }
 
-            f.setWeight(f.getWeight() / wSum);
+            weights[k] /= wSum;
         }
 
         double sumF = 0.0;
-        for (SingleFunction f : functions) {
-            sumF += f.getWeight() * (scaleConstant * f.f(input) + f.getBias());
+        for (int k = 0; k < count; k++) {
+            if (weights[k] < weightThreshold) {
+                continue;
+            }
+
+            SingleFunction f = functions.get(k);
+            sumF += weights[k] * (scaleConstant * f.evaluate(input, scratch) + f.getBias());
         }
 
         return sumF;
     }
 
+    /**
+     * Fixes the optima of all components, and then their rotations, in the order
+     * in which they were added.
+     */
+    private void initialise(Vector input) {
+        if (initialised) {
+            return;
+        }
+
+        synchronized (this) {
+            if (!initialised) {
+                for (SingleFunction f : functions) {
+                    f.initialiseOptimum(input);
+                }
+                for (SingleFunction f : functions) {
+                    f.initialiseRotation();
+                }
+                initialised = true;
+            }
+        }
+    }
+
     /**
      * Adds a function to be composed.
      * @param function
      */
     public void addFunction(SingleFunction function) {
         functions.add(function);
+        initialised = false;
     }
 
     /**
@@ -94,4 +161,22 @@ public class HybridCompositionFunction extends ContinuousFunction {
     public double getScaleConstant() {
         return scaleConstant;
     }
+
+    /**
+     * Sets the weight below which a component is not evaluated. The weights of
+     * the components sum to one. The default is {@code 0.0}, which evaluates
+     * every component.
+     * @param weightThreshold The new weight threshold.
+     */
+    public void setWeightThreshold(double weightThreshold) {
+        this.weightThreshold = weightThreshold;
+    }
+
+    /**
+     * Gets the weight below which a component is not evaluated.
+     * @return The weight threshold.
+     */
+    public double getWeightThreshold() {
+        return weightThreshold;
+    }
 }
@@ -8,6 +8,8 @@ package net.sourceforge.cilib.functions.continuous.hybrid;
 
 import net.sourceforge.cilib.functions.ContinuousFunction;
 import net.sourceforge.cilib.functions.continuous.decorators.RotatedFunctionDecorator;
+import net.sourceforge.cilib.functions.continuous.decorators.RotatedFunctionDecorator.MatrixType;
+import net.sourceforge.cilib.type.types.container.Matrix;
 import net.sourceforge.cilib.type.types.container.Vector;
 
 /**
@@ -28,6 +30,11 @@ import net.sourceforge.cilib.type.types.container.Vector;
  * When adding functions to the HybridCompositionFunction make sure the horizontalShift
  * </p>
  * <p>
+ * The optimum and the rotation of the function are fixed when it is first evaluated,
+ * and are kept as primitive arrays. Evaluation does not change the state of the
+ * function, so that it may be evaluated concurrently.
+ * </p>
+ * <p>
  * Reference:
  * </p>
  * <p>
@@ -40,14 +47,13 @@ public class SingleFunction extends ContinuousFunction {
     private ContinuousFunction function;
     private final RotatedFunctionDecorator rotationFunction;
     private double sigma;
-    private double weight;
     private double lambda;
     private double horizontalShift;
     private double fmax;
     private double bias;
-    private Vector shifted; //A temporary vector to hold the shifted input
-    private Vector shiftVector;
-    private boolean initialised;
+    private double[] optimum;
+    private double[][] rotation; //The transposed rotation matrix, or null for the identity
+    private volatile boolean initialised;
     private boolean randomShift;
 
     /**
@@ -61,20 +67,12 @@ public class SingleFunction extends ContinuousFunction {
         this.horizontalShift = 0.0;
         this.bias = 0.0;
         this.randomShift = false;
-        this.shiftVector = null;
+        this.optimum = null;
     }
 
     /*
      * Getters and setters for the parameters
      */
-    public void setWeight(double weight) {
-        this.weight = weight;
-    }
-
-    public double getWeight() {
-        return weight;
-    }
-
     public void setSigma(double sigma) {
         this.sigma = sigma;
     }
@@ -124,14 +122,6 @@ public class SingleFunction extends ContinuousFunction {
         return fmax;
     }
 
-    public void setShifted(Vector shifted) {
-        this.shifted = shifted;
-    }
-
-    public Vector getShifted() {
-        return shifted;
-    }
-
     public void setRandomShift(boolean randomShift) {
         this.randomShift = randomShift;
     }
@@ -157,18 +147,109 @@ public class SingleFunction extends ContinuousFunction {
     }
 
     /**
-     * Shifts the input vector.
-     * @param input
+     * Fixes the optimum of the function, if it has not been fixed yet. A random
+     * optimum is drawn within the bounds of {@code input}.
+     * @param input A vector of the dimension of the problem.
      */
-    public void shift(Vector input) {
-        if (shiftVector == null) {
-            if (randomShift) {
-                shiftVector = Vector.newBuilder().copyOf(input).buildRandom();
-            } else {
-                shiftVector = Vector.fill(horizontalShift, input.size());
+    synchronized void initialiseOptimum(Vector input) {
+        if (optimum == null) {
+            Vector shiftVector = randomShift
+                ? Vector.newBuilder().copyOf(input).buildRandom()
+                : Vector.fill(horizontalShift, input.size());
+            optimum = toArray(shiftVector);
+        }
+    }
+
+    /**
+     * Fixes the rotation of the function, and the maximum used to normalise it,
+     * if they have not been fixed yet.
+     */
+    synchronized void initialiseRotation() {
+        if (initialised) {
+            return;
+        }
+
+        int dimensions = optimum.length;
+        if (rotationFunction.getMatrixType() != MatrixType.IDENTITY) {
+            rotationFunction.setRotationMatrix(dimensions);
+            Matrix matrix = rotationFunction.getRotationMatrix();
+            rotation = new double[dimensions][dimensions];
+            for (int i = 0; i < dimensions; i++) {
+                for (int j = 0; j < dimensions; j++) {
+                    rotation[j][i] = matrix.valueAt(i, j);
+                }
             }
         }
-        setShifted(input.subtract(shiftVector));
+
+        double[] scaled = new double[dimensions];
+        double scale = 1.0 / lambda;
+        for (int i = 0; i < dimensions; i++) {
+            scaled[i] = 5.0 * scale;
+        }
+        setfMax(Math.abs(rotate(scaled)));
+        initialised = true;
+    }
+
+    /**
+     * Gets the squared distance between the input and the optimum of the function.
+     * @param input The input.
+     * @return The squared distance.
+     */
+    double squaredDistance(double[] input) {
+        double sum = 0.0;
+        for (int i = 0; i < input.length; i++) {
+            double difference = input[i] - optimum[i];
+            sum += difference * difference;
+        }
+        return sum;
+    }
+
+    /**
+     * Evaluates the shifted, scaled and rotated function, normalised by its maximum.
+     * Both the optimum and the rotation must have been initialised.
+     * @param input The input.
+     * @param scratch An array of the dimension of the input, to hold the shifted input.
+     * @return The value of the function.
+     */
+    double evaluate(double[] input, double[] scratch) {
+        double scale = 1.0 / lambda;
+        for (int i = 0; i < input.length; i++) {
+            scratch[i] = (input[i] - optimum[i]) * scale;
+        }
+        return rotate(scratch) / getfMax();
+    }
+
+    private double rotate(double[] input) {
+        if (rotation == null) {
+            return function.f(toVector(input));
+        }
+
+        double[] rotated = new double[input.length];
+        for (int j = 0; j < input.length; j++) {
+            double[] column = rotation[j];
+            double sum = 0.0;
+            for (int i = 0; i < input.length; i++) {
+                sum += input[i] * column[i];
+            }
+            rotated[j] = sum;
+        }
+        return function.f(toVector(rotated));
+    }
+
+    private static Vector toVector(double[] input) {
+        Vector.Builder builder = Vector.newBuilder();
+        for (double value : input) {
+            builder.add(value);
+        }
+        return builder.build();
+    }
+
+    static double[] toArray(Vector input) {
+        double[] array = new double[input.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = input.doubleValueOf(i);
+        }
+        return array;
     }
 
     /**
@@ -176,12 +257,12 @@ public class SingleFunction extends ContinuousFunction {
      */
     @Override
     public Double f(Vector input) {
-        //need to get input's size to set fMax
         if (!initialised) {
-            setfMax(Math.abs(rotationFunction.f(Vector.fill(5.0, input.size()).divide(lambda))));
-            initialised = true;
+            initialiseOptimum(input);
+            initialiseRotation();
         }
 
-        return rotationFunction.f(shifted.divide(lambda)) / getfMax();
+        double[] x = toArray(input);
+        return evaluate(x, new double[x.length]);
     }
 }
@@ -22,29 +22,58 @@ import net.sourceforge.cilib.type.types.container.Vector;
  * "Problem Definitions and Evaluation Criteria for the CEC 2013 Special Session
  * on Real-Parameter Optimization." (2013).
  * </p>
+ * <p>
+ * The weight of every component is computed once for every evaluation, and
+ * components with a weight below the weight threshold are not evaluated.
+ * </p>
  */
 public class HybridCompositionFunction extends ContinuousFunction {
 
     private final List<SingleFunction> functions;
+    private double weightThreshold;
 
     public HybridCompositionFunction() {
         this.functions = new ArrayList();
+        this.weightThreshold = 0.0;
     }
 
     @Override
     public Double f(Vector input) {
+        return evaluate(input, new double[functions.size()]);
+    }
+
+    /**
+     * Evaluates the function for every input.
+     * @param inputs The inputs.
+     * @return The value of the function for every input, in order.
+     */
+    public double[] evaluate(List<Vector> inputs) {
+        double[] values = new double[inputs.size()];
+        double[] weights = new double[functions.size()];
+        for (int n = 0; n < values.length; n++) {
+            values[n] = evaluate(inputs.get(n), weights);
+        }
+        return values;
+    }
+
+    private double evaluate(Vector input, double[] weights) {
         double totalWeight = 0;
-        for (SingleFunction s : functions) {
-            totalWeight += s.getWeight(input);
+        for (int k = 0; k < weights.length; k++) {
+            weights[k] = functions.get(k).getWeight(input);
+            totalWeight += weights[k];
         }
 
         double sum = 0;
-        for (SingleFunction s : functions) {
+        for (int k = 0; k < weights.length; k++) {
             double weight = totalWeight == 0
                 ? (1.0 / input.size())
-                : (s.getWeight(input) / totalWeight);
+                : (weights[k] / totalWeight);
 
-            sum += weight * s.f(input);
+            if (weight < weightThreshold) {
+                continue;
+            }
+
+            sum += weight * functions.get(k).f(input);
         }
 
         return sum;
@@ -57,4 +86,21 @@ public class HybridCompositionFunction extends ContinuousFunction {
     public void addFunction(SingleFunction function) {
         functions.add(function);
     }
+
+    /**
+     * Sets the weight below which a component is not evaluated. The default is
+     * {@code 0.0}, which evaluates every component.
+     * @param weightThreshold The new weight threshold.
+     */
+    public void setWeightThreshold(double weightThreshold) {
+        this.weightThreshold = weightThreshold;
+    }
+
+    /**
+     * Gets the weight below which a component is not evaluated.
+     * @return The weight threshold.
+     */
+    public double getWeightThreshold() {
+        return weightThreshold;
+    }
 }
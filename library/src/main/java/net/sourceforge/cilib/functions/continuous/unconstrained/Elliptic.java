@@ -7,6 +7,7 @@
 package net.sourceforge.cilib.functions.continuous.unconstrained;
 
 import net.sourceforge.cilib.functions.ContinuousFunction;
+import net.sourceforge.cilib.functions.SeparableFunction;
 import net.sourceforge.cilib.type.types.container.Vector;
 
 /**
@@ -23,7 +24,7 @@ import net.sourceforge.cilib.type.types.container.Vector;
  * </pre>
  *
  */
-public class Elliptic extends ContinuousFunction {
+public class Elliptic extends ContinuousFunction implements SeparableFunction {
 
     /*
      * The condition number 10^6 is used to transform a sphere
@@ -42,6 +43,30 @@ public class Elliptic extends ContinuousFunction {
         return sum;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isSeparable() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getTerm(int index, double value, int dimension) {
+        return Math.pow(conditionNumber, index / (dimension - 1)) * value * value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getConstant(int dimension) {
+        return 0.0;
+    }
+
     /*
      * Set the condition number of the elliptic function.
      * @param conditionNumber The new condition number.
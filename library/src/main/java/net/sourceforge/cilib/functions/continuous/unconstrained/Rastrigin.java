@@ -8,6 +8,7 @@ package net.sourceforge.cilib.functions.continuous.unconstrained;
 
 import net.sourceforge.cilib.functions.ContinuousFunction;
 import net.sourceforge.cilib.functions.Differentiable;
+import net.sourceforge.cilib.functions.SeparableFunction;
 import net.sourceforge.cilib.type.types.Numeric;
 import net.sourceforge.cilib.type.types.Real;
 import net.sourceforge.cilib.type.types.container.Vector;
@@ -34,7 +35,7 @@ import fj.F;
  * R(-5.12, 5.12)^30
  *
  */
-public class Rastrigin extends ContinuousFunction implements Differentiable {
+public class Rastrigin extends ContinuousFunction implements Differentiable, SeparableFunction {
 
     private static final long serialVersionUID = 447701182683968035L;
 
@@ -50,6 +51,30 @@ public class Rastrigin extends ContinuousFunction implements Differentiable {
         return 10 * input.size() + tmp;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isSeparable() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getTerm(int index, double value, int dimension) {
+        return value * value - 10.0 * Math.cos(2 * Math.PI * value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getConstant(int dimension) {
+        return 10 * dimension;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -8,6 +8,7 @@ package net.sourceforge.cilib.functions.continuous.unconstrained;
 
 import net.sourceforge.cilib.functions.ContinuousFunction;
 import net.sourceforge.cilib.functions.Differentiable;
+import net.sourceforge.cilib.functions.SeparableFunction;
 import net.sourceforge.cilib.type.types.Numeric;
 import net.sourceforge.cilib.type.types.Real;
 import net.sourceforge.cilib.type.types.container.Vector;
@@ -37,7 +38,7 @@ import fj.F;
  * R(-5.12, 5.12)^30
  *
  */
-public class Spherical extends ContinuousFunction implements Differentiable {
+public class Spherical extends ContinuousFunction implements Differentiable, SeparableFunction {
 
     private static final long serialVersionUID = 5811377575647995206L;
 
@@ -54,6 +55,30 @@ public class Spherical extends ContinuousFunction implements Differentiable {
         });
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isSeparable() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getTerm(int index, double value, int dimension) {
+        return value * value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getConstant(int dimension) {
+        return 0.0;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -6,16 +6,21 @@
  */
 package net.sourceforge.cilib.hs;
 
+import com.google.common.base.Throwables;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Callable;
 import net.sourceforge.cilib.algorithm.AbstractAlgorithm;
+import net.sourceforge.cilib.algorithm.ParallelExecutor;
 import net.sourceforge.cilib.algorithm.SingularAlgorithm;
-import net.sourceforge.cilib.type.types.container.SortedList;
 import net.sourceforge.cilib.controlparameter.ConstantControlParameter;
 import net.sourceforge.cilib.controlparameter.ControlParameter;
-import net.sourceforge.cilib.math.random.ProbabilityDistributionFunction;
+import net.sourceforge.cilib.entity.Property;
 import net.sourceforge.cilib.math.random.UniformDistribution;
 import net.sourceforge.cilib.problem.Problem;
+import net.sourceforge.cilib.problem.solution.InferiorFitness;
 import net.sourceforge.cilib.problem.solution.OptimisationSolution;
 import net.sourceforge.cilib.type.types.Bounds;
 import net.sourceforge.cilib.type.types.container.Vector;
@@ -25,19 +30,33 @@ import net.sourceforge.cilib.type.types.container.Vector;
  * Algorithm for Continuous Engineering Optimization: Harmony Search Theory and
  * Practice", Computer Methods in Applied Mechanics and Engineering, volume 194,
  * pages 3902--3933, 2005
- *
+ * <p>
+ * Every iteration improvises a batch of harmonies (one by default) from the
+ * harmony memory as it was at the start of the iteration, evaluates them, and then
+ * lets each of them replace the worst harmony in the memory if it is better.
+ * <p>
+ * Earlier versions of this class did not evaluate the initial harmonies, could
+ * never consider the last harmony of the memory, and reported the worst harmony
+ * as the best solution. These are corrected, and the harmonies are evaluated
+ * through the optimisation problem, so seeded runs give different results than
+ * those versions, even with the default of one improvisation per iteration.
  */
 public class HS extends AbstractAlgorithm implements SingularAlgorithm {
 
     private static final long serialVersionUID = 8019668923312811974L;
-    private ProbabilityDistributionFunction uniform1;
-    private ProbabilityDistributionFunction uniform2;
-    private ProbabilityDistributionFunction uniform3;
+    private UniformDistribution uniform1;
+    private UniformDistribution uniform2;
+    private UniformDistribution uniform3;
     private ControlParameter harmonyMemorySize;
     private ControlParameter harmonyMemoryConsideringRate;
     private ControlParameter pitchAdjustingRate;
     private ControlParameter distanceBandwidth;
-    private SortedList<Harmony> harmonyMemory;
+    private ControlParameter improvisations;
+    private boolean parallel;
+    private HarmonyMemory harmonyMemory;
+    private Vector representation;
+    private double[] lowerBounds;
+    private double[] upperBounds;
 
     /**
      * Default constructor.
@@ -48,6 +67,7 @@ public class HS extends AbstractAlgorithm implements SingularAlgorithm {
      *   <li>Memory considering rate: 0.9</li>
      *   <li>Pitch adjustment rate: 0.35</li>
      *   <li>Distance bandwidth: 0.5</li>
+     *   <li>Improvisations per iteration: 1</li>
      * </ul>
      */
     public HS() {
@@ -59,8 +79,10 @@ public class HS extends AbstractAlgorithm implements SingularAlgorithm {
         this.harmonyMemoryConsideringRate = ConstantControlParameter.of(0.9);
         this.pitchAdjustingRate = ConstantControlParameter.of(0.35);
         this.distanceBandwidth = ConstantControlParameter.of(0.5);
+        this.improvisations = ConstantControlParameter.of(1);
+        this.parallel = false;
 
-        this.harmonyMemory = new SortedList<Harmony>();
+        this.harmonyMemory = new HarmonyMemory(0);
     }
 
     /**
@@ -68,6 +90,7 @@ public class HS extends AbstractAlgorithm implements SingularAlgorithm {
      * @param copy The instance to copy.
      */
     public HS(HS copy) {
+        super(copy);
         this.uniform1 = copy.uniform1;
         this.uniform2 = copy.uniform2;
         this.uniform3 = copy.uniform3;
@@ -76,8 +99,13 @@ public class HS extends AbstractAlgorithm implements SingularAlgorithm {
         this.harmonyMemoryConsideringRate = copy.harmonyMemoryConsideringRate.getClone();
         this.pitchAdjustingRate = copy.pitchAdjustingRate.getClone();
         this.distanceBandwidth = copy.distanceBandwidth.getClone();
+        this.improvisations = copy.improvisations.getClone();
+        this.parallel = copy.parallel;
 
-        this.harmonyMemory = copy.harmonyMemory.getClone();
+        this.harmonyMemory = new HarmonyMemory(copy.harmonyMemory);
+        this.representation = copy.representation;
+        this.lowerBounds = copy.lowerBounds;
+        this.upperBounds = copy.upperBounds;
     }
 
     /**
@@ -93,11 +121,30 @@ public class HS extends AbstractAlgorithm implements SingularAlgorithm {
      */
     @Override
     public void algorithmInitialisation() {
+        Problem problem = getOptimisationProblem();
+        representation = (Vector) problem.getDomain().getBuiltRepresentation();
+        lowerBounds = new double[representation.size()];
+        upperBounds = new double[representation.size()];
+        for (int i = 0; i < representation.size(); i++) {
+            Bounds bounds = representation.boundsOf(i);
+            lowerBounds[i] = bounds.getLowerBound();
+            upperBounds[i] = bounds.getUpperBound();
+        }
+
+        List<Callable<Harmony>> harmonies = new ArrayList<Callable<Harmony>>();
         for (int i = 0; i < harmonyMemorySize.getParameter(); i++) {
-            Harmony harmony = new Harmony();
-            harmony.initialise(getOptimisationProblem());
-            this.harmonyMemory.add(harmony);
+            final Harmony harmony = new Harmony();
+            harmony.initialise(problem);
+            harmonies.add(new Callable<Harmony>() {
+                @Override
+                public Harmony call() {
+                    return evaluate(harmony);
+                }
+            });
         }
+
+        harmonyMemory = new HarmonyMemory(harmonies.size());
+        memorise(harmonies);
     }
 
     /**
@@ -165,45 +212,117 @@ public class HS extends AbstractAlgorithm implements SingularAlgorithm {
         this.distanceBandwidth = distanceBandwidth;
     }
 
+    /**
+     * Get the number of harmonies that are improvised per iteration.
+     * @return The {@linkplain ControlParameter} for the number of improvisations.
+     */
+    public ControlParameter getImprovisations() {
+        return improvisations;
+    }
+
+    /**
+     * Set the number of harmonies that are improvised per iteration. All the
+     * harmonies of an iteration are improvised from the same harmony memory, and
+     * are only added to the memory once they have all been evaluated.
+     * @param improvisations The {@linkplain ControlParameter} to use.
+     */
+    public void setImprovisations(ControlParameter improvisations) {
+        this.improvisations = improvisations;
+    }
+
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    /**
+     * Sets whether the harmonies of an iteration are improvised and evaluated
+     * concurrently, see {@link ParallelExecutor}.
+     * @param parallel whether to improvise the harmonies concurrently.
+     */
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public void algorithmIteration() {
-        //TO-DO: Make sure that all fitnesses are evaluated initially, and
-        //that FE is incremented only once per iteration
+        final double consideringRate = harmonyMemoryConsideringRate.getParameter();
+        final double adjustingRate = pitchAdjustingRate.getParameter();
+        final double bandwidth = distanceBandwidth.getParameter();
+        Callable<Harmony> improvisation = new Callable<Harmony>() {
+            @Override
+            public Harmony call() {
+                return evaluate(improvise(consideringRate, adjustingRate, bandwidth));
+            }
+        };
 
-        //calculate a new harmony
-        Harmony newHarmony = new Harmony();
-        newHarmony.initialise(getOptimisationProblem());
-        Vector newHarmonyVector = (Vector) newHarmony.getPosition();
+        memorise(Collections.nCopies((int) improvisations.getParameter(), improvisation));
+    }
 
-        Problem problem = getOptimisationProblem();
-//        Real newHarmonyValue;
-        for (int i = 0; i < problem.getDomain().getDimension(); ++i) {
-            if (uniform1.getRandomNumber() < harmonyMemoryConsideringRate.getParameter()) {
-                Harmony selectedHarmony = this.harmonyMemory.get((int) uniform2.getRandomNumber(0, harmonyMemory.size() - 1));
-                Vector selectedHarmonyContents = (Vector) selectedHarmony.getPosition();
-                double newHarmonyValue = selectedHarmonyContents.doubleValueOf(i);
-                Bounds bounds = selectedHarmonyContents.boundsOf(i);
-                if (uniform1.getRandomNumber() < pitchAdjustingRate.getParameter()) {
-                    double pitchedValue = newHarmonyValue + uniform3.getRandomNumber(-1, 1) * distanceBandwidth.getParameter();
-                    if ((pitchedValue > bounds.getLowerBound()) && (pitchedValue < bounds.getUpperBound())) {
-                        newHarmonyValue = pitchedValue;
+    /**
+     * Improvise a new harmony from the harmony memory.
+     */
+    private Harmony improvise(double consideringRate, double adjustingRate, double bandwidth) {
+        Vector position = representation.getClone();
+        for (int i = 0; i < lowerBounds.length; ++i) {
+            double value;
+            if (uniform1.getRandomNumber() < consideringRate) {
+                value = harmonyMemory.valueOf((int) uniform2.getRandomNumber(0, harmonyMemory.size()), i);
+                if (uniform1.getRandomNumber() < adjustingRate) {
+                    double pitchedValue = value + uniform3.getRandomNumber(-1, 1) * bandwidth;
+                    if ((pitchedValue > lowerBounds[i]) && (pitchedValue < upperBounds[i])) {
+                        value = pitchedValue;
                     }
                 }
-
-                newHarmonyVector.setReal(i, newHarmonyValue);
             } else {
-                double upper = ((Vector) problem.getDomain().getBuiltRepresentation()).boundsOf(i).getUpperBound();
-                double lower = ((Vector) problem.getDomain().getBuiltRepresentation()).boundsOf(i).getLowerBound();
-                newHarmonyVector.setReal(i, uniform3.getRandomNumber(lower, upper));
+                value = uniform3.getRandomNumber(lowerBounds[i], upperBounds[i]);
             }
+            position.setReal(i, value);
         }
 
-        newHarmony.updateFitness(newHarmony.getBehaviour().getFitnessCalculator().getFitness(newHarmony));
-        harmonyMemory.add(newHarmony);
-        harmonyMemory.remove(harmonyMemory.get(0)/*getFirst()*/); // Remove the worst harmony in the memory
+        Harmony harmony = new Harmony();
+        harmony.setPosition(position);
+        harmony.put(Property.FITNESS, InferiorFitness.instance());
+        return harmony;
+    }
+
+    /**
+     * Evaluate the given harmony.
+     */
+    private Harmony evaluate(Harmony harmony) {
+        harmony.updateFitness(getOptimisationProblem().getFitness(harmony.getPosition()));
+        return harmony;
+    }
+
+    /**
+     * Create and evaluate the given harmonies, concurrently if the algorithm is
+     * parallel, and then add them to the harmony memory in order.
+     */
+    private void memorise(List<Callable<Harmony>> harmonies) {
+        List<Harmony> evaluated;
+        if (parallel) {
+            evaluated = ParallelExecutor.invokeAll(harmonies);
+        } else {
+            evaluated = new ArrayList<Harmony>(harmonies.size());
+            for (Callable<Harmony> harmony : harmonies) {
+                try {
+                    evaluated.add(harmony.call());
+                } catch (Exception e) {
+                    throw Throwables.propagate(e);
+                }
+            }
+        }
+
+        for (Harmony harmony : evaluated) {
+            Vector position = (Vector) harmony.getPosition();
+            double[] values = new double[position.size()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = position.doubleValueOf(i);
+            }
+            harmonyMemory.add(harmony, values);
+        }
     }
 
     /**
@@ -211,7 +330,8 @@ public class HS extends AbstractAlgorithm implements SingularAlgorithm {
      */
     @Override
     public OptimisationSolution getBestSolution() {
-        return new OptimisationSolution(this.harmonyMemory.get/*First()*/(0).getPosition(), this.harmonyMemory.get(0).getFitness());
+        Harmony best = harmonyMemory.get(0);
+        return new OptimisationSolution(best.getPosition(), best.getFitness());
     }
 
     /**
@@ -0,0 +1,114 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.hs;
+
+import java.io.Serializable;
+import net.sourceforge.cilib.problem.solution.Fitness;
+
+/**
+ * Fixed capacity harmony memory, kept in arrays that are sorted from the best to
+ * the worst harmony. The values of every harmony are also kept as a primitive
+ * array, so that improvisation does not need to go through the position of the
+ * harmonies.
+ * <p>
+ * Once the memory is full, a new harmony replaces the worst harmony only if it is
+ * better than it.
+ */
+final class HarmonyMemory implements Serializable {
+
+    private static final long serialVersionUID = -1466302498734457117L;
+    private final Harmony[] harmonies;
+    private final double[][] values;
+    private int size;
+
+    /**
+     * Create an empty memory that holds at most {@code capacity} harmonies.
+     * @param capacity the capacity of the memory.
+     */
+    HarmonyMemory(int capacity) {
+        this.harmonies = new Harmony[capacity];
+        this.values = new double[capacity][];
+        this.size = 0;
+    }
+
+    /**
+     * Copy constructor.
+     * @param copy The instance to copy.
+     */
+    HarmonyMemory(HarmonyMemory copy) {
+        this.harmonies = new Harmony[copy.harmonies.length];
+        this.values = new double[copy.values.length][];
+        this.size = copy.size;
+        for (int i = 0; i < size; i++) {
+            this.harmonies[i] = copy.harmonies[i].getClone();
+            this.values[i] = copy.values[i].clone();
+        }
+    }
+
+    /**
+     * Get the number of harmonies in the memory.
+     * @return the number of harmonies.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Get the harmony at the given rank, where {@code 0} is the best harmony.
+     * @param index the rank of the harmony.
+     * @return the harmony.
+     */
+    Harmony get(int index) {
+        return harmonies[index];
+    }
+
+    /**
+     * Get the value of a harmony in the given dimension.
+     * @param index the rank of the harmony.
+     * @param dimension the dimension.
+     * @return the value.
+     */
+    double valueOf(int index, int dimension) {
+        return values[index][dimension];
+    }
+
+    /**
+     * Add a harmony to the memory, evicting the worst harmony if the memory is
+     * full.
+     * @param harmony the harmony to add, which must have been evaluated.
+     * @param harmonyValues the values of {@code harmony}, which are not copied.
+     * @return {@code true} if the harmony was added, {@code false} if the memory
+     *         is full and the harmony is not better than the worst harmony.
+     */
+    boolean add(Harmony harmony, double[] harmonyValues) {
+        Fitness fitness = harmony.getFitness();
+        if (size == harmonies.length && (size == 0 || fitness.compareTo(harmonies[size - 1].getFitness()) <= 0)) {
+            return false;
+        }
+
+        // Binary search for the first harmony that is worse, so that harmonies of
+        // equal fitness keep their order of insertion.
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (harmonies[middle].getFitness().compareTo(fitness) >= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        int last = Math.min(size, harmonies.length - 1);
+        System.arraycopy(harmonies, low, harmonies, low + 1, last - low);
+        System.arraycopy(values, low, values, low + 1, last - low);
+        harmonies[low] = harmony;
+        values[low] = harmonyValues;
+        size = last + 1;
+        return true;
+    }
+}
@@ -0,0 +1,120 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.io;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import net.sourceforge.cilib.io.exception.CIlibIOException;
+import net.sourceforge.cilib.io.transform.DataOperator;
+import net.sourceforge.cilib.io.transform.PatternConversionOperator;
+import net.sourceforge.cilib.io.transform.PermutationOperator;
+import net.sourceforge.cilib.io.transform.SeededShuffleOperator;
+import net.sourceforge.cilib.io.transform.SeededStratifiedWindows;
+import net.sourceforge.cilib.io.transform.SelectiveDataOperator;
+
+/**
+ * A process wide registry of datasets. Each data source is read and converted
+ * into a {@link PatternStore} only once, after which the store is shared by every
+ * problem (in every simulation sample) that reads the same source through an
+ * equivalent {@link DataTableBuilder}.
+ * <p>
+ * Two builders are equivalent if they have the same type of reader, the same source
+ * URL and the same operator pipeline, including the configuration of the operators.
+ * Seeded random operators are identified by their seed, so the order they produce is
+ * the one of a freshly seeded generator. Pipelines that contain an unseeded random
+ * operator, such as a {@link net.sourceforge.cilib.io.transform.ShuffleOperator}, or a permutation of which the state
+ * is unknown, are not shared: their data table is built for every request. The
+ * stores are softly referenced and will be reloaded if the garbage collector
+ * reclaimed them.
+ */
+public final class DataTableRegistry {
+
+    private static final Cache<String, PatternStore> stores = CacheBuilder.newBuilder().softValues().build();
+
+    private DataTableRegistry() {
+    }
+
+    /**
+     * Gets the store of patterns built by the given builder, building the data table
+     * only if no equivalent builder has been used before. The result of the builder's
+     * operator pipeline must be a {@link StandardPatternDataTable}.
+     * @param builder the builder describing the data source.
+     * @return the shared store of patterns.
+     * @throws CIlibIOException if the data table could not be built.
+     */
+    public static PatternStore getPatternStore(final DataTableBuilder builder) throws CIlibIOException {
+        String key = keyOf(builder);
+        if (key == null) {
+            return build(builder);
+        }
+
+        try {
+            return stores.get(key, new Callable<PatternStore>() {
+                @Override
+                public PatternStore call() throws CIlibIOException {
+                    return build(builder);
+                }
+            });
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof CIlibIOException) {
+                throw (CIlibIOException) e.getCause();
+            }
+            throw new CIlibIOException(e.getCause());
+        }
+    }
+
+    private static PatternStore build(DataTableBuilder builder) throws CIlibIOException {
+        DataTable table = builder.buildDataTable();
+        if (!(table instanceof StandardPatternDataTable)) {
+            throw new CIlibIOException("Data source " + builder.getSourceURL() + " was not converted to patterns.");
+        }
+        return new PatternStore((StandardPatternDataTable) table);
+    }
+
+    /**
+     * Removes all the stores from the registry.
+     */
+    public static void clear() {
+        stores.invalidateAll();
+    }
+
+    /**
+     * Creates the key that identifies the data produced by a builder.
+     * @return the key, or null if the data may differ between builds.
+     */
+    static String keyOf(DataTableBuilder builder) {
+        StringBuilder key = new StringBuilder();
+        DataReader reader = builder.getDataReader();
+        key.append(reader.getClass().getName()).append('|').append(reader.getSourceURL());
+        if (reader instanceof DelimitedTextFileReader) {
+            key.append('|').append(((DelimitedTextFileReader) reader).getDelimiter());
+        }
+
+        for (DataOperator operator : builder.getOperatorPipeline()) {
+            key.append('|').append(operator.getClass().getName());
+            if (operator instanceof SeededShuffleOperator) {
+                key.append(((SeededShuffleOperator) operator).getSeed());
+            } else if (operator instanceof SeededStratifiedWindows) {
+                SeededStratifiedWindows windows = (SeededStratifiedWindows) operator;
+                key.append(windows.getSeed()).append(',').append(windows.getNumOfWindows());
+            } else if (operator instanceof PermutationOperator) {
+                return null;
+            }
+            if (operator instanceof SelectiveDataOperator) {
+                key.append(((SelectiveDataOperator) operator).getSelectedItems());
+            }
+            if (operator instanceof PatternConversionOperator) {
+                PatternConversionOperator conversion = (PatternConversionOperator) operator;
+                key.append(conversion.getClassIndex()).append(',').append(conversion.getClassLength())
+                    .append(conversion.getIgnoredColumnIndices());
+            }
+        }
+        return key.toString();
+    }
+}
@@ -0,0 +1,109 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.io;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import java.util.List;
+import net.sourceforge.cilib.io.pattern.StandardPattern;
+
+/**
+ * An immutable store of patterns that may be shared between any number of
+ * problems (and threads). The patterns are copied once when the store is
+ * created and are never modified afterwards.
+ * <p>
+ * Problems do not use the store directly, but rather obtain lightweight
+ * {@link StandardPatternDataTable} views on it through {@link #view(int[])}.
+ * A view only holds an index array into the store, so every problem can have
+ * its own ordering (shuffle) and split of the patterns without copying them.
+ */
+public final class PatternStore {
+
+    private final StandardPattern[] patterns;
+    private final List<String> columnNames;
+
+    /**
+     * Creates a new store containing copies of all the patterns in the given table.
+     * @param table the table containing the patterns.
+     */
+    public PatternStore(DataTable<StandardPattern, ?> table) {
+        this.patterns = new StandardPattern[table.size()];
+        int i = 0;
+        for (StandardPattern pattern : table) {
+            this.patterns[i++] = (StandardPattern) pattern.getClone();
+        }
+        this.columnNames = ImmutableList.copyOf(table.getColumnNames());
+    }
+
+    /**
+     * Gets the pattern at the given index. The returned pattern is shared and
+     * must not be modified.
+     * @param index the index of the pattern.
+     * @return the pattern.
+     */
+    public StandardPattern get(int index) {
+        return patterns[index];
+    }
+
+    /**
+     * Gets the number of patterns in the store.
+     * @return the number of patterns.
+     */
+    public int size() {
+        return patterns.length;
+    }
+
+    /**
+     * Gets the names of the columns of the patterns.
+     * @return an unmodifiable list of column names.
+     */
+    public List<String> getColumnNames() {
+        return columnNames;
+    }
+
+    /**
+     * Creates the identity permutation of the store, i.e. the array
+     * <code>[0, 1, ..., size() - 1]</code>.
+     * @return a new index array.
+     */
+    public int[] indices() {
+        return indices(0, patterns.length);
+    }
+
+    /**
+     * Creates the array of indices <code>[from, from + 1, ..., to - 1]</code>.
+     * @param from the first index (inclusive).
+     * @param to the last index (exclusive).
+     * @return a new index array.
+     */
+    public int[] indices(int from, int to) {
+        Preconditions.checkPositionIndexes(from, to, patterns.length);
+        int[] indices = new int[to - from];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = from + i;
+        }
+        return indices;
+    }
+
+    /**
+     * Creates a view containing all the patterns in the store, in their original order.
+     * @return a new view on this store.
+     */
+    public StandardPatternDataTable view() {
+        return new StandardPatternDataTable(this, indices());
+    }
+
+    /**
+     * Creates a view containing the patterns at the given indices, in the
+     * order in which they are given. The view takes ownership of the array.
+     * @param indices the indices of the patterns in this store.
+     * @return a new view on this store.
+     */
+    public StandardPatternDataTable view(int[] indices) {
+        return new StandardPatternDataTable(this, indices);
+    }
+}
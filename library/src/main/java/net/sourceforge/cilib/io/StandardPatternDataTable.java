@@ -6,10 +6,14 @@
  */
 package net.sourceforge.cilib.io;
 
+import com.google.common.base.Preconditions;
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.RandomAccess;
 import net.sourceforge.cilib.io.pattern.StandardPattern;
 import net.sourceforge.cilib.type.types.Numeric;
 import net.sourceforge.cilib.type.types.container.TypeList;
@@ -17,11 +21,18 @@ import net.sourceforge.cilib.type.types.container.TypeList;
 /**
  * Class implements a DataTable, where each row is a StandardPattern. The last column
  * of the row is the classification.
+ * <p>
+ * A table can also be a view on a shared {@link PatternStore}, in which case it only
+ * holds the indices of its rows in the store. Views are copy-on-write: the first
+ * operation that modifies the table replaces the view with private copies of
+ * its patterns, leaving the store untouched.
  */
 public class StandardPatternDataTable implements DataTable<StandardPattern, TypeList> {
 
     private List<StandardPattern> dataTable;
     private HashMap<Integer,String> columnNames;
+    private PatternStore store;
+    private int[] indices;
 
     /**
      * Default constructor.
@@ -32,10 +43,31 @@ public class StandardPatternDataTable implements DataTable<StandardPattern, Type
     }
 
     /**
-     * Copy constructor.
+     * Creates a view on the given store containing the patterns at the given indices.
+     * @param store the store containing the patterns.
+     * @param indices the indices of the rows in the store.
+     */
+    public StandardPatternDataTable(PatternStore store, int[] indices) {
+        this.store = store;
+        this.indices = indices;
+        this.dataTable = new StoreRows();
+        this.columnNames = new HashMap<Integer,String>();
+        this.setColumnNames(store.getColumnNames());
+    }
+
+    /**
+     * Copy constructor. Copying a view only copies its indices.
      * @param orig the StandardPatternDataTable to copy.
      */
     public StandardPatternDataTable(StandardPatternDataTable orig) {
+        if (orig.isView()) {
+            store = orig.store;
+            indices = orig.indices.clone();
+            dataTable = new StoreRows();
+            columnNames = new HashMap<Integer,String>(orig.columnNames);
+            return;
+        }
+
         dataTable = new ArrayList<StandardPattern>(orig.getNumRows());
         columnNames = new HashMap<Integer,String>();
         for (StandardPattern row : orig) {
@@ -52,6 +84,7 @@ public class StandardPatternDataTable implements DataTable<StandardPattern, Type
      */
     @Override
     public void addRow(StandardPattern rowData) {
+        detach();
         dataTable.add((StandardPattern) rowData.getClone());
     }
 
@@ -86,6 +119,7 @@ public class StandardPatternDataTable implements DataTable<StandardPattern, Type
      */
     @Override
     public StandardPattern removeRow(int index) {
+        detach();
         return dataTable.remove(index);
     }
 
@@ -102,6 +136,7 @@ public class StandardPatternDataTable implements DataTable<StandardPattern, Type
      */
     @Override
     public void setRow(int index, StandardPattern rowData) {
+        detach();
         this.dataTable.set(index, rowData);
     }
 
@@ -142,6 +177,7 @@ public class StandardPatternDataTable implements DataTable<StandardPattern, Type
         if (index >= this.getNumColums()) {
             throw new IndexOutOfBoundsException("Column index: " + index + " out of bounds.");
         }
+        detach();
         int featureVectorSize = this.getRow(0).getVector().size();
         // if index lies in feature vector
         if (index < featureVectorSize) {
@@ -233,7 +269,9 @@ public class StandardPatternDataTable implements DataTable<StandardPattern, Type
      */
     @Override
     public void clear() {
-        this.dataTable.clear();
+        this.store = null;
+        this.indices = null;
+        this.dataTable = new ArrayList<StandardPattern>();
     }
 
     @Override
@@ -245,4 +283,136 @@ public class StandardPatternDataTable implements DataTable<StandardPattern, Type
     public Iterator<StandardPattern> iterator() {
         return dataTable.iterator();
     }
+
+    /**
+     * Determines whether this table is a view on a shared {@link PatternStore}.
+     * The patterns of a view are shared and must not be modified through its iterator.
+     * @return true if this table is a view.
+     */
+    public boolean isView() {
+        return store != null;
+    }
+
+    /**
+     * Creates a new table containing the given rows of this table, in the given order.
+     * If this table is a view the result is a view on the same store, otherwise the
+     * selected patterns are copied.
+     * @param rows the indices of the rows in this table.
+     * @return the new table.
+     */
+    public StandardPatternDataTable select(int[] rows) {
+        if (isView()) {
+            int[] selected = new int[rows.length];
+            for (int i = 0; i < rows.length; i++) {
+                selected[i] = indices[rows[i]];
+            }
+            StandardPatternDataTable view = new StandardPatternDataTable(store, selected);
+            view.columnNames.putAll(columnNames);
+            return view;
+        }
+
+        StandardPatternDataTable table = new StandardPatternDataTable();
+        for (int row : rows) {
+            table.addRow(dataTable.get(row));
+        }
+        table.columnNames.putAll(columnNames);
+        return table;
+    }
+
+    /**
+     * Creates a new table containing the rows in the range [from, to) of this table.
+     * @param from the first row (inclusive).
+     * @param to the last row (exclusive).
+     * @return the new table.
+     * @throws IllegalArgumentException if the range is not within this table.
+     * @see #select(int[])
+     */
+    public StandardPatternDataTable select(int from, int to) {
+        Preconditions.checkArgument(0 <= from && from <= to && to <= size(),
+                "The range [%s, %s) is not within the %s rows of the table", from, to, size());
+        int[] rows = new int[to - from];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = from + i;
+        }
+        return select(rows);
+    }
+
+    /**
+     * Creates a new table containing the rows of this table followed by the rows of
+     * the given table. If both tables are views on the same store the result is also
+     * a view, otherwise the patterns are copied.
+     * @param other the table whose rows are appended.
+     * @return the new table.
+     */
+    public StandardPatternDataTable concat(StandardPatternDataTable other) {
+        if (isView() && other.store == store) {
+            int[] rows = Arrays.copyOf(indices, indices.length + other.indices.length);
+            System.arraycopy(other.indices, 0, rows, indices.length, other.indices.length);
+            StandardPatternDataTable view = new StandardPatternDataTable(store, rows);
+            view.columnNames.putAll(columnNames);
+            return view;
+        }
+
+        StandardPatternDataTable table = new StandardPatternDataTable(this);
+        for (StandardPattern row : other) {
+            table.addRow(row);
+        }
+        return table;
+    }
+
+    /**
+     * Rearranges the rows of this table, so that row <code>i</code> becomes the row
+     * that was at index <code>rows[i]</code>. Only references (or, for a view, indices)
+     * are moved, so a view remains a view.
+     * @param rows a permutation of the row indices of this table.
+     */
+    public void permute(int[] rows) {
+        if (isView()) {
+            int[] permuted = new int[rows.length];
+            for (int i = 0; i < rows.length; i++) {
+                permuted[i] = indices[rows[i]];
+            }
+            indices = permuted;
+            return;
+        }
+
+        List<StandardPattern> permuted = new ArrayList<StandardPattern>(rows.length);
+        for (int row : rows) {
+            permuted.add(dataTable.get(row));
+        }
+        dataTable = permuted;
+    }
+
+    /**
+     * Replaces a view with private copies of its patterns so that the table can be
+     * modified without affecting the shared store.
+     */
+    private void detach() {
+        if (!isView()) {
+            return;
+        }
+        List<StandardPattern> rows = new ArrayList<StandardPattern>(indices.length);
+        for (int index : indices) {
+            rows.add((StandardPattern) store.get(index).getClone());
+        }
+        dataTable = rows;
+        store = null;
+        indices = null;
+    }
+
+    /**
+     * The rows of a view, read directly from the store.
+     */
+    private class StoreRows extends AbstractList<StandardPattern> implements RandomAccess {
+
+        @Override
+        public StandardPattern get(int index) {
+            return store.get(indices[index]);
+        }
+
+        @Override
+        public int size() {
+            return indices.length;
+        }
+    }
 }
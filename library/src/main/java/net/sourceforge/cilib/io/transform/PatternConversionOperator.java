@@ -8,6 +8,7 @@ package net.sourceforge.cilib.io.transform;
 
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Sets;
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import net.sourceforge.cilib.io.DataTable;
@@ -207,4 +208,12 @@ public class PatternConversionOperator extends SelectiveDataOperator {
 
         this.ignoreColumnIndices.add(ignore);
     }
+
+    /**
+     * Gets the indices that will be ignored when patterns are created.
+     * @return an unmodifiable view of the ignored indices.
+     */
+    public Set<Integer> getIgnoredColumnIndices() {
+        return Collections.unmodifiableSet(this.ignoreColumnIndices);
+    }
 }
@@ -0,0 +1,72 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.io.transform;
+
+import java.util.ArrayList;
+import java.util.List;
+import net.sourceforge.cilib.io.DataTable;
+import net.sourceforge.cilib.io.StandardPatternDataTable;
+import net.sourceforge.cilib.io.exception.CIlibIOException;
+
+/**
+ * Abstract DataOperator that only changes the order of the rows in a table.
+ * The concrete extension of the class computes a permutation of row indices,
+ * which is then applied to the table. Applied to a {@link StandardPatternDataTable}
+ * this only rearranges references (or, for a view, indices), so no patterns
+ * are copied.
+ */
+public abstract class PermutationOperator implements DataOperator {
+
+    @Override
+    public abstract PermutationOperator getClone();
+
+    /**
+     * Reorders the given row indices of a table. The table itself is not modified.
+     * @param dataTable the table the rows belong to.
+     * @param rows the row indices to reorder, which may be modified in-place.
+     * @return a permutation of the given row indices.
+     */
+    public abstract int[] permute(DataTable dataTable, int[] rows);
+
+    /**
+     * Reorders the rows of the given table according to {@link #permute(DataTable, int[])}.
+     * @param dataTable the table to reorder.
+     * @return the same table as given, with its rows reordered.
+     * @throws CIlibIOException an IO Exception that might occur.
+     */
+    @Override
+    public DataTable operate(DataTable dataTable) throws CIlibIOException {
+        int[] rows = permute(dataTable, identity(dataTable.size()));
+
+        if (dataTable instanceof StandardPatternDataTable) {
+            ((StandardPatternDataTable) dataTable).permute(rows);
+            return dataTable;
+        }
+
+        List<Object> ordered = new ArrayList<Object>(rows.length);
+        for (int row : rows) {
+            ordered.add(dataTable.getRow(row));
+        }
+        for (int i = 0; i < rows.length; i++) {
+            dataTable.setRow(i, ordered.get(i));
+        }
+        return dataTable;
+    }
+
+    /**
+     * Creates the identity permutation <code>[0, 1, ..., size - 1]</code>.
+     * @param size the number of rows.
+     * @return a new index array.
+     */
+    public static int[] identity(int size) {
+        int[] rows = new int[size];
+        for (int i = 0; i < size; i++) {
+            rows[i] = i;
+        }
+        return rows;
+    }
+}
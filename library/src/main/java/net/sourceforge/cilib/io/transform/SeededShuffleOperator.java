@@ -7,14 +7,13 @@
 package net.sourceforge.cilib.io.transform;
 
 import net.sourceforge.cilib.io.DataTable;
-import net.sourceforge.cilib.io.exception.CIlibIOException;
 import net.sourceforge.cilib.math.random.generator.MersenneTwister;
 import net.sourceforge.cilib.math.random.generator.Rand;
 
 /**
  * A data operator that efficiently shuffles a datatable.
  */
-public class SeededShuffleOperator implements DataOperator {
+public class SeededShuffleOperator extends PermutationOperator {
 
     private MersenneTwister random;
 
@@ -34,25 +33,28 @@ public class SeededShuffleOperator implements DataOperator {
      * Modern version of Fisher-Yates shuffle algorithm based on the Richard Durstenfeld
      * implementation as published in:
      * Durstenfeld, Richard (July 1964). "Algorithm 235: Random permutation". Communications of the ACM 7 (7): 420. doi:10.1145/364520.364540.
-     * The shuffle in-place (i.e. it doesn't not use additional memory).
-     * @param dataTable the table to shuffle.
-     * @return the same table as given with patterns in a uniform random order.
-     * @throws CIlibIOException an IO Exception that might occur.
+     * The shuffle is in-place (i.e. it doesn't not use additional memory).
+     * @param dataTable the table the rows belong to.
+     * @param rows the row indices to shuffle.
+     * @return the given array, in a uniform random order.
      */
     @Override
-    public DataTable operate(DataTable dataTable) throws CIlibIOException {
-        int size = dataTable.size();
-        for (int n = size - 1; n > 1; n--) {
+    public int[] permute(DataTable dataTable, int[] rows) {
+        for (int n = rows.length - 1; n > 1; n--) {
             int k = random.nextInt(n + 1);
-            Object tmp = dataTable.getRow(k);
-            dataTable.setRow(k, dataTable.getRow(n));
-            dataTable.setRow(n, tmp);
+            int tmp = rows[k];
+            rows[k] = rows[n];
+            rows[n] = tmp;
         }
 
-        return dataTable;
+        return rows;
     }
 
     public void setSeed(long seed) {
         random = new MersenneTwister(seed);
     }
+
+    public long getSeed() {
+        return random.getSeed();
+    }
 }
@@ -6,7 +6,6 @@
  */
 package net.sourceforge.cilib.io.transform;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
 import net.sourceforge.cilib.io.DataTable;
@@ -20,9 +19,9 @@ import net.sourceforge.cilib.type.types.Type;
 import net.sourceforge.cilib.type.types.container.Vector;
 
 /**
- * A data operator that efficiently shuffles a datatable.
+ * A data operator that divides a datatable into stratified windows.
  */
-public class SeededStratifiedWindows implements DataOperator {
+public class SeededStratifiedWindows extends PermutationOperator {
 
     private MersenneTwister random;
     private int numOfWindows;
@@ -45,182 +44,123 @@ public class SeededStratifiedWindows implements DataOperator {
     }
 
     /**
-     * Modern version of Fisher-Yates shuffle algorithm based on the Richard Durstenfeld
-     * implementation as published in:
-     * Durstenfeld, Richard (July 1964). "Algorithm 235: Random permutation". Communications of the ACM 7 (7): 420. doi:10.1145/364520.364540.
-     * The shuffle in-place (i.e. it doesn't not use additional memory).
-     * @param dataTable the table to shuffle.
-     * @return the same table as given with patterns in a uniform random order.
-     * @throws CIlibIOException an IO Exception that might occur.
+     * Divides the rows into stratified windows and concatenates the windows. Each
+     * class (determined by rounding the targets to 0.1 or 0.9) is divided evenly
+     * amongst the windows by selecting its patterns in a random order.
+     * @param badDataTable the table the rows belong to, must be a {@link StandardPatternDataTable}.
+     * @param rows the row indices to reorder.
+     * @return the row indices, ordered window by window.
      */
     @Override
-    public StandardPatternDataTable operate(DataTable badDataTable) throws CIlibIOException {
+    public int[] permute(DataTable badDataTable, int[] rows) {
         StandardPatternDataTable table = (StandardPatternDataTable) badDataTable;
 
-        int baseWindowSize = table.size()/numOfWindows;
-        int nrOfLargeWindows = table.size() % numOfWindows;
+        int baseWindowSize = rows.length/numOfWindows;
+        int nrOfLargeWindows = rows.length % numOfWindows;
 
-        //divide patterns into classes
-        Map<Type, StandardPatternDataTable> classes = new HashMap<Type, StandardPatternDataTable>();
+        //divide rows into classes
+        Type[] tableTargets = new Type[table.size()];
+        int curRow = 0;
         for (StandardPattern curPattern : table) {
-            //Construct bitstring of classes
-            if (curPattern.getTarget() instanceof Real) {
-                Real target = (Real) curPattern.getTarget();
-                if (target.doubleValue() < 0.5)
-                    target.setValue(0.1);
-                else
-                    target.setValue(0.9);
-            }
-            else {
-                Vector target = (Vector) curPattern.getTarget();
-                for (int curElement = 0; curElement < target.size(); curElement++) {
-                    if (target.doubleValueOf(curElement) < 0.5)
-                        target.setReal(curElement, 0.1);
-                    else
-                        target.setReal(curElement, 0.9);
-                }
-            }
+            tableTargets[curRow++] = curPattern.getTarget();
+        }
 
-            //add current pattern to it's class' table
-            StandardPatternDataTable selectedClass = classes.get(curPattern.getTarget());
-            if (selectedClass == null) {
-                selectedClass = new StandardPatternDataTable();
-                classes.put(curPattern.getTarget(), selectedClass);
-            }
-            selectedClass.addRow(curPattern);
+        Type[] targets = new Type[rows.length];
+        Map<Type, int[]> classes = new HashMap<Type, int[]>();
+        Map<Type, Integer> classSizes = new HashMap<Type, Integer>();
+        for (int i = 0; i < rows.length; i++) {
+            targets[i] = classOf(tableTargets[rows[i]]);
+            Integer size = classSizes.get(targets[i]);
+            classSizes.put(targets[i], size == null ? 1 : size + 1);
         }
 
         //TODO: remove this sanity check
-        if (classes.size() > 50)
+        if (classSizes.size() > 50)
             throw new IllegalStateException("Sanity check: data set is producing too many classes");
 
-        //create empty windows
-        ArrayList<StandardPatternDataTable> windows = new ArrayList<StandardPatternDataTable>();
-        for (int curWindow = 0; curWindow < numOfWindows; curWindow++) {
-            windows.add(new StandardPatternDataTable());
+        //add each row to it's class, keeping the classes in the same order
+        for (int i = 0; i < rows.length; i++) {
+            int[] selectedClass = classes.get(targets[i]);
+            if (selectedClass == null) {
+                selectedClass = new int[classSizes.get(targets[i])];
+                classes.put(targets[i], selectedClass);
+                classSizes.put(targets[i], 0);
+            }
+            int size = classSizes.get(targets[i]);
+            selectedClass[size] = rows[i];
+            classSizes.put(targets[i], size + 1);
         }
 
         //divide each class amongst windows
+        int[][] windows = new int[numOfWindows][];
+        int[] windowSizes = new int[numOfWindows];
+        for (int curWindow = 0; curWindow < numOfWindows; curWindow++) {
+            windows[curWindow] = new int[baseWindowSize + (curWindow < nrOfLargeWindows ? 1 : 0)];
+        }
+
         int windowCounter = 0;
-        for (StandardPatternDataTable curClass : classes.values()) {
-            //int proportion = (int) Math.floor(((double)curClass.size() / (double)table.size()) * curClass.size());
+        for (int[] curClass : classes.values()) {
+            for (int remaining = curClass.length; remaining > 0; remaining--) {
+                int selected = random.nextInt(remaining);
+                int curWindow = windowCounter % numOfWindows;
 
-            while (curClass.size() > 0) {
-                int selected = random.nextInt(curClass.size());
-                windows.get(windowCounter % windows.size()).addRow(curClass.getRow(selected));
-                curClass.removeRow(selected);
+                //TODO: remove sanity check
+                if (windowSizes[curWindow] == windows[curWindow].length)
+                    throw new IllegalStateException("Sanity check: window does not contain the correct amount of patterns");
+
+                windows[curWindow][windowSizes[curWindow]++] = curClass[selected];
+                System.arraycopy(curClass, selected + 1, curClass, selected, remaining - selected - 1);
                 windowCounter++;
             }
         }
 
-        //TODO: remove sanity check
-        for (int curWindow = 0; curWindow < numOfWindows; curWindow++) {
-            int expectedSize = baseWindowSize + (curWindow < nrOfLargeWindows?1:0);
-            if (windows.get(curWindow).size() != expectedSize)
-                throw new IllegalStateException("Sanity check: window does not contain the correct amount of patterns");
+        //concatenate all the windows
+        curRow = 0;
+        for (int[] curWindow : windows) {
+            System.arraycopy(curWindow, 0, rows, curRow, curWindow.length);
+            curRow += curWindow.length;
         }
 
-        //concatenate all the windows into one data set
+        return rows;
+    }
+
+    /**
+     * Divides the table into stratified windows (see {@link #permute(DataTable, int[])}).
+     * The targets of the patterns in the resulting table are rounded to 0.1 or 0.9,
+     * hence the patterns are copied, while the given table is left unchanged.
+     * @param dataTable the table to divide, must be a {@link StandardPatternDataTable}.
+     * @return a new table containing the windows.
+     * @throws CIlibIOException an IO Exception that might occur.
+     */
+    @Override
+    public StandardPatternDataTable operate(DataTable dataTable) throws CIlibIOException {
+        StandardPatternDataTable table = (StandardPatternDataTable) dataTable;
         StandardPatternDataTable newTable = new StandardPatternDataTable();
-        for (StandardPatternDataTable curWindow : windows) {
-            for (StandardPattern curPattern : curWindow) {
-                newTable.addRow(curPattern);
-            }
+        for (int row : permute(table, identity(table.size()))) {
+            StandardPattern curPattern = table.getRow(row);
+            curPattern.setTarget(classOf(curPattern.getTarget()));
+            newTable.addRow(curPattern);
         }
+        return newTable;
+    }
 
-        /*for (Type curKey : classes.keySet()) {
-            if (classes.get(curKey).size() == 0) {
-                classes.remove(curKey);
-            }
-        }*/
-
-        /*while (classes.size() > 0) {
-            for (StandardPatternDataTable curWindow : windows) {
-                int eSize = (windows.indexOf(curWindow) < nrOfLargeWindows) ? 1 : 0;
-                int needed = Math.min(baseWindowSize + eSize - curWindow.size(), classes.size());
-
-                int selection[] = new int[needed];
-                for (int curCount = 0; curCount < needed; curCount++) {
-                    int selected = random.nextInt(needed - curCount);
-
-                    for (int i = 0; i < curCount; i++){
-                        if (selected == selection[i]){
-                            selected++;
-                            i = 0;
-                        }
-                    }
-                }
-
-                for (int curCount = 0; curCount < needed; curCount++) {
-                    StandardPatternDataTable curClass = classes.values().toArray(new StandardPatternDataTable[0])[selection[curCount]];
-                    int s = random.nextInt(curClass.size());
-                    curWindow.addRow(curClass.getRow(s));
-                    curClass.removeRow(s);
-                }
-
-                for (Type curKey : classes.keySet()) {
-                    if (classes.get(curKey).size() == 0) {
-                        classes.remove(curKey);
-                    }
-                }
-            }
-        }*/
-
-        /*for (int curWindow = 0; curWindow < numOfWindows; ++curWindow) {
-            if (table.getRow(0).getTarget() instanceof Real) {
-                //count class
-                int classCount = 0;
-                for (StandardPattern curPattern: table) {
-                    if (((Real) curPattern.getTarget()).doubleValue() > 0.5)
-                        classCount++;
-                }
-
-                int selected = random.nextInt(classCount)+1;
-                int count = 0;
-                for (int n = size - 1 -startingPatterns; n >= 0; n--) {
-                    if (((Real) table.getRow(n).getTarget()).doubleValue() > 0.5)
-                        count++;
-
-                    if (count == selected) {
-                        StandardPattern tmp = table.getRow(n);
-                        table.setRow(n, table.getRow(size-1-startingPatterns));
-                        table.setRow(size-1-startingPatterns, tmp);
-
-                        startingPatterns++;
-
-                        break;
-                    }
-                }
-
-                selected = Rand.nextInt(size-classCount) +1;
-                count = 0;
-                for (int n = size - 1 -startingPatterns; n >= 0; n--) {
-                    if (((Real) table.getRow(n).getTarget()).doubleValue() < 0.5)
-                        count++;
-
-                    if (count == selected) {
-                        StandardPattern tmp = table.getRow(n);
-                        table.setRow(n, table.getRow(size-1-startingPatterns));
-                        table.setRow(size-1-startingPatterns, tmp);
-
-                        startingPatterns++;
-
-                        break;
-                    }
-                }
-            }
+    /**
+     * Constructs the bitstring of classes of a target.
+     * @param target the target of a pattern.
+     * @return a new target with all values set to either 0.1 or 0.9.
+     */
+    private Type classOf(Type target) {
+        if (target instanceof Real) {
+            Real real = ((Real) target).getClone();
+            real.setValue(real.doubleValue() < 0.5 ? 0.1 : 0.9);
+            return real;
         }
-        
-        int size = dataTable.size();
-        for (int n = size - 1; n > 1; n--) {
-            int k = random.nextInt(n + 1);
-            Object tmp = dataTable.getRow(k);
-            dataTable.setRow(k, dataTable.getRow(n));
-            dataTable.setRow(n, tmp);
-        }*/
-
-        //TODO: fix this
-        return newTable;
+
+        Vector vector = Vector.copyOf((Vector) target);
+        for (int curElement = 0; curElement < vector.size(); curElement++) {
+            vector.setReal(curElement, vector.doubleValueOf(curElement) < 0.5 ? 0.1 : 0.9);
+        }
+        return vector;
     }
 
     public void setSeed(long seed) {
@@ -228,7 +168,15 @@ public class SeededStratifiedWindows implements DataOperator {
         //shuffler.setRandom(random);
     }
 
+    public long getSeed() {
+        return random.getSeed();
+    }
+
     public void setNumOfWindows(int numOfWindows) {
         this.numOfWindows = numOfWindows;
     }
+
+    public int getNumOfWindows() {
+        return numOfWindows;
+    }
 }
@@ -7,37 +7,44 @@
 package net.sourceforge.cilib.io.transform;
 
 import net.sourceforge.cilib.io.DataTable;
-import net.sourceforge.cilib.io.exception.CIlibIOException;
 import net.sourceforge.cilib.math.random.generator.Rand;
 
 /**
  * A data operator that efficiently shuffles a datatable.
  */
-public class ShuffleOperator implements DataOperator {
+public class ShuffleOperator extends PermutationOperator {
 
     public ShuffleOperator getClone() {
         return new ShuffleOperator();
     }
 
+    /**
+     * Shuffles the row indices of a table using {@link #shuffle(int[])}.
+     * @param dataTable the table the rows belong to.
+     * @param rows the row indices to shuffle.
+     * @return the given array, in a uniform random order.
+     */
+    @Override
+    public int[] permute(DataTable dataTable, int[] rows) {
+        return shuffle(rows);
+    }
+
     /**
      * Modern version of Fisher-Yates shuffle algorithm based on the Richard Durstenfeld
      * implementation as published in:
      * Durstenfeld, Richard (July 1964). "Algorithm 235: Random permutation". Communications of the ACM 7 (7): 420. doi:10.1145/364520.364540.
-     * The shuffle in-place (i.e. it doesn't not use additional memory).
-     * @param dataTable the table to shuffle.
-     * @return the same table as given with patterns in a uniform random order.
-     * @throws CIlibIOException an IO Exception that might occur.
+     * The shuffle is in-place (i.e. it doesn't not use additional memory).
+     * @param indices the indices to shuffle.
+     * @return the given array, in a uniform random order.
      */
-    @Override
-    public DataTable operate(DataTable dataTable) throws CIlibIOException {
-        int size = dataTable.size();
-        for (int n = size - 1; n > 1; n--) {
+    public static int[] shuffle(int[] indices) {
+        for (int n = indices.length - 1; n > 1; n--) {
             int k = Rand.nextInt(n + 1);
-            Object tmp = dataTable.getRow(k);
-            dataTable.setRow(k, dataTable.getRow(n));
-            dataTable.setRow(n, tmp);
+            int tmp = indices[k];
+            indices[k] = indices[n];
+            indices[n] = tmp;
         }
 
-        return dataTable;
+        return indices;
     }
 }
@@ -9,9 +9,8 @@ package net.sourceforge.cilib.math.random;
 import static com.google.common.base.Preconditions.checkArgument;
 import net.sourceforge.cilib.controlparameter.ConstantControlParameter;
 import net.sourceforge.cilib.controlparameter.ControlParameter;
-import net.sourceforge.cilib.math.random.generator.Rand;
 
-public class CauchyDistribution implements ProbabilityDistributionFunction {
+public class CauchyDistribution implements TwoParameterDistributionFunction {
 
     private ControlParameter location;
     private ControlParameter scale;
@@ -46,11 +45,40 @@ public class CauchyDistribution implements ProbabilityDistributionFunction {
     @Override
     public double getRandomNumber(double... locationScale) {
         checkArgument(locationScale.length == 2, "The Cauchy distribution requires two parameters.");
-        checkArgument(locationScale[1] > 0, "The scale must be greater than zero.");
+        return getRandomNumber(locationScale[0], locationScale[1]);
+    }
+
+    /**
+     * Return a random number sampled from the Cauchy distribution. The
+     * standard Cauchy number is sampled as the ratio of two standard normal
+     * numbers, which avoids evaluating a tangent.
+     * @param location the location (mean) of the distribution.
+     * @param scale the scale (deviation) of the distribution.
+     * @return A Cauchy number specified by {@code location} and {@code scale}.
+     */
+    @Override
+    public double getRandomNumber(double location, double scale) {
+        checkArgument(scale > 0, "The scale must be greater than zero.");
+        return location + scale * (Ziggurat.normal() / Ziggurat.normal());
+    }
 
-        double x = Rand.nextDouble(); // Uniform number between 0.0 and 1.0
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void fill(double[] values) {
+        fill(values, location.getParameter(), scale.getParameter());
+    }
 
-        return locationScale[0] + locationScale[1] * Math.tan(Math.PI * (x - 0.5));
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void fill(double[] values, double location, double scale) {
+        checkArgument(scale > 0, "The scale must be greater than zero.");
+        for (int i = 0; i < values.length; i++) {
+            values[i] = location + scale * (Ziggurat.normal() / Ziggurat.normal());
+        }
     }
 
     public void setScale(ControlParameter scale) {
@@ -7,9 +7,10 @@
 package net.sourceforge.cilib.math.random;
 
 import static com.google.common.base.Preconditions.checkArgument;
+import net.sourceforge.cilib.math.random.generator.Rand;
 import net.sourceforge.cilib.type.types.container.Vector;
 
-public class DiscreteUniformDistribution implements ProbabilityDistributionFunction {
+public class DiscreteUniformDistribution implements TwoParameterDistributionFunction {
 
     private Vector elements;
 
@@ -51,6 +52,34 @@ public class DiscreteUniformDistribution implements ProbabilityDistributionFunct
         return builder.build().sample().doubleValue();
     }
 
+    /**
+     * Sample one of the two given elements.
+     */
+    @Override
+    public double getRandomNumber(double first, double second) {
+        return Rand.nextInt(2) == 0 ? first : second;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void fill(double[] values) {
+        for (int i = 0; i < values.length; i++) {
+            values[i] = elements.doubleValueOf(Rand.nextInt(elements.size()));
+        }
+    }
+
+    /**
+     * Fill the given array with elements sampled from the two given elements.
+     */
+    @Override
+    public void fill(double[] values, double first, double second) {
+        for (int i = 0; i < values.length; i++) {
+            values[i] = Rand.nextInt(2) == 0 ? first : second;
+        }
+    }
+
     /**
      * Sets the vector of elements to use for the distribution function.
      * @param elements The vector of elements to sample from.
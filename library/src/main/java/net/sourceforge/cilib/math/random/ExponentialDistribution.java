@@ -9,7 +9,6 @@ package net.sourceforge.cilib.math.random;
 import static com.google.common.base.Preconditions.checkArgument;
 import net.sourceforge.cilib.controlparameter.ConstantControlParameter;
 import net.sourceforge.cilib.controlparameter.ControlParameter;
-import net.sourceforge.cilib.math.random.generator.Rand;
 
 public class ExponentialDistribution implements ProbabilityDistributionFunction {
 
@@ -38,10 +37,43 @@ public class ExponentialDistribution implements ProbabilityDistributionFunction
     @Override
     public double getRandomNumber(double... rate) {
         checkArgument(rate.length == 1, "The Exponential distribution requires a single parameter that specifies the rate.");
-        checkArgument(rate[0] > 0, "The rate for the Exponential distribution parameter must be greater than zero.");
+        return getRandomNumber(rate[0]);
+    }
+
+    /**
+     * Get an Exponentially-distributed random number, sampled with the ziggurat
+     * method of Marsaglia and Tsang. The rate of the distribution is given by
+     * <code>rate</code>.
+     *
+     * @param rate The rate of the exponential distribution.
+     * @return an Exponentially-distributed random number.
+     */
+    public double getRandomNumber(double rate) {
+        checkArgument(rate > 0, "The rate for the Exponential distribution parameter must be greater than zero.");
+        return Ziggurat.exponential() / rate;
+    }
+
+    /**
+     * Fill the given array with Exponentially-distributed random numbers, with
+     * the default rate.
+     *
+     * @param values The array to fill.
+     */
+    public void fill(double[] values) {
+        fill(values, rate.getParameter());
+    }
 
-        double r = Rand.nextDouble(); //uniform number in the range (0.0, 1.0]:
-        return -Math.log(1 - r) / rate[0];
+    /**
+     * Fill the given array with Exponentially-distributed random numbers.
+     *
+     * @param values The array to fill.
+     * @param rate The rate of the exponential distribution.
+     */
+    public void fill(double[] values, double rate) {
+        checkArgument(rate > 0, "The rate for the Exponential distribution parameter must be greater than zero.");
+        for (int i = 0; i < values.length; i++) {
+            values[i] = Ziggurat.exponential() / rate;
+        }
     }
 
     public ControlParameter getRate() {
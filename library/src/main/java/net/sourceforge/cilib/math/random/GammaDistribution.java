@@ -10,7 +10,7 @@ import static com.google.common.base.Preconditions.checkArgument;
 import net.sourceforge.cilib.controlparameter.ConstantControlParameter;
 import net.sourceforge.cilib.controlparameter.ControlParameter;
 
-public class GammaDistribution implements ProbabilityDistributionFunction {
+public class GammaDistribution implements TwoParameterDistributionFunction {
 
     private ControlParameter shape;
     private ControlParameter scale;
@@ -48,17 +48,47 @@ public class GammaDistribution implements ProbabilityDistributionFunction {
     @Override
     public double getRandomNumber(double... shapeScale) {
         checkArgument(shapeScale.length == 2, "The Gamma distribution requires two parameters.");
-        checkArgument(shapeScale[0] > 0, "The first provided parameter (shape parameter) must be an integer greater than zero.");
-        checkArgument(shapeScale[1] > 0, "The second provided parameter (scale parameter) must be greater than zero.");
+        return getRandomNumber(shapeScale[0], shapeScale[1]);
+    }
 
-        ProbabilityDistributionFunction expPdf = new ExponentialDistribution();
-        double sum = 0;
+    /**
+     * Get a Gamma-distributed random number, as the scaled sum of {@code shape}
+     * exponentially distributed numbers.
+     *
+     * @param shape the shape of the Gamma distribution, which is assumed to be
+     *              an integer.
+     * @param scale the scale of the Gamma distribution.
+     * @return a Gamma-distributed random number.
+     */
+    @Override
+    public double getRandomNumber(double shape, double scale) {
+        checkArgument(shape > 0, "The first provided parameter (shape parameter) must be an integer greater than zero.");
+        checkArgument(scale > 0, "The second provided parameter (scale parameter) must be greater than zero.");
 
-        for (int i = 0; i < shapeScale[0]; i++) {
-            sum += expPdf.getRandomNumber(1 / shapeScale[1]);
+        double sum = 0;
+        for (int i = 0; i < shape; i++) {
+            sum += Ziggurat.exponential();
         }
 
-        return sum;
+        return sum * scale;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void fill(double[] values) {
+        fill(values, shape.getParameter(), scale.getParameter());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void fill(double[] values, double shape, double scale) {
+        for (int i = 0; i < values.length; i++) {
+            values[i] = getRandomNumber(shape, scale);
+        }
     }
 
     public void setShape(ControlParameter shape) {
@@ -9,9 +9,8 @@ package net.sourceforge.cilib.math.random;
 import static com.google.common.base.Preconditions.checkArgument;
 import net.sourceforge.cilib.controlparameter.ConstantControlParameter;
 import net.sourceforge.cilib.controlparameter.ControlParameter;
-import net.sourceforge.cilib.math.random.generator.Rand;
 
-public class LaplaceDistribution implements ProbabilityDistributionFunction {
+public class LaplaceDistribution implements TwoParameterDistributionFunction {
 
     private ControlParameter location;
     private ControlParameter scale;
@@ -40,11 +39,40 @@ public class LaplaceDistribution implements ProbabilityDistributionFunction {
     @Override
     public double getRandomNumber(double... parameters) {
         checkArgument(parameters.length == 2, "The Laplace distribution requires two parameters.");
-        checkArgument(parameters[1] > 0, "The scale parameter must be greater than zero.");
+        return getRandomNumber(parameters[0], parameters[1]);
+    }
 
-        double r = Rand.nextDouble() - 0.5; //uniform number in the range (-0.5, 0.5]:
+    /**
+     * Get a Laplace-distributed random number, sampled as the difference of
+     * two exponentially distributed numbers.
+     *
+     * @param location the location of the distribution.
+     * @param scale the scale of the distribution.
+     * @return a Laplace-distributed random number.
+     */
+    @Override
+    public double getRandomNumber(double location, double scale) {
+        checkArgument(scale > 0, "The scale parameter must be greater than zero.");
+        return location + scale * (Ziggurat.exponential() - Ziggurat.exponential());
+    }
 
-        return parameters[0] - parameters[1] * (Math.log(1 - 2 * Math.abs(r))) * Math.signum(r);
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void fill(double[] values) {
+        fill(values, location.getParameter(), scale.getParameter());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void fill(double[] values, double location, double scale) {
+        checkArgument(scale > 0, "The scale parameter must be greater than zero.");
+        for (int i = 0; i < values.length; i++) {
+            values[i] = location + scale * (Ziggurat.exponential() - Ziggurat.exponential());
+        }
     }
 
     public void setScale(ControlParameter scale) {
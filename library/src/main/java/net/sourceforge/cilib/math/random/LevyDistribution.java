@@ -0,0 +1,99 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.math.random;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import net.sourceforge.cilib.controlparameter.ConstantControlParameter;
+import net.sourceforge.cilib.controlparameter.ControlParameter;
+
+/**
+ * The L&eacute;vy distribution, which is the stable distribution with a
+ * stability index of 1/2. A standard L&eacute;vy number is sampled as
+ * {@code 1 / Z^2}, where {@code Z} is a standard normal number.
+ */
+public class LevyDistribution implements TwoParameterDistributionFunction {
+
+    private ControlParameter location;
+    private ControlParameter scale;
+
+    public LevyDistribution() {
+        location = ConstantControlParameter.of(0.0);
+        scale = ConstantControlParameter.of(1.0);
+    }
+
+    /**
+     * Get a L&eacute;vy-distributed random number with location 0.0 and scale 1.0.
+     * @return a L&eacute;vy-distributed random number with location 0.0 and scale 1.0.
+     */
+    @Override
+    public double getRandomNumber() {
+        return getRandomNumber(location.getParameter(), scale.getParameter());
+    }
+
+    /**
+     * Get a L&eacute;vy-distributed random number. Two parameters are required.
+     * The first specifies the location, the second specifies the scale.
+     *
+     * @param parameters the location and the scale of the distribution.
+     * @return a L&eacute;vy-distributed random number.
+     */
+    @Override
+    public double getRandomNumber(double... parameters) {
+        checkArgument(parameters.length == 2, "The Levy distribution requires two parameters.");
+        return getRandomNumber(parameters[0], parameters[1]);
+    }
+
+    /**
+     * Get a L&eacute;vy-distributed random number.
+     *
+     * @param location the location of the distribution.
+     * @param scale the scale of the distribution.
+     * @return a L&eacute;vy-distributed random number.
+     */
+    @Override
+    public double getRandomNumber(double location, double scale) {
+        checkArgument(scale > 0, "The scale parameter must be greater than zero.");
+        double z = Ziggurat.normal();
+        return location + scale / (z * z);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void fill(double[] values) {
+        fill(values, location.getParameter(), scale.getParameter());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void fill(double[] values, double location, double scale) {
+        checkArgument(scale > 0, "The scale parameter must be greater than zero.");
+        for (int i = 0; i < values.length; i++) {
+            double z = Ziggurat.normal();
+            values[i] = location + scale / (z * z);
+        }
+    }
+
+    public void setScale(ControlParameter scale) {
+        this.scale = scale;
+    }
+
+    public ControlParameter getScale() {
+        return scale;
+    }
+
+    public void setLocation(ControlParameter location) {
+        this.location = location;
+    }
+
+    public ControlParameter getLocation() {
+        return location;
+    }
+}
@@ -0,0 +1,45 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.math.random;
+
+/**
+ * A probability distribution function with two control parameters, such as a
+ * location and a scale, or a lower and an upper bound. The parameters may be
+ * given without allocating an array for them, and many random numbers may be
+ * sampled at once.
+ */
+public interface TwoParameterDistributionFunction extends ProbabilityDistributionFunction {
+
+    /**
+     * Sample a random number from the distribution, given the two control
+     * parameters, without allocating an array for the parameters.
+     *
+     * @param first The first control parameter for the distribution function.
+     * @param second The second control parameter for the distribution function.
+     * @return a random number determined by the control parameters.
+     */
+    double getRandomNumber(double first, double second);
+
+    /**
+     * Fill the given array with random numbers sampled from the distribution,
+     * drawing from the random number stream in order.
+     *
+     * @param values The array to fill.
+     */
+    void fill(double[] values);
+
+    /**
+     * Fill the given array with random numbers sampled from the distribution,
+     * given the two control parameters, drawing from the random number stream
+     * in order.
+     *
+     * @param values The array to fill.
+     * @param first The first control parameter for the distribution function.
+     * @param second The second control parameter for the distribution function.
+     */
+    void fill(double[] values, double first, double second);
+}
@@ -11,7 +11,7 @@ import net.sourceforge.cilib.controlparameter.ConstantControlParameter;
 import net.sourceforge.cilib.controlparameter.ControlParameter;
 import net.sourceforge.cilib.math.random.generator.Rand;
 
-public class UniformDistribution implements ProbabilityDistributionFunction {
+public class UniformDistribution implements TwoParameterDistributionFunction {
 
     private ControlParameter lowerBound;
     private ControlParameter upperBound;
@@ -57,10 +57,42 @@ public class UniformDistribution implements ProbabilityDistributionFunction {
     @Override
     public double getRandomNumber(double... bounds) {
         checkArgument(bounds.length == 2, "The Uniform distribution requires two parameters.");
-        checkArgument(bounds[1] > bounds[0], "The lower bound (first parameter) must be less than upper bound (second parameter).");
+        return getRandomNumber(bounds[0], bounds[1]);
+    }
+
+    /**
+     * Get the uniform random number. The number is located within {@code A &lt;= x &lt; B}
+     * where {@code A == lower} and {@code B == upper}.
+     *
+     * @param lower the lower bound.
+     * @param upper the upper bound.
+     * @return A uniform number within the bounds.
+     */
+    @Override
+    public double getRandomNumber(double lower, double upper) {
+        checkArgument(upper > lower, "The lower bound (first parameter) must be less than upper bound (second parameter).");
 
         double r = Rand.nextDouble();
-        return ((bounds[1] - bounds[0]) * r + bounds[0]);
+        return ((upper - lower) * r + lower);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void fill(double[] values) {
+        fill(values, lowerBound.getParameter(), upperBound.getParameter());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void fill(double[] values, double lower, double upper) {
+        checkArgument(upper > lower, "The lower bound (first parameter) must be less than upper bound (second parameter).");
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (upper - lower) * Rand.nextDouble() + lower;
+        }
     }
 
     public void setUpperBound(ControlParameter upperBound) {
@@ -0,0 +1,151 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.math.random;
+
+import net.sourceforge.cilib.math.random.generator.Rand;
+
+/**
+ * Ziggurat samplers for the standard normal and the standard exponential
+ * distributions, which draw from the {@link Rand} stream of the calling thread.
+ * <p>
+ * Each sample draws a single {@code long}: its low bits select a layer of the
+ * ziggurat, and its high 53 bits give the uniform coordinate within the layer.
+ * Almost every sample is accepted by a single comparison, without evaluating a
+ * logarithm or an exponential.
+ * <p>
+ * Reference:
+ * <pre>
+ * {@literal @}article{marsaglia2000ziggurat,
+ * title={The Ziggurat Method for Generating Random Variables},
+ * author={Marsaglia, G. and Tsang, W. W.},
+ * journal={Journal of Statistical Software},
+ * volume={5}, number={8}, pages={1--7}, year={2000}}
+ *
+ * {@literal @}techreport{doornik2005improved,
+ * title={An Improved Ziggurat Method to Generate Normal Random Samples},
+ * author={Doornik, J. A.},
+ * institution={University of Oxford}, year={2005}}
+ * </pre>
+ */
+final class Ziggurat {
+
+    private static final double UNIT = 0x1.0p-53;
+
+    private static final int NORMAL_LAYERS = 128;
+    private static final double NORMAL_R = 3.442619855899;
+    private static final double NORMAL_V = 9.91256303526217e-3;
+    private static final double[] NORMAL_X = new double[NORMAL_LAYERS + 1];
+    private static final double[] NORMAL_F = new double[NORMAL_LAYERS + 1];
+
+    private static final int EXPONENTIAL_LAYERS = 256;
+    private static final double EXPONENTIAL_R = 7.69711747013104972;
+    private static final double EXPONENTIAL_V = 3.949659822581572e-3;
+    private static final double[] EXPONENTIAL_X = new double[EXPONENTIAL_LAYERS + 1];
+    private static final double[] EXPONENTIAL_F = new double[EXPONENTIAL_LAYERS + 1];
+
+    static {
+        // Layer i spans [0, X[i]) and has density F[i] at its right edge. Layer
+        // 0 is the base, which includes the tail beyond R.
+        double f = Math.exp(-0.5 * NORMAL_R * NORMAL_R);
+        NORMAL_X[0] = NORMAL_V / f;
+        NORMAL_X[1] = NORMAL_R;
+        for (int i = 2; i < NORMAL_LAYERS; i++) {
+            NORMAL_X[i] = Math.sqrt(-2 * Math.log(NORMAL_V / NORMAL_X[i - 1] + f));
+            f = Math.exp(-0.5 * NORMAL_X[i] * NORMAL_X[i]);
+        }
+        NORMAL_X[NORMAL_LAYERS] = 0.0;
+        for (int i = 0; i <= NORMAL_LAYERS; i++) {
+            NORMAL_F[i] = Math.exp(-0.5 * NORMAL_X[i] * NORMAL_X[i]);
+        }
+
+        f = Math.exp(-EXPONENTIAL_R);
+        EXPONENTIAL_X[0] = EXPONENTIAL_V / f;
+        EXPONENTIAL_X[1] = EXPONENTIAL_R;
+        for (int i = 2; i < EXPONENTIAL_LAYERS; i++) {
+            EXPONENTIAL_X[i] = -Math.log(EXPONENTIAL_V / EXPONENTIAL_X[i - 1] + f);
+            f = Math.exp(-EXPONENTIAL_X[i]);
+        }
+        EXPONENTIAL_X[EXPONENTIAL_LAYERS] = 0.0;
+        for (int i = 0; i <= EXPONENTIAL_LAYERS; i++) {
+            EXPONENTIAL_F[i] = Math.exp(-EXPONENTIAL_X[i]);
+        }
+    }
+
+    private Ziggurat() {
+    }
+
+    /**
+     * Sample the standard normal distribution.
+     * @return a normally distributed number with mean {@code 0.0} and deviation
+     *         {@code 1.0}.
+     */
+    static double normal() {
+        while (true) {
+            long bits = Rand.nextLong();
+            int i = (int) bits & (NORMAL_LAYERS - 1);
+            double u = 2.0 * ((bits >>> 11) * UNIT) - 1.0;
+            double x = u * NORMAL_X[i];
+
+            if (Math.abs(x) < NORMAL_X[i + 1]) {
+                return x;
+            }
+
+            if (i == 0) {
+                return normalTail(u < 0);
+            }
+
+            // The wedge between the rectangles of layers i and i + 1.
+            if (NORMAL_F[i] + uniform() * (NORMAL_F[i + 1] - NORMAL_F[i]) < Math.exp(-0.5 * x * x)) {
+                return x;
+            }
+        }
+    }
+
+    private static double normalTail(boolean negative) {
+        double x, y;
+        do {
+            x = Math.log(positiveUniform()) / NORMAL_R;
+            y = Math.log(positiveUniform());
+        } while (-2 * y < x * x);
+        return negative ? x - NORMAL_R : NORMAL_R - x;
+    }
+
+    /**
+     * Sample the standard exponential distribution.
+     * @return an exponentially distributed number with rate {@code 1.0}.
+     */
+    static double exponential() {
+        while (true) {
+            long bits = Rand.nextLong();
+            int i = (int) bits & (EXPONENTIAL_LAYERS - 1);
+            double x = ((bits >>> 11) * UNIT) * EXPONENTIAL_X[i];
+
+            if (x < EXPONENTIAL_X[i + 1]) {
+                return x;
+            }
+
+            if (i == 0) {
+                return EXPONENTIAL_R - Math.log(positiveUniform());
+            }
+
+            if (EXPONENTIAL_F[i] + uniform() * (EXPONENTIAL_F[i + 1] - EXPONENTIAL_F[i]) < Math.exp(-x)) {
+                return x;
+            }
+        }
+    }
+
+    private static double uniform() {
+        return Rand.nextDouble();
+    }
+
+    /**
+     * @return a uniform number in the range (0.0, 1.0].
+     */
+    private static double positiveUniform() {
+        return 1.0 - Rand.nextDouble();
+    }
+}
@@ -53,6 +53,24 @@ public class Rand {
         return random.get().getSeed();
     }
     
+    /**
+     * Gets the random number generator of the calling thread, so that its stream
+     * can be resumed with {@link #setGenerator(MersenneTwister)} after it has been
+     * reseeded.
+     * @return the generator.
+     */
+    public static MersenneTwister getGenerator() {
+        return random.get();
+    }
+
+    /**
+     * Sets the random number generator of the calling thread.
+     * @param generator the generator.
+     */
+    public static void setGenerator(MersenneTwister generator) {
+        random.set(generator);
+    }
+
     public static void reset() {
         setSeed(Seeder.getSeed());
     }
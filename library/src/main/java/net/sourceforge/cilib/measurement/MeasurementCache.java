@@ -0,0 +1,172 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.measurement;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import net.sourceforge.cilib.algorithm.AbstractAlgorithm;
+import net.sourceforge.cilib.algorithm.Algorithm;
+import net.sourceforge.cilib.type.types.Type;
+
+/**
+ * Remembers the values of the measurements of an algorithm within an iteration,
+ * so that the stopping conditions, the progress of a simulation and the
+ * measurements that are recorded share a single evaluation of a measurement.
+ * <p>
+ * The values are keyed by the iteration and the measurement. Measurements of the
+ * same class are considered to be the same if their fields are the same: fields
+ * of primitive, string and enumeration types are compared by value, all other
+ * fields by identity, so that separately configured instances of a measurement
+ * share their values when their configuration is identical.
+ * <p>
+ * The cache is suspended while the algorithm performs an iteration, since the
+ * state of the algorithm changes during the iteration. Measurements that are
+ * {@linkplain UncachedMeasurement}s or {@linkplain StateAwareMeasurement}s are
+ * never cached.
+ */
+public class MeasurementCache {
+
+    private static final Map<Class<?>, Field[]> FIELDS = new ConcurrentHashMap<Class<?>, Field[]>();
+
+    private final Map<List<Object>, Type> values;
+    private int iteration;
+    private boolean suspended;
+
+    public MeasurementCache() {
+        this.values = new HashMap<List<Object>, Type>();
+        this.iteration = -1;
+        this.suspended = false;
+    }
+
+    /**
+     * Gets the value of a measurement of an algorithm, from the cache of the
+     * algorithm if it has one.
+     * @param <E> the type of the measurement.
+     * @param measurement the measurement.
+     * @param algorithm the algorithm.
+     * @return the value of the measurement.
+     */
+    public static <E extends Type> E getValue(Measurement<E> measurement, Algorithm algorithm) {
+        if (algorithm instanceof AbstractAlgorithm) {
+            return ((AbstractAlgorithm) algorithm).getMeasurementCache().get(measurement, algorithm);
+        }
+        return measurement.getValue(algorithm);
+    }
+
+    /**
+     * Gets the value of a measurement, and caches it for the current iteration
+     * of the algorithm.
+     * @param <E> the type of the measurement.
+     * @param measurement the measurement.
+     * @param algorithm the algorithm that owns the cache.
+     * @return the value of the measurement.
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized <E extends Type> E get(Measurement<E> measurement, Algorithm algorithm) {
+        if (suspended || !isCacheable(measurement)) {
+            return measurement.getValue(algorithm);
+        }
+
+        if (algorithm.getIterations() != iteration) {
+            values.clear();
+            iteration = algorithm.getIterations();
+        }
+
+        List<Object> key = getKey(measurement);
+        E value = (E) values.get(key);
+        if (value == null) {
+            value = measurement.getValue(algorithm);
+            values.put(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * Discards the cached values and stops caching, until {@link #resume()} is
+     * called.
+     */
+    public synchronized void suspend() {
+        values.clear();
+        suspended = true;
+    }
+
+    /**
+     * Discards the cached values and resumes caching.
+     */
+    public synchronized void resume() {
+        values.clear();
+        suspended = false;
+    }
+
+    private static boolean isCacheable(Measurement<?> measurement) {
+        return !(measurement instanceof UncachedMeasurement) && !(measurement instanceof StateAwareMeasurement);
+    }
+
+    private static List<Object> getKey(Measurement<?> measurement) {
+        Field[] fields = getFields(measurement.getClass());
+        List<Object> key = new ArrayList<Object>(fields.length + 1);
+        key.add(measurement.getClass());
+        try {
+            for (Field field : fields) {
+                Object value = field.get(measurement);
+                key.add(isValue(value) ? value : new Identity(value));
+            }
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
+        return key;
+    }
+
+    private static boolean isValue(Object value) {
+        return value == null || value instanceof Number || value instanceof Boolean || value instanceof Character
+            || value instanceof String || value instanceof Enum || value instanceof Class;
+    }
+
+    private static Field[] getFields(Class<?> type) {
+        Field[] fields = FIELDS.get(type);
+        if (fields == null) {
+            List<Field> list = new ArrayList<Field>();
+            for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+                for (Field field : c.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers())) {
+                        field.setAccessible(true);
+                        list.add(field);
+                    }
+                }
+            }
+            fields = list.toArray(new Field[list.size()]);
+            FIELDS.put(type, fields);
+        }
+        return fields;
+    }
+
+    /**
+     * Compares an object by identity.
+     */
+    private static final class Identity {
+        private final Object object;
+
+        Identity(Object object) {
+            this.object = object;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Identity && ((Identity) obj).object == object;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(object);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.measurement;
+
+/**
+ * Marks a {@linkplain Measurement} that is evaluated every time its value is
+ * requested, and never taken from the {@linkplain MeasurementCache}, because it
+ * has side effects, keeps state between evaluations, or depends on anything other
+ * than the state of the algorithm (e.g. the time).
+ */
+public interface UncachedMeasurement {
+}
@@ -9,9 +9,10 @@ package net.sourceforge.cilib.measurement.generic;
 import net.sourceforge.cilib.algorithm.Algorithm;
 import net.sourceforge.cilib.math.random.generator.Rand;
 import net.sourceforge.cilib.measurement.Measurement;
+import net.sourceforge.cilib.measurement.UncachedMeasurement;
 import net.sourceforge.cilib.type.types.StringType;
 
-public class SimulationSeed implements Measurement<StringType> {
+public class SimulationSeed implements Measurement<StringType>, UncachedMeasurement {
 
     public Measurement<StringType> getClone() {
         return this;
@@ -10,11 +10,12 @@ import net.sourceforge.cilib.algorithm.Algorithm;
 import net.sourceforge.cilib.algorithm.AlgorithmEvent;
 import net.sourceforge.cilib.algorithm.AlgorithmListener;
 import net.sourceforge.cilib.measurement.Measurement;
+import net.sourceforge.cilib.measurement.UncachedMeasurement;
 import net.sourceforge.cilib.type.types.Int;
 
 /**
  */
-public class Time implements Measurement<Int>, AlgorithmListener {
+public class Time implements Measurement<Int>, UncachedMeasurement, AlgorithmListener {
 
     private static final long serialVersionUID = -3516066813688827758L;
     private boolean running = false;
@@ -9,6 +9,7 @@ package net.sourceforge.cilib.measurement.single;
 import java.util.List;
 import net.sourceforge.cilib.algorithm.Algorithm;
 import net.sourceforge.cilib.measurement.Measurement;
+import net.sourceforge.cilib.measurement.UncachedMeasurement;
 import net.sourceforge.cilib.nn.architecture.Layer;
 import net.sourceforge.cilib.nn.NeuralNetwork;
 import net.sourceforge.cilib.problem.nn.NNTrainingProblem;
@@ -21,7 +22,7 @@ import net.sourceforge.cilib.type.types.Real;
  * Weights produced by the expansion are ignored. Weights in the output
  * layer are also ignored.
  */
-public class CascadeNetworkWeightShift implements Measurement {
+public class CascadeNetworkWeightShift implements Measurement, UncachedMeasurement {
 
     private Vector previousExpansion;
     private Vector previousIteration;
@@ -16,19 +16,29 @@ import net.sourceforge.cilib.type.types.Real;
 /**
  * Calculates the swarm diameter as the maximum euclidean distance between any
  * two particles.
- *
- *
- *
+ * <p>
+ * The diameter is calculated exactly by default, and may be approximated for
+ * large swarms (see {@link DiameterVisitor}).
  */
 public class Diameter implements Measurement<Real> {
     private static final long serialVersionUID = 5136996282460480831L;
 
+    private boolean approximate;
+
+    public Diameter() {
+        this.approximate = false;
+    }
+
+    public Diameter(Diameter copy) {
+        this.approximate = copy.approximate;
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public Diameter getClone() {
-        return this;
+        return new Diameter(this);
     }
 
     /**
@@ -38,7 +48,21 @@ public class Diameter implements Measurement<Real> {
     public Real getValue(Algorithm algorithm) {
         SinglePopulationBasedAlgorithm popAlg = (SinglePopulationBasedAlgorithm) algorithm;
         fj.data.List<Entity> topology = popAlg.getTopology();
-        return Real.valueOf(new DiameterVisitor().f(topology));
+        DiameterVisitor<Entity> visitor = new DiameterVisitor<Entity>();
+        visitor.setApproximate(approximate);
+        return Real.valueOf(visitor.f(topology));
     }
 
+    public boolean isApproximate() {
+        return approximate;
+    }
+
+    /**
+     * Sets whether the diameter is approximated, in linear time, by a value that
+     * is at least half the diameter.
+     * @param approximate true to approximate the diameter.
+     */
+    public void setApproximate(boolean approximate) {
+        this.approximate = approximate;
+    }
 }
@@ -8,6 +8,7 @@ package net.sourceforge.cilib.measurement.single;
 
 import net.sourceforge.cilib.algorithm.Algorithm;
 import net.sourceforge.cilib.measurement.Measurement;
+import net.sourceforge.cilib.measurement.UncachedMeasurement;
 import net.sourceforge.cilib.problem.Problem;
 import net.sourceforge.cilib.type.types.Real;
 import net.sourceforge.cilib.type.types.Type;
@@ -17,7 +18,7 @@ import net.sourceforge.cilib.type.types.Type;
  * global optimum of the function.
  *
  */
-public class ErrorMeasurement implements Measurement {
+public class ErrorMeasurement implements Measurement, UncachedMeasurement {
 
     private static final long serialVersionUID = 2632671785674388015L;
     private double target;
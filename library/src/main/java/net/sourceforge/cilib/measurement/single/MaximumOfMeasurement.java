@@ -9,6 +9,7 @@ package net.sourceforge.cilib.measurement.single;
 import java.util.ArrayList;
 import net.sourceforge.cilib.algorithm.Algorithm;
 import net.sourceforge.cilib.measurement.Measurement;
+import net.sourceforge.cilib.measurement.UncachedMeasurement;
 import net.sourceforge.cilib.type.types.Real;
 
 /**
@@ -19,7 +20,7 @@ import net.sourceforge.cilib.type.types.Real;
  * it only takes new measurements when it is called. This implies that the
  * measurement resolution must be set to 1 for it to function correctly.
  */
-public class MaximumOfMeasurement implements Measurement<Real> {
+public class MaximumOfMeasurement implements Measurement<Real>, UncachedMeasurement {
 
     private Measurement<Real> measurement;
     private double maximum;
@@ -21,11 +21,12 @@ import net.sourceforge.cilib.entity.Property;
 import net.sourceforge.cilib.entity.Topologies;
 import net.sourceforge.cilib.entity.topologies.SpeciationNeighbourhood;
 import net.sourceforge.cilib.measurement.Measurement;
+import net.sourceforge.cilib.measurement.UncachedMeasurement;
 import net.sourceforge.cilib.niching.NichingAlgorithm;
 import net.sourceforge.cilib.pso.particle.Particle;
 import net.sourceforge.cilib.type.types.container.TypeList;
 
-public class Niches implements Measurement<TypeList> {
+public class Niches implements Measurement<TypeList>, UncachedMeasurement {
 
     private List<Particle> niches;
     private SpeciationNeighbourhood neighbourhood;
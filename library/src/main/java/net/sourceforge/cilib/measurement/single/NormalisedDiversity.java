@@ -6,14 +6,13 @@
  */
 package net.sourceforge.cilib.measurement.single;
 
-import java.util.Iterator;
 import net.sourceforge.cilib.algorithm.Algorithm;
+import net.sourceforge.cilib.entity.Topologies;
 import net.sourceforge.cilib.entity.visitor.DiameterVisitor;
 import net.sourceforge.cilib.measurement.Measurement;
 import net.sourceforge.cilib.pso.PSO;
 import net.sourceforge.cilib.pso.particle.Particle;
 import net.sourceforge.cilib.type.types.Real;
-import net.sourceforge.cilib.type.types.container.Vector;
 
 /**
  * <p>
@@ -50,38 +49,33 @@ public class NormalisedDiversity implements Measurement<Real> {
     public Real getValue(Algorithm algorithm) {
         PSO pso = (PSO) algorithm;
 
-        int numberParticles = pso.getTopology().length();
+        double[][] positions = Topologies.getPositionMatrix(pso.getTopology());
+        int numberParticles = positions.length;
+        int dimension = positions[0].length;
 
-        Iterator<Particle> k = pso.getTopology().iterator();
-        Particle particle = k.next();
-        Vector averageParticlePosition = (Vector) particle.getPosition().getClone();
-        while (k.hasNext()) {
-            particle = k.next();
-            Vector v = (Vector) particle.getPosition();
-            for (int j = 0; j < averageParticlePosition.size(); ++j) {
-                averageParticlePosition.setReal(j, averageParticlePosition.doubleValueOf(j) + v.doubleValueOf(j));
+        double[] averageParticlePosition = new double[dimension];
+        for (double[] position : positions) {
+            for (int j = 0; j < dimension; ++j) {
+                averageParticlePosition[j] += position[j];
             }
         }
-        for (int j = 0; j < averageParticlePosition.size(); ++j) {
-            averageParticlePosition.setReal(j, averageParticlePosition.doubleValueOf(j) / numberParticles);
+        for (int j = 0; j < dimension; ++j) {
+            averageParticlePosition[j] /= numberParticles;
         }
 
-        Iterator<Particle> i = pso.getTopology().iterator();
         double particleSum = 0.0;
-        while (i.hasNext()) {
-            particle = i.next();
-
+        for (double[] position : positions) {
             double dimensionSum = 0.0;
-            Vector v = (Vector) particle.getPosition();
-            for (int j = 0; j < particle.getDimension(); ++j) {
-                dimensionSum += (v.doubleValueOf(j) - averageParticlePosition.doubleValueOf(j)) * (v.doubleValueOf(j) - averageParticlePosition.doubleValueOf(j));
+            for (int j = 0; j < dimension; ++j) {
+                double d = position[j] - averageParticlePosition[j];
+                dimensionSum += d * d;
             }
             particleSum += Math.sqrt(dimensionSum);
         }
 
         double diversity = particleSum / numberParticles;
 
-        DiameterVisitor diameterVisitor = new DiameterVisitor();
+        DiameterVisitor<Particle> diameterVisitor = new DiameterVisitor<Particle>();
         double diameter = diameterVisitor.f(pso.getTopology());
 
         return Real.valueOf(diversity / diameter);
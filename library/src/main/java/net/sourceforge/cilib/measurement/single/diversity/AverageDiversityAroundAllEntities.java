@@ -6,52 +6,137 @@
  */
 package net.sourceforge.cilib.measurement.single.diversity;
 
-import java.util.Iterator;
 import net.sourceforge.cilib.algorithm.Algorithm;
 import net.sourceforge.cilib.algorithm.population.SinglePopulationBasedAlgorithm;
 import net.sourceforge.cilib.entity.Entity;
+import net.sourceforge.cilib.entity.Topologies;
 import net.sourceforge.cilib.type.types.Real;
 import net.sourceforge.cilib.type.types.container.Vector;
+import net.sourceforge.cilib.util.distancemeasure.EuclideanDistanceMeasure;
 
 /**
  *
  * This extends the concept of diversity around the population center by evaluating the average distance
  * around each entity in the population, i.e. each population entity is used as a center, and then
  * calculating the average over all these distances.
+ * <p>
+ * With the Euclidean distance, the positions are copied into a primitive matrix and every pair of
+ * entities is only compared once. For large populations, the root mean square of the distances
+ * may be measured instead, which only costs linear time, since the mean of the squared distances
+ * between all pairs of entities is twice the mean of the squared distances to the population mean.
  *
  */
 public class AverageDiversityAroundAllEntities extends Diversity {
 
     private static final long serialVersionUID = 898972772053582980L;
 
+    private boolean rootMeanSquare;
+
+    public AverageDiversityAroundAllEntities() {
+        super();
+        this.rootMeanSquare = false;
+    }
+
+    public AverageDiversityAroundAllEntities(AverageDiversityAroundAllEntities copy) {
+        super(copy);
+        this.rootMeanSquare = copy.rootMeanSquare;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public AverageDiversityAroundAllEntities getClone() {
+        return new AverageDiversityAroundAllEntities(this);
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public Real getValue(Algorithm algorithm) {
         SinglePopulationBasedAlgorithm populationBasedAlgorithm = (SinglePopulationBasedAlgorithm) algorithm;
-        int numberOfEntities = populationBasedAlgorithm.getTopology().length();
-
-        Iterator<? extends Entity> populationCenterIterator = populationBasedAlgorithm.getTopology().iterator();
+        fj.data.List<? extends Entity> topology = populationBasedAlgorithm.getTopology();
+        int numberOfEntities = topology.length();
+        if (numberOfEntities == 0) {
+            return Real.valueOf(0.0);
+        }
 
-        double totalDistanceSum = 0.0;
+        double totalDistanceSum;
+        if (distanceMeasure.getClass() == EuclideanDistanceMeasure.class && Topologies.hasVectorPositions(topology)) {
+            double[][] positions = Topologies.getPositionMatrix(topology);
+            totalDistanceSum = rootMeanSquare ? getRootMeanSquareDistance(positions) : getMeanDistance(positions);
+        } else {
+            totalDistanceSum = 0.0;
+            for (Entity center : topology) {
+                Vector currentCenter = (Vector) center.getPosition();
+                double currentDistanceSum = 0.0;
 
-        while (populationCenterIterator.hasNext()) {
-            Vector currentCenter = (Vector) (populationCenterIterator.next().getPosition());
-            Iterator<? extends Entity> populationIterator = populationBasedAlgorithm.getTopology().iterator();
-            double currentDistanceSum = 0.0;
+                for (Entity entity : topology) {
+                    currentDistanceSum += distanceMeasure.distance(currentCenter, (Vector) entity.getPosition());
+                }
 
-            while (populationIterator.hasNext()) {
-                Vector currentEntityPosition = (Vector) (populationIterator.next().getPosition());
-                currentDistanceSum += distanceMeasure.distance(currentCenter, currentEntityPosition);
+                totalDistanceSum += currentDistanceSum / numberOfEntities;
             }
-
-            totalDistanceSum += currentDistanceSum / numberOfEntities;
+            totalDistanceSum /= numberOfEntities;
         }
 
-        totalDistanceSum /= numberOfEntities;
         totalDistanceSum /= normalisationParameter.getNormalisationParameter(populationBasedAlgorithm);
 
         return Real.valueOf(totalDistanceSum);
     }
+
+    private static double getMeanDistance(double[][] positions) {
+        int n = positions.length;
+        double sum = 0.0;
+        for (int i = 0; i < n; i++) {
+            double[] x = positions[i];
+            for (int j = i + 1; j < n; j++) {
+                double[] y = positions[j];
+                double squared = 0.0;
+                for (int k = 0; k < x.length; k++) {
+                    double d = x[k] - y[k];
+                    squared += d * d;
+                }
+                sum += Math.sqrt(squared);
+            }
+        }
+        return 2 * sum / ((double) n * n);
+    }
+
+    private static double getRootMeanSquareDistance(double[][] positions) {
+        int n = positions.length;
+        int dimension = positions[0].length;
+        double[] mean = new double[dimension];
+        for (double[] x : positions) {
+            for (int k = 0; k < dimension; k++) {
+                mean[k] += x[k];
+            }
+        }
+        for (int k = 0; k < dimension; k++) {
+            mean[k] /= n;
+        }
+
+        double squared = 0.0;
+        for (double[] x : positions) {
+            for (int k = 0; k < dimension; k++) {
+                double d = x[k] - mean[k];
+                squared += d * d;
+            }
+        }
+        return Math.sqrt(2 * squared / n);
+    }
+
+    public boolean isRootMeanSquare() {
+        return rootMeanSquare;
+    }
+
+    /**
+     * Sets whether the root mean square of the (Euclidean) distances is measured,
+     * instead of their mean, which it bounds from above.
+     * @param rootMeanSquare true to measure the root mean square distance.
+     */
+    public void setRootMeanSquare(boolean rootMeanSquare) {
+        this.rootMeanSquare = rootMeanSquare;
+    }
 }
@@ -8,6 +8,7 @@ package net.sourceforge.cilib.measurement.single.dynamic;
 
 import net.sourceforge.cilib.algorithm.Algorithm;
 import net.sourceforge.cilib.measurement.Measurement;
+import net.sourceforge.cilib.measurement.UncachedMeasurement;
 import net.sourceforge.cilib.type.types.Real;
 import net.sourceforge.cilib.type.types.Type;
 
@@ -18,7 +19,7 @@ import net.sourceforge.cilib.type.types.Type;
  *
  *
  */
-public class FitnessMeasurement implements Measurement {
+public class FitnessMeasurement implements Measurement, UncachedMeasurement {
 
     private static final long serialVersionUID = 2632671785674388015L;
 
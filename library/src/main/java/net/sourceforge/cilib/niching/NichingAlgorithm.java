@@ -186,7 +186,8 @@ public class NichingAlgorithm extends MultiPopulationBasedAlgorithm implements H
             e.put(Property.POPULATION_ID, Int.valueOf(0));
         }
 
-        this.entityType = this.mainSwarm.getTopology().head();
+        // a copy, since the particles are moved to the sub-swarms, which change their behaviour
+        this.entityType = this.mainSwarm.getTopology().head().getClone();
     }
 
     @Override
@@ -13,6 +13,7 @@ import net.sourceforge.cilib.niching.creation.NicheDetection;
 import net.sourceforge.cilib.niching.merging.MergeStrategy;
 import net.sourceforge.cilib.niching.merging.StandardMergeStrategy;
 import net.sourceforge.cilib.niching.merging.detection.MergeDetection;
+import net.sourceforge.cilib.util.functions.Entities;
 import net.sourceforge.cilib.util.functions.Populations;
 import fj.F;
 import fj.P;
@@ -49,21 +50,33 @@ public final class NichingFunctions {
                     return swarms;
                 }
 
-                SinglePopulationBasedAlgorithm newMainSwarm = swarms.getSubswarms().tail()
-                        .filter(mergeDetection.f(swarms.getSubswarms().head()))
-                        .foldLeft(mainSwarmMergeStrategy, swarms.getMainSwarm());
+                return mergePrepared(mergeDetection.prepare(swarms.getSubswarms()),
+                        mainSwarmMergeStrategy, subSwarmsMergeStrategy, swarms);
+            }
+        };
+    }
+
+    /**
+     * Merges the head sub-swarm with the sub-swarms detected by the prepared detection strategy,
+     * and then the remaining sub-swarms with each other.
+     */
+    private static NichingSwarms mergePrepared(MergeDetection mergeDetection,
+            MergeStrategy mainSwarmMergeStrategy, MergeStrategy subSwarmsMergeStrategy, NichingSwarms swarms) {
+        if (swarms.getSubswarms().isEmpty() || swarms.getSubswarms().length() == 1) {
+            return swarms;
+        }
 
-                SinglePopulationBasedAlgorithm mergedSwarms = swarms.getSubswarms().tail()
-                        .filter(mergeDetection.f(swarms.getSubswarms().head()))
-                        .foldLeft(subSwarmsMergeStrategy, swarms.getSubswarms().head());
+        List<SinglePopulationBasedAlgorithm> merging = mergeDetection.detect(swarms.getSubswarms().head(), swarms.getSubswarms().tail());
 
-                NichingSwarms newSwarms =
-                        this.f(NichingSwarms.of(newMainSwarm,
-                        swarms.getSubswarms().tail().removeAll(mergeDetection.f(swarms.getSubswarms().head()))));
+        // the entities move to the merged sub-swarm, so the main swarm strategy gets copies
+        SinglePopulationBasedAlgorithm newMainSwarm = merging.map(Entities.<SinglePopulationBasedAlgorithm>clone_())
+                .foldLeft(mainSwarmMergeStrategy, swarms.getMainSwarm());
+        SinglePopulationBasedAlgorithm mergedSwarms = merging.foldLeft(subSwarmsMergeStrategy, swarms.getSubswarms().head());
 
-                return NichingSwarms.of(newSwarms.getMainSwarm(), List.cons(mergedSwarms, newSwarms.getSubswarms()));
-            }
-        };
+        NichingSwarms newSwarms = mergePrepared(mergeDetection, mainSwarmMergeStrategy, subSwarmsMergeStrategy,
+                NichingSwarms.of(newMainSwarm, swarms.getSubswarms().tail().removeAll(MergeDetection.memberOf(merging))));
+
+        return NichingSwarms.of(newSwarms.getMainSwarm(), List.cons(mergedSwarms, newSwarms.getSubswarms()));
     }
 
     /**
@@ -86,16 +99,18 @@ public final class NichingFunctions {
 
             @Override
             public P2<SinglePopulationBasedAlgorithm, SinglePopulationBasedAlgorithm> f(NichingSwarms swarms) {
-                SinglePopulationBasedAlgorithm newSubSwarm = swarms.getSubswarms()
-                        .filter(absorptionDetection.f(swarms.getMainSwarm()))
+                List<SinglePopulationBasedAlgorithm> absorbed = absorptionDetection.prepare(swarms.getSubswarms())
+                        .detect(swarms.getMainSwarm(), swarms.getSubswarms());
+
+                SinglePopulationBasedAlgorithm newSubSwarm = absorbed
                         .foldLeft(subSwarmsAbsorptionStrategy, swarms.getMainSwarm());
 
                 SinglePopulationBasedAlgorithm unmergedSwarms = swarms.getSubswarms()
-                        .removeAll(absorptionDetection.f(swarms.getMainSwarm()))
+                        .removeAll(MergeDetection.memberOf(absorbed))
                         .foldLeft(new StandardMergeStrategy(), Populations.emptyPopulation().f(swarms.getSubswarms().head()));
 
-                SinglePopulationBasedAlgorithm mergedSwarms = swarms.getSubswarms()
-                        .filter(absorptionDetection.f(swarms.getMainSwarm()))
+                // the absorbed entities move to the sub-swarm, so the main swarm strategy gets copies
+                SinglePopulationBasedAlgorithm mergedSwarms = absorbed.map(Entities.<SinglePopulationBasedAlgorithm>clone_())
                         .foldLeft(new StandardMergeStrategy(), Populations.emptyPopulation().f(swarms.getSubswarms().head()));
 
                 SinglePopulationBasedAlgorithm newMainSwarm = mainSwarmAbsorptionStrategy.f(unmergedSwarms, mergedSwarms);
@@ -167,7 +182,7 @@ public final class NichingFunctions {
                 SinglePopulationBasedAlgorithm newMainSwarm = createdSwarms.getMainSwarm();
                 List<SinglePopulationBasedAlgorithm> currentSubswarm = createdSwarms.getSubswarms();
                 for (int i = 0; i < createdSwarms.getSubswarms().length() - swarms.getSubswarms().length(); i++) {
-                    newMainSwarm = mainSwarmCreationMergingStrategy.f(newMainSwarm, currentSubswarm.head());
+                    newMainSwarm = mainSwarmCreationMergingStrategy.f(newMainSwarm, currentSubswarm.head().getClone());
                     currentSubswarm = currentSubswarm.tail();
                 }
 
@@ -42,8 +42,8 @@ public class SequentialNichingTechnique<E extends Entity> extends SinglePopulati
     }
 
     @Override
-    public SequentialNichingTechnique getClone() {
-        return new SequentialNichingTechnique(this);
+    public SequentialNichingTechnique<E> getClone() {
+        return new SequentialNichingTechnique<E>(this);
     }
 
     @Override
@@ -84,8 +84,8 @@ public class ClosestNeighbourNicheCreationStrategy extends NicheCreationStrategy
         ClosestEntityVisitor<Particle> closestEntityVisitor = new ClosestEntityVisitor<>();
         closestEntityVisitor.setTargetEntity((Particle) b);
 
-        // Clone particles
-        Particle nicheMainParticle = (Particle) b.getClone();
+        // Move particles
+        Particle nicheMainParticle = (Particle) b;
         final Particle nicheClosestParticle = closestEntityVisitor.f(a.getMainSwarm().getTopology());
 
         // Set behavior and nBest
@@ -101,13 +101,11 @@ public class ClosestNeighbourNicheCreationStrategy extends NicheCreationStrategy
         newSubSwarm.setTopology(fj.data.List.list(nicheMainParticle, nicheClosestParticle));
 
         // Create new mainswarm
-        SinglePopulationBasedAlgorithm newMainSwarm = a.getMainSwarm().getClone();
-        fj.data.List<Entity> local = a.getMainSwarm().getTopology();
-        newMainSwarm.setTopology(local.filter(new F<Entity, Boolean>() {
-           @Override
+        SinglePopulationBasedAlgorithm newMainSwarm = a.getMainSwarm().withTopology(t.filter(new F<Entity, Boolean>() {
+            @Override
             public Boolean f(Entity e) {
-               return !e.equals(b) && !e.equals(nicheClosestParticle);
-           }
+                return !e.equals(b) && !e.equals(nicheClosestParticle);
+            }
         }));
 
         return NichingSwarms.of(newMainSwarm, a.getSubswarms().cons(newSubSwarm));
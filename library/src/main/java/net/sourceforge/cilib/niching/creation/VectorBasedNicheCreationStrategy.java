@@ -15,7 +15,6 @@ import net.sourceforge.cilib.controlparameter.ConstantControlParameter;
 import net.sourceforge.cilib.controlparameter.ControlParameter;
 import net.sourceforge.cilib.entity.Entity;
 import net.sourceforge.cilib.entity.Property;
-import net.sourceforge.cilib.entity.Topologies;
 import net.sourceforge.cilib.entity.behaviour.Behaviour;
 import net.sourceforge.cilib.entity.comparator.SocialBestFitnessComparator;
 import net.sourceforge.cilib.entity.visitor.RadiusVisitor;
@@ -58,7 +57,7 @@ public class VectorBasedNicheCreationStrategy extends NicheCreationStrategy {
 
     @Override
     public NichingSwarms f(NichingSwarms swarms, Entity b) {
-        Particle gBest = (Particle) Topologies.getBestEntity(swarms.getMainSwarm().getTopology(), new SocialBestFitnessComparator());
+        Particle gBest = (Particle) swarms.getMainSwarm().getBestEntity(new SocialBestFitnessComparator());
         List<Particle> newTopology = List.list(gBest);
         List<Particle> swarm = ((List<Particle>) topologyProvider.f(swarms)).delete(gBest, Equal.equal(equalParticle.curry()));
 
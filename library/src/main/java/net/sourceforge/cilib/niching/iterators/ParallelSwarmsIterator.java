@@ -0,0 +1,32 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.niching.iterators;
+
+import net.sourceforge.cilib.algorithm.ParallelExecutor;
+import net.sourceforge.cilib.algorithm.population.SinglePopulationBasedAlgorithm;
+import net.sourceforge.cilib.niching.NichingSwarms;
+import fj.data.List;
+
+/**
+ * Iterates all the sub-swarms, like {@link AllSwarmsIterator}, but iterates the
+ * sub-swarms concurrently using the {@link ParallelExecutor}. The merging, absorption
+ * and niche creation phases of the niching algorithm still happen on a single thread.
+ */
+public class ParallelSwarmsIterator extends SubswarmIterator {
+    @Override
+    public NichingSwarms f(NichingSwarms a) {
+        java.util.List<SinglePopulationBasedAlgorithm> iterated = ParallelExecutor.map(a.getSubswarms(), iterator);
+        return NichingSwarms.of(a.getMainSwarm(), List.iterableList(iterated));
+    }
+
+    @Override
+    public ParallelSwarmsIterator getClone() {
+        ParallelSwarmsIterator i = new ParallelSwarmsIterator();
+        i.setIterator(iterator);
+        return i;
+    }
+}
@@ -9,11 +9,11 @@ package net.sourceforge.cilib.niching.merging;
 import net.sourceforge.cilib.algorithm.population.SinglePopulationBasedAlgorithm;
 
 /**
- * Returns a copy of the first sub-swarm.
+ * Returns a copy of the first sub-swarm, which shares the entities of the first sub-swarm.
  */
 public class SingleSwarmMergeStrategy extends MergeStrategy {
     @Override
     public SinglePopulationBasedAlgorithm f(SinglePopulationBasedAlgorithm subSwarm1, SinglePopulationBasedAlgorithm subSwarm2) {
-        return subSwarm1.getClone();
+        return subSwarm1.withTopology(subSwarm1.getTopology());
     }
 }
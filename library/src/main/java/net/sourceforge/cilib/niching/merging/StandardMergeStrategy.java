@@ -13,15 +13,17 @@ import net.sourceforge.cilib.pso.particle.Particle;
 
 /**
  * Takes all the entities of the second sub-swarm, puts them in the first sub-swarm
- * and returns a copy of the combined sub-swarms.
+ * and returns a copy of the combined sub-swarms. The entities are moved by reference,
+ * so the given sub-swarms should not be used afterwards.
  */
 public class StandardMergeStrategy extends MergeStrategy {
     private static final long serialVersionUID = 6790307057694598017L;
 
     @Override
     public SinglePopulationBasedAlgorithm f(SinglePopulationBasedAlgorithm subSwarm1, SinglePopulationBasedAlgorithm subSwarm2) {
-        SinglePopulationBasedAlgorithm newSwarm = subSwarm1.getClone();
-        newSwarm.setTopology(newSwarm.getTopology().append(subSwarm2.getClone().getTopology()));
+        // the entities of each sub-swarm are linked (e.g. neighbourhood bests) within their own sub-swarm
+        SinglePopulationBasedAlgorithm newSwarm = subSwarm1.withTopology(subSwarm1.getTopology());
+        newSwarm.setTopology(newSwarm.getTopology().append(subSwarm2.withTopology(subSwarm2.getTopology()).getTopology()));
 
         Particle p;
         if (!newSwarm.getTopology().isEmpty() && (p = (Particle) newSwarm.getTopology().head()) instanceof Particle) {
@@ -30,6 +30,22 @@ public class CompositeMergeDetection extends MergeDetection {
         }));
     }
 
+    /**
+     * {@inheritDoc}
+     * The detectors are prepared individually.
+     */
+    @Override
+    public <S extends SinglePopulationBasedAlgorithm<?>> MergeDetection prepare(final List<S> swarms) {
+        CompositeMergeDetection prepared = new CompositeMergeDetection();
+        prepared.detectors = detectors.map(new F<MergeDetection, MergeDetection>() {
+            @Override
+            public MergeDetection f(MergeDetection c) {
+                return c.prepare(swarms);
+            }
+        });
+        return prepared;
+    }
+
     public void addDetector(MergeDetection m) {
         detectors = detectors.cons(m);
     }
@@ -6,8 +6,13 @@
  */
 package net.sourceforge.cilib.niching.merging.detection;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
 import net.sourceforge.cilib.algorithm.population.SinglePopulationBasedAlgorithm;
+import fj.F;
 import fj.F2;
+import fj.data.List;
 
 /**
  * Merge detection strategies for Niching.
@@ -15,4 +20,56 @@ import fj.F2;
  * Used to merge two swarms into one.
  */
 public abstract class MergeDetection extends F2<SinglePopulationBasedAlgorithm, SinglePopulationBasedAlgorithm, Boolean> {
+
+    /**
+     * Prepares this detection strategy for repeatedly comparing swarms with the
+     * given swarms, e.g. by caching their geometry or by indexing them spatially.
+     * The swarms must not change while the returned detection strategy is in use.
+     *
+     * @param <S> The type of the swarms.
+     * @param swarms The swarms that will be compared with other swarms.
+     * @return A detection strategy that gives the same results as this one. The
+     * default implementation returns this detection strategy.
+     */
+    public <S extends SinglePopulationBasedAlgorithm<?>> MergeDetection prepare(List<S> swarms) {
+        return this;
+    }
+
+    /**
+     * Finds the swarms that must be merged with the given swarm.
+     *
+     * @param <S> The type of the candidate swarms.
+     * @param swarm The swarm to merge the other swarms with.
+     * @param swarms The candidate swarms.
+     * @return The swarms, in the same order, for which {@code f(swarm, other)} holds.
+     */
+    public <S extends SinglePopulationBasedAlgorithm<?>> List<S> detect(final SinglePopulationBasedAlgorithm<?> swarm, List<S> swarms) {
+        return swarms.filter(new F<S, Boolean>() {
+            @Override
+            public Boolean f(S other) {
+                return MergeDetection.this.f(swarm, other);
+            }
+        });
+    }
+
+    /**
+     * Returns a predicate that holds for the members of the given list of swarms,
+     * compared by reference.
+     *
+     * @param <S> The type of the swarms.
+     * @param swarms The swarms.
+     * @return The predicate.
+     */
+    public static <S> F<S, Boolean> memberOf(final List<? extends S> swarms) {
+        final Set<S> members = Collections.newSetFromMap(new IdentityHashMap<S, Boolean>());
+        for (S swarm : swarms) {
+            members.add(swarm);
+        }
+        return new F<S, Boolean>() {
+            @Override
+            public Boolean f(S swarm) {
+                return members.contains(swarm);
+            }
+        };
+    }
 }
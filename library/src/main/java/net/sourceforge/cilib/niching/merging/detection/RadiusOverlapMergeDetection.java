@@ -6,15 +6,24 @@
  */
 package net.sourceforge.cilib.niching.merging.detection;
 
+import fj.F;
+import fj.data.List;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
 import net.sourceforge.cilib.algorithm.population.SinglePopulationBasedAlgorithm;
 import net.sourceforge.cilib.controlparameter.ConstantControlParameter;
 import net.sourceforge.cilib.controlparameter.ControlParameter;
+import net.sourceforge.cilib.entity.Entity;
 import net.sourceforge.cilib.entity.Topologies;
-import net.sourceforge.cilib.entity.visitor.RadiusVisitor;
 import net.sourceforge.cilib.math.Maths;
 import net.sourceforge.cilib.type.types.container.Vector;
+import net.sourceforge.cilib.util.KDTree;
 import net.sourceforge.cilib.util.distancemeasure.DistanceMeasure;
 import net.sourceforge.cilib.util.distancemeasure.EuclideanDistanceMeasure;
+import net.sourceforge.cilib.util.distancemeasure.MinkowskiMetric;
 
 /**
  * Determines if two swarms overlap.
@@ -46,27 +55,149 @@ public class RadiusOverlapMergeDetection extends MergeDetection {
      */
     @Override
     public Boolean f(SinglePopulationBasedAlgorithm swarm1, SinglePopulationBasedAlgorithm swarm2) {
-        RadiusVisitor radiusVisitor = new RadiusVisitor();
-        radiusVisitor.setDistanceMeasure(distanceMeasure);
-
-        double swarm1Radius = radiusVisitor.f(swarm1.getTopology());
-        double swarm2Radius = radiusVisitor.f(swarm2.getTopology());
-
-        Vector swarm1GBest = (Vector) Topologies.getBestEntity(swarm1.getTopology()).getPosition();
-        Vector swarm2GBest = (Vector) Topologies.getBestEntity(swarm2.getTopology()).getPosition();
+        return overlap(new Geometry(swarm1), new Geometry(swarm2));
+    }
 
-        double distance = distanceMeasure.distance(swarm1GBest, swarm2GBest);
-        double normalizedDistance = distance / swarm1GBest.boundsOf(0).getRange();
+    private boolean overlap(Geometry swarm1, Geometry swarm2) {
+        double distance = distanceMeasure.distance(swarm1.gBest, swarm2.gBest);
+        double normalizedDistance = distance / swarm1.range;
 
         //special case if both radii approximate 0 or if the swarms intersect
-        if ((Math.abs(swarm1Radius) < Maths.EPSILON && Math.abs(swarm2Radius) < Maths.EPSILON
-                && normalizedDistance < threshold.getParameter()) || (distance < swarm1Radius + swarm2Radius)) {
+        if ((Math.abs(swarm1.radius) < Maths.EPSILON && Math.abs(swarm2.radius) < Maths.EPSILON
+                && normalizedDistance < threshold.getParameter()) || (distance < swarm1.radius + swarm2.radius)) {
             return true;
         }
 
         return false;
     }
 
+    /**
+     * {@inheritDoc}
+     * The radius and global best position of every swarm are calculated once,
+     * and if the distance measure is a {@link MinkowskiMetric} the global best
+     * positions are stored in a {@link KDTree}, so that only the swarms that are
+     * close enough to overlap are compared.
+     */
+    @Override
+    public <S extends SinglePopulationBasedAlgorithm<?>> MergeDetection prepare(List<S> swarms) {
+        return new PreparedDetection(swarms);
+    }
+
+    /**
+     * The radius and global best position of a swarm.
+     */
+    private class Geometry {
+        private final Vector gBest;
+        private final double radius;
+        private final double range;
+
+        Geometry(SinglePopulationBasedAlgorithm<?> swarm) {
+            this(swarm.getTopology());
+        }
+
+        <E extends Entity> Geometry(List<E> topology) {
+            gBest = (Vector) Topologies.getBestEntity(topology).getPosition();
+            double max = 0.0;
+            for (E entity : topology) {
+                max = Math.max(max, distanceMeasure.distance(gBest, (Vector) entity.getPosition()));
+            }
+            radius = max;
+            range = gBest.boundsOf(0).getRange();
+        }
+
+        double[] point() {
+            double[] point = new double[gBest.size()];
+            for (int i = 0; i < point.length; i++) {
+                point[i] = gBest.doubleValueOf(i);
+            }
+            return point;
+        }
+    }
+
+    /**
+     * Detection strategy with the geometry of a fixed list of swarms cached and,
+     * where possible, spatially indexed.
+     */
+    private class PreparedDetection extends MergeDetection {
+        private final Map<SinglePopulationBasedAlgorithm<?>, Geometry> geometries;
+        private final java.util.List<SinglePopulationBasedAlgorithm<?>> indexed;
+        private final KDTree tree;
+        private double maxRadius;
+
+        <S extends SinglePopulationBasedAlgorithm<?>> PreparedDetection(List<S> swarms) {
+            geometries = new IdentityHashMap<SinglePopulationBasedAlgorithm<?>, Geometry>();
+            java.util.List<SinglePopulationBasedAlgorithm<?>> nonEmpty = new ArrayList<SinglePopulationBasedAlgorithm<?>>();
+            for (SinglePopulationBasedAlgorithm<?> swarm : swarms) {
+                if (!swarm.getTopology().isEmpty() && !geometries.containsKey(swarm)) {
+                    nonEmpty.add(swarm);
+                    geometries.put(swarm, new Geometry(swarm));
+                }
+            }
+
+            if (distanceMeasure instanceof MinkowskiMetric && !nonEmpty.isEmpty()) {
+                indexed = nonEmpty;
+                double[][] points = new double[indexed.size()][];
+                for (int i = 0; i < points.length; i++) {
+                    Geometry geometry = geometries.get(indexed.get(i));
+                    points[i] = geometry.point();
+                    maxRadius = Math.max(maxRadius, geometry.radius);
+                }
+                tree = new KDTree(points);
+            } else {
+                indexed = null;
+                tree = null;
+            }
+        }
+
+        private Geometry geometry(SinglePopulationBasedAlgorithm<?> swarm) {
+            Geometry geometry = geometries.get(swarm);
+            if (geometry == null) {
+                geometry = new Geometry(swarm);
+                geometries.put(swarm, geometry);
+            }
+            return geometry;
+        }
+
+        @Override
+        public Boolean f(SinglePopulationBasedAlgorithm swarm1, SinglePopulationBasedAlgorithm swarm2) {
+            return overlap(geometry(swarm1), geometry(swarm2));
+        }
+
+        @Override
+        public <S extends SinglePopulationBasedAlgorithm<?>> List<S> detect(final SinglePopulationBasedAlgorithm<?> swarm, List<S> swarms) {
+            if (tree == null) {
+                return super.detect(swarm, swarms);
+            }
+
+            Geometry geometry = geometry(swarm);
+            double queryRadius = geometry.radius + maxRadius;
+            if (Math.abs(geometry.radius) < Maths.EPSILON) {
+                queryRadius = Math.max(queryRadius, threshold.getParameter() * geometry.range);
+            }
+            if (Double.isNaN(queryRadius) || Double.isInfinite(queryRadius)) {
+                return super.detect(swarm, swarms);
+            }
+
+            // widened slightly, so that rounding in the distance measure cannot exclude a swarm
+            int[] hits = tree.query(geometry.point(), queryRadius * (1.0 + 1.0E-9) + Double.MIN_NORMAL);
+            final Set<SinglePopulationBasedAlgorithm<?>> candidates = Collections.newSetFromMap(
+                    new IdentityHashMap<SinglePopulationBasedAlgorithm<?>, Boolean>());
+            for (int hit : hits) {
+                candidates.add(indexed.get(hit));
+            }
+
+            return swarms.filter(new F<S, Boolean>() {
+                @Override
+                public Boolean f(S other) {
+                    if (geometries.containsKey(other) && !candidates.contains(other)) {
+                        return false;
+                    }
+                    return PreparedDetection.this.f(swarm, other);
+                }
+            });
+        }
+    }
+
     /**
      * Get the merge threshold value.
      *
@@ -7,7 +7,6 @@
 package net.sourceforge.cilib.niching.merging.detection;
 
 import net.sourceforge.cilib.algorithm.population.SinglePopulationBasedAlgorithm;
-import net.sourceforge.cilib.entity.Topologies;
 import net.sourceforge.cilib.entity.comparator.SocialBestFitnessComparator;
 import net.sourceforge.cilib.pso.particle.Particle;
 import net.sourceforge.cilib.type.types.container.Vector;
@@ -16,8 +15,8 @@ public class VectorBasedMergeDetection extends MergeDetection {
 
     @Override
     public Boolean f(SinglePopulationBasedAlgorithm a, SinglePopulationBasedAlgorithm b) {
-        Particle p1 = (Particle) Topologies.getBestEntity(a.getTopology(), new SocialBestFitnessComparator());
-        Particle p2 = (Particle) Topologies.getBestEntity(b.getTopology(), new SocialBestFitnessComparator());
+        Particle p1 = (Particle) a.getBestEntity(new SocialBestFitnessComparator());
+        Particle p2 = (Particle) b.getBestEntity(new SocialBestFitnessComparator());
         Vector v1 = ((Vector) p1.getBestPosition()).subtract((Vector) p1.getPosition());
         Vector v2 = ((Vector) p2.getBestPosition()).subtract((Vector) p2.getPosition());
 
@@ -0,0 +1,298 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.nn.architecture;
+
+import com.google.common.base.Preconditions;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import net.sourceforge.cilib.io.DataTable;
+import net.sourceforge.cilib.io.pattern.StandardPattern;
+import net.sourceforge.cilib.nn.components.Neuron;
+import net.sourceforge.cilib.nn.components.PatternInputSource;
+import net.sourceforge.cilib.type.types.container.Vector;
+import net.sourceforge.cilib.util.Cloneable;
+
+/**
+ * Class represents a cache of the activations of the frozen units of a cascade
+ * network for a fixed list of patterns. The frozen units are all the units in
+ * the consolidated layer, except for the output layer, i.e. the inputs, the
+ * bias and the hidden units.
+ * <p>
+ * The activations are stored in a columnar fashion: one array per unit, holding
+ * the activation of that unit for every pattern. When the network is expanded,
+ * {@link #update(Architecture, DataTable)} only calculates the columns of the new units,
+ * by feeding the existing columns to the new units. A column is recalculated if the
+ * weights of its unit changed since it was calculated. When the patterns are
+ * reordered the columns are permuted, and when other patterns are given all the
+ * columns are recalculated.
+ * <p>
+ * Columns are never modified once they have been calculated, so the arrays returned
+ * by {@link #getColumns()} may be kept and shared (also between threads) after
+ * the cache has been updated.
+ */
+public class CascadeActivationCache implements Cloneable {
+
+    private List<StandardPattern> patterns;
+    private Map<StandardPattern, Integer> rows;
+    private double[][] columns;
+    private double[][] unitWeights;
+    private Class<?>[] unitFunctions;
+    private int numInputs;
+    private int numUnits;
+
+    public CascadeActivationCache() {
+        rows = new IdentityHashMap<StandardPattern, Integer>();
+        columns = new double[0][];
+        unitWeights = new double[0][];
+        unitFunctions = new Class<?>[0];
+        numInputs = 0;
+        numUnits = 0;
+    }
+
+    /**
+     * Copy constructor. The columns themselves are shared, since they are
+     * never modified.
+     * @param rhs the cache to copy.
+     */
+    public CascadeActivationCache(CascadeActivationCache rhs) {
+        patterns = rhs.patterns;
+        rows = rhs.rows;
+        columns = Arrays.copyOf(rhs.columns, rhs.columns.length);
+        unitWeights = Arrays.copyOf(rhs.unitWeights, rhs.unitWeights.length);
+        unitFunctions = Arrays.copyOf(rhs.unitFunctions, rhs.unitFunctions.length);
+        numInputs = rhs.numInputs;
+        numUnits = rhs.numUnits;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CascadeActivationCache getClone() {
+        return new CascadeActivationCache(this);
+    }
+
+    /**
+     * Brings the cache up to date with the frozen units of the given cascade
+     * architecture and the given patterns. Only the columns of units that
+     * were added, or of which the weights changed, are calculated.
+     * @param architecture the cascade architecture.
+     * @param patterns the patterns for which the activations are cached.
+     */
+    public void update(Architecture architecture, DataTable<StandardPattern, ?> patterns) {
+        List<Layer> layers = architecture.getLayers();
+        ForwardingLayer inputLayer = (ForwardingLayer) layers.get(0);
+
+        int inputs = architecture.getArchitectureBuilder().getLayerConfigurations().get(0).getSize()
+                + inputLayer.size() - inputLayer.getSourceSize();
+        if (inputs != numInputs || !reorder(patterns)) {
+            reset(patterns, inputLayer, inputs);
+        }
+
+        int unit = numInputs;
+        int totalUnits = numInputs;
+        for (int curLayer = 1; curLayer < layers.size() - 1; ++curLayer) {
+            totalUnits += layers.get(curLayer).size();
+        }
+        ensureCapacity(totalUnits);
+
+        for (int curLayer = 1; curLayer < layers.size() - 1; ++curLayer) {
+            Layer layer = layers.get(curLayer);
+            for (int curNeuron = 0; curNeuron < layer.size(); ++curNeuron, ++unit) {
+                Neuron neuron = layer.getNeuron(curNeuron);
+                double[] weights = weightsOf(neuron);
+                Class<?> function = neuron.getActivationFunction() == null ? null : neuron.getActivationFunction().getClass();
+                if (unit < numUnits && Arrays.equals(weights, unitWeights[unit]) && function == unitFunctions[unit]) {
+                    continue;
+                }
+                numUnits = unit;
+                columns[unit] = calculateColumn(neuron, weights);
+                unitWeights[unit] = weights;
+                unitFunctions[unit] = function;
+                numUnits = unit + 1;
+            }
+        }
+        numUnits = totalUnits;
+    }
+
+    /**
+     * Gets the number of units for which activations are cached. These are
+     * the first units of the consolidated layer of the architecture.
+     * @return the number of cached units.
+     */
+    public int getNumUnits() {
+        return numUnits;
+    }
+
+    /**
+     * Gets the number of patterns for which activations are cached.
+     * @return the number of patterns.
+     */
+    public int getNumPatterns() {
+        return patterns == null ? 0 : patterns.size();
+    }
+
+    /**
+     * Gets the cached activation of a unit for a pattern.
+     * @param unit the index of the unit in the consolidated layer.
+     * @param pattern the index of the pattern.
+     * @return the activation.
+     */
+    public double getActivation(int unit, int pattern) {
+        return columns[unit][pattern];
+    }
+
+    /**
+     * Gets the cached columns, one for every cached unit. The columns
+     * must not be modified by the caller.
+     * @return a new array containing the (shared) columns.
+     */
+    public double[][] getColumns() {
+        return Arrays.copyOf(columns, numUnits);
+    }
+
+    /**
+     * Gets the index of the given pattern in the cache. Patterns are matched by
+     * reference, as obtained by iterating over the data table the cache was
+     * updated with.
+     * @param pattern the pattern to look for.
+     * @return the index of the pattern, or -1 if the pattern is not cached.
+     */
+    public int indexOf(StandardPattern pattern) {
+        Integer row = rows.get(pattern);
+        return row == null ? -1 : row;
+    }
+
+    /**
+     * Matches the cached patterns with the given patterns. If the given patterns
+     * are a reordering of the cached patterns (e.g. after shuffling), the columns
+     * are reordered instead of recalculated.
+     * @return false if the patterns do not match.
+     */
+    private boolean reorder(DataTable<StandardPattern, ?> newPatterns) {
+        if (patterns == null || patterns.size() != newPatterns.size()) {
+            return false;
+        }
+
+        int[] permutation = new int[newPatterns.size()];
+        boolean identity = true;
+        int i = 0;
+        for (StandardPattern pattern : newPatterns) {
+            Integer row = rows.get(pattern);
+            if (row == null) {
+                return false;
+            }
+            permutation[i] = row;
+            identity &= row == i;
+            ++i;
+        }
+
+        if (!identity) {
+            StandardPattern[] reordered = new StandardPattern[permutation.length];
+            Map<StandardPattern, Integer> reorderedRows = new IdentityHashMap<StandardPattern, Integer>();
+            for (int row = 0; row < permutation.length; ++row) {
+                reordered[row] = patterns.get(permutation[row]);
+                reorderedRows.put(reordered[row], row);
+            }
+            for (int unit = 0; unit < numUnits; ++unit) {
+                double[] column = new double[permutation.length];
+                for (int row = 0; row < permutation.length; ++row) {
+                    column[row] = columns[unit][permutation[row]];
+                }
+                columns[unit] = column;
+            }
+            patterns = Arrays.asList(reordered);
+            rows = reorderedRows;
+        }
+        return true;
+    }
+
+    /**
+     * Discards all the columns and calculates the columns of the input layer,
+     * which includes the bias unit.
+     */
+    private void reset(DataTable<StandardPattern, ?> newPatterns, ForwardingLayer inputLayer, int inputs) {
+        StandardPattern[] copy = new StandardPattern[newPatterns.size()];
+        int row = 0;
+        for (StandardPattern pattern : newPatterns) {
+            copy[row++] = pattern;
+        }
+        patterns = Arrays.asList(copy);
+        rows = new IdentityHashMap<StandardPattern, Integer>();
+        for (int i = 0; i < copy.length; ++i) {
+            rows.put(copy[i], i);
+        }
+
+        numInputs = inputs;
+        columns = new double[numInputs][];
+        unitWeights = new double[numInputs][];
+        unitFunctions = new Class<?>[numInputs];
+        for (int unit = 0; unit < numInputs; ++unit) {
+            columns[unit] = new double[copy.length];
+        }
+        for (int curPattern = 0; curPattern < copy.length; ++curPattern) {
+            inputLayer.setSource(new PatternInputSource(copy[curPattern]));
+            for (int unit = 0; unit < numInputs; ++unit) {
+                columns[unit][curPattern] = inputLayer.getNeuralInput(unit);
+            }
+        }
+        numUnits = numInputs;
+    }
+
+    private void ensureCapacity(int size) {
+        if (columns.length < size) {
+            columns = Arrays.copyOf(columns, size);
+            unitWeights = Arrays.copyOf(unitWeights, size);
+            unitFunctions = Arrays.copyOf(unitFunctions, size);
+        }
+    }
+
+    /**
+     * Calculates the activation of a neuron that receives its input from the
+     * cached units, such as an output neuron or a candidate hidden neuron, for
+     * every cached pattern. As with {@link Neuron#calculateActivation(NeuralInputSource)},
+     * the neuron only processes as many inputs as it has weights.
+     * @param neuron the neuron.
+     * @return a new array containing the activation of the neuron for every pattern.
+     */
+    public double[] calculateColumn(Neuron neuron) {
+        return calculateColumn(neuron, weightsOf(neuron));
+    }
+
+    private double[] calculateColumn(Neuron neuron, double[] weights) {
+        double[] column = new double[patterns.size()];
+        if (neuron.isBias()) {
+            Arrays.fill(column, neuron.getActivation());
+            return column;
+        }
+
+        Preconditions.checkState(weights.length <= numUnits,
+                "A hidden unit may only receive input from the units preceding it.");
+        for (int curWeight = 0; curWeight < weights.length; ++curWeight) {
+            double weight = weights[curWeight];
+            double[] input = columns[curWeight];
+            for (int curPattern = 0; curPattern < column.length; ++curPattern) {
+                column[curPattern] += weight * input[curPattern];
+            }
+        }
+        for (int curPattern = 0; curPattern < column.length; ++curPattern) {
+            column[curPattern] = neuron.getActivationFunction().f(column[curPattern]);
+        }
+        return column;
+    }
+
+    private static double[] weightsOf(Neuron neuron) {
+        Vector weights = neuron.getWeights();
+        double[] result = new double[weights.size()];
+        for (int i = 0; i < result.length; ++i) {
+            result[i] = weights.doubleValueOf(i);
+        }
+        return result;
+    }
+}
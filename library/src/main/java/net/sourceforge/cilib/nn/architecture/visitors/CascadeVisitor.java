@@ -8,6 +8,7 @@ package net.sourceforge.cilib.nn.architecture.visitors;
 
 import java.util.List;
 import net.sourceforge.cilib.nn.architecture.Architecture;
+import net.sourceforge.cilib.nn.architecture.CascadeActivationCache;
 import net.sourceforge.cilib.nn.architecture.ForwardingLayer;
 import net.sourceforge.cilib.nn.architecture.Layer;
 import net.sourceforge.cilib.nn.components.PatternInputSource;
@@ -18,8 +19,15 @@ import net.sourceforge.cilib.nn.components.PatternInputSource;
  */
 public class CascadeVisitor extends ArchitectureOperationVisitor {
 
+    private CascadeActivationCache activationCache;
+
     public CascadeVisitor() {}
 
+    /**
+     * Copy constructor. The activation cache is not copied, since it is only
+     * valid for the network it was updated with.
+     * @param rhs the visitor to copy.
+     */
     public CascadeVisitor(CascadeVisitor rhs) {
         super(rhs);
     }
@@ -31,7 +39,9 @@ public class CascadeVisitor extends ArchitectureOperationVisitor {
 	
     /**
      * Perform cascade pass using {@link #input} as the input for the pass and
-     * storing the output in {@link #output}.
+     * storing the output in {@link #output}. If an activation cache is set and
+     * it contains the input pattern, the activations of the frozen units are
+     * taken from the cache instead of being calculated.
      * @param architecture the architecture to visit.
      */
     @Override
@@ -41,6 +51,17 @@ public class CascadeVisitor extends ArchitectureOperationVisitor {
 
         ((ForwardingLayer) layers.get(0)).setSource(new PatternInputSource(input));
 
+        int row = -1;
+        int frozenUnits = 0;
+        if (activationCache != null) {
+            int hiddenUnits = 0;
+            for (int l = 0; l < size - 1; l++) {
+                hiddenUnits += layers.get(l).size();
+            }
+            row = activationCache.indexOf(input);
+            frozenUnits = (row < 0 || activationCache.getNumUnits() > hiddenUnits) ? 0 : activationCache.getNumUnits();
+        }
+
         //Consolidate multiple layers into a single input.
         //The receiving Neuron must ensure that it doesn't process more inputs
         //than what it has weights for.
@@ -52,17 +73,40 @@ public class CascadeVisitor extends ArchitectureOperationVisitor {
         }
 
         Layer currentLayer = null;
+        int unit = layers.get(0).size();
         for (int l = 1; l < size; l++) {
             currentLayer = layers.get(l);
             int layerSize = currentLayer.size();
-            for (int n = 0; n < layerSize; n++) {
-                currentLayer.getNeuron(n).calculateActivation(consolidatedLayer);
+            for (int n = 0; n < layerSize; n++, unit++) {
+                if (unit < frozenUnits) {
+                    currentLayer.getNeuron(n).setActivation(activationCache.getActivation(unit, row));
+                } else {
+                    currentLayer.getNeuron(n).calculateActivation(consolidatedLayer);
+                }
             }
         }
 
         this.output = currentLayer.getActivations();
     }
 
+    /**
+     * Gets the cache of frozen unit activations used by this visitor.
+     * @return the activation cache, or null if no cache is used.
+     */
+    public CascadeActivationCache getActivationCache() {
+        return activationCache;
+    }
+
+    /**
+     * Sets the cache of frozen unit activations to use. The cache must be
+     * updated whenever the weights of the frozen units change. Patterns that
+     * are not in the cache are propagated through the entire network.
+     * @param activationCache the activation cache, or null to not use a cache.
+     */
+    public void setActivationCache(CascadeActivationCache activationCache) {
+        this.activationCache = activationCache;
+    }
+
     /**
      * {@inheritDoc }
      */
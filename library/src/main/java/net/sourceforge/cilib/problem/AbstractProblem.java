@@ -46,6 +46,18 @@ public abstract class AbstractProblem implements Problem {
     @Override
     public abstract AbstractProblem getClone();
 
+    /**
+     * Create a clone of this problem that counts its fitness evaluations on its
+     * own, starting from zero, instead of sharing the count of this problem as
+     * the clones created by {@link #getClone()} do.
+     * @return the clone.
+     */
+    public AbstractProblem getIndependentClone() {
+        AbstractProblem clone = getClone();
+        clone.fitnessEvaluations = new AtomicInteger(0);
+        return clone;
+    }
+
     /**
      * Determine the {@code Fitness} of the current {@link Problem} instance
      * based on the provided {@code solution}.
@@ -75,6 +75,19 @@ public class FunctionOptimisationProblem extends AbstractProblem implements Diff
         return objective.evaluate(function.f((Vector) solution).doubleValue());
     }
 
+    /**
+     * Gets the fitness of a solution of which the function value has already been
+     * calculated, e.g. by partial evaluation of a {@link net.sourceforge.cilib.functions.SeparableFunction}.
+     * This counts as a fitness evaluation of the problem.
+     *
+     * @param value The function value of the solution.
+     * @return The fitness of the solution.
+     */
+    public Fitness getFitnessOfValue(double value) {
+        fitnessEvaluations.incrementAndGet();
+        return objective.evaluate(value);
+    }
+
     /**
      * Obtain the gradient {@code Vector} for the provided input {@code Vector}.
      * The gradient is determined by the gradient of the function.
@@ -6,13 +6,14 @@
  */
 package net.sourceforge.cilib.problem.nn;
 
+import com.google.common.primitives.Doubles;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import net.sourceforge.cilib.io.StandardPatternDataTable;
+import net.sourceforge.cilib.functions.activation.ActivationFunction;
+import net.sourceforge.cilib.nn.architecture.CascadeActivationCache;
 import net.sourceforge.cilib.nn.architecture.Layer;
 import net.sourceforge.cilib.nn.components.Neuron;
-import net.sourceforge.cilib.nn.architecture.visitors.CascadeVisitor;
-import net.sourceforge.cilib.nn.architecture.visitors.OutputErrorVisitor;
 import net.sourceforge.cilib.nn.NeuralNetwork;
 import net.sourceforge.cilib.problem.objective.Maximise;
 import net.sourceforge.cilib.problem.solution.MaximisationFitness;
@@ -30,37 +31,42 @@ import net.sourceforge.cilib.type.types.container.Vector;
 public class CascadeHiddenNeuronCorrelationProblem extends NNTrainingProblem implements DifferentiableProblem {
 
     private Neuron neuron;
-    private ArrayList<Layer> activationCache;
-    private ArrayList<Vector> errorCache;
-    private Vector errorMeans;
+    private CascadeActivationCache activationCache;
+    private double[][] activations;
+    private double[][] errorCache;
+    private double[][] residualCache;
+    private double[] errorMeans;
     private int weightEvaluationCount;
 
     public CascadeHiddenNeuronCorrelationProblem() {
         super();
         objective = new Maximise();
         neuron = new Neuron();
-        activationCache = new ArrayList<Layer>();
-        errorCache = new ArrayList<Vector>();
-        errorMeans = Vector.of();
+        activationCache = new CascadeActivationCache();
+        activations = new double[0][];
+        errorCache = new double[0][];
+        residualCache = new double[0][];
+        errorMeans = new double[0];
         weightEvaluationCount = 0;
     }
 
+    /**
+     * Copy constructor. The caches of activations and errors are never modified
+     * once they have been generated, so they are shared with the copy rather
+     * than copied. This allows a pool of candidate neurons to be trained
+     * concurrently on clones of a single initialised problem.
+     * @param rhs The instance to copy.
+     */
     public CascadeHiddenNeuronCorrelationProblem(CascadeHiddenNeuronCorrelationProblem rhs) {
         super(rhs);
         objective = new Maximise();
         neuron = rhs.neuron.getClone();
-        errorMeans = rhs.errorMeans.getClone();
         weightEvaluationCount = rhs.weightEvaluationCount;
-
-        activationCache = new ArrayList<Layer>();
-        for (Layer curLayer : rhs.activationCache) {
-            activationCache.add(curLayer.getClone());
-        }
-
-        errorCache = new ArrayList<Vector>();
-        for (Vector curError : rhs.errorCache) {
-            errorCache.add(curError.getClone());
-        }
+        activationCache = rhs.activationCache.getClone();
+        activations = rhs.activations;
+        errorCache = rhs.errorCache;
+        residualCache = rhs.residualCache;
+        errorMeans = rhs.errorMeans;
     }
 
     /**
@@ -90,8 +96,8 @@ public class CascadeHiddenNeuronCorrelationProblem extends NNTrainingProblem imp
     }
 
     /**
-     * Calculates the fitness of the given solution by setting the candidate neuron
-     * weights to the solution and evaluating the training set in order to calculate
+     * Calculates the fitness of the given solution by using the solution as the
+     * candidate neuron weights and evaluating the training set in order to calculate
      * the correlation between the activation of the candidate neuron and the errors
      * of the NN.
      *
@@ -100,35 +106,16 @@ public class CascadeHiddenNeuronCorrelationProblem extends NNTrainingProblem imp
      */
     @Override
     protected MaximisationFitness calculateFitness(Type solution) {
+        Vector weights = (Vector) solution;
+        weightEvaluationCount += weights.size();
 
-        weightEvaluationCount += ((Vector) solution).size(); 
-        neuron.setWeights((Vector) solution);
-
-        //calculate activations
-        double[] activations = new double[trainingSet.size()];
-        for (int curPattern = 0; curPattern < activationCache.size(); ++curPattern) {
-            //Feed consolidated layers to new neuron.
-            //The receiving Neuron must ensure that it doesn't process more inputs
-            //than what it has weights for.
-            activations[curPattern] = neuron.calculateActivation(activationCache.get(curPattern));
-        }
-
-        //calculate means
-        double totalActivation = activations[0];
-        for (int curPattern = 1; curPattern < trainingSet.size(); ++curPattern) {
-            totalActivation += activations[curPattern];
-        }
-        double meanActivation = totalActivation / trainingSet.size();
+        double[] candidateActivations = calculateActivations(weights, null);
+        double meanActivation = mean(candidateActivations);
 
         //calculate correlation
         double correlation = 0.0;
-        for (int curOutput = 0; curOutput < errorMeans.size(); ++curOutput) {
-            double total = 0.0;
-            for (int curPattern = 0; curPattern < trainingSet.size(); ++curPattern) {
-                total += (activations[curPattern] - meanActivation)
-                         * (errorCache.get(curPattern).get(curOutput).doubleValue() - errorMeans.get(curOutput).doubleValue());
-            }
-            correlation += Math.abs(total);
+        for (int curOutput = 0; curOutput < errorMeans.length; ++curOutput) {
+            correlation += Math.abs(covariance(candidateActivations, meanActivation, curOutput));
         }
 
         return new MaximisationFitness(correlation);
@@ -144,124 +131,188 @@ public class CascadeHiddenNeuronCorrelationProblem extends NNTrainingProblem imp
     public Vector getGradient(Vector solution) {
         Vector.Builder gradientBuilder = Vector.newBuilder();
 
-        neuron.setWeights(solution);
+        int numPatterns = errorCache.length;
+        double[] afGradients = new double[numPatterns];
+        double[] candidateActivations = calculateActivations(solution, afGradients);
+        double meanActivation = mean(candidateActivations);
 
-        //calculate activation
-        double[] activations = new double[trainingSet.size()];
-        for (int curPattern = 0; curPattern < activationCache.size(); ++curPattern) {
-            //Feed consolidated layers to new neuron.
-            //The receiving Neuron must ensure that it doesn't process more inputs
-            //than what it has weights for.
-            activations[curPattern] = neuron.calculateActivation(activationCache.get(curPattern));
-        }
-        
-        //calculate means
-        double totalActivation = activations[0];
-        for (int curPattern = 1; curPattern < trainingSet.size(); ++curPattern) {
-            totalActivation += activations[curPattern];
-        }
-        double meanActivation = totalActivation / trainingSet.size();
-
-        //calculate activation function gradients
-        double[] afGradients = new double[trainingSet.size()];
-        for (int curPattern = 0; curPattern < activationCache.size(); ++curPattern) {
-            //calculate net-input
-            double netin = 0.0;
-            for (int curWeight = 0; curWeight < neuron.getWeights().size(); ++curWeight) {
-                netin += neuron.getWeights().doubleValueOf(curWeight) * activationCache.get(curPattern).get(curWeight).getActivation();
-            }
-            afGradients[curPattern] = neuron.getActivationFunction().getGradient(netin);
+        double[] correlationSigns = new double[errorMeans.length];
+        for (int curOutput = 0; curOutput < errorMeans.length; ++curOutput) {
+            correlationSigns[curOutput] = (covariance(candidateActivations, meanActivation, curOutput) < 0) ? -1 : 1;
         }
 
         for (int curWeight = 0; curWeight < solution.size(); ++curWeight) {
+            double[] inputs = activations[curWeight];
             double gradient = 0.0;
-            for (int curOutput = 0; curOutput < errorMeans.size(); ++curOutput) {
-                //calculate correlation
-                double correlation = 0.0;
-                for (int curPattern = 0; curPattern < trainingSet.size(); ++curPattern) {
-                    correlation += (activations[curPattern] - meanActivation)
-                             * (errorCache.get(curPattern).get(curOutput).doubleValue() - errorMeans.get(curOutput).doubleValue());
-                }
-                double correlationSign = (correlation < 0) ? -1 : 1;
-
-                //calculate gradient
-                for (int curPattern = 0; curPattern < trainingSet.size(); ++curPattern) {
-                    gradient += correlationSign
-                            * (errorCache.get(curPattern).get(curOutput).doubleValue() - errorMeans.get(curOutput).doubleValue())
-                            * afGradients[curPattern] * activationCache.get(curPattern).get(curWeight).getActivation();
+            for (int curOutput = 0; curOutput < errorMeans.length; ++curOutput) {
+                for (int curPattern = 0; curPattern < numPatterns; ++curPattern) {
+                    gradient += correlationSigns[curOutput]
+                            * residualCache[curPattern][curOutput]
+                            * afGradients[curPattern] * inputs[curPattern];
                 }
             }
-            gradientBuilder.add(gradient / trainingSet.size());
+            gradientBuilder.add(gradient / numPatterns);
         }
 
         return gradientBuilder.build();
     }
 
+    /**
+     * Calculates the activation of the candidate neuron for every pattern in
+     * the activation cache. The candidate neuron only processes as many inputs
+     * as it has weights. The net inputs are accumulated one cached unit (column)
+     * at a time.
+     * @param solution The weights of the candidate neuron.
+     * @param afGradients If not null, receives the gradient of the activation
+     *        function at the net input of every pattern.
+     * @return The activation of the candidate neuron for every pattern.
+     */
+    private double[] calculateActivations(Vector solution, double[] afGradients) {
+        double[] weights = new double[solution.size()];
+        for (int curWeight = 0; curWeight < weights.length; ++curWeight) {
+            weights[curWeight] = solution.doubleValueOf(curWeight);
+        }
+
+        double[] netInputs = new double[errorCache.length];
+        for (int curWeight = 0; curWeight < weights.length; ++curWeight) {
+            double[] inputs = activations[curWeight];
+            double weight = weights[curWeight];
+            for (int curPattern = 0; curPattern < netInputs.length; ++curPattern) {
+                netInputs[curPattern] += inputs[curPattern] * weight;
+            }
+        }
+
+        ActivationFunction activationFunction = neuron.getActivationFunction();
+        double[] candidateActivations = new double[netInputs.length];
+        for (int curPattern = 0; curPattern < netInputs.length; ++curPattern) {
+            candidateActivations[curPattern] = activationFunction.f(netInputs[curPattern]);
+            if (afGradients != null) {
+                afGradients[curPattern] = activationFunction.getGradient(netInputs[curPattern]);
+            }
+        }
+        return candidateActivations;
+    }
+
+    private static double mean(double[] values) {
+        double total = values[0];
+        for (int i = 1; i < values.length; ++i) {
+            total += values[i];
+        }
+        return total / values.length;
+    }
+
+    /**
+     * Calculates the (unnormalised) covariance between the candidate activations
+     * and the residual errors of the given output.
+     */
+    private double covariance(double[] candidateActivations, double meanActivation, int output) {
+        double total = 0.0;
+        for (int curPattern = 0; curPattern < candidateActivations.length; ++curPattern) {
+            total += (candidateActivations[curPattern] - meanActivation) * residualCache[curPattern][output];
+        }
+        return total;
+    }
+
     /**
      * Generates the caches of NN activity. Since the NN always produces the same
      * results when a candidate neuron's fitness is calculated, these caches can be
-     * used instead of the NN itself.
+     * used instead of the NN itself. The activations of the frozen units are taken
+     * from the {@link CascadeActivationCache}, which only has to calculate the
+     * units that were added since it was last updated. The caches are replaced
+     * rather than updated, so that clones sharing the previous caches are not affected.
      */
     private void generateCache() {
-        activationCache.clear();
-        errorCache.clear();
-
-        CascadeVisitor propegateVisitor = new CascadeVisitor();
-        OutputErrorVisitor errorVisitor = new OutputErrorVisitor();
-
-        for (int curPattern = 0; curPattern < trainingSet.size(); ++curPattern) {
-            //propegate input
-            propegateVisitor.setInput(trainingSet.getRow(curPattern));
-            propegateVisitor.visit(neuralNetwork.getArchitecture());
-
-            //Consolidate multiple layers into a single input.
-            Layer consolidatedLayer = new Layer();
-            for (Layer curLayer : neuralNetwork.getArchitecture().getLayers()) {
-                for (int curNeuron = 0; curNeuron < curLayer.size(); curNeuron++) {
-                    consolidatedLayer.add(curLayer.getNeuron(curNeuron));
-                }
+        int numPatterns = trainingSet.size();
+        List<Layer> layers = neuralNetwork.getArchitecture().getLayers();
+        Layer outputLayer = layers.get(layers.size() - 1);
+
+        activationCache.update(neuralNetwork.getArchitecture(), trainingSet);
+        double[][] frozen = activationCache.getColumns();
+        double[][] columns = Arrays.copyOf(frozen, frozen.length + outputLayer.size());
+
+        //calculate output errors
+        double[][] targets = getTrainingTargets(outputLayer.size());
+        double[][] errors = new double[numPatterns][outputLayer.size()];
+        for (int curOutput = 0; curOutput < outputLayer.size(); ++curOutput) {
+            double[] outputs = activationCache.calculateColumn(outputLayer.getNeuron(curOutput));
+            columns[frozen.length + curOutput] = outputs;
+            for (int curPattern = 0; curPattern < numPatterns; ++curPattern) {
+                errors[curPattern][curOutput] = targets[curPattern][curOutput] - outputs[curPattern];
             }
-            activationCache.add(consolidatedLayer.getClone());
-
-            //calculate output errors
-            errorVisitor.setInput(trainingSet.getRow(curPattern));
-            errorVisitor.visit(neuralNetwork.getArchitecture());
-            errorCache.add(errorVisitor.getOutput());
         }
 
         //calculate mean of errors
-        Vector totalErrors = Vector.copyOf(errorCache.get(0));
-        for (int curPattern = 1; curPattern < trainingSet.size(); ++curPattern) {
-            totalErrors = totalErrors.plus(errorCache.get(curPattern));
+        double[] means = errors[0].clone();
+        for (int curPattern = 1; curPattern < numPatterns; ++curPattern) {
+            for (int curOutput = 0; curOutput < means.length; ++curOutput) {
+                means[curOutput] += errors[curPattern][curOutput];
+            }
         }
-        errorMeans = totalErrors.divide(trainingSet.size());
+        for (int curOutput = 0; curOutput < means.length; ++curOutput) {
+            means[curOutput] /= numPatterns;
+        }
+
+        //centre the errors once instead of once per evaluation
+        double[][] residuals = new double[numPatterns][means.length];
+        for (int curPattern = 0; curPattern < numPatterns; ++curPattern) {
+            for (int curOutput = 0; curOutput < means.length; ++curOutput) {
+                residuals[curPattern][curOutput] = errors[curPattern][curOutput] - means[curOutput];
+            }
+        }
+
+        activations = columns;
+        errorCache = errors;
+        residualCache = residuals;
+        errorMeans = means;
     }
 
     /**
-     * Gets the current cache of neuron activations.
-     * These activations must not be changed by the caller.
+     * Gets a copy of the current cache of neuron activations, with one
+     * layer of neurons per pattern.
      * @return The activation cache.
      */
     public ArrayList<Layer> getActivationCache() {
-        return activationCache;
+        ArrayList<Layer> layers = new ArrayList<Layer>(errorCache.length);
+        for (int curPattern = 0; curPattern < errorCache.length; ++curPattern) {
+            Layer layer = new Layer();
+            for (double[] column : activations) {
+                Neuron cached = new Neuron();
+                cached.setActivation(column[curPattern]);
+                layer.add(cached);
+            }
+            layers.add(layer);
+        }
+        return layers;
+    }
+
+    /**
+     * Sets the cache of frozen unit activations that is used to generate
+     * the caches of this problem. The cache may be shared with other problems
+     * training the same network on the same data.
+     * @param activationCache The cache of frozen unit activations.
+     */
+    public void setActivationCache(CascadeActivationCache activationCache) {
+        this.activationCache = activationCache;
     }
 
     /**
-     * Gets the current cache of NN output errors.
-     * These errors must not be changed by the caller.
+     * Gets a copy of the current cache of NN output errors.
      * @return The error cache.
      */
     public ArrayList<Vector> getErrorCache() {
-        return errorCache;
+        ArrayList<Vector> errors = new ArrayList<Vector>(errorCache.length);
+        for (double[] error : errorCache) {
+            errors.add(Vector.copyOfIterable(Doubles.asList(error)));
+        }
+        return errors;
     }
 
     /**
-     * Gets the cache of the means of the NN output errors.
-     * These means must not be changed by the caller.
+     * Gets a copy of the cache of the means of the NN output errors.
      * @return The mean errors cache.
      */
     public Vector getErrorMeans() {
-        return errorMeans;
+        return Vector.copyOfIterable(Doubles.asList(errorMeans));
     }
 
     /**
@@ -6,19 +6,18 @@
  */
 package net.sourceforge.cilib.problem.nn;
 
+import com.google.common.collect.Iterables;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import net.sourceforge.cilib.io.StandardPatternDataTable;
+import net.sourceforge.cilib.nn.architecture.CascadeActivationCache;
 import net.sourceforge.cilib.nn.architecture.Layer;
 import net.sourceforge.cilib.nn.components.Neuron;
-import net.sourceforge.cilib.nn.architecture.visitors.CascadeVisitor;
-import net.sourceforge.cilib.nn.architecture.visitors.OutputErrorVisitor;
 import net.sourceforge.cilib.nn.NeuralNetwork;
 import net.sourceforge.cilib.problem.solution.MinimisationFitness;
 import net.sourceforge.cilib.problem.DifferentiableProblem;
 import net.sourceforge.cilib.type.StringBasedDomainRegistry;
 import net.sourceforge.cilib.type.types.container.Vector;
-import net.sourceforge.cilib.type.types.Numeric;
 import net.sourceforge.cilib.type.types.Type;
 
 /**
@@ -28,23 +27,31 @@ import net.sourceforge.cilib.type.types.Type;
  */
 public class CascadeOutputLayerTrainingProblem extends NNTrainingProblem implements DifferentiableProblem {
 
-    private ArrayList<Layer> activationCache;
+    private CascadeActivationCache activationCache;
+    private double[][] activations;
+    private double[][] targets;
     private int weightEvaluationCount;
 
     public CascadeOutputLayerTrainingProblem() {
         super();
-        activationCache = new ArrayList<Layer>();
+        activationCache = new CascadeActivationCache();
+        activations = new double[0][];
+        targets = new double[0][];
         weightEvaluationCount = 0;
     }
 
+    /**
+     * Copy constructor. The caches of activations and targets are never modified
+     * once they have been generated, so they are shared with the copy rather
+     * than copied.
+     * @param rhs The instance to copy.
+     */
     public CascadeOutputLayerTrainingProblem(CascadeOutputLayerTrainingProblem rhs) {
         super(rhs);
         weightEvaluationCount = rhs.weightEvaluationCount;
-
-        activationCache = new ArrayList<Layer>();
-        for (Layer curLayer : rhs.activationCache) {
-            activationCache.add(curLayer.getClone());
-        }
+        activationCache = rhs.activationCache.getClone();
+        activations = rhs.activations;
+        targets = rhs.targets;
     }
 
     /**
@@ -70,9 +77,11 @@ public class CascadeOutputLayerTrainingProblem extends NNTrainingProblem impleme
     }
 
     /**
-     * Calculates the fitness of the given solution by setting the output layer
-     * weights to the solution and evaluating the training set in order to calculate
+     * Calculates the fitness of the given solution by using the solution as the
+     * output layer weights and evaluating the training set in order to calculate
      * the means squared error of the errors produced by the candidate output layer.
+     * Only the output layer is evaluated: the activations of all the other units
+     * are taken from the cache.
      *
      * @param solution the weights representing a solution.
      * @return a new MinimizationFitness wrapping the MSE.
@@ -82,32 +91,24 @@ public class CascadeOutputLayerTrainingProblem extends NNTrainingProblem impleme
 
         weightEvaluationCount += ((Vector) solution).size();
 
-        Layer candidateLayer = neuralNetwork.getArchitecture().getLayers().get(neuralNetwork.getArchitecture().getNumLayers()-1);
+        Layer candidateLayer = getOutputLayer();
+        double[][] outputs = new double[candidateLayer.size()][];
         int currentIndex = 0;
-        for (Neuron neuron : candidateLayer) {
-            Vector neuronWeights = neuron.getWeights();
-            int size = neuronWeights.size();
-            for (int j = 0; j < size; j++) {
-                neuronWeights.set(j, ((Vector) solution).get(currentIndex++));
+        for (int curOutput = 0; curOutput < candidateLayer.size(); ++curOutput) {
+            Neuron neuron = candidateLayer.get(curOutput);
+            double[] netInputs = calculateNetInputs((Vector) solution, currentIndex, neuron.getNumWeights());
+            for (int curPattern = 0; curPattern < netInputs.length; ++curPattern) {
+                netInputs[curPattern] = neuron.getActivationFunction().f(netInputs[curPattern]);
             }
+            outputs[curOutput] = netInputs;
+            currentIndex += neuron.getNumWeights();
         }
 
         //calculate MSE
         double mse = 0.0;
-        OutputErrorVisitor errorVisitor = new OutputErrorVisitor();
-        for (int curPattern = 0; curPattern < activationCache.size(); ++curPattern) {
-            //Feed consolidated layers to new output layer.
-            //The receiving Neuron must ensure that it doesn't process more inputs
-            //than what it has weights for.
-            for (Neuron curNeuron : candidateLayer) {
-                curNeuron.calculateActivation(activationCache.get(curPattern));
-            }
-
-            //calculate mse
-            errorVisitor.setInput(trainingSet.getRow(curPattern));
-            errorVisitor.visit(neuralNetwork.getArchitecture());
-            for (Numeric curOutput : errorVisitor.getOutput()) {
-                mse += Math.pow(curOutput.doubleValue(), 2);
+        for (int curPattern = 0; curPattern < targets.length; ++curPattern) {
+            for (int curOutput = 0; curOutput < outputs.length; ++curOutput) {
+                mse += Math.pow(targets[curPattern][curOutput] - outputs[curOutput][curPattern], 2);
             }
         }
 
@@ -121,92 +122,103 @@ public class CascadeOutputLayerTrainingProblem extends NNTrainingProblem impleme
      */
     @Override
     public Vector getGradient(Vector solution) {
+        Vector.Builder gradientBuilder = Vector.newBuilder();
+        Layer candidateLayer = getOutputLayer();
 
-        //set weights
-        Layer candidateLayer = neuralNetwork.getArchitecture().getLayers().get(neuralNetwork.getArchitecture().getNumLayers()-1);
         int currentIndex = 0;
-        for (Neuron neuron : candidateLayer) {
-            Vector neuronWeights = neuron.getWeights();
-            int size = neuronWeights.size();
-            for (int j = 0; j < size; j++) {
-                neuronWeights.set(j, ((Vector) solution).get(currentIndex++));
+        for (int curOutput = 0; curOutput < candidateLayer.size(); ++curOutput) {
+            Neuron neuron = candidateLayer.get(curOutput);
+            int numWeights = neuron.getNumWeights();
+            double[] netInputs = calculateNetInputs(solution, currentIndex, numWeights);
+
+            //calculate the error term of every pattern
+            double[] deltas = new double[netInputs.length];
+            for (int curPattern = 0; curPattern < netInputs.length; ++curPattern) {
+                double error = targets[curPattern][curOutput] - neuron.getActivationFunction().f(netInputs[curPattern]);
+                double afGradient = neuron.getActivationFunction().getGradient(netInputs[curPattern]);
+                deltas[curPattern] = -2.0*error*afGradient;
             }
-        }
-        
-        Vector gradient = Vector.fill(0.0, solution.size());
-
-        //calculate gradient
-        OutputErrorVisitor errorVisitor = new OutputErrorVisitor();
-        for (int curPattern = 0; curPattern < activationCache.size(); ++curPattern) {
-            Vector.Builder pGradientBuilder = Vector.newBuilder();
-
-            //Feed consolidated layers to new output layer.
-            //The receiving Neuron must ensure that it doesn't process more inputs
-            //than what it has weights for.
-            for (Neuron curNeuron : candidateLayer) {
-                curNeuron.calculateActivation(activationCache.get(curPattern));
-            }
-
-            //calculate mse
-            errorVisitor.setInput(trainingSet.getRow(curPattern));
-            errorVisitor.visit(neuralNetwork.getArchitecture());
-            for (int curOutput = 0; curOutput < errorVisitor.getOutput().size(); ++curOutput) {
-                //get negative of error
-                double error = errorVisitor.getOutput().get(curOutput).doubleValue();
-
-                //get activation function gradient
-                double netInput = 0.0;
-                for (int curWeight = 0; curWeight < candidateLayer.get(curOutput).getWeights().size(); ++curWeight) {
-                    netInput += candidateLayer.get(curOutput).getWeights().doubleValueOf(curWeight)
-                                * activationCache.get(curPattern).get(curWeight).getActivation();
-                }
-                double afGradient = candidateLayer.get(curOutput).getActivationFunction().getGradient(netInput);
 
-                //calculate gradient for pattern
-                for (int curWeight = 0; curWeight < candidateLayer.get(curOutput).getWeights().size(); ++curWeight) {
-                    pGradientBuilder.add(-2.0*error*afGradient*activationCache.get(curPattern).get(curWeight).getActivation());
+            for (int curWeight = 0; curWeight < numWeights; ++curWeight) {
+                double[] inputs = activations[curWeight];
+                double gradient = 0.0;
+                for (int curPattern = 0; curPattern < deltas.length; ++curPattern) {
+                    gradient += deltas[curPattern]*inputs[curPattern];
                 }
+                gradientBuilder.add(gradient / targets.length);
             }
-
-            gradient = gradient.plus(pGradientBuilder.build());
+            currentIndex += numWeights;
         }
 
-        return gradient.divide(activationCache.size());
+        return gradientBuilder.build();
+    }
+
+    private Layer getOutputLayer() {
+        return neuralNetwork.getArchitecture().getLayers().get(neuralNetwork.getArchitecture().getNumLayers()-1);
+    }
+
+    /**
+     * Calculates the net input of an output neuron for every pattern from the cached
+     * activations. The receiving neuron only processes as many inputs as it has weights.
+     */
+    private double[] calculateNetInputs(Vector solution, int offset, int numWeights) {
+        double[] netInputs = new double[targets.length];
+        for (int curWeight = 0; curWeight < numWeights; ++curWeight) {
+            double weight = solution.doubleValueOf(offset + curWeight);
+            double[] inputs = activations[curWeight];
+            for (int curPattern = 0; curPattern < netInputs.length; ++curPattern) {
+                netInputs[curPattern] += inputs[curPattern] * weight;
+            }
+        }
+        return netInputs;
     }
 
     /**
      * Generates the cache of NN activations. Since the NN always produce the same
-	 * activations in the layers preceding the output layer, this cache can be
-	 * used instead of the actual NN.
+     * activations in the layers preceding the output layer, this cache can be
+     * used instead of the actual NN. Only the units that were added since the
+     * {@link CascadeActivationCache} was last updated are calculated.
      */
     private void generateCache() {
-        activationCache.clear();
-
-        CascadeVisitor propegateVisitor = new CascadeVisitor();
+        activationCache.update(neuralNetwork.getArchitecture(), trainingSet);
+        activations = activationCache.getColumns();
+        targets = getTrainingTargets(getOutputLayer().size());
+    }
 
-        for (int curPattern = 0; curPattern < trainingSet.size(); ++curPattern) {
-            //propegate input
-            propegateVisitor.setInput(trainingSet.getRow(curPattern));
-            propegateVisitor.visit(neuralNetwork.getArchitecture());
+    /**
+     * Gets a copy of the current cache of neuron activations, with one
+     * layer of neurons per pattern. The layers include the activations of
+     * the output layer for the current weights of the network.
+     * @return The activation cache.
+     */
+    public ArrayList<Layer> getActivationCache() {
+        Layer outputLayer = getOutputLayer();
+        double[][] outputs = new double[outputLayer.size()][];
+        for (int curOutput = 0; curOutput < outputs.length; ++curOutput) {
+            outputs[curOutput] = activationCache.calculateColumn(outputLayer.get(curOutput));
+        }
 
-            //Consolidate multiple layers into a single input.
-            Layer consolidatedLayer = new Layer();
-            for (Layer curLayer : neuralNetwork.getArchitecture().getLayers()) {
-                for (int curNeuron = 0; curNeuron < curLayer.size(); curNeuron++) {
-                    consolidatedLayer.add(curLayer.getNeuron(curNeuron));
-                }
+        ArrayList<Layer> layers = new ArrayList<Layer>(targets.length);
+        for (int curPattern = 0; curPattern < targets.length; ++curPattern) {
+            Layer layer = new Layer();
+            for (double[] column : Iterables.concat(Arrays.asList(activations), Arrays.asList(outputs))) {
+                Neuron cached = new Neuron();
+                cached.setActivation(column[curPattern]);
+                layer.add(cached);
             }
-            activationCache.add(consolidatedLayer.getClone());
+            layers.add(layer);
         }
+        return layers;
     }
 
     /**
-     * Gets the current cache of neuron activations.
-     * These activations must not be changed by the caller.
-     * @return The activation cache.
+     * Sets the cache of frozen unit activations that is used to generate
+     * the cache of this problem. The cache may be shared with other problems
+     * training the same network on the same data.
+     * @param activationCache The cache of frozen unit activations.
      */
-    public ArrayList<Layer> getActivationCache() {
-        return activationCache;
+    public void setActivationCache(CascadeActivationCache activationCache) {
+        this.activationCache = activationCache;
     }
 
     /**
@@ -7,11 +7,12 @@
 package net.sourceforge.cilib.problem.nn;
 
 import com.google.common.annotations.VisibleForTesting;
+import java.util.Arrays;
 import net.sourceforge.cilib.algorithm.AbstractAlgorithm;
-import net.sourceforge.cilib.io.DataTable;
 import net.sourceforge.cilib.io.DataTableBuilder;
+import net.sourceforge.cilib.io.DataTableRegistry;
 import net.sourceforge.cilib.io.DelimitedTextFileReader;
-import net.sourceforge.cilib.io.StandardPatternDataTable;
+import net.sourceforge.cilib.io.PatternStore;
 import net.sourceforge.cilib.io.exception.CIlibIOException;
 import net.sourceforge.cilib.io.pattern.StandardPattern;
 import net.sourceforge.cilib.io.transform.ShuffleOperator;
@@ -52,6 +53,8 @@ public class NNDataTrainingProblem extends NNTrainingProblem {
     /**
      * Initialises the problem by reading in the data and constructing the training
      * and generalisation sets. Also initialises (constructs) the neural network.
+     * The data is read through the {@link DataTableRegistry}, so the sets are views
+     * on patterns shared with every other problem reading the same data source.
      */
     @Override
     public void initialise() {
@@ -61,31 +64,15 @@ public class NNDataTrainingProblem extends NNTrainingProblem {
         try {
             dataTableBuilder.addDataOperator(new TypeConversionOperator());
             dataTableBuilder.addDataOperator(patternConversionOperator);
-            dataTableBuilder.buildDataTable();
-            DataTable dataTable = dataTableBuilder.getDataTable();
+            PatternStore patterns = DataTableRegistry.getPatternStore(dataTableBuilder);
+            int[] order = ShuffleOperator.shuffle(patterns.indices());
 
-            ShuffleOperator initialShuffler = new ShuffleOperator();
-            initialShuffler.operate(dataTable);
+            int trainingSize = (int) (patterns.size() * trainingSetPercentage);
+            int validationSize = (int) (patterns.size() * validationSetPercentage);
 
-            int trainingSize = (int) (dataTable.size() * trainingSetPercentage);
-            int validationSize = (int) (dataTable.size() * validationSetPercentage);
-            int generalisationSize = dataTable.size() - trainingSize - validationSize;
-
-            trainingSet = new StandardPatternDataTable();
-            validationSet = new StandardPatternDataTable();
-            generalisationSet = new StandardPatternDataTable();
-
-            for (int i = 0; i < trainingSize; i++) {
-                trainingSet.addRow((StandardPattern) dataTable.getRow(i));
-            }
-
-            for (int i = trainingSize; i < validationSize + trainingSize; i++) {
-                validationSet.addRow((StandardPattern) dataTable.getRow(i));
-            }
-
-            for (int i = validationSize + trainingSize; i < generalisationSize + validationSize + trainingSize; i++) {
-                generalisationSet.addRow((StandardPattern) dataTable.getRow(i));
-            }
+            trainingSet = patterns.view(Arrays.copyOfRange(order, 0, trainingSize));
+            validationSet = patterns.view(Arrays.copyOfRange(order, trainingSize, validationSize + trainingSize));
+            generalisationSet = patterns.view(Arrays.copyOfRange(order, validationSize + trainingSize, order.length));
 
             neuralNetwork.initialise();
             
@@ -119,6 +106,7 @@ public class NNDataTrainingProblem extends NNTrainingProblem {
 
         int currentIteration = AbstractAlgorithm.get().getIterations();
         if (currentIteration != previousShuffleIteration) {
+            previousShuffleIteration = currentIteration;
             try {
                 shuffler.operate(trainingSet);
             } catch (CIlibIOException exception) {
@@ -6,13 +6,15 @@
  */
 package net.sourceforge.cilib.problem.nn;
 
-import com.google.common.collect.Lists;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.primitives.Ints;
 import java.util.ArrayList;
+import java.util.List;
 import net.sourceforge.cilib.algorithm.AbstractAlgorithm;
-import net.sourceforge.cilib.io.DataTable;
 import net.sourceforge.cilib.io.DataTableBuilder;
+import net.sourceforge.cilib.io.DataTableRegistry;
 import net.sourceforge.cilib.io.DelimitedTextFileReader;
+import net.sourceforge.cilib.io.PatternStore;
 import net.sourceforge.cilib.io.StandardPatternDataTable;
 import net.sourceforge.cilib.io.exception.CIlibIOException;
 import net.sourceforge.cilib.io.pattern.StandardPattern;
@@ -68,30 +70,24 @@ public class NNKFoldDataTrainingProblem extends NNTrainingProblem {
         try {
             dataTableBuilder.addDataOperator(new TypeConversionOperator());
             dataTableBuilder.addDataOperator(patternConversionOperator);
-            dataTableBuilder.buildDataTable();
-            DataTable dataTable = dataTableBuilder.getDataTable();
-
-            dataTable = initialShuffler.operate(dataTable);
+            PatternStore patterns = DataTableRegistry.getPatternStore(dataTableBuilder);
+            StandardPatternDataTable dataTable = (StandardPatternDataTable) initialShuffler.operate(patterns.view());
 
             int windowSize = dataTable.size()/numOfWindows;
             int windowsWithExtra = dataTable.size() % numOfWindows;
             int curPattern = 0;
-            ArrayList<DataTable> windows = new ArrayList<DataTable>();
+            ArrayList<int[]> windows = new ArrayList<int[]>();
             for (int curWindow = 0; curWindow < numOfWindows; curWindow++) {
-                DataTable curTable = new StandardPatternDataTable();
-                for (int patternCount = 0; patternCount < windowSize; patternCount++) {
-                    curTable.addRow((StandardPattern) dataTable.getRow(curPattern));
-                    curPattern++;
-                }
-                if (curWindow < windowsWithExtra) {
-                    curTable.addRow((StandardPattern) dataTable.getRow(curPattern));
+                int[] curRows = new int[windowSize + ((curWindow < windowsWithExtra) ? 1 : 0)];
+                for (int patternCount = 0; patternCount < curRows.length; patternCount++) {
+                    curRows[patternCount] = curPattern;
                     curPattern++;
                 }
-                windows.add(curTable);
+                windows.add(curRows);
             }
 
             //reorganise windows
-            ArrayList<DataTable> orderedWindows = new ArrayList<DataTable>();
+            ArrayList<int[]> orderedWindows = new ArrayList<int[]>();
             int split3 = windows.size()/3;
             int splitR = windows.size()%3;
             int split1 = split3 + ((splitR > 0) ? 1 : 0);
@@ -109,21 +105,9 @@ public class NNKFoldDataTrainingProblem extends NNTrainingProblem {
             int validationSize = (int) Math.round(numOfWindows * validationSetPercentage);
             int generalisationSize = numOfWindows - trainingSize - validationSize;
 
-            trainingSet = new StandardPatternDataTable();
-            validationSet = new StandardPatternDataTable();
-            generalisationSet = new StandardPatternDataTable();
-
-            for (int curWindow = 0; curWindow < trainingSize; curWindow++) {
-                trainingSet.addRows(Lists.newArrayList(windows.get((curWindow+windowOffset)%numOfWindows)));
-            }
-
-            for (int curWindow = trainingSize; curWindow < validationSize + trainingSize; curWindow++) {
-                validationSet.addRows(Lists.newArrayList(windows.get((curWindow+windowOffset)%numOfWindows)));
-            }
-
-            for (int curWindow = validationSize + trainingSize; curWindow < generalisationSize + validationSize + trainingSize; curWindow++) {
-                generalisationSet.addRows(Lists.newArrayList(windows.get((curWindow+windowOffset)%numOfWindows)));
-            }
+            trainingSet = dataTable.select(selectWindows(windows, 0, trainingSize));
+            validationSet = dataTable.select(selectWindows(windows, trainingSize, validationSize + trainingSize));
+            generalisationSet = dataTable.select(selectWindows(windows, validationSize + trainingSize, generalisationSize + validationSize + trainingSize));
 
             neuralNetwork.initialise();
             
@@ -133,6 +117,18 @@ public class NNKFoldDataTrainingProblem extends NNTrainingProblem {
         initialised = true;
     }
 
+    /**
+     * Concatenates the rows of the windows in the range [from, to), taking the
+     * window offset into account.
+     */
+    private int[] selectWindows(List<int[]> windows, int from, int to) {
+        List<int[]> selected = new ArrayList<int[]>();
+        for (int curWindow = from; curWindow < to; curWindow++) {
+            selected.add(windows.get((curWindow+windowOffset)%numOfWindows));
+        }
+        return Ints.concat(selected.toArray(new int[selected.size()][]));
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -157,6 +153,7 @@ public class NNKFoldDataTrainingProblem extends NNTrainingProblem {
 
         int currentIteration = AbstractAlgorithm.get().getIterations();
         if (currentIteration != previousShuffleIteration) {
+            previousShuffleIteration = currentIteration;
             try {
                 shuffler.operate(trainingSet);
             } catch (CIlibIOException exception) {
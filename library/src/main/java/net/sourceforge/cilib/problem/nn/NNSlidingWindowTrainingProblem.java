@@ -6,11 +6,12 @@
  */
 package net.sourceforge.cilib.problem.nn;
 
+import java.util.Arrays;
 import net.sourceforge.cilib.algorithm.AbstractAlgorithm;
-import net.sourceforge.cilib.io.DataTable;
 import net.sourceforge.cilib.io.DataTableBuilder;
+import net.sourceforge.cilib.io.DataTableRegistry;
 import net.sourceforge.cilib.io.DelimitedTextFileReader;
-import net.sourceforge.cilib.io.StandardPatternDataTable;
+import net.sourceforge.cilib.io.PatternStore;
 import net.sourceforge.cilib.io.exception.CIlibIOException;
 import net.sourceforge.cilib.io.pattern.StandardPattern;
 import net.sourceforge.cilib.io.transform.ShuffleOperator;
@@ -37,7 +38,8 @@ public class NNSlidingWindowTrainingProblem extends NNTrainingProblem {
     private static final long serialVersionUID = -8765101028460476990L;
 
     private DataTableBuilder dataTableBuilder;
-    private DataTable dataTable; // stores the entire data set from which training & generalisation sets are sampled
+    private PatternStore patterns; // the entire (shared) data set from which training & generalisation sets are sampled
+    private int nextPattern; // index of the first pattern in the data set that has not entered the window yet
     private int previousShuffleIteration;
     private int previousIteration;
     private boolean initialised;
@@ -70,36 +72,18 @@ public class NNSlidingWindowTrainingProblem extends NNTrainingProblem {
         try {
             dataTableBuilder.addDataOperator(new TypeConversionOperator());
             dataTableBuilder.addDataOperator(patternConversionOperator);
-            dataTableBuilder.buildDataTable();
-            dataTable = dataTableBuilder.getDataTable();
+            patterns = DataTableRegistry.getPatternStore(dataTableBuilder);
             
             int trainingSize = (int) (windowSize * trainingSetPercentage);
             int validationSize = (int) (windowSize * validationSetPercentage);
-            int generalisationSize = windowSize - trainingSize - validationSize;
 
-            StandardPatternDataTable candidateSet = new StandardPatternDataTable();
-            trainingSet = new StandardPatternDataTable();
-            generalisationSet = new StandardPatternDataTable();
-            validationSet = new StandardPatternDataTable();
+            // fetch patterns to fill the initial window
+            int[] candidates = ShuffleOperator.shuffle(patterns.indices(0, windowSize));
+            nextPattern = windowSize;
 
-            for (int i = 0; i < windowSize; i++) { // fetch patterns to fill the initial window
-                candidateSet.addRow((StandardPattern) dataTable.removeRow(0));
-            }
-
-            ShuffleOperator initialShuffler = new ShuffleOperator();
-            initialShuffler.operate(candidateSet);
-
-            for (int i = 0; i < trainingSize; i++) {
-                trainingSet.addRow((StandardPattern) candidateSet.getRow(i));
-            }
-
-            for (int i = trainingSize; i < validationSize + trainingSize; i++) {
-                validationSet.addRow((StandardPattern) candidateSet.getRow(i));
-            }
-
-            for (int i = validationSize + trainingSize; i < generalisationSize + validationSize + trainingSize; i++) {
-                generalisationSet.addRow((StandardPattern) candidateSet.getRow(i));
-            }
+            trainingSet = patterns.view(Arrays.copyOfRange(candidates, 0, trainingSize));
+            validationSet = patterns.view(Arrays.copyOfRange(candidates, trainingSize, validationSize + trainingSize));
+            generalisationSet = patterns.view(Arrays.copyOfRange(candidates, validationSize + trainingSize, windowSize));
 
             neuralNetwork.initialise();
         } catch (CIlibIOException exception) {
@@ -132,6 +116,7 @@ public class NNSlidingWindowTrainingProblem extends NNTrainingProblem {
 
         int currentIteration = AbstractAlgorithm.get().getIterations();
         if (currentIteration != previousShuffleIteration) {
+            previousShuffleIteration = currentIteration;
             try {
                 shuffler.operate(trainingSet);
             } catch (CIlibIOException exception) {
@@ -140,39 +125,23 @@ public class NNSlidingWindowTrainingProblem extends NNTrainingProblem {
         }
 
         if(currentIteration - changeFrequency * dataChangesCounter == 0 && currentIteration != previousIteration) { // update training & generalisation sets (slide the window)
-            try {
-                previousIteration = currentIteration;
-                dataChangesCounter++;
-
-                StandardPatternDataTable candidateSet = new StandardPatternDataTable();
-                for (int i = 0; i < stepSize; i++) {
-                    candidateSet.addRow((StandardPattern) dataTable.removeRow(0));
-                }
-
-                ShuffleOperator initialShuffler = new ShuffleOperator();
-                initialShuffler.operate(candidateSet);
-
-                int trainingStepSize = (int)(stepSize * trainingSetPercentage);
-                int validationStepSize = (int)(stepSize * validationSetPercentage);
-                int generalisationStepSize = stepSize - trainingStepSize - validationStepSize;
-
-                for (int t = 0; t < trainingStepSize; t++){
-                    trainingSet.removeRow(0);
-                    trainingSet.addRow(candidateSet.removeRow(0));
-                }
-
-                for (int t = 0; t < validationStepSize; t++){
-                    validationSet.removeRow(0);
-                    validationSet.addRow(candidateSet.removeRow(0));
-                }
-
-                for (int t = 0; t < generalisationStepSize; t++){
-                    generalisationSet.removeRow(0);
-                    generalisationSet.addRow(candidateSet.removeRow(0));
-                }
-            } catch (CIlibIOException exception) {
-                exception.printStackTrace();
-            }
+            previousIteration = currentIteration;
+            dataChangesCounter++;
+
+            int[] candidates = ShuffleOperator.shuffle(patterns.indices(nextPattern, nextPattern + stepSize));
+            nextPattern += stepSize;
+
+            int trainingStepSize = (int)(stepSize * trainingSetPercentage);
+            int validationStepSize = (int)(stepSize * validationSetPercentage);
+            int generalisationStepSize = stepSize - trainingStepSize - validationStepSize;
+
+            // drop the oldest patterns of each set and append the new ones
+            trainingSet = trainingSet.select(trainingStepSize, trainingSet.size())
+                .concat(patterns.view(Arrays.copyOfRange(candidates, 0, trainingStepSize)));
+            validationSet = validationSet.select(validationStepSize, validationSet.size())
+                .concat(patterns.view(Arrays.copyOfRange(candidates, trainingStepSize, validationStepSize + trainingStepSize)));
+            generalisationSet = generalisationSet.select(generalisationStepSize, generalisationSet.size())
+                .concat(patterns.view(Arrays.copyOfRange(candidates, validationStepSize + trainingStepSize, stepSize)));
         }
 
         neuralNetwork.setWeights((Vector) solution);
@@ -7,12 +7,16 @@
 package net.sourceforge.cilib.problem.nn;
 
 import net.sourceforge.cilib.io.StandardPatternDataTable;
+import net.sourceforge.cilib.io.pattern.StandardPattern;
 import net.sourceforge.cilib.io.transform.DataOperator;
 import net.sourceforge.cilib.io.transform.DoNothingDataOperator;
 import net.sourceforge.cilib.io.transform.PatternConversionOperator;
 import net.sourceforge.cilib.io.transform.ShuffleOperator;
 import net.sourceforge.cilib.nn.NeuralNetwork;
 import net.sourceforge.cilib.problem.AbstractProblem;
+import net.sourceforge.cilib.type.types.Real;
+import net.sourceforge.cilib.type.types.Type;
+import net.sourceforge.cilib.type.types.container.Vector;
 
 /**
  * Abstract class represents an {@link net.sourceforge.cilib.problem.Problem} where the goal is to optimize
@@ -124,6 +128,27 @@ public abstract class NNTrainingProblem extends AbstractProblem {
         this.trainingSet = trainingSet;
     }
 
+    /**
+     * Gets the targets of the training patterns as a primitive matrix, in the
+     * same way as {@link net.sourceforge.cilib.nn.architecture.visitors.OutputErrorVisitor}
+     * interprets them: a single output has a scalar target.
+     * @param numOutputs the number of outputs of the neural network.
+     * @return the targets, indexed by pattern and then by output.
+     */
+    protected double[][] getTrainingTargets(int numOutputs) {
+        double[][] targets = new double[trainingSet.size()][numOutputs];
+        int curPattern = 0;
+        for (StandardPattern pattern : trainingSet) {
+            Type target = pattern.getTarget();
+            for (int curOutput = 0; curOutput < numOutputs; ++curOutput) {
+                targets[curPattern][curOutput] = numOutputs > 1
+                        ? ((Vector) target).doubleValueOf(curOutput) : ((Real) target).doubleValue();
+            }
+            ++curPattern;
+        }
+        return targets;
+    }
+
     /**
      * Gets the percentage of the training set to use for training.
      * @return the percentage of the training set to use for training.
@@ -7,16 +7,20 @@
 package net.sourceforge.cilib.pso;
 
 import com.google.common.collect.Lists;
+import java.util.Comparator;
 import java.util.List;
 import net.sourceforge.cilib.algorithm.initialisation.ClonedPopulationInitialisationStrategy;
 import net.sourceforge.cilib.algorithm.population.IterationStrategy;
 import net.sourceforge.cilib.algorithm.population.SinglePopulationBasedAlgorithm;
+import net.sourceforge.cilib.entity.BestEntityCache;
 import net.sourceforge.cilib.entity.Topologies;
 import net.sourceforge.cilib.entity.comparator.SocialBestFitnessComparator;
 import net.sourceforge.cilib.problem.solution.OptimisationSolution;
 import net.sourceforge.cilib.pso.iterationstrategies.SynchronousIterationStrategy;
 import net.sourceforge.cilib.pso.particle.Particle;
 import net.sourceforge.cilib.pso.particle.StandardParticle;
+import net.sourceforge.cilib.pso.positionprovider.IterationNeighbourhoodBestUpdateStrategy;
+import net.sourceforge.cilib.pso.positionprovider.MemoryNeighbourhoodBestUpdateStrategy;
 
 /**
  * <p>
@@ -62,9 +66,25 @@ public class PSO extends SinglePopulationBasedAlgorithm<Particle> {
      * @param copy The instance to copy.
      */
     public PSO(PSO copy) {
-        super(copy);
+        this(copy, true);
+    }
+
+    /**
+     * Create a copy of the provided instance, with or without its particles.
+     * @param copy The instance to copy.
+     * @param copyTopology Whether to clone the particles of {@code copy}.
+     */
+    protected PSO(PSO copy, boolean copyTopology) {
+        super(copy, copyTopology);
         this.iterationStrategy = copy.iterationStrategy.getClone();
+        linkEntities();
+    }
 
+    /**
+     * Sets the neighbourhood best of every particle in the topology.
+     */
+    @Override
+    protected void linkEntities() {
         for (Particle p : topology) {
             Particle nBest = Topologies.getNeighbourhoodBest(topology, p, this.neighbourhood, new SocialBestFitnessComparator());
             p.setNeighbourhoodBest(nBest);
@@ -79,6 +99,14 @@ public class PSO extends SinglePopulationBasedAlgorithm<Particle> {
         return new PSO(this);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected PSO getCloneWithoutTopology() {
+        return new PSO(this, false);
+    }
+
     /**
      * Perform the required initialisation for the algorithm. Create the particles and add then to
      * the specified topology.
@@ -108,7 +136,7 @@ public class PSO extends SinglePopulationBasedAlgorithm<Particle> {
      */
     @Override
     public OptimisationSolution getBestSolution() {
-        Particle bestEntity = Topologies.getBestEntity(topology, new SocialBestFitnessComparator<Particle>());
+        Particle bestEntity = getBestEntity(new SocialBestFitnessComparator<Particle>());
         return new OptimisationSolution(bestEntity.getBestPosition(), bestEntity.getBestFitness());
     }
 
@@ -120,12 +148,32 @@ public class PSO extends SinglePopulationBasedAlgorithm<Particle> {
     @Override
     public List<OptimisationSolution> getSolutions() {
         List<OptimisationSolution> solutions = Lists.newLinkedList();
-        for (Particle e : Topologies.getNeighbourhoodBestEntities(topology, neighbourhood, new SocialBestFitnessComparator<Particle>())) {
+        for (Particle e : getNeighbourhoodBestEntities(new SocialBestFitnessComparator<Particle>())) {
             solutions.add(new OptimisationSolution(e.getBestPosition(), e.getBestFitness()));
         }
         return solutions;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The social fitness of a particle only depends on its properties if it is
+     * its personal best or current fitness, so the bests of particles with other
+     * neighbourhood best update strategies are not cached.
+     */
+    @Override
+    protected BestEntityCache<Particle> createBestEntityCache(Comparator<? super Particle> comparator) {
+        return new BestEntityCache<Particle>(comparator) {
+            @Override
+            protected boolean isCacheable(Particle particle) {
+                Class<?> strategy = particle.getNeighbourhoodBestUpdateStrategy().getClass();
+                return super.isCacheable(particle)
+                    && (strategy == MemoryNeighbourhoodBestUpdateStrategy.class
+                        || strategy == IterationNeighbourhoodBestUpdateStrategy.class);
+            }
+        };
+    }
+
     /**
      * Get the <code>IterationStrategy</code> of the PSO algorithm.
      * @return Returns the iterationStrategy..
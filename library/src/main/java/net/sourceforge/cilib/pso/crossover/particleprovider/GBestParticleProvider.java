@@ -9,8 +9,6 @@ package net.sourceforge.cilib.pso.crossover.particleprovider;
 import fj.data.List;
 import net.sourceforge.cilib.algorithm.AbstractAlgorithm;
 import net.sourceforge.cilib.algorithm.population.SinglePopulationBasedAlgorithm;
-
-import net.sourceforge.cilib.entity.Topologies;
 import net.sourceforge.cilib.entity.comparator.SocialBestFitnessComparator;
 import net.sourceforge.cilib.pso.particle.Particle;
 
@@ -18,7 +16,7 @@ public class GBestParticleProvider extends ParticleProvider {
 
     @Override
     public Particle f(List<Particle> parents, Particle offspring) {
-        return Topologies.getBestEntity((List<Particle>) ((SinglePopulationBasedAlgorithm) AbstractAlgorithm.get()).getTopology(), new SocialBestFitnessComparator());
+        return (Particle) ((SinglePopulationBasedAlgorithm) AbstractAlgorithm.get()).getBestEntity(new SocialBestFitnessComparator());
     }
 
 }
@@ -39,6 +39,6 @@ public class DynamicParticle extends StandardParticle {
         dp.put(Property.CANDIDATE_SOLUTION, dp.getBestPosition());
         put(Property.BEST_FITNESS, behaviour.getFitnessCalculator().getFitness(dp));
 
-        this.getProperties().put(Property.FITNESS, behaviour.getFitnessCalculator().getFitness(this));
+        put(Property.FITNESS, behaviour.getFitnessCalculator().getFitness(this));
     }
 }
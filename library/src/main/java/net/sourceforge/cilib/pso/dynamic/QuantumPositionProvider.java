@@ -10,7 +10,6 @@ import java.util.Arrays;
 import net.sourceforge.cilib.algorithm.AbstractAlgorithm;
 import net.sourceforge.cilib.controlparameter.ConstantControlParameter;
 import net.sourceforge.cilib.controlparameter.ControlParameter;
-import net.sourceforge.cilib.math.random.ProbabilityDistributionFunction;
 import net.sourceforge.cilib.math.random.UniformDistribution;
 import net.sourceforge.cilib.pso.guideprovider.GuideProvider;
 import net.sourceforge.cilib.pso.guideprovider.NBestGuideProvider;
@@ -32,7 +31,7 @@ public class QuantumPositionProvider implements PositionProvider {
     private static final double EPSILON = 0.000000001;
 
     private ControlParameter radius;
-    private ProbabilityDistributionFunction randomiser;
+    private UniformDistribution randomiser;
     private Vector nucleus;
 
     private PositionProvider delegate;
@@ -0,0 +1,184 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.pso.dynamic;
+
+import fj.F;
+import java.util.ArrayList;
+import java.util.List;
+import net.sourceforge.cilib.algorithm.ParallelExecutor;
+import net.sourceforge.cilib.entity.Entity;
+import net.sourceforge.cilib.problem.Problem;
+import net.sourceforge.cilib.problem.solution.Fitness;
+import net.sourceforge.cilib.problem.solution.MOFitness;
+import net.sourceforge.cilib.type.types.Type;
+
+/**
+ * Re-evaluation of the sentries of change detection strategies and of the
+ * entities of response strategies, as a single batch that is optionally
+ * evaluated concurrently, using the {@link ParallelExecutor}.
+ * <p>
+ * Sequentially, the detection of a change stops at the first sentry that shows
+ * a change. Concurrently, every sentry of a batch is evaluated, so that the
+ * number of fitness evaluations charged to the problem is the size of the
+ * batch, whatever the order of the evaluations.
+ */
+public final class Reevaluations {
+
+    private Reevaluations() {
+    }
+
+    /**
+     * Re-evaluate the current position of every entity, and update its fitness.
+     * @param entities the entities to re-evaluate.
+     * @param parallel whether to evaluate the entities concurrently.
+     * @return the fitness of every entity before it was re-evaluated, in order.
+     */
+    public static List<Fitness> reevaluate(Iterable<? extends Entity> entities, boolean parallel) {
+        List<Fitness> previous = new ArrayList<Fitness>();
+        for (Entity entity : entities) {
+            previous.add(entity.getFitness());
+        }
+
+        F<Entity, Fitness> evaluation = new F<Entity, Fitness>() {
+            @Override
+            public Fitness f(Entity entity) {
+                return entity.getBehaviour().getFitnessCalculator().getFitness(entity);
+            }
+        };
+        if (parallel) {
+            List<Fitness> current = ParallelExecutor.map(entities, evaluation);
+            int i = 0;
+            for (Entity entity : entities) {
+                entity.updateFitness(current.get(i++));
+            }
+        } else {
+            for (Entity entity : entities) {
+                entity.updateFitness(evaluation.f(entity));
+            }
+        }
+        return previous;
+    }
+
+    /**
+     * Evaluate the given solutions on the problem.
+     * @param problem the problem to evaluate the solutions on.
+     * @param solutions the solutions to evaluate.
+     * @param parallel whether to evaluate the solutions concurrently.
+     * @return the fitness of every solution, in order.
+     */
+    public static List<Fitness> evaluate(final Problem problem, Iterable<? extends Type> solutions, boolean parallel) {
+        F<Type, Fitness> evaluation = new F<Type, Fitness>() {
+            @Override
+            public Fitness f(Type solution) {
+                return problem.getFitness(solution);
+            }
+        };
+        if (parallel) {
+            return ParallelExecutor.map(solutions, evaluation);
+        }
+
+        List<Fitness> fitnesses = new ArrayList<Fitness>();
+        for (Type solution : solutions) {
+            fitnesses.add(evaluation.f(solution));
+        }
+        return fitnesses;
+    }
+
+    /**
+     * Re-evaluate the current position of the given sentries, and update their
+     * fitness, until one of them shows a change.
+     * @param sentries the sentries.
+     * @param epsilon the smallest difference that indicates a change.
+     * @param parallel whether to evaluate all the sentries concurrently.
+     * @return whether any of the sentries has changed.
+     */
+    public static boolean detectChange(Iterable<? extends Entity> sentries, double epsilon, boolean parallel) {
+        if (parallel) {
+            List<Fitness> previous = reevaluate(sentries, true);
+            return hasChanged(previous, sentries, epsilon);
+        }
+
+        for (Entity sentry : sentries) {
+            Fitness previous = sentry.getFitness();
+            sentry.updateFitness(sentry.getBehaviour().getFitnessCalculator().getFitness(sentry));
+            if (hasChanged(previous, sentry.getFitness(), epsilon)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Evaluate the given sentry positions on the problem until one of them
+     * shows a change.
+     * @param problem the problem to evaluate the positions on.
+     * @param positions the positions of the sentries.
+     * @param previous the previous fitness of every sentry, in order.
+     * @param epsilon the smallest difference that indicates a change.
+     * @param parallel whether to evaluate all the positions concurrently.
+     * @return whether any of the sentries has changed.
+     */
+    public static boolean detectChange(Problem problem, List<? extends Type> positions, List<Fitness> previous,
+            double epsilon, boolean parallel) {
+        if (parallel) {
+            List<Fitness> current = evaluate(problem, positions, true);
+            for (int i = 0; i < current.size(); i++) {
+                if (hasChanged(previous.get(i), current.get(i), epsilon)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        for (int i = 0; i < positions.size(); i++) {
+            if (hasChanged(previous.get(i), problem.getFitness(positions.get(i)), epsilon)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Determine whether the given entities have a fitness that differs from the
+     * given previous fitness values by at least {@code epsilon}.
+     * @param previous the previous fitness of every entity, in order.
+     * @param entities the entities.
+     * @param epsilon the smallest difference that indicates a change.
+     * @return whether any of the entities has changed.
+     */
+    public static boolean hasChanged(List<Fitness> previous, Iterable<? extends Entity> entities, double epsilon) {
+        int i = 0;
+        for (Entity entity : entities) {
+            if (hasChanged(previous.get(i++), entity.getFitness(), epsilon)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Determine whether two fitness values differ by at least {@code epsilon},
+     * in any of the objectives of a {@link MOFitness}.
+     * @param previous the previous fitness.
+     * @param current the current fitness.
+     * @param epsilon the smallest difference that indicates a change.
+     * @return whether the fitness has changed.
+     */
+    public static boolean hasChanged(Fitness previous, Fitness current, double epsilon) {
+        if (previous instanceof MOFitness && current instanceof MOFitness) {
+            MOFitness previousFitness = (MOFitness) previous;
+            MOFitness currentFitness = (MOFitness) current;
+            for (int k = 0; k < previousFitness.getDimension(); k++) {
+                if (Math.abs(previousFitness.getFitness(k).getValue() - currentFitness.getFitness(k).getValue()) >= epsilon) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return Math.abs(previous.getValue() - current.getValue()) >= epsilon;
+    }
+}
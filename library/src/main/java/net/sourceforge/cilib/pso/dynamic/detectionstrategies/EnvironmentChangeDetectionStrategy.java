@@ -21,15 +21,18 @@ import net.sourceforge.cilib.util.Cloneable;
 public abstract class EnvironmentChangeDetectionStrategy implements Cloneable {
     protected double epsilon = 0.0;
     protected int interval = 0;
+    private boolean parallel;
 
     public EnvironmentChangeDetectionStrategy() {
         epsilon = 0.001;
         interval = 10;
+        parallel = false;
     }
 
     public EnvironmentChangeDetectionStrategy(EnvironmentChangeDetectionStrategy rhs) {
         epsilon = rhs.epsilon;
         interval = rhs.interval;
+        parallel = rhs.parallel;
     }
 
     /**
@@ -68,4 +71,17 @@ public abstract class EnvironmentChangeDetectionStrategy implements Cloneable {
     public int getIterationsModulus() {
         return interval;
     }
+
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    /**
+     * Sets whether the sentries are re-evaluated concurrently, see
+     * {@link net.sourceforge.cilib.algorithm.ParallelExecutor}.
+     * @param parallel whether to re-evaluate the sentries concurrently.
+     */
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
 }
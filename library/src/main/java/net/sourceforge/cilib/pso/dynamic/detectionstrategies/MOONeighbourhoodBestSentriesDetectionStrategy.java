@@ -13,8 +13,7 @@ import net.sourceforge.cilib.algorithm.population.HasNeighbourhood;
 import net.sourceforge.cilib.algorithm.population.HasTopology;
 import net.sourceforge.cilib.entity.Entity;
 import net.sourceforge.cilib.entity.Topologies;
-import net.sourceforge.cilib.problem.solution.Fitness;
-import net.sourceforge.cilib.problem.solution.MOFitness;
+import net.sourceforge.cilib.pso.dynamic.Reevaluations;
 
 /*
  * This class uses the neighbourhood best as sentry particle to determine 
@@ -41,36 +40,8 @@ public class MOONeighbourhoodBestSentriesDetectionStrategy extends EnvironmentCh
         if (algorithm.getIterations() % interval == 0) {
             Set<? extends Entity> sentries = Topologies.getNeighbourhoodBestEntities(algorithm.getTopology(), algorithm.getNeighbourhood());
 
-            boolean detectedChange = false;
-            for (Entity sentry : sentries) {
-                if (sentry.getFitness().getClass().getName().matches("MinimisationFitness")) {
-                    Fitness previousFitness = sentry.getFitness();
-                    sentry.updateFitness(sentry.getBehaviour().getFitnessCalculator().getFitness(sentry));
-                    Fitness currentFitness = sentry.getFitness();
-
-                    if (Math.abs(previousFitness.getValue() - currentFitness.getValue()) >= epsilon) {
-                        detectedChange = true;
-
-                    }
-                }
-                else if (sentry.getFitness().getClass().getName().matches("StandardMOFitness")) {
-                        MOFitness previousFitness = (MOFitness)sentry.getFitness();
-                        sentry.updateFitness(sentry.getBehaviour().getFitnessCalculator().getFitness(sentry));
-                        MOFitness currentFitness = (MOFitness)sentry.getFitness();
-
-                        for (int k=0; k < previousFitness.getDimension(); k++)
-                            if (Math.abs(previousFitness.getFitness(k).getValue() -
-                		currentFitness.getFitness(k).getValue()) >= epsilon) {
-                		detectedChange = true;
-                                break;
-                            }
-                }
-                if (detectedChange) {
-                    System.out.println("Detected a change");
-                    return true;
-                }
+            return Reevaluations.detectChange(sentries, epsilon, isParallel());
         }
-            }
 
         return false;
     }
@@ -7,16 +7,19 @@
 package net.sourceforge.cilib.pso.dynamic.detectionstrategies;
 
 
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.List;
 import net.sourceforge.cilib.algorithm.AbstractAlgorithm;
 import net.sourceforge.cilib.algorithm.Algorithm;
 import net.sourceforge.cilib.algorithm.population.HasNeighbourhood;
 import net.sourceforge.cilib.algorithm.population.HasTopology;
-import net.sourceforge.cilib.math.random.generator.Rand;
 import net.sourceforge.cilib.moo.archive.Archive;
 import net.sourceforge.cilib.problem.Problem;
-import net.sourceforge.cilib.problem.solution.MOFitness;
+import net.sourceforge.cilib.problem.solution.Fitness;
 import net.sourceforge.cilib.problem.solution.OptimisationSolution;
+import net.sourceforge.cilib.pso.dynamic.Reevaluations;
+import net.sourceforge.cilib.type.types.Type;
+import net.sourceforge.cilib.util.selection.RandomSampling;
 
 /**
  * This class uses solutions from the archive to detect whether a change in the
@@ -70,41 +73,16 @@ public class MOORandomArchiveSentriesDetectionStrategy extends MOORandomSentries
             Algorithm populationBasedAlgorithm = AbstractAlgorithm.getAlgorithmList().head();
             Problem problem = populationBasedAlgorithm.getOptimisationProblem();
 
-            java.util.List<OptimisationSolution> currentSolutions = new LinkedList<>();
-            java.util.List<OptimisationSolution> newSolutions = new LinkedList<>();
-
-            for (OptimisationSolution solution : Archive.Provider.get()) {
-                OptimisationSolution os = new OptimisationSolution(solution.getPosition(), problem.getFitness(solution.getPosition()));
-                currentSolutions.add(solution);
-                newSolutions.add(os);
+            // Only the sentries are re-evaluated, not the whole archive.
+            List<OptimisationSolution> sentries = RandomSampling.sample(Archive.Provider.get(), (int) numberOfSentries.getParameter());
+            List<Type> positions = new ArrayList<Type>(sentries.size());
+            List<Fitness> previous = new ArrayList<Fitness>(sentries.size());
+            for (OptimisationSolution sentry : sentries) {
+                positions.add(sentry.getPosition());
+                previous.add(sentry.getFitness());
             }
 
-            for (int i = 0; i < numberOfSentries.getParameter(); i++) {
-              if (newSolutions.size() > 0) {
-                // select random sentry entity
-                int random = Rand.nextInt(newSolutions.size());
-
-                // check for change
-                boolean detectedChange = false;
-
-                MOFitness previousFitness = (MOFitness)currentSolutions.get(random).getFitness();
-                MOFitness currentFitness = (MOFitness)newSolutions.get(random).getFitness();
-
-                for (int k=0; k < previousFitness.getDimension(); k++) {
-                    if (Math.abs(previousFitness.getFitness(k).getValue() -
-                        currentFitness.getFitness(k).getValue()) >= epsilon) {
-                	detectedChange = true;
-                        break;
-                    }
-                }
-                if (detectedChange) {
-                    return true;
-                }
-
-                // remove the selected element from the all list preventing it from being selected again
-                currentSolutions.remove(random);
-                newSolutions.remove(random);
-            } }
+            return Reevaluations.detectChange(problem, positions, previous, epsilon, isParallel());
         }
         return false;
     }
@@ -6,7 +6,6 @@
  */
 package net.sourceforge.cilib.pso.dynamic.detectionstrategies;
 
-import fj.data.Java;
 import java.util.List;
 import net.sourceforge.cilib.algorithm.AbstractAlgorithm;
 import net.sourceforge.cilib.algorithm.Algorithm;
@@ -14,10 +13,9 @@ import net.sourceforge.cilib.algorithm.population.HasNeighbourhood;
 import net.sourceforge.cilib.algorithm.population.HasTopology;
 import net.sourceforge.cilib.controlparameter.ConstantControlParameter;
 import net.sourceforge.cilib.controlparameter.ControlParameter;
-import net.sourceforge.cilib.math.random.generator.Rand;
-import net.sourceforge.cilib.problem.solution.Fitness;
-import net.sourceforge.cilib.problem.solution.MOFitness;
-import net.sourceforge.cilib.pso.particle.StandardParticle;
+import net.sourceforge.cilib.entity.Entity;
+import net.sourceforge.cilib.pso.dynamic.Reevaluations;
+import net.sourceforge.cilib.util.selection.RandomSampling;
 
 /**
  * This class is similar to {@linkplain RandomSentriesDetectionStrategy}, but
@@ -71,48 +69,9 @@ public class MOORandomSentriesDetectionStrategy extends EnvironmentChangeDetecti
     @Override
     public <A extends HasTopology & Algorithm & HasNeighbourhood> boolean detect(A algorithm) {
     	if ((AbstractAlgorithm.get().getIterations() % interval == 0) && (AbstractAlgorithm.get().getIterations() != 0)) {
-            List all = Java.List_ArrayList().f(algorithm.getTopology());
-
-            for (int i = 0; i < numberOfSentries.getParameter(); i++) {
-                // select random sentry entity
-                int random = Rand.nextInt(all.size());
-                StandardParticle sentry = (StandardParticle) all.get(random);
-
-                // check for change
-                //double previousFitness = sentry.getFitness().getValue();
-
-                boolean detectedChange = false;
-
-                if (sentry.getFitness().getClass().getName().matches("MinimisationFitness")) {
-                    Fitness previousFitness = sentry.getFitness();
-                    sentry.updateFitness(sentry.getBehaviour().getFitnessCalculator().getFitness(sentry));
-                    Fitness currentFitness = sentry.getFitness();
-
-                    if (Math.abs(previousFitness.getValue() - currentFitness.getValue()) >= epsilon) {
-                        detectedChange = true;
-
-                    }
-                }
-                else if (sentry.getFitness().getClass().getName().matches("StandardMOFitness")) {
-                        MOFitness previousFitness = (MOFitness)sentry.getFitness();
-                        sentry.updateFitness(sentry.getBehaviour().getFitnessCalculator().getFitness(sentry));
-                        MOFitness currentFitness = (MOFitness)sentry.getFitness();
-
-                        for (int k=0; k < previousFitness.getDimension(); k++)
-                            if (Math.abs(previousFitness.getFitness(k).getValue() -
-                		currentFitness.getFitness(k).getValue()) >= epsilon) {
-                		detectedChange = true;
-                                break;
-                            }
-                }
-                if (detectedChange) {
-                    System.out.println("Detected a change");
-                    return true;
-                }
-                
-                // remove the selected element from the all list preventing it from being selected again
-                all.remove(random);
-            }
+            fj.data.List<Entity> topology = algorithm.getTopology();
+            List<Entity> sentries = RandomSampling.sample(topology, (int) numberOfSentries.getParameter());
+            return Reevaluations.detectChange(sentries, epsilon, isParallel());
         }
         return false;
     }
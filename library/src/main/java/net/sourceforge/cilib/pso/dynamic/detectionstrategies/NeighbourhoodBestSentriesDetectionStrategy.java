@@ -13,6 +13,7 @@ import net.sourceforge.cilib.algorithm.population.HasNeighbourhood;
 import net.sourceforge.cilib.algorithm.population.HasTopology;
 import net.sourceforge.cilib.entity.Entity;
 import net.sourceforge.cilib.entity.Topologies;
+import net.sourceforge.cilib.pso.dynamic.Reevaluations;
 
 public class NeighbourhoodBestSentriesDetectionStrategy extends EnvironmentChangeDetectionStrategy {
     private static final long serialVersionUID = 3598067152913033487L;
@@ -35,15 +36,7 @@ public class NeighbourhoodBestSentriesDetectionStrategy extends EnvironmentChang
         if (algorithm.getIterations() % interval == 0) {
             Set<? extends Entity> sentries = Topologies.getNeighbourhoodBestEntities(algorithm.getTopology(), algorithm.getNeighbourhood());
 
-            for (Entity sentry : sentries) {
-                double previousFitness = sentry.getFitness().getValue();
-                sentry.updateFitness(sentry.getBehaviour().getFitnessCalculator().getFitness(sentry));
-                double currentFitness = sentry.getFitness().getValue();
-
-                if(Math.abs(previousFitness - currentFitness) >=  epsilon) {
-                    return true;
-                }
-            }
+            return Reevaluations.detectChange(sentries, epsilon, isParallel());
         }
         return false;
     }
@@ -6,16 +6,15 @@
  */
 package net.sourceforge.cilib.pso.dynamic.detectionstrategies;
 
-import fj.F;
-import fj.data.List;
+import java.util.List;
 import net.sourceforge.cilib.algorithm.Algorithm;
 import net.sourceforge.cilib.algorithm.population.HasNeighbourhood;
 import net.sourceforge.cilib.algorithm.population.HasTopology;
 import net.sourceforge.cilib.controlparameter.ConstantControlParameter;
 import net.sourceforge.cilib.controlparameter.ControlParameter;
 import net.sourceforge.cilib.entity.Entity;
-import net.sourceforge.cilib.util.selection.Samples;
-import net.sourceforge.cilib.util.selection.recipes.RandomSelector;
+import net.sourceforge.cilib.pso.dynamic.Reevaluations;
+import net.sourceforge.cilib.util.selection.RandomSampling;
 
 /**
  * This class defines a detection strategy that uses a user-specified
@@ -60,18 +59,9 @@ public class RandomSentriesDetectionStrategy extends EnvironmentChangeDetectionS
     @Override
     public <A extends HasTopology & Algorithm & HasNeighbourhood> boolean detect(A algorithm) {
         if (algorithm.getIterations() % interval == 0) {
-            return List.<Entity>iterableList(new RandomSelector().on(algorithm.getTopology())
-                .select(Samples.first((int) numberOfSentries.getParameter())))
-                .exists(new F<Entity, Boolean>() {
-                    @Override
-                    public Boolean f(Entity sentry) {
-                        double previousFitness = sentry.getFitness().getValue();
-                        sentry.updateFitness(sentry.getBehaviour().getFitnessCalculator().getFitness(sentry));
-                        double currentFitness = sentry.getFitness().getValue();
-
-                        return Math.abs(previousFitness - currentFitness) >= epsilon;
-                    }
-                });
+            fj.data.List<Entity> topology = algorithm.getTopology();
+            List<Entity> sentries = RandomSampling.sample(topology, (int) numberOfSentries.getParameter());
+            return Reevaluations.detectChange(sentries, epsilon, isParallel());
         }
         return false;
     }
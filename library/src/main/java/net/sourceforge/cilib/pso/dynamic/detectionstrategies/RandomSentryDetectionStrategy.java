@@ -6,13 +6,17 @@
  */
 package net.sourceforge.cilib.pso.dynamic.detectionstrategies;
 
-import fj.P2;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import net.sourceforge.cilib.algorithm.Algorithm;
 import net.sourceforge.cilib.algorithm.population.HasNeighbourhood;
 import net.sourceforge.cilib.algorithm.population.HasTopology;
+import net.sourceforge.cilib.problem.solution.Fitness;
+import net.sourceforge.cilib.pso.dynamic.Reevaluations;
 import net.sourceforge.cilib.pso.particle.Particle;
-import net.sourceforge.cilib.util.selection.Samples;
-import net.sourceforge.cilib.util.selection.recipes.RandomSelector;
+import net.sourceforge.cilib.type.types.Type;
+import net.sourceforge.cilib.util.selection.RandomSampling;
 
 public class RandomSentryDetectionStrategy extends EnvironmentChangeDetectionStrategy {
     private static final long serialVersionUID = 6254159986113630555L;
@@ -20,7 +24,7 @@ public class RandomSentryDetectionStrategy extends EnvironmentChangeDetectionStr
     private int sentries;
     private double theta;
     private boolean initialised = false;
-    fj.data.List<Integer> sentryIndexes;
+    int[] sentryIndexes;
 
     public RandomSentryDetectionStrategy() {
         sentries = 1;
@@ -28,7 +32,8 @@ public class RandomSentryDetectionStrategy extends EnvironmentChangeDetectionStr
     }
 
     public <A extends HasTopology & Algorithm> void initialise(A algorithm){
-        sentryIndexes = fj.data.List.iterableList(new RandomSelector<P2<Particle,Integer>>().on(algorithm.getTopology().zipIndex()).select(Samples.first(sentries))).map(P2.<Particle,Integer>__2());
+        sentryIndexes = RandomSampling.sampleIndices(algorithm.getTopology().length(), sentries);
+        Arrays.sort(sentryIndexes);
         this.initialised = true;
     }
 
@@ -54,19 +59,25 @@ public class RandomSentryDetectionStrategy extends EnvironmentChangeDetectionStr
         if(initialised == false){
             this.initialise(algorithm);
         }
-        boolean envChangeOccured = false;
 
-        for (Integer nextSentryIndex : sentryIndexes) {
-            Particle nextSentry = (Particle) algorithm.getTopology().index(nextSentryIndex);
-            double oldSentryFitness = nextSentry.getFitness().getValue();
-            double newSentryFitness = algorithm.getOptimisationProblem().getFitness(nextSentry.getPosition()).getValue();
-
-            if (Math.abs(oldSentryFitness - newSentryFitness) >=  theta) {
-                envChangeOccured = true;
+        // Collect the sentries in a single pass over the topology.
+        List<Fitness> oldSentryFitnesses = new ArrayList<Fitness>(sentryIndexes.length);
+        List<Type> sentryPositions = new ArrayList<Type>(sentryIndexes.length);
+        int index = 0;
+        int next = 0;
+        for (Object entity : algorithm.getTopology()) {
+            if (next == sentryIndexes.length) {
                 break;
             }
+            if (index++ == sentryIndexes[next]) {
+                Particle sentry = (Particle) entity;
+                oldSentryFitnesses.add(sentry.getFitness());
+                sentryPositions.add(sentry.getPosition());
+                next++;
+            }
         }
-        return envChangeOccured;
+
+        return Reevaluations.detectChange(algorithm.getOptimisationProblem(), sentryPositions, oldSentryFitnesses, theta, isParallel());
     }
 
     /**
@@ -7,11 +7,13 @@
 package net.sourceforge.cilib.pso.dynamic.detectionstrategies;
 
 import java.util.ArrayList;
+import java.util.List;
 import net.sourceforge.cilib.algorithm.Algorithm;
 import net.sourceforge.cilib.algorithm.population.HasNeighbourhood;
 import net.sourceforge.cilib.algorithm.population.HasTopology;
 
 import net.sourceforge.cilib.entity.Entity;
+import net.sourceforge.cilib.pso.dynamic.Reevaluations;
 import net.sourceforge.cilib.util.selection.recipes.RandomSelector;
 
 /**
@@ -72,15 +74,7 @@ public class RandomSentryPointsDetectionStrategy extends RandomSentriesDetection
         }
 
         if (algorithm.getIterations() % interval == 0) {
-            for (Entity sentry : sentries) {
-                double previousFitness = sentry.getFitness().getValue();
-                sentry.updateFitness(sentry.getBehaviour().getFitnessCalculator().getFitness(sentry));
-                double currentFitness = sentry.getFitness().getValue();
-
-                if(Math.abs(previousFitness - currentFitness) >=  epsilon) {
-                    return true;
-                }
-            }
+            return Reevaluations.detectChange(sentries, epsilon, isParallel());
         }
         return false;
     }
@@ -109,8 +103,8 @@ public class RandomSentryPointsDetectionStrategy extends RandomSentriesDetection
         for (int i = 0; i < size; ++i) {
             Entity sentry = prototype.getClone();
             sentry.reinitialise();
-            sentry.updateFitness(sentry.getBehaviour().getFitnessCalculator().getFitness(sentry));
             sentries.add(sentry);
         }
+        Reevaluations.reevaluate(sentries, isParallel());
     }
 }
@@ -11,6 +11,8 @@ import net.sourceforge.cilib.algorithm.population.HasNeighbourhood;
 import net.sourceforge.cilib.algorithm.population.HasTopology;
 import net.sourceforge.cilib.entity.Entity;
 import net.sourceforge.cilib.entity.Topologies;
+import net.sourceforge.cilib.problem.solution.Fitness;
+import net.sourceforge.cilib.pso.dynamic.Reevaluations;
 
 /**
  * @inproceedings{ 2002.Hu.may00, title = "Adaptive Particle Swarm Optimization: Detection
@@ -32,11 +34,10 @@ public class TopologyBestSentryDetectionStrategy extends EnvironmentChangeDetect
     public <A extends HasTopology & Algorithm & HasNeighbourhood> boolean detect(A algorithm) {
         if (algorithm.getIterations() % interval == 0) {
             Entity sentry = Topologies.getBestEntity(algorithm.getTopology());
-            double previousFitness = sentry.getFitness().getValue();
+            Fitness previousFitness = sentry.getFitness();
             sentry.updateFitness(sentry.getBehaviour().getFitnessCalculator().getFitness(sentry));
-            double currentFitness = sentry.getFitness().getValue();
 
-            if (Math.abs(previousFitness - currentFitness) >=  epsilon) {
+            if (Reevaluations.hasChanged(previousFitness, sentry.getFitness(), epsilon)) {
                 return true;
             }
         }
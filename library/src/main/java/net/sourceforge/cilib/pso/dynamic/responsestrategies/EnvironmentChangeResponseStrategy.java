@@ -9,6 +9,7 @@ package net.sourceforge.cilib.pso.dynamic.responsestrategies;
 import net.sourceforge.cilib.algorithm.population.SinglePopulationBasedAlgorithm;
 import net.sourceforge.cilib.entity.Entity;
 import net.sourceforge.cilib.entity.topologies.Neighbourhood;
+import net.sourceforge.cilib.pso.dynamic.Reevaluations;
 import net.sourceforge.cilib.pso.particle.Particle;
 import net.sourceforge.cilib.util.Cloneable;
 
@@ -17,13 +18,16 @@ import net.sourceforge.cilib.util.Cloneable;
  */
 public abstract class EnvironmentChangeResponseStrategy implements Cloneable {
     protected boolean hasMemory = true;
+    private boolean parallel;
 
     public EnvironmentChangeResponseStrategy() {
         this.hasMemory = true;
+        this.parallel = false;
     }
 
     public EnvironmentChangeResponseStrategy(EnvironmentChangeResponseStrategy rhs) {
         this.hasMemory = rhs.hasMemory;
+        this.parallel = rhs.parallel;
     }
 
     /**
@@ -61,19 +65,62 @@ public abstract class EnvironmentChangeResponseStrategy implements Cloneable {
      * instead of {@link Entity entities}, because the {@link Entity} class does not have the
      * notion of a neighbourhood best.
      *
+     * <p>
+     * Every particle is re-evaluated and then offered to the particles in its
+     * neighbourhood, in topology order, so the neighbourhood bests of particles
+     * that have not been re-evaluated yet are compared with their previous fitness.
+     * When the particles are re-evaluated in parallel, all of them are re-evaluated
+     * before the neighbourhood bests are updated.
+     *
      * @param topology a topology of {@link Particle particles} :-(
      */
     protected <P extends Particle> void updateNeighbourhoodBestEntities(fj.data.List<P> topology, Neighbourhood<P> neighbourhood) {
+        if (parallel) {
+            Reevaluations.reevaluate(topology, true);
+            updateNeighbourhoodBests(topology, neighbourhood);
+            return;
+        }
+
         for (P current : topology) {
             current.updateFitness(current.getBehaviour().getFitnessCalculator().getFitness(current));
-            for (P other : neighbourhood.f(topology, current)) {
-                if (current.getSocialFitness().compareTo(other.getNeighbourhoodBest().getSocialFitness()) > 0) {
-                    other.setNeighbourhoodBest(current);
-                }
+            offerAsNeighbourhoodBest(topology, neighbourhood, current);
+        }
+    }
+
+    /**
+     * Update the neighbourhood best of every particle from the current fitness of
+     * the particles in its neighbourhood, without re-evaluating them.
+     *
+     * @param topology a topology of {@link Particle particles}.
+     * @param neighbourhood the neighbourhood of the particles.
+     */
+    protected <P extends Particle> void updateNeighbourhoodBests(fj.data.List<P> topology, Neighbourhood<P> neighbourhood) {
+        for (P current : topology) {
+            offerAsNeighbourhoodBest(topology, neighbourhood, current);
+        }
+    }
+
+    private static <P extends Particle> void offerAsNeighbourhoodBest(fj.data.List<P> topology, Neighbourhood<P> neighbourhood, P current) {
+        for (P other : neighbourhood.f(topology, current)) {
+            if (current.getSocialFitness().compareTo(other.getNeighbourhoodBest().getSocialFitness()) > 0) {
+                other.setNeighbourhoodBest(current);
             }
         }
     }
 
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    /**
+     * Sets whether the entities are re-evaluated concurrently, see
+     * {@link net.sourceforge.cilib.algorithm.ParallelExecutor}.
+     * @param parallel whether to re-evaluate the entities concurrently.
+     */
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+
     public boolean getHasMemory() {
         return hasMemory;
     }
@@ -32,6 +32,7 @@ public class PartialReinitialisationResponseStrategy extends ParticleReevaluatio
     }
 
     public PartialReinitialisationResponseStrategy(PartialReinitialisationResponseStrategy copy) {
+        super(copy);
         this.reinitialisationRatio = copy.reinitialisationRatio;
     }
 
@@ -56,18 +57,19 @@ public class PartialReinitialisationResponseStrategy extends ParticleReevaluatio
         int reinitCounter = 0;
         int keepCounter = 0;
         int populationSize = algorithm.getTopology().length();
+        Entity best = Topologies.getBestEntity(algorithm.getTopology());
         while (iterator.hasNext()) {
             DynamicParticle current = (DynamicParticle) iterator.next();
             ZeroTransformation zt = new ZeroTransformation();
 
             //makes sure the charged particles are randomly positioned across the topology
-            if (reinitCounter < Math.floor(populationSize * reinitialisationRatio) && Rand.nextDouble() < reinitialisationRatio && current != Topologies.getBestEntity(algorithm.getTopology())) {
+            if (reinitCounter < Math.floor(populationSize * reinitialisationRatio) && Rand.nextDouble() < reinitialisationRatio && current != best) {
                 current.getPosition().randomise();
                 current.put(Property.VELOCITY, Vectors.transform(current.getVelocity(), zt));
                 current.put(Property.BEST_POSITION, Vector.copyOf((Vector) current.getPosition()));
                 ++reinitCounter;
             }//if
-            else if (keepCounter > Math.floor(populationSize * (1.0 - reinitialisationRatio)) && current != Topologies.getBestEntity(algorithm.getTopology())) {
+            else if (keepCounter > Math.floor(populationSize * (1.0 - reinitialisationRatio)) && current != best) {
                 current.getPosition().randomise();
                 current.put(Property.VELOCITY, Vectors.transform(current.getVelocity(), zt));
                 current.put(Property.BEST_POSITION, Vector.copyOf((Vector) current.getPosition()));
@@ -6,6 +6,9 @@
  */
 package net.sourceforge.cilib.pso.dynamic.responsestrategies;
 
+import fj.F;
+import fj.Unit;
+import net.sourceforge.cilib.algorithm.ParallelExecutor;
 import net.sourceforge.cilib.algorithm.population.SinglePopulationBasedAlgorithm;
 import net.sourceforge.cilib.pso.dynamic.DynamicParticle;
 import net.sourceforge.cilib.pso.particle.Particle;
@@ -42,11 +45,21 @@ public class ParticleReevaluationResponseStrategy extends EnvironmentChangeRespo
         fj.data.List<P> topology = algorithm.getTopology();
 
         // Reevaluate current position. Update personal best (done by reevaluate()).
-        for (P current : topology) {
-            ((DynamicParticle) current).reevaluate();
+        F<P, Unit> reevaluation = new F<P, Unit>() {
+            @Override
+            public Unit f(P current) {
+                ((DynamicParticle) current).reevaluate();
+                return Unit.unit();
+            }
+        };
+        if (isParallel()) {
+            ParallelExecutor.map(topology, reevaluation);
+        } else {
+            topology.foreach(reevaluation);
         }
 
-        updateNeighbourhoodBestEntities(topology, algorithm.getNeighbourhood());
+        // The current positions have just been re-evaluated.
+        updateNeighbourhoodBests(topology, algorithm.getNeighbourhood());
     }
 
     @Override
@@ -6,15 +6,14 @@
  */
 package net.sourceforge.cilib.pso.dynamic.responsestrategies;
 
-import java.util.List;
 
 import net.sourceforge.cilib.algorithm.population.SinglePopulationBasedAlgorithm;
 import net.sourceforge.cilib.entity.Entity;
 import net.sourceforge.cilib.pso.PSO;
+import net.sourceforge.cilib.pso.dynamic.Reevaluations;
 import net.sourceforge.cilib.pso.particle.Particle;
 import net.sourceforge.cilib.pso.particle.StandardParticle;
-import net.sourceforge.cilib.util.selection.Samples;
-import net.sourceforge.cilib.util.selection.recipes.RandomSelector;
+import net.sourceforge.cilib.util.selection.RandomSampling;
 
 /**
  * This reaction strategy reevaluates the specified
@@ -68,12 +67,8 @@ public class ReevaluationReactionStrategy<E extends SinglePopulationBasedAlgorit
      *        reevaluated
      */
     protected void reevaluate(fj.data.List<? extends Entity> entities, int reevaluateCount) {
-        RandomSelector selector = new RandomSelector();
-        List<? extends Entity> subList = selector.on(entities).select(Samples.first(reevaluateCount));
-        for (Entity entity : subList) {
-            // FIXME: does not reevaluate the _best_ position.
-            entity.updateFitness(entity.getBehaviour().getFitnessCalculator().getFitness(entity));
-        }
+        // FIXME: does not reevaluate the _best_ position.
+        Reevaluations.reevaluate(RandomSampling.sample(entities, reevaluateCount), isParallel());
     }
 
     /**
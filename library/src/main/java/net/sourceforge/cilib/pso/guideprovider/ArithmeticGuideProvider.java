@@ -9,7 +9,6 @@ package net.sourceforge.cilib.pso.guideprovider;
 import java.util.Iterator;
 
 import net.sourceforge.cilib.algorithm.AbstractAlgorithm;
-import net.sourceforge.cilib.entity.Topologies;
 import net.sourceforge.cilib.entity.comparator.SocialBestFitnessComparator;
 import net.sourceforge.cilib.math.random.UniformDistribution;
 import net.sourceforge.cilib.pso.PSO;
@@ -36,8 +35,7 @@ public class ArithmeticGuideProvider implements GuideProvider {
 
     public StructuredType get(Particle particle) {
         PSO pso = (PSO) AbstractAlgorithm.get();
-        fj.data.List<Particle> topology = pso.getTopology();
-        Particle gbestParticle = Topologies.getBestEntity(topology, new SocialBestFitnessComparator());
+        Particle gbestParticle = pso.getBestEntity(new SocialBestFitnessComparator<Particle>());
         Vector gbest = (Vector) gbestParticle.getBestPosition();
         Vector pbest = (Vector) particle.getBestPosition();
         P1 p1, p2;
@@ -7,7 +7,6 @@
 package net.sourceforge.cilib.pso.guideprovider;
 
 import net.sourceforge.cilib.algorithm.AbstractAlgorithm;
-import net.sourceforge.cilib.entity.Topologies;
 import net.sourceforge.cilib.entity.comparator.SocialBestFitnessComparator;
 import net.sourceforge.cilib.pso.PSO;
 import net.sourceforge.cilib.pso.particle.Particle;
@@ -21,8 +20,7 @@ public class GBestGuideProvider implements GuideProvider {
 
     public StructuredType get(Particle particle) {
         PSO pso = (PSO) AbstractAlgorithm.get();
-        fj.data.List<Particle> topology = pso.getTopology();
-        Particle gbest = Topologies.getBestEntity(topology, new SocialBestFitnessComparator());
+        Particle gbest = pso.getBestEntity(new SocialBestFitnessComparator<Particle>());
 
         return gbest.getBestPosition();
     }
@@ -11,7 +11,6 @@ import net.sourceforge.cilib.algorithm.population.IterationStrategy;
 import net.sourceforge.cilib.controlparameter.ConstantControlParameter;
 import net.sourceforge.cilib.controlparameter.ControlParameter;
 import net.sourceforge.cilib.entity.Property;
-import net.sourceforge.cilib.entity.Topologies;
 import net.sourceforge.cilib.entity.comparator.SocialBestFitnessComparator;
 import net.sourceforge.cilib.math.random.CauchyDistribution;
 import net.sourceforge.cilib.math.random.ProbabilityDistributionFunction;
@@ -75,7 +74,7 @@ public class GBestMutationIterationStrategy extends AbstractIterationStrategy<PS
         avgV = builder.build();
 
         // mutation
-        Particle gBest = Topologies.getBestEntity(topology, new SocialBestFitnessComparator());
+        Particle gBest = algorithm.getBestEntity(new SocialBestFitnessComparator<Particle>());
         Particle mutated = gBest.getClone();
         Vector pos = (Vector) gBest.getBestPosition();
         final Bounds bounds = pos.boundsOf(0);
@@ -15,7 +15,6 @@ import net.sourceforge.cilib.algorithm.population.AbstractIterationStrategy;
 import net.sourceforge.cilib.algorithm.population.IterationStrategy;
 import net.sourceforge.cilib.controlparameter.ConstantControlParameter;
 import net.sourceforge.cilib.controlparameter.ControlParameter;
-import net.sourceforge.cilib.entity.Topologies;
 import net.sourceforge.cilib.entity.comparator.DescendingFitnessComparator;
 import net.sourceforge.cilib.entity.comparator.SocialBestFitnessComparator;
 import net.sourceforge.cilib.entity.operators.crossover.parentprovider.BestParentProvider;
@@ -77,7 +76,7 @@ public class PSPGIterationStrategy extends AbstractIterationStrategy<PSO> {
 
     private void crossoverStep(PSO algorithm) {
         fj.data.List<Particle> topology = algorithm.getTopology();
-        Particle gbest = Topologies.getBestEntity(topology, new SocialBestFitnessComparator<>());
+        Particle gbest = algorithm.getBestEntity(new SocialBestFitnessComparator<Particle>());
         
         // Get parents
         final List<Particle> parents = Lists.newArrayList(new RandomSelector<Particle>()
@@ -7,6 +7,7 @@
 package net.sourceforge.cilib.pso.multiswarm;
 
 import net.sourceforge.cilib.algorithm.AbstractAlgorithm;
+import net.sourceforge.cilib.algorithm.ParallelExecutor;
 import net.sourceforge.cilib.algorithm.population.AbstractIterationStrategy;
 import net.sourceforge.cilib.algorithm.population.SinglePopulationBasedAlgorithm;
 import net.sourceforge.cilib.entity.visitor.DiameterVisitor;
@@ -14,6 +15,7 @@ import net.sourceforge.cilib.pso.PSO;
 import net.sourceforge.cilib.type.types.container.Vector;
 import net.sourceforge.cilib.util.distancemeasure.DistanceMeasure;
 import net.sourceforge.cilib.util.distancemeasure.EuclideanDistanceMeasure;
+import net.sourceforge.cilib.util.functions.Algorithms;
 
 /**
  * Implementation of the multi-swarm algorithm as described in:
@@ -48,6 +50,7 @@ public class MultiSwarmIterationStrategy extends AbstractIterationStrategy<Multi
 
     private static final long serialVersionUID = 1416926223484924869L;
     private double exclusionRadius = 2.0;
+    private boolean parallel = false;
 
     public MultiSwarmIterationStrategy() {
         super();
@@ -56,6 +59,7 @@ public class MultiSwarmIterationStrategy extends AbstractIterationStrategy<Multi
     public MultiSwarmIterationStrategy(MultiSwarmIterationStrategy copy) {
         super();
         this.exclusionRadius = copy.exclusionRadius;
+        this.parallel = copy.parallel;
     }
 
     @Override
@@ -71,6 +75,18 @@ public class MultiSwarmIterationStrategy extends AbstractIterationStrategy<Multi
         this.exclusionRadius = exlusionRadius;
     }
 
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    /**
+     * Sets whether the swarms are iterated concurrently, see {@link ParallelExecutor}.
+     * @param parallel whether to iterate the swarms concurrently.
+     */
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+
     double calculateRadius() {
         double d = AbstractAlgorithm.get().getOptimisationProblem().getDomain().getDimension();
         double X = ((Vector) AbstractAlgorithm.get().getOptimisationProblem().getDomain().getBuiltRepresentation()).get(0).getBounds().getUpperBound()
@@ -107,8 +123,12 @@ public class MultiSwarmIterationStrategy extends AbstractIterationStrategy<Multi
             reInitialise((PSO) weakest);
         }
 
-        for (SinglePopulationBasedAlgorithm current : ca.getPopulations()) {
-            current.performIteration();
+        if (parallel) {
+            ParallelExecutor.map(ca.getPopulations(), Algorithms.<SinglePopulationBasedAlgorithm>performIteration());
+        } else {
+            for (SinglePopulationBasedAlgorithm current : ca.getPopulations()) {
+                current.performIteration();
+            }
         }
 
         for (SinglePopulationBasedAlgorithm current : ca.getPopulations()) {
@@ -10,6 +10,7 @@ import java.util.ListIterator;
 
 import fj.data.List;
 import net.sourceforge.cilib.algorithm.AbstractAlgorithm;
+import net.sourceforge.cilib.algorithm.ParallelExecutor;
 import net.sourceforge.cilib.algorithm.population.AbstractIterationStrategy;
 import net.sourceforge.cilib.algorithm.population.SinglePopulationBasedAlgorithm;
 import net.sourceforge.cilib.entity.Entity;
@@ -18,6 +19,7 @@ import net.sourceforge.cilib.pso.PSO;
 import net.sourceforge.cilib.type.types.container.Vector;
 import net.sourceforge.cilib.util.distancemeasure.DistanceMeasure;
 import net.sourceforge.cilib.util.distancemeasure.EuclideanDistanceMeasure;
+import net.sourceforge.cilib.util.functions.Algorithms;
 
 /**
  * Implementation of the self-adapting multi-swarm algorithm as described in
@@ -36,6 +38,7 @@ public class SelfAdaptingMultiSwarmIterationStrategy extends AbstractIterationSt
     private static final long serialVersionUID = -5097047091224569980L;
     private double dynamicConvergenceRadius = 5;//reinitialise swarms that are within each other's exclusion radius
     private int nexcess = 3;//remove the worst non converged swarm if more than nexcess non converged swarms
+    private boolean parallel = false;
 
     public SelfAdaptingMultiSwarmIterationStrategy() {
         super();
@@ -45,6 +48,7 @@ public class SelfAdaptingMultiSwarmIterationStrategy extends AbstractIterationSt
         super();
         this.dynamicConvergenceRadius = copy.dynamicConvergenceRadius;
         this.nexcess = copy.nexcess;
+        this.parallel = copy.parallel;
     }
 
     @Override
@@ -68,6 +72,18 @@ public class SelfAdaptingMultiSwarmIterationStrategy extends AbstractIterationSt
         this.dynamicConvergenceRadius = exlusionRadius;
     }
 
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    /**
+     * Sets whether the swarms are iterated concurrently, see {@link ParallelExecutor}.
+     * @param parallel whether to iterate the swarms concurrently.
+     */
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+
     /**
      * Calculates the dynamic convergence radius that is used to determine both
      * exclusion and convergence
@@ -123,9 +139,13 @@ public class SelfAdaptingMultiSwarmIterationStrategy extends AbstractIterationSt
         }// else if
 
         //perform normal iteration
-        for (ListIterator it = ca.getPopulations().listIterator(); it.hasNext();) {
-            SinglePopulationBasedAlgorithm currentAlgorithm = (SinglePopulationBasedAlgorithm) it.next();
-            currentAlgorithm.performIteration();
+        if (parallel) {
+            ParallelExecutor.map(ca.getPopulations(), Algorithms.<SinglePopulationBasedAlgorithm>performIteration());
+        } else {
+            for (ListIterator it = ca.getPopulations().listIterator(); it.hasNext();) {
+                SinglePopulationBasedAlgorithm currentAlgorithm = (SinglePopulationBasedAlgorithm) it.next();
+                currentAlgorithm.performIteration();
+            }
         }
 
         //check if swarms are within exclusionRadius and counts converged swarms
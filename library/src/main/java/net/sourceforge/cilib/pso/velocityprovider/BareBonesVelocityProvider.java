@@ -10,6 +10,7 @@ import net.sourceforge.cilib.controlparameter.ConstantControlParameter;
 import net.sourceforge.cilib.controlparameter.ControlParameter;
 import net.sourceforge.cilib.math.random.GaussianDistribution;
 import net.sourceforge.cilib.math.random.ProbabilityDistributionFunction;
+import net.sourceforge.cilib.math.random.TwoParameterDistributionFunction;
 import net.sourceforge.cilib.math.random.generator.Rand;
 import net.sourceforge.cilib.pso.guideprovider.GuideProvider;
 import net.sourceforge.cilib.pso.guideprovider.NBestGuideProvider;
@@ -57,6 +58,8 @@ public class BareBonesVelocityProvider implements VelocityProvider {
         Vector localGuide = (Vector) localGuideProvider.get(particle);
         Vector globalGuide = (Vector) globalGuideProvider.get(particle);
 
+        TwoParameterDistributionFunction twoParameter = this.distribution instanceof TwoParameterDistributionFunction
+            ? (TwoParameterDistributionFunction) this.distribution : null;
         Vector.Builder builder = Vector.newBuilder();
         for (int i = 0; i < particle.getDimension(); ++i) {
             if (Rand.nextDouble() < exploitProbability.getParameter()) {
@@ -68,7 +71,9 @@ public class BareBonesVelocityProvider implements VelocityProvider {
                 //double tmp2 = social.getParameter();
                 //andries proposal: double mean = (tmp1*personalBestPosition.getReal(i) + tmp2*nBestPosition.getReal(i)) / (tmp1+tmp2);
 
-                builder.add(this.distribution.getRandomNumber(mean, sigma));
+                builder.add(twoParameter != null
+                    ? twoParameter.getRandomNumber(mean, sigma)
+                    : this.distribution.getRandomNumber(mean, sigma));
             }
         }
 
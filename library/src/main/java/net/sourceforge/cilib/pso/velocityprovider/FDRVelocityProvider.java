@@ -6,13 +6,11 @@
  */
 package net.sourceforge.cilib.pso.velocityprovider;
 
-import java.util.Iterator;
 import net.sourceforge.cilib.algorithm.AbstractAlgorithm;
 import net.sourceforge.cilib.controlparameter.ConstantControlParameter;
 import net.sourceforge.cilib.controlparameter.ControlParameter;
 import net.sourceforge.cilib.controlparameter.LinearlyVaryingControlParameter;
 import net.sourceforge.cilib.math.random.generator.Rand;
-import net.sourceforge.cilib.problem.solution.Fitness;
 import net.sourceforge.cilib.pso.PSO;
 import net.sourceforge.cilib.pso.particle.Particle;
 import net.sourceforge.cilib.type.types.container.Vector;
@@ -83,33 +81,32 @@ public class FDRVelocityProvider implements VelocityProvider {
 
         Vector standardVelocity = this.delegate.get(particle);
 
+        Informants informants = new Informants(((PSO) AbstractAlgorithm.get()).getTopology());
+        double fitness = particle.getFitness().getValue();
+        double[] fitnessDifferences = new double[informants.size()];
+        for (int j = 1; j < fitnessDifferences.length; j++) {
+            fitnessDifferences[j] = informants.get(j).getBestFitness().getValue() - fitness;
+        }
+
         Vector.Builder builder = Vector.newBuilder();
         for (int i = 0; i < particle.getDimension(); ++i) {
-            fj.data.List<Particle> topology = ((PSO) AbstractAlgorithm.get()).getTopology();
-            Iterator<Particle> swarmIterator = topology.iterator();
-            Particle fdrMaximizer = swarmIterator.next();
+            double x = position.doubleValueOf(i);
+            int fdrMaximizer = 0;
             double maxFDR = 0.0;
 
-            while (swarmIterator.hasNext()) {
-                Particle currentTarget = swarmIterator.next();
-
-                if (currentTarget != particle) {
-                    Fitness currentTargetFitness = currentTarget.getBestFitness();
-                    Vector currentTargetPosition = (Vector) currentTarget.getBestPosition();
-
-                    double fitnessDifference = (currentTargetFitness.getValue() - particle.getFitness().getValue());
-                    double testFDR = fitnessDifference / Math.abs(position.doubleValueOf(i) - currentTargetPosition.doubleValueOf(i));
+            for (int j = 1; j < fitnessDifferences.length; j++) {
+                if (informants.get(j) != particle) {
+                    double testFDR = fitnessDifferences[j] / Math.abs(x - informants.getBestPosition(j)[i]);
 
                     if (testFDR > maxFDR) {
                         maxFDR = testFDR;
-                        fdrMaximizer = currentTarget;
+                        fdrMaximizer = j;
                     }
                 }
             }
 
-            Vector fdrMaximizerPosition = (Vector) fdrMaximizer.getBestPosition();
             builder.add(standardVelocity.doubleValueOf(i) + this.fdrMaximizerAcceleration.getParameter() * Rand.nextDouble()
-                    * (fdrMaximizerPosition.doubleValueOf(i) - position.doubleValueOf(i)));
+                    * (informants.getBestPosition(fdrMaximizer)[i] - x));
         }
         return builder.build();
     }
@@ -44,26 +44,24 @@ public class FIPSVelocityProvider implements VelocityProvider {
         Vector velocity = (Vector) particle.getVelocity();
         Vector position = (Vector) particle.getPosition();
         PSO algorithm = (PSO) AbstractAlgorithm.get();
-        fj.data.List<Particle> topology = algorithm.getTopology();
+        Informants informants = new Informants(algorithm.getNeighbourhood().f(algorithm.getTopology(), particle));
 
+        int numberOfNeighbours = informants.size();
+
+        // The control parameters are read as often, and in the same order, as
+        // when the neighbourhood was determined per dimension, so that varying
+        // or random parameters give the same velocities.
         Vector.Builder builder = Vector.newBuilder();
         for (int i = 0; i < particle.getDimension(); ++i) {
+            double x = position.doubleValueOf(i);
             double informationSum = 0.0;
-            int numberOfNeighbours = 0;
-
-            for (Particle currentTarget : algorithm.getNeighbourhood().f(topology, particle)) {
-                Vector currentTargetPosition = (Vector) currentTarget.getBestPosition();
-
-                double randomComponent = (this.cognitiveAcceleration.getParameter() + this.socialAcceleration.getParameter()) * Rand.nextDouble();
 
-                informationSum += randomComponent * (currentTargetPosition.doubleValueOf(i) - position.doubleValueOf(i));
-
-                numberOfNeighbours++;
+            for (int j = 0; j < numberOfNeighbours; j++) {
+                double acceleration = this.cognitiveAcceleration.getParameter() + this.socialAcceleration.getParameter();
+                informationSum += acceleration * Rand.nextDouble() * (informants.getBestPosition(j)[i] - x);
             }
 
-            double value = this.inertiaWeight.getParameter() * (velocity.doubleValueOf(i) + (informationSum / numberOfNeighbours));
-
-            builder.add(value);
+            builder.add(this.inertiaWeight.getParameter() * (velocity.doubleValueOf(i) + (informationSum / numberOfNeighbours)));
         }
 
         return builder.build();
@@ -9,7 +9,6 @@ package net.sourceforge.cilib.pso.velocityprovider;
 import net.sourceforge.cilib.algorithm.AbstractAlgorithm;
 import net.sourceforge.cilib.controlparameter.ConstantControlParameter;
 import net.sourceforge.cilib.controlparameter.ControlParameter;
-import net.sourceforge.cilib.entity.Topologies;
 import net.sourceforge.cilib.entity.comparator.SocialBestFitnessComparator;
 import net.sourceforge.cilib.math.random.generator.Rand;
 import net.sourceforge.cilib.problem.solution.Fitness;
@@ -126,7 +125,7 @@ public class GCVelocityProvider implements VelocityProvider {
     @Override
     public Vector get(Particle particle) {
         PSO pso = (PSO) AbstractAlgorithm.get();
-        final Particle globalBest = Topologies.getBestEntity(pso.getTopology(), new SocialBestFitnessComparator<Particle>());
+        final Particle globalBest = pso.getBestEntity(new SocialBestFitnessComparator<Particle>());
         Vector result;
 
         if (particle == globalBest) {
@@ -162,7 +161,7 @@ public class GCVelocityProvider implements VelocityProvider {
         // Remember NOT to reset the rho value to 1.0
         PSO pso = (PSO) AbstractAlgorithm.get();
 
-        if (particle == Topologies.getBestEntity(pso.getTopology(), new SocialBestFitnessComparator<Particle>())) {
+        if (particle == pso.getBestEntity(new SocialBestFitnessComparator<Particle>())) {
             Fitness newFitness = particle.getBehaviour().getFitnessCalculator().getFitness(particle);
 
             if (!newFitness.equals(oldFitness)) {
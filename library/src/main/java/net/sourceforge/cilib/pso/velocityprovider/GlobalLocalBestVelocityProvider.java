@@ -11,7 +11,6 @@ import net.sourceforge.cilib.algorithm.AbstractAlgorithm;
 import net.sourceforge.cilib.algorithm.population.SinglePopulationBasedAlgorithm;
 import net.sourceforge.cilib.controlparameter.ControlParameter;
 import net.sourceforge.cilib.controlparameter.RandomControlParameter;
-import net.sourceforge.cilib.entity.Topologies;
 import net.sourceforge.cilib.entity.comparator.SocialBestFitnessComparator;
 import net.sourceforge.cilib.math.random.UniformDistribution;
 import net.sourceforge.cilib.pso.particle.Particle;
@@ -59,7 +58,7 @@ public class GlobalLocalBestVelocityProvider implements VelocityProvider {
     public Vector get(Particle particle) {
         SinglePopulationBasedAlgorithm algorithm = (SinglePopulationBasedAlgorithm) AbstractAlgorithm.get();
         fj.data.List<Particle> topology = (List<Particle>) algorithm.getTopology();
-        Particle gBestParticle = Topologies.getBestEntity(topology, new SocialBestFitnessComparator());
+        Particle gBestParticle = (Particle) algorithm.getBestEntity(new SocialBestFitnessComparator());
         double accValue;
         double inertiaValue;
 
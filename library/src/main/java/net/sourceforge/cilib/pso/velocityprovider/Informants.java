@@ -0,0 +1,53 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.pso.velocityprovider;
+
+import java.util.ArrayList;
+import java.util.List;
+import net.sourceforge.cilib.pso.particle.Particle;
+import net.sourceforge.cilib.type.types.container.Vector;
+
+/**
+ * The informants of a particle, with their personal best positions copied into
+ * a matrix with a row per informant, so that velocity providers that use
+ * several informants determine them once per particle instead of once per
+ * dimension.
+ */
+final class Informants {
+
+    private final List<Particle> particles;
+    private final double[][] bestPositions;
+
+    Informants(Iterable<Particle> informants) {
+        this.particles = new ArrayList<Particle>();
+        for (Particle p : informants) {
+            particles.add(p);
+        }
+
+        this.bestPositions = new double[particles.size()][];
+        for (int j = 0; j < bestPositions.length; j++) {
+            Vector bestPosition = (Vector) particles.get(j).getBestPosition();
+            double[] row = new double[bestPosition.size()];
+            for (int i = 0; i < row.length; i++) {
+                row[i] = bestPosition.doubleValueOf(i);
+            }
+            bestPositions[j] = row;
+        }
+    }
+
+    int size() {
+        return particles.size();
+    }
+
+    Particle get(int j) {
+        return particles.get(j);
+    }
+
+    double[] getBestPosition(int j) {
+        return bestPositions[j];
+    }
+}
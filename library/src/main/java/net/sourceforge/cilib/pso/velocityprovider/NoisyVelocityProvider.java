@@ -8,6 +8,7 @@ package net.sourceforge.cilib.pso.velocityprovider;
 
 import net.sourceforge.cilib.math.random.GaussianDistribution;
 import net.sourceforge.cilib.math.random.ProbabilityDistributionFunction;
+import net.sourceforge.cilib.math.random.TwoParameterDistributionFunction;
 import net.sourceforge.cilib.pso.particle.Particle;
 import net.sourceforge.cilib.type.types.container.Vector;
 import net.sourceforge.cilib.util.Vectors;
@@ -35,9 +36,18 @@ public class NoisyVelocityProvider implements VelocityProvider {
     @Override
     public Vector get(Particle particle) {
         Vector velocity = (Vector) this.delegate.get(particle);
+        double[] noise = new double[velocity.size()];
+        if (this.distribution instanceof TwoParameterDistributionFunction) {
+            ((TwoParameterDistributionFunction) this.distribution).fill(noise);
+        } else {
+            for (int i = 0; i < noise.length; i++) {
+                noise[i] = this.distribution.getRandomNumber();
+            }
+        }
+
         Vector.Builder builder = Vector.newBuilder();
-        for (int i = 0; i < velocity.size(); i++) {
-            builder.add(this.distribution.getRandomNumber());
+        for (double value : noise) {
+            builder.add(value);
         }
         return velocity.plus(builder.build());
     }
@@ -8,6 +8,7 @@ package net.sourceforge.cilib.stoppingcondition;
 
 import net.sourceforge.cilib.algorithm.Algorithm;
 import net.sourceforge.cilib.measurement.Measurement;
+import net.sourceforge.cilib.measurement.MeasurementCache;
 import net.sourceforge.cilib.measurement.generic.Iterations;
 import net.sourceforge.cilib.type.types.Numeric;
 
@@ -49,12 +50,12 @@ public class MeasuredStoppingCondition extends StoppingCondition {
 
     @Override
     public double getPercentageCompleted(Algorithm algorithm) {
-        return predicate.getPercentage(measurement.getValue(algorithm).doubleValue(), target);
+        return predicate.getPercentage(MeasurementCache.getValue(measurement, algorithm).doubleValue(), target);
     }
 
     @Override
     public Boolean f(Algorithm algorithm) {
-        return predicate.apply(measurement.getValue(algorithm).doubleValue(), target);
+        return predicate.apply(MeasurementCache.getValue(measurement, algorithm).doubleValue(), target);
     }
 
     public double getTarget() {
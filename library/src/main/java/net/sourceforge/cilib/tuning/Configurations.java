@@ -0,0 +1,135 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.tuning;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import net.sourceforge.cilib.problem.Problem;
+
+/**
+ * Describes the configuration of an object, such as a target algorithm, as the
+ * values of all its fields, recursively, so that differently configured objects
+ * of the same class have different descriptions.
+ * <p>
+ * The fields of Java platform classes are not described, except for the elements
+ * of arrays, collections and maps, and neither are problems, which are identified
+ * separately (see {@link TuningProblem#getProblemSpecification()}). Elements of
+ * collections are described in their order of iteration, so a collection of which
+ * the order depends on identity hash codes may be described differently in
+ * different sessions, which only causes misses in a persistent cache.
+ */
+final class Configurations {
+
+    private static final Comparator<Field> BY_NAME = new Comparator<Field>() {
+        @Override
+        public int compare(Field a, Field b) {
+            return a.getName().compareTo(b.getName());
+        }
+    };
+
+    private Configurations() {
+    }
+
+    /**
+     * Describes the configuration of the given object.
+     * @param object the object.
+     * @return the description.
+     */
+    static String describe(Object object) {
+        StringBuilder description = new StringBuilder();
+        describe(object, description, new IdentityHashMap<Object, Integer>());
+        return description.toString();
+    }
+
+    private static void describe(Object object, StringBuilder description, Map<Object, Integer> described) {
+        if (object == null) {
+            description.append("null");
+            return;
+        }
+        if (object instanceof Number || object instanceof Boolean || object instanceof Character || object instanceof String) {
+            description.append(object);
+            return;
+        }
+        if (object instanceof Enum) {
+            description.append(((Enum<?>) object).name());
+            return;
+        }
+
+        Integer reference = described.get(object);
+        if (reference != null) {
+            description.append('@').append(reference);
+            return;
+        }
+        described.put(object, described.size());
+
+        Class<?> type = object.getClass();
+        description.append(type.getName());
+        if (object instanceof Problem) {
+            return;
+        }
+
+        if (type.isArray()) {
+            description.append('[');
+            for (int i = 0; i < Array.getLength(object); i++) {
+                describe(Array.get(object, i), description, described);
+                description.append(',');
+            }
+            description.append(']');
+        } else if (object instanceof Map) {
+            description.append('{');
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) object).entrySet()) {
+                describe(entry.getKey(), description, described);
+                description.append('=');
+                describe(entry.getValue(), description, described);
+                description.append(',');
+            }
+            description.append('}');
+        } else if (object instanceof Iterable) {
+            description.append('[');
+            for (Object element : (Iterable<?>) object) {
+                describe(element, description, described);
+                description.append(',');
+            }
+            description.append(']');
+        } else if (!isPlatformClass(type)) {
+            describeFields(object, description, described);
+        }
+    }
+
+    private static void describeFields(Object object, StringBuilder description, Map<Object, Integer> described) {
+        description.append('{');
+        for (Class<?> type = object.getClass(); type != null && !isPlatformClass(type); type = type.getSuperclass()) {
+            Field[] fields = type.getDeclaredFields();
+            Arrays.sort(fields, BY_NAME);
+            for (Field field : fields) {
+                int modifiers = field.getModifiers();
+                if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || field.isSynthetic()) {
+                    continue;
+                }
+
+                field.setAccessible(true);
+                description.append(field.getName()).append('=');
+                try {
+                    describe(field.get(object), description, described);
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException(e);
+                }
+                description.append(',');
+            }
+        }
+        description.append('}');
+    }
+
+    private static boolean isPlatformClass(Class<?> type) {
+        return type.getName().startsWith("java.") || type.getName().startsWith("javax.");
+    }
+}
@@ -52,22 +52,41 @@ public class FRaceIterationStrategy extends AbstractIterationStrategy<TuningAlgo
 
     @Override
     public void performIteration(final TuningAlgorithm alg) {
-        final List<Vector> parameterList = alg.getParameterList();
         final TuningProblem tuningProblem = (TuningProblem) alg.getOptimisationProblem();
         
         //TODO: deal with maximisation problems
-        results = results.snoc(parameterList.map(new F<Vector,OptimisationSolution>() {
+        addResults(alg.getParameterList().map(new F<Vector,OptimisationSolution>() {
             @Override
             public OptimisationSolution f(Vector a) {
                 return new OptimisationSolution(a, alg.evaluate(a));
             }
         }));
         
+        eliminate(alg, tuningProblem.getObjective());
+        sortByRank(alg, tuningProblem.getObjective());
+    }
+
+    /**
+     * Adds a block of results to the race, one result for every parameter
+     * vector of the tuning algorithm, in the same order.
+     * @param block the results.
+     */
+    protected void addResults(List<OptimisationSolution> block) {
+        results = results.snoc(block);
+    }
+
+    /**
+     * Removes the parameter vectors that are significantly worse than the best
+     * parameter vector from the tuning algorithm, if enough blocks of results
+     * are available.
+     * @param alg the tuning algorithm.
+     * @param objective the objective of the current problem.
+     */
+    protected void eliminate(TuningAlgorithm alg, Objective objective) {
+        final List<Vector> parameterList = alg.getParameterList();
+
         if (results.length() >= minProblems.getParameter() && parameterList.length() > 1) {
-            List<List<Double>> data = results
-                .map(List.<OptimisationSolution,Double>map_().f(getFitness()
-                    .andThen(getValue())
-                    .andThen(negateIfMaximising(tuningProblem.getObjective()))));
+            List<List<Double>> data = data(objective);
             P2<Double, Double> friedman = StatsTests.friedman(0.05, data);
 
             if (friedman._1() > friedman._2()) {
@@ -102,11 +121,16 @@ public class FRaceIterationStrategy extends AbstractIterationStrategy<TuningAlgo
                 }   
             }
         }
-        
-        List<List<Double>> data = results
-            .map(List.<OptimisationSolution,Double>map_().f(getFitness()
-                .andThen(getValue())
-                .andThen(negateIfMaximising(tuningProblem.getObjective()))));
+    }
+
+    /**
+     * Orders the parameter vectors of the tuning algorithm, and the results,
+     * by their sum of ranks, best first.
+     * @param alg the tuning algorithm.
+     * @param objective the objective of the current problem.
+     */
+    protected void sortByRank(TuningAlgorithm alg, Objective objective) {
+        List<List<Double>> data = data(objective);
         final List<List<Double>> ranks = iterableList(data)
             .map(Stats.rank.andThen(Utils.<Double,Iterable>iterableList()));
         final List<Integer> indexes = ranks.foldLeft(Utils.<Double>pairwise(add), replicate(data.head().length(), 0.0))
@@ -121,6 +145,13 @@ public class FRaceIterationStrategy extends AbstractIterationStrategy<TuningAlgo
             }
         });
     }
+
+    private List<List<Double>> data(Objective objective) {
+        return results
+            .map(List.<OptimisationSolution,Double>map_().f(getFitness()
+                .andThen(getValue())
+                .andThen(negateIfMaximising(objective))));
+    }
     
     public static F<Double, Double> negateIfMaximising(final Objective obj) {
         return new F<Double, Double>() {
@@ -0,0 +1,106 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.tuning;
+
+import fj.F;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import net.sourceforge.cilib.algorithm.ParallelExecutor;
+import net.sourceforge.cilib.math.random.generator.Rand;
+import net.sourceforge.cilib.problem.objective.Objective;
+import net.sourceforge.cilib.problem.solution.OptimisationSolution;
+import net.sourceforge.cilib.type.types.container.Vector;
+
+/**
+ * An F-Race that executes all the runs of a race step concurrently.
+ * <p>
+ * Every race step evaluates all the surviving parameter vectors on the current
+ * problem, {@link TuningProblem#getSamples()} times, each run with its own clone of
+ * the target algorithm (see {@link TuningProblem#createRun(Vector, long)}). All the
+ * parameter vectors use the same seed for the same sample, and every sample is a
+ * separate block of the Friedman test. The blocks are tested in order as soon as all
+ * their results are available, and the runs of the parameter vectors that are
+ * eliminated are cancelled, including those that are executing. Every result that
+ * is added to the race counts as a fitness evaluation of the tuning problem, as the
+ * evaluation of a parameter vector in the sequential race does.
+ * <p>
+ * The results only depend on the seed of the tuning algorithm, not on the number of
+ * threads. The runs share the function of the current problem, which must be safe
+ * to evaluate concurrently (see {@link TuningProblem#setParallel(boolean)}).
+ */
+public class ParallelFRaceIterationStrategy extends FRaceIterationStrategy {
+
+    public ParallelFRaceIterationStrategy() {
+        super();
+    }
+
+    public ParallelFRaceIterationStrategy(ParallelFRaceIterationStrategy copy) {
+        super(copy);
+    }
+
+    @Override
+    public ParallelFRaceIterationStrategy getClone() {
+        return new ParallelFRaceIterationStrategy(this);
+    }
+
+    @Override
+    public void performIteration(final TuningAlgorithm alg) {
+        final TuningProblem tuningProblem = (TuningProblem) alg.getOptimisationProblem();
+        final Objective objective = tuningProblem.getObjective();
+
+        final java.util.List<TuningRun> runs = new ArrayList<TuningRun>();
+        for (int i = 0; i < tuningProblem.getSamples(); i++) {
+            long seed = Rand.nextLong();
+            for (Vector parameters : alg.getParameterList()) {
+                runs.add(tuningProblem.createRun(parameters, seed));
+            }
+        }
+
+        tuningProblem.prepareConcurrentRuns();
+        ParallelExecutor.invokeAll(runs, new ParallelExecutor.ResultHandler<Double>() {
+            private final Map<Vector, Double> block = new IdentityHashMap<Vector, Double>();
+
+            @Override
+            public Iterable<Integer> handle(int index, Double result) {
+                block.put(runs.get(index).getParameters(), result);
+                if (block.size() < alg.getParameterList().length()) {
+                    return Collections.emptyList();
+                }
+
+                addResults(alg.getParameterList().map(new F<Vector, OptimisationSolution>() {
+                    @Override
+                    public OptimisationSolution f(Vector a) {
+                        return new OptimisationSolution(a, tuningProblem.evaluateMeasurement(block.get(a)));
+                    }
+                }));
+                block.clear();
+                eliminate(alg, objective);
+
+                Set<Vector> survivors = Collections.newSetFromMap(new IdentityHashMap<Vector, Boolean>());
+                for (Vector parameters : alg.getParameterList()) {
+                    survivors.add(parameters);
+                }
+                java.util.List<Integer> cancelled = new ArrayList<Integer>();
+                for (int i = index + 1; i < runs.size(); i++) {
+                    TuningRun run = runs.get(i);
+                    if (!run.isCancelled() && !survivors.contains(run.getParameters())) {
+                        run.cancel();
+                        cancelled.add(i);
+                    }
+                }
+                return cancelled;
+            }
+        });
+
+        if (!runs.isEmpty()) {
+            sortByRank(alg, objective);
+        }
+    }
+}
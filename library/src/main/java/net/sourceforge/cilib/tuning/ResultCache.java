@@ -0,0 +1,196 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.tuning;
+
+import com.google.common.base.Charsets;
+import com.google.common.base.Preconditions;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.primitives.UnsignedLongs;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.RandomAccessFile;
+import java.io.Writer;
+import java.util.HashMap;
+import java.util.Map;
+import net.sourceforge.cilib.type.types.container.Vector;
+
+/**
+ * A persistent cache of the measurements of target algorithm runs, keyed by the
+ * parameter vector, the problem and the seed of the run.
+ * <p>
+ * The measurements are appended to a text file as soon as they are stored, one
+ * per line, so that the file survives an interrupted tuning session. A race that
+ * is restarted with the same seed draws the same problems and run seeds, and
+ * therefore replays all the runs that completed before the interruption from
+ * the cache, without executing them. The same file may be used by different
+ * tuning sessions, since the configuration of the target algorithm is part of
+ * the key (see {@link TuningProblem#getProblemSpecification()}).
+ * <p>
+ * The cache is shared by its clones and may be used by concurrent runs. The file
+ * is kept open for appending until the cache is closed, which happens when the
+ * tuning algorithm finishes; storing another measurement reopens it.
+ */
+public class ResultCache implements Closeable {
+
+    private File file;
+    private Map<String, Double> results;
+    private Writer writer;
+
+    public ResultCache() {
+    }
+
+    public ResultCache(String file) {
+        setFile(file);
+    }
+
+    public ResultCache getClone() {
+        return this;
+    }
+
+    /**
+     * Creates the key of a run.
+     * @param parameters the parameters of the target algorithm.
+     * @param problem a canonical specification of the problem.
+     * @param seed the seed of the run.
+     * @return the key, which only depends on the values of the arguments.
+     */
+    public static String key(Vector parameters, String problem, long seed) {
+        Hasher hasher = Hashing.sha1().newHasher();
+        hasher.putInt(parameters.size());
+        for (int i = 0; i < parameters.size(); i++) {
+            hasher.putDouble(parameters.doubleValueOf(i));
+        }
+        hasher.putString(problem, Charsets.UTF_8);
+        hasher.putLong(seed);
+        return hasher.hash().toString();
+    }
+
+    /**
+     * Gets the measurement of a run.
+     * @param key the key of the run.
+     * @return the measurement, or null if the run is not in the cache.
+     */
+    public synchronized Double get(String key) {
+        return load().get(key);
+    }
+
+    /**
+     * Stores the measurement of a run, and appends it to the file.
+     * @param key the key of the run.
+     * @param measurement the measurement.
+     */
+    public synchronized void put(String key, double measurement) {
+        load();
+        try {
+            if (writer == null) {
+                boolean incomplete = endsWithIncompleteLine();
+                writer = new OutputStreamWriter(new FileOutputStream(file, true), Charsets.UTF_8);
+                if (incomplete) {
+                    writer.write("\n");
+                }
+            }
+            writer.write(key + " " + String.format("%016x", Double.doubleToRawLongBits(measurement)) + "\n");
+            writer.flush();
+        } catch (IOException ioException) {
+            throw new RuntimeException(ioException);
+        }
+        results.put(key, measurement);
+    }
+
+    /**
+     * Reads the file when the cache is first used. The measurements are stored
+     * exactly, as the bits of the double value, so that a line that is incomplete,
+     * because a session was interrupted while writing it, is recognised and ignored.
+     */
+    private Map<String, Double> load() {
+        Preconditions.checkState(file != null, "No file specified for the result cache.");
+        if (results != null) {
+            return results;
+        }
+
+        results = new HashMap<String, Double>();
+        if (!file.exists()) {
+            return results;
+        }
+
+        try {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(file), Charsets.UTF_8));
+            try {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    String[] fields = line.split(" ");
+                    if (fields.length == 2 && fields[1].length() == 16) {
+                        results.put(fields[0], Double.longBitsToDouble(UnsignedLongs.parseUnsignedLong(fields[1], 16)));
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        } catch (IOException ioException) {
+            throw new RuntimeException(ioException);
+        }
+        return results;
+    }
+
+    private boolean endsWithIncompleteLine() throws IOException {
+        if (!file.exists() || file.length() == 0) {
+            return false;
+        }
+        RandomAccessFile in = new RandomAccessFile(file, "r");
+        try {
+            in.seek(file.length() - 1);
+            return in.read() != '\n';
+        } finally {
+            in.close();
+        }
+    }
+
+    /**
+     * Closes the file, if it is open for appending.
+     * @throws IOException if the file cannot be closed.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (writer != null) {
+            try {
+                writer.close();
+            } finally {
+                writer = null;
+            }
+        }
+    }
+
+    public synchronized void setFile(String file) {
+        try {
+            close();
+        } catch (IOException ioException) {
+            throw new RuntimeException(ioException);
+        }
+        this.file = new File(file);
+        this.results = null;
+        this.writer = null;
+    }
+
+    public String getFile() {
+        return file == null ? null : file.getPath();
+    }
+
+    /**
+     * Gets the number of cached measurements.
+     * @return the number of measurements.
+     */
+    public synchronized int size() {
+        return load().size();
+    }
+}
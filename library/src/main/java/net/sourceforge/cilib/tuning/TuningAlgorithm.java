@@ -7,6 +7,7 @@
 package net.sourceforge.cilib.tuning;
 
 import fj.data.List;
+import java.io.IOException;
 import java.util.ArrayList;
 import net.sourceforge.cilib.algorithm.AbstractAlgorithm;
 import net.sourceforge.cilib.algorithm.population.IterationStrategy;
@@ -17,11 +18,12 @@ import net.sourceforge.cilib.type.types.container.Vector;
 public class TuningAlgorithm extends AbstractAlgorithm {
 
     private List<Vector> parameterList;
-    private Vector currentParameters;
+    private final ThreadLocal<Vector> currentParameters;
     private ParameterListProvider parameterProvider;
     private IterationStrategy<TuningAlgorithm> iterationStrategy;
     
     public TuningAlgorithm() {
+        this.currentParameters = new ThreadLocal<Vector>();
         this.iterationStrategy = new FRaceIterationStrategy();
     }
     
@@ -42,6 +44,26 @@ public class TuningAlgorithm extends AbstractAlgorithm {
         iterationStrategy.performIteration(this);
     }
 
+    /**
+     * Runs the race, and closes the result cache of the tuning problem, if any,
+     * when the race ends.
+     */
+    @Override
+    public void runAlgorithm() {
+        try {
+            super.runAlgorithm();
+        } finally {
+            ResultCache resultCache = ((TuningProblem) optimisationProblem).getResultCache();
+            if (resultCache != null) {
+                try {
+                    resultCache.close();
+                } catch (IOException ioException) {
+                    throw new RuntimeException(ioException);
+                }
+            }
+        }
+    }
+
     @Override
     public OptimisationSolution getBestSolution() {
         return getSolutions().iterator().next();
@@ -69,12 +91,22 @@ public class TuningAlgorithm extends AbstractAlgorithm {
         return parameterList;
     }
 
+    /**
+     * Sets the parameters used by the target algorithm runs in the current thread.
+     * The parameters are kept per thread, so that runs with different parameters
+     * may execute concurrently.
+     * @param currentParameters the parameters.
+     */
     public void setCurrentParameters(Vector currentParameters) {
-        this.currentParameters = currentParameters;
+        this.currentParameters.set(currentParameters);
     }
 
+    /**
+     * Gets the parameters used by the target algorithm runs in the current thread.
+     * @return the parameters.
+     */
     public Vector getCurrentParameters() {
-        return currentParameters;
+        return currentParameters.get();
     }
 
     public void setParameterProvider(ParameterListProvider parameterProvider) {
@@ -94,7 +126,7 @@ public class TuningAlgorithm extends AbstractAlgorithm {
     }
 
     public Fitness evaluate(Vector a) {
-        this.currentParameters = a;
+        setCurrentParameters(a);
         return optimisationProblem.getFitness(a);
     }
 }
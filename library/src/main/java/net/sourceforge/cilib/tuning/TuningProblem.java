@@ -6,18 +6,24 @@
  */
 package net.sourceforge.cilib.tuning;
 
-import fj.F;
-import static fj.data.List.range;
-import static fj.function.Doubles.sum;
+import com.google.common.base.Charsets;
+import com.google.common.hash.Hashing;
+import java.util.ArrayList;
 import net.sourceforge.cilib.algorithm.AbstractAlgorithm;
 import net.sourceforge.cilib.algorithm.MeasuringListener;
+import net.sourceforge.cilib.algorithm.ParallelExecutor;
+import net.sourceforge.cilib.math.random.generator.MersenneTwister;
+import net.sourceforge.cilib.math.random.generator.Rand;
 import net.sourceforge.cilib.measurement.Measurement;
 import net.sourceforge.cilib.problem.*;
 import net.sourceforge.cilib.problem.objective.Objective;
 import net.sourceforge.cilib.problem.solution.Fitness;
 import net.sourceforge.cilib.tuning.problem.ProblemGenerator;
+import net.sourceforge.cilib.type.types.Bounds;
 import net.sourceforge.cilib.type.types.Real;
 import net.sourceforge.cilib.type.types.Type;
+import net.sourceforge.cilib.type.types.container.StructuredType;
+import net.sourceforge.cilib.type.types.container.Vector;
 
 public class TuningProblem extends AbstractProblem {
     
@@ -27,11 +33,16 @@ public class TuningProblem extends AbstractProblem {
     private MeasuringListener measuringListener;
     private Measurement<Real> measurement;
     private int samples;
+    private ResultCache resultCache;
+    private String problemSpecification;
+    private boolean problemPrepared;
+    private boolean parallel;
     
     public TuningProblem() {
         this.measurement = new net.sourceforge.cilib.measurement.single.Fitness();
         this.samples = 1;
         this.measuringListener = new MeasuringListener();
+        this.parallel = false;
     }
     
     public TuningProblem(TuningProblem copy) {
@@ -40,6 +51,8 @@ public class TuningProblem extends AbstractProblem {
         this.targetAlgorithm = copy.targetAlgorithm.getClone();
         this.problemsProvider = copy.problemsProvider;
         this.measuringListener = copy.measuringListener.getClone();
+        this.resultCache = copy.resultCache == null ? null : copy.resultCache.getClone();
+        this.parallel = copy.parallel;
     }
 
     @Override
@@ -47,24 +60,154 @@ public class TuningProblem extends AbstractProblem {
         return new TuningProblem(this);
     }
 
+    /**
+     * Calculates the average measurement of the target algorithm with the given
+     * parameters on the current problem. By default the samples are run one after
+     * the other, continuing the random number stream of the calling thread. When
+     * the samples are run in parallel (see {@link #setParallel(boolean)}) or a
+     * result cache is used, every sample is a separate run with its own seed (see
+     * {@link #createRun(Vector, long)}), drawn from the random number stream of the
+     * calling thread, so that the results do not depend on whether the runs are
+     * executed concurrently or taken from the cache.
+     */
     @Override
     protected Fitness calculateFitness(Type solution) {
-        double f = sum(range(0, samples).map(new F<Integer, Double>(){
-            @Override
-            public Double f(Integer a) {
-                measuringListener.setMeasurement(measurement.getClone());
-                targetAlgorithm.setOptimisationProblem(currentProblem);
-                targetAlgorithm.performInitialisation();
-                targetAlgorithm.runAlgorithm();
-                return ((Real)measuringListener.getLastMeasurement()).doubleValue();
-            }                    
-        })) / samples;
+        Vector parameters = (Vector) solution;
+        double f = 0.0;
+        if (!parallel && resultCache == null) {
+            for (int i = 0; i < samples; i++) {
+                f += createRun(parameters, false, 0).call();
+            }
+            return objective.evaluate(f / samples);
+        }
 
-        return objective.evaluate(f);
+        java.util.List<TuningRun> runs = new ArrayList<TuningRun>();
+        for (int i = 0; i < samples; i++) {
+            runs.add(createRun(parameters, Rand.nextLong()));
+        }
+        if (parallel) {
+            prepareConcurrentRuns();
+            for (double measurement : ParallelExecutor.invokeAll(runs)) {
+                f += measurement;
+            }
+        } else {
+            MersenneTwister caller = Rand.getGenerator();
+            try {
+                for (TuningRun run : runs) {
+                    f += run.call();
+                }
+            } finally {
+                Rand.setGenerator(caller);
+            }
+        }
+        return objective.evaluate(f / samples);
+    }
+
+    /**
+     * Creates a single run of the target algorithm on the current problem. The
+     * run uses a clone of the target algorithm with its own measuring listener,
+     * and a clone of the current problem with its own count of fitness
+     * evaluations, so that it is independent of other runs.
+     * @param parameters the parameters of the target algorithm.
+     * @param seed the seed of the random number stream of the run.
+     * @return the run.
+     */
+    public TuningRun createRun(Vector parameters, long seed) {
+        return createRun(parameters, true, seed);
+    }
+
+    private TuningRun createRun(Vector parameters, boolean seeded, long seed) {
+        MeasuringListener listener = measuringListener.getClone();
+        listener.setMeasurement(measurement.getClone());
+
+        AbstractAlgorithm algorithm = targetAlgorithm.getClone();
+        algorithm.removeAlgorithmListener(measuringListener);
+        algorithm.addAlgorithmListener(listener);
+        algorithm.setOptimisationProblem(independentClone(currentProblem));
+
+        ResultCache cache = seeded ? resultCache : null;
+        String key = cache == null ? null : ResultCache.key(parameters, getProblemSpecification(), seed);
+        return new TuningRun(algorithm, listener, parameters, seeded, seed, cache, key);
+    }
+
+    /**
+     * Gets a canonical specification of the current problem, used to identify runs
+     * in the result cache. Besides the class and the configuration of the target
+     * algorithm (see {@link Configurations}), the class of the measurement, and the
+     * class and domain of the problem, the specification contains the fitness of a
+     * few fixed points in the domain, which tells apart problems that are randomly
+     * generated (e.g. randomly shifted functions). The points are evaluated on a
+     * clone of the problem, so that the evaluations are not counted.
+     * @return the specification.
+     */
+    public String getProblemSpecification() {
+        if (problemSpecification == null) {
+            StringBuilder specification = new StringBuilder();
+            specification.append(targetAlgorithm.getClass().getName())
+                .append(';').append(Hashing.sha1().hashString(Configurations.describe(targetAlgorithm), Charsets.UTF_8))
+                .append(';').append(measurement.getClass().getName())
+                .append(';').append(currentProblem.getClass().getName())
+                .append(';').append(currentProblem.getDomain().getDomainString());
+
+            StructuredType representation = currentProblem.getDomain().getBuiltRepresentation();
+            if (representation instanceof Vector) {
+                Problem probed = independentClone(currentProblem);
+                Vector domain = (Vector) representation;
+                for (double fraction : new double[] { 0.25, 0.5, 0.75 }) {
+                    Vector probe = Vector.copyOf(domain);
+                    for (int i = 0; i < probe.size(); i++) {
+                        Bounds bounds = domain.boundsOf(i);
+                        probe.setReal(i, bounds.getLowerBound() + fraction * bounds.getRange());
+                    }
+                    specification.append(';').append(probed.getFitness(probe).getValue());
+                }
+            }
+            problemSpecification = specification.toString();
+        }
+        return problemSpecification;
+    }
+
+    /**
+     * Gets the fitness of a measurement of the target algorithm, in the same way
+     * as the fitness of a parameter vector is calculated from its average
+     * measurement. The measurement is a result of the race, so it is counted as a
+     * fitness evaluation of this problem, as {@link #getFitness(Type)} is.
+     * @param measurement the measurement.
+     * @return the fitness.
+     */
+    public Fitness evaluateMeasurement(double measurement) {
+        fitnessEvaluations.incrementAndGet();
+        return objective.evaluate(measurement);
     }
 
     public void nextProblem() {
         currentProblem = problemsProvider._1();
+        problemSpecification = null;
+        problemPrepared = false;
+    }
+
+    /**
+     * Prepares the current problem for runs that evaluate it concurrently. The
+     * clones of a problem that the runs evaluate share its function (see
+     * {@link FunctionOptimisationProblem#FunctionOptimisationProblem(FunctionOptimisationProblem)}),
+     * so a function that is initialised lazily on its first evaluation (e.g. the
+     * shift vector of a randomly shifted function) is initialised here, once, from
+     * the random number stream of the calling thread, instead of by whichever run
+     * evaluates it first. A clone is evaluated so that the evaluation is not
+     * counted. Functions that change while they are evaluated (e.g. dynamic
+     * functions) cannot be shared, and are not made safe by this.
+     */
+    void prepareConcurrentRuns() {
+        if (!problemPrepared) {
+            independentClone(currentProblem).getFitness(currentProblem.getDomain().getBuiltRepresentation());
+            problemPrepared = true;
+        }
+    }
+
+    private static Problem independentClone(Problem problem) {
+        return problem instanceof AbstractProblem
+            ? ((AbstractProblem) problem).getIndependentClone()
+            : problem.getClone();
     }
     
     public void setMeasurement(Measurement<Real> measurement) {
@@ -109,7 +252,36 @@ public class TuningProblem extends AbstractProblem {
         return ((AbstractProblem) currentProblem).getObjective();
     }
 
+    /**
+     * Sets the cache of the measurements of the target algorithm runs. No cache
+     * is used by default.
+     * @param resultCache the cache.
+     */
+    public void setResultCache(ResultCache resultCache) {
+        this.resultCache = resultCache;
+    }
+
+    public ResultCache getResultCache() {
+        return resultCache;
+    }
+
     public void setMeasuringListener(MeasuringListener measuringListener) {
         this.measuringListener = measuringListener;
     }
+
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    /**
+     * Sets whether the samples of a parameter vector are run concurrently, as
+     * tasks of the {@link ParallelExecutor}. The runs use separate clones of the
+     * target algorithm and of the current problem, but the clones of the problem
+     * share its function, so the function must be safe to evaluate concurrently,
+     * which dynamic functions, for example, are not. The default is {@code false}.
+     * @param parallel whether to run the samples concurrently.
+     */
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
 }
@@ -0,0 +1,114 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.tuning;
+
+import java.util.concurrent.Callable;
+import net.sourceforge.cilib.algorithm.AbstractAlgorithm;
+import net.sourceforge.cilib.algorithm.MeasuringListener;
+import net.sourceforge.cilib.math.random.generator.Rand;
+import net.sourceforge.cilib.type.types.Real;
+import net.sourceforge.cilib.type.types.container.Vector;
+
+/**
+ * A single run of a target algorithm with a parameter vector and a seed, as
+ * created by {@link TuningProblem#createRun(Vector, long)}. Every run uses its own
+ * clone of the target algorithm, so runs may execute concurrently, and a run may
+ * be cancelled from another thread while it executes. A run without a seed
+ * continues the random number stream of the executing thread.
+ * <p>
+ * The run must be executed within a {@link TuningAlgorithm}, i.e. with the tuning
+ * algorithm at the bottom of the algorithm stack of the executing thread.
+ */
+public class TuningRun implements Callable<Double> {
+
+    private final AbstractAlgorithm algorithm;
+    private final MeasuringListener measuringListener;
+    private final Vector parameters;
+    private final boolean seeded;
+    private final long seed;
+    private final ResultCache resultCache;
+    private final String key;
+    private volatile boolean cancelled;
+
+    TuningRun(AbstractAlgorithm algorithm, MeasuringListener measuringListener, Vector parameters, boolean seeded,
+            long seed, ResultCache resultCache, String key) {
+        this.algorithm = algorithm;
+        this.measuringListener = measuringListener;
+        this.parameters = parameters;
+        this.seeded = seeded;
+        this.seed = seed;
+        this.resultCache = resultCache;
+        this.key = key;
+        this.cancelled = false;
+    }
+
+    /**
+     * Runs the target algorithm, unless the measurement of the run is in the
+     * result cache. The measurement of a run that completes is stored in the cache.
+     * @return the last measurement of the run.
+     */
+    @Override
+    public Double call() {
+        if (resultCache != null) {
+            Double cached = resultCache.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        TuningAlgorithm tuning = (TuningAlgorithm) AbstractAlgorithm.getAlgorithmList().head();
+        tuning.setCurrentParameters(parameters);
+        if (seeded) {
+            Rand.setSeed(seed);
+        }
+
+        algorithm.performInitialisation();
+        if (cancelled) {
+            return Double.NaN;
+        }
+        algorithm.runAlgorithm();
+        double result = ((Real) measuringListener.getLastMeasurement()).doubleValue();
+
+        if (resultCache != null && !cancelled) {
+            resultCache.put(key, result);
+        }
+        return result;
+    }
+
+    /**
+     * Stops the run. A run that has not started yet does not execute the target
+     * algorithm, and a run that is executing stops after the current iteration.
+     */
+    public void cancel() {
+        cancelled = true;
+        algorithm.terminate();
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    public Vector getParameters() {
+        return parameters;
+    }
+
+    public boolean isSeeded() {
+        return seeded;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the key of the run in the result cache.
+     * @return the key, or null if the run is not cached.
+     */
+    public String getKey() {
+        return key;
+    }
+}
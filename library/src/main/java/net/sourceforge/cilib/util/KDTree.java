@@ -0,0 +1,171 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.util;
+
+import com.google.common.base.Preconditions;
+import java.util.Arrays;
+
+/**
+ * A static k-d tree over a set of points, used to find the points that lie
+ * close to a given point without comparing it with all the points.
+ * <p>
+ * Queries return all the points within a given Chebyshev (maximum coordinate)
+ * distance of the query point. Since the distance between two points under any
+ * Minkowski metric (Manhattan, Euclidean, ...) is at least their Chebyshev
+ * distance, the result is a superset of the points within the same distance under
+ * such a metric, and callers filter it with their own distance measure.
+ * <p>
+ * The tree does not copy the points, which must not be modified while the tree
+ * is in use. Building the tree does not use random numbers.
+ */
+public class KDTree {
+
+    private static final int LEAF_SIZE = 8;
+
+    private final double[][] points;
+    private final int[] indices;
+    private final int[] splitDimensions;
+
+    /**
+     * Builds a tree over the given points.
+     * @param points the points, all of the same dimension.
+     */
+    public KDTree(double[][] points) {
+        this.points = points;
+        this.indices = new int[points.length];
+        this.splitDimensions = new int[points.length];
+        for (int i = 0; i < points.length; i++) {
+            Preconditions.checkArgument(points[i].length == points[0].length, "All the points must have the same dimension.");
+            indices[i] = i;
+        }
+        build(0, points.length);
+    }
+
+    /**
+     * Gets the number of points in the tree.
+     * @return the number of points.
+     */
+    public int size() {
+        return points.length;
+    }
+
+    /**
+     * Finds the points of which every coordinate differs by at most {@code radius}
+     * from the corresponding coordinate of {@code centre}.
+     * @param centre the query point.
+     * @param radius the maximum coordinate difference.
+     * @return the indices of the points, in ascending order.
+     */
+    public int[] query(double[] centre, double radius) {
+        int[] result = new int[points.length];
+        int count = query(centre, radius, 0, points.length, result, 0);
+        result = Arrays.copyOf(result, count);
+        Arrays.sort(result);
+        return result;
+    }
+
+    private int query(double[] centre, double radius, int from, int to, int[] result, int count) {
+        if (to - from <= LEAF_SIZE) {
+            for (int i = from; i < to; i++) {
+                if (contains(centre, radius, points[indices[i]])) {
+                    result[count++] = indices[i];
+                }
+            }
+            return count;
+        }
+
+        int median = (from + to) >>> 1;
+        int dimension = splitDimensions[median];
+        double split = points[indices[median]][dimension];
+        if (contains(centre, radius, points[indices[median]])) {
+            result[count++] = indices[median];
+        }
+        if (centre[dimension] - radius <= split) {
+            count = query(centre, radius, from, median, result, count);
+        }
+        if (centre[dimension] + radius >= split) {
+            count = query(centre, radius, median + 1, to, result, count);
+        }
+        return count;
+    }
+
+    private static boolean contains(double[] centre, double radius, double[] point) {
+        for (int i = 0; i < centre.length; i++) {
+            if (!(Math.abs(point[i] - centre[i]) <= radius)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Arranges the points in {@code [from, to)} such that the median, along the
+     * dimension with the largest spread, is in the middle with the smaller points
+     * before it and the larger points after it.
+     */
+    private void build(int from, int to) {
+        if (to - from <= LEAF_SIZE) {
+            return;
+        }
+
+        int dimension = 0;
+        double spread = -1.0;
+        for (int d = 0; d < points[indices[from]].length; d++) {
+            double min = Double.POSITIVE_INFINITY;
+            double max = Double.NEGATIVE_INFINITY;
+            for (int i = from; i < to; i++) {
+                double value = points[indices[i]][d];
+                min = Math.min(min, value);
+                max = Math.max(max, value);
+            }
+            if (max - min > spread) {
+                spread = max - min;
+                dimension = d;
+            }
+        }
+
+        int median = (from + to) >>> 1;
+        select(from, to - 1, median, dimension);
+        splitDimensions[median] = dimension;
+        build(from, median);
+        build(median + 1, to);
+    }
+
+    /**
+     * Partially sorts {@code [left, right]} along the given dimension so that the
+     * {@code k}-th element is in its sorted position (Hoare's selection).
+     */
+    private void select(int left, int right, int k, int dimension) {
+        while (left < right) {
+            double pivot = points[indices[(left + right) >>> 1]][dimension];
+            int i = left;
+            int j = right;
+            while (i <= j) {
+                while (points[indices[i]][dimension] < pivot) {
+                    i++;
+                }
+                while (points[indices[j]][dimension] > pivot) {
+                    j--;
+                }
+                if (i <= j) {
+                    int tmp = indices[i];
+                    indices[i] = indices[j];
+                    indices[j] = tmp;
+                    i++;
+                    j--;
+                }
+            }
+            if (k <= j) {
+                right = j;
+            } else if (k >= i) {
+                left = i;
+            } else {
+                return;
+            }
+        }
+    }
+}
@@ -22,9 +22,7 @@ public final class Populations {
         return new F<P, P>() {
             @Override
             public P f(P a) {
-                P tmp = (P) a.getClone();
-                tmp.setTopology(List.nil());
-                return tmp;
+                return (P) a.withTopology(List.<Entity>nil());
             }
         };
     }
@@ -42,17 +40,13 @@ public final class Populations {
     }
 
     /**
-     * Converts a single entity to a population of the given type.
+     * Converts a single entity to a population of the given type. The entity is not cloned.
      */
     public static <P extends SinglePopulationBasedAlgorithm, E extends Entity> F2<E, P, P> entityToAlgorithm() {
         return new F2<E, P, P>() {
             @Override
             public P f(E e, P p) {
-                P tmp = (P) p.getClone();
-                tmp.setTopology(List.single(e));
-                //((fj.data.List<E>) tmp.getTopology()).add(e);
-
-                return tmp;
+                return (P) p.withTopology(List.single(e));
             }
         };
     }
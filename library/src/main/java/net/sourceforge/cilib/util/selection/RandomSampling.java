@@ -0,0 +1,153 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.util.selection;
+
+import com.google.common.base.Objects;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import net.sourceforge.cilib.math.random.generator.Rand;
+
+/**
+ * Draws distinct random elements from a list by sampling their indices, without
+ * copying or rearranging the list. The result has the same distribution as
+ * shuffling a copy of the list with a {@link net.sourceforge.cilib.util.selection.arrangement.RandomArrangement}
+ * and taking the first elements, but only uses a few random numbers per element
+ * when few elements are drawn from a large list.
+ */
+public final class RandomSampling {
+
+    private RandomSampling() {
+    }
+
+    /**
+     * Draws distinct random elements from a list, which is traversed at most twice.
+     * @param <T> the element type.
+     * @param elements the list.
+     * @param number the number of elements to draw.
+     * @param excluded the elements that may not be drawn.
+     * @return the elements, in the order in which they were drawn. There are fewer
+     *         than {@code number} elements if the list does not contain enough
+     *         elements that are not excluded.
+     */
+    @SafeVarargs
+    public static <T> List<T> sample(Iterable<T> elements, int number, T... excluded) {
+        return sampleExcluding(elements, number, Arrays.asList(excluded));
+    }
+
+    /**
+     * Draws distinct random elements from a list, which is traversed at most twice.
+     * Every position of the list that holds an element equal to an excluded
+     * element is excluded, and {@code null} elements are compared safely.
+     * @param <T> the element type.
+     * @param elements the list.
+     * @param number the number of elements to draw.
+     * @param excluded the elements that may not be drawn.
+     * @return the elements, in the order in which they were drawn. There are fewer
+     *         than {@code number} elements if the list does not contain enough
+     *         elements that are not excluded.
+     */
+    public static <T> List<T> sampleExcluding(Iterable<T> elements, int number, Iterable<? extends T> excluded) {
+        BitSet excludedPositions = new BitSet();
+        int size = 0;
+        for (T e : elements) {
+            for (T x : excluded) {
+                if (Objects.equal(e, x)) {
+                    excludedPositions.set(size);
+                    break;
+                }
+            }
+            size++;
+        }
+
+        int[] indices = sampleIndices(size, number, excludedPositions);
+        if (indices.length == 0) {
+            return new ArrayList<T>();
+        }
+
+        int[] sorted = indices.clone();
+        Arrays.sort(sorted);
+        List<T> found = new ArrayList<T>(sorted.length);
+        int next = 0;
+        int position = 0;
+        for (T e : elements) {
+            if (position++ == sorted[next]) {
+                found.add(e);
+                if (++next == sorted.length) {
+                    break;
+                }
+            }
+        }
+
+        List<T> result = new ArrayList<T>(indices.length);
+        for (int index : indices) {
+            result.add(found.get(Arrays.binarySearch(sorted, index)));
+        }
+        return result;
+    }
+
+    /**
+     * Draws distinct random indices in {@code [0, size)}.
+     * @param size the number of indices.
+     * @param number the number of indices to draw.
+     * @param excluded the distinct indices that may not be drawn.
+     * @return the indices, in the order in which they were drawn, fewer than
+     *         {@code number} if there are not enough indices that are not excluded.
+     */
+    public static int[] sampleIndices(int size, int number, int... excluded) {
+        BitSet excludedPositions = new BitSet(size);
+        for (int index : excluded) {
+            excludedPositions.set(index);
+        }
+        return sampleIndices(size, number, excludedPositions);
+    }
+
+    private static int[] sampleIndices(int size, int number, BitSet excluded) {
+        int available = size - excluded.cardinality();
+        int n = Math.max(0, Math.min(number, available));
+        int[] result = new int[n];
+
+        if (2 * n > available) {
+            // most of the indices are drawn, so shuffle them partially
+            int[] indices = new int[available];
+            int k = 0;
+            for (int i = 0; i < size; i++) {
+                if (!excluded.get(i)) {
+                    indices[k++] = i;
+                }
+            }
+            for (int i = 0; i < n; i++) {
+                int j = i + Rand.nextInt(available - i);
+                int swap = indices[j];
+                indices[j] = indices[i];
+                indices[i] = swap;
+                result[i] = indices[i];
+            }
+            return result;
+        }
+
+        // few indices are drawn, so reject the ones that are excluded or drawn already
+        for (int i = 0; i < n; i++) {
+            int index;
+            do {
+                index = Rand.nextInt(size);
+            } while (excluded.get(index) || contains(result, i, index));
+            result[i] = index;
+        }
+        return result;
+    }
+
+    private static boolean contains(int[] indices, int length, int index) {
+        for (int i = 0; i < length; i++) {
+            if (indices[i] == index) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
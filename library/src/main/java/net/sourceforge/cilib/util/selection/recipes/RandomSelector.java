@@ -6,8 +6,16 @@
  */
 package net.sourceforge.cilib.util.selection.recipes;
 
+import com.google.common.base.Preconditions;
+import com.google.common.base.Predicate;
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
+import java.util.List;
 import net.sourceforge.cilib.util.selection.PartialSelection;
+import net.sourceforge.cilib.util.selection.RandomSampling;
+import net.sourceforge.cilib.util.selection.Samples;
 import net.sourceforge.cilib.util.selection.Selection;
+import net.sourceforge.cilib.util.selection.arrangement.Arrangement;
 import net.sourceforge.cilib.util.selection.arrangement.RandomArrangement;
 
 /**
@@ -18,6 +26,8 @@ import net.sourceforge.cilib.util.selection.arrangement.RandomArrangement;
  *   <li>A random element is selected from the provided list.</li>
  *   <li>Return the result.</li>
  * </ol>
+ * The elements are not copied when a single element is selected, possibly
+ * after excluding some elements (see {@link RandomSampling}).
  * @param <E>
  */
 public class RandomSelector<E> implements Selector<E> {
@@ -25,6 +35,63 @@ public class RandomSelector<E> implements Selector<E> {
 
     @Override
     public PartialSelection<E> on(Iterable<E> iterable) {
-        return (Selection<E>) Selection.copyOf(iterable).orderBy(new RandomArrangement());
+        Preconditions.checkNotNull(iterable);
+        Preconditions.checkArgument(!Iterables.isEmpty(iterable), "Attempting to create a "
+                + "selection on an empty collection is not valid.");
+        return new RandomSelection<E>(iterable, Lists.<E>newArrayList());
+    }
+
+    /**
+     * A random selection that draws the selected element directly from the
+     * elements, and otherwise behaves as a randomly ordered {@link Selection}.
+     */
+    private static class RandomSelection<E> implements PartialSelection<E> {
+        private final Iterable<E> elements;
+        private final List<E> excluded;
+
+        RandomSelection(Iterable<E> elements, List<E> excluded) {
+            this.elements = elements;
+            this.excluded = excluded;
+        }
+
+        @Override
+        public PartialSelection<E> exclude(E... items) {
+            return exclude(Lists.newArrayList(items));
+        }
+
+        @Override
+        public PartialSelection<E> exclude(Iterable<E> items) {
+            List<E> result = Lists.newArrayList(excluded);
+            Iterables.addAll(result, items);
+            return new RandomSelection<E>(elements, result);
+        }
+
+        @Override
+        public PartialSelection<E> filter(Predicate<? super E> predicate) {
+            return toSelection().filter(predicate);
+        }
+
+        @Override
+        public PartialSelection<E> orderBy(Arrangement arrangement) {
+            return toSelection().orderBy(arrangement);
+        }
+
+        @Override
+        public E select() {
+            List<E> selected = RandomSampling.sampleExcluding(elements, 1, excluded);
+            Preconditions.checkArgument(!selected.isEmpty(), "Attempting to create a "
+                    + "selection on an empty collection is not valid.");
+            return selected.get(0);
+        }
+
+        @Override
+        public List<E> select(Samples sample) {
+            return toSelection().select(sample);
+        }
+
+        private PartialSelection<E> toSelection() {
+            Selection<E> selection = Selection.copyOf(elements).orderBy(new RandomArrangement<E>());
+            return excluded.isEmpty() ? selection : selection.exclude(excluded);
+        }
     }
 }
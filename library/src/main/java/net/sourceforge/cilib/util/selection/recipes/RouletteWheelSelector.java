@@ -6,8 +6,15 @@
  */
 package net.sourceforge.cilib.util.selection.recipes;
 
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
+
+import com.google.common.collect.Iterables;
+import java.util.Arrays;
+import net.sourceforge.cilib.math.random.generator.Rand;
 import net.sourceforge.cilib.util.selection.PartialSelection;
 import net.sourceforge.cilib.util.selection.Selection;
+import net.sourceforge.cilib.util.selection.WeightedObject;
 import net.sourceforge.cilib.util.selection.arrangement.ProportionalArrangement;
 import net.sourceforge.cilib.util.selection.arrangement.ReverseArrangement;
 import net.sourceforge.cilib.util.selection.arrangement.SortedArrangement;
@@ -79,4 +86,69 @@ public class RouletteWheelSelector<E extends Comparable> implements Selector<E>
                 .orderBy(new ProportionalArrangement())
                 .orderBy(new ReverseArrangement());
     }
+
+    /**
+     * Weigh the provided elements once, to spin the resulting roulette wheel as
+     * many times as needed. Each spin selects an element with the same
+     * probability as {@code on(iterable).select()}, but only draws a single
+     * random number.
+     * @param iterable The elements to select from.
+     * @return The roulette wheel for the elements.
+     * @throws IllegalArgumentException if there are no elements.
+     */
+    public Wheel<E> wheel(Iterable<E> iterable) {
+        checkArgument(!Iterables.isEmpty(iterable), "Attempting to create a "
+                + "selection on an empty collection is not valid.");
+        return new Wheel<E>(weighting.weigh(iterable));
+    }
+
+    /**
+     * A roulette wheel of weighed elements, which does not change once created
+     * and can therefore be spun concurrently.
+     * @param <E> The selection type.
+     */
+    public static final class Wheel<E> {
+
+        private final Object[] elements;
+        private final double[] cumulativeWeights;
+
+        private Wheel(Iterable<WeightedObject> weighted) {
+            WeightedObject[] sorted = Iterables.toArray(weighted, WeightedObject.class);
+            Arrays.sort(sorted);
+
+            this.elements = new Object[sorted.length];
+            this.cumulativeWeights = new double[sorted.length];
+            double total = 0.0;
+            for (int i = 0; i < sorted.length; i++) {
+                total += sorted[i].getWeight();
+                elements[i] = sorted[i].getObject();
+                cumulativeWeights[i] = total;
+            }
+        }
+
+        /**
+         * Select an element with a probability proportional to its weight.
+         * @return The selected element.
+         * @throws IllegalStateException if the total weight of the elements is zero.
+         */
+        public E spin() {
+            int last = cumulativeWeights.length - 1;
+            checkState(Double.compare(cumulativeWeights[last], 0.0) != 0, "Selection is invalid, please verify selection state.");
+
+            // Select the first element of which the cumulative weight reaches the
+            // random value.
+            double randomValue = Rand.nextDouble() * cumulativeWeights[last];
+            int low = 0;
+            int high = last;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (cumulativeWeights[middle] < randomValue) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return (E) elements[low];
+        }
+    }
 }
@@ -0,0 +1,110 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.algorithm;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import net.sourceforge.cilib.math.random.generator.MersenneTwister;
+import net.sourceforge.cilib.math.random.generator.Rand;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class ParallelExecutorTest {
+
+    private static List<Callable<Double>> randomTasks(int count) {
+        List<Callable<Double>> tasks = new ArrayList<Callable<Double>>();
+        for (int i = 0; i < count; i++) {
+            tasks.add(new Callable<Double>() {
+                @Override
+                public Double call() {
+                    double total = 0.0;
+                    for (int j = 0; j < 1000; j++) {
+                        total += Rand.nextDouble();
+                    }
+                    return total;
+                }
+            });
+        }
+        return tasks;
+    }
+
+    @Test
+    public void testDeterministicStreams() throws Exception {
+        Rand.setSeed(7);
+        List<Double> parallel = ParallelExecutor.invokeAll(randomTasks(8));
+        assertEquals(7, Rand.getSeed());
+        double parallelNext = Rand.nextDouble();
+
+        Rand.setSeed(7);
+        List<Double> sequential = new ArrayList<Double>();
+        long[] seeds = new long[8];
+        for (int i = 0; i < seeds.length; i++) {
+            seeds[i] = Rand.nextLong();
+        }
+        MersenneTwister caller = Rand.getGenerator();
+        for (int i = 0; i < seeds.length; i++) {
+            Rand.setSeed(seeds[i]);
+            sequential.add(randomTasks(1).get(0).call());
+        }
+        Rand.setGenerator(caller);
+
+        assertEquals(sequential, parallel);
+        assertEquals(Rand.nextDouble(), parallelNext, 0.0);
+    }
+
+    @Test
+    public void testResultHandler() {
+        Rand.setSeed(7);
+        final List<Double> expected = ParallelExecutor.invokeAll(randomTasks(6));
+        double expectedNext = Rand.nextDouble();
+
+        Rand.setSeed(7);
+        final List<Integer> handled = new ArrayList<Integer>();
+        ParallelExecutor.invokeAll(randomTasks(6), new ParallelExecutor.ResultHandler<Double>() {
+            @Override
+            public Iterable<Integer> handle(int index, Double result) {
+                assertEquals(expected.get(index), result);
+                handled.add(index);
+                return index == 1 ? Arrays.asList(3, 5) : Collections.<Integer>emptyList();
+            }
+        });
+
+        assertEquals(Arrays.asList(0, 1, 2, 4), handled);
+        assertEquals(expectedNext, Rand.nextDouble(), 0.0);
+    }
+
+    @Test
+    public void testAlgorithmStackPropagation() {
+        final List<Callable<Algorithm>> tasks = new ArrayList<Callable<Algorithm>>();
+        for (int i = 0; i < 4; i++) {
+            tasks.add(new Callable<Algorithm>() {
+                @Override
+                public Algorithm call() {
+                    return AbstractAlgorithm.get();
+                }
+            });
+        }
+
+        final List<List<Algorithm>> results = new ArrayList<List<Algorithm>>();
+        AbstractAlgorithm caller = new MultistartOptimisationAlgorithm() {
+            @Override
+            public void algorithmIteration() {
+                results.add(ParallelExecutor.invokeAll(tasks));
+            }
+        };
+        caller.performIteration();
+
+        for (Algorithm current : results.get(0)) {
+            assertSame(caller, current);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.algorithm;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import net.sourceforge.cilib.entity.Entity;
+import net.sourceforge.cilib.math.random.generator.Rand;
+import net.sourceforge.cilib.type.types.container.StructuredType;
+
+/**
+ * Helper object for testing the parallel modes of algorithms.
+ * <p>
+ * The {@link ParallelExecutor} runs the tasks that are submitted from within a
+ * task in the calling thread, so {@link #runOnOneThread(AbstractAlgorithm, int)}
+ * gives the result of a single threaded run, to compare with that of
+ * {@link #run(AbstractAlgorithm, int)} on the whole pool. The two only differ in
+ * the number of threads when the pool has more than one thread, which can be set
+ * with the {@code cilib.threads} system property.
+ */
+public final class ParallelTestHelper {
+
+    private ParallelTestHelper() {
+    }
+
+    /**
+     * Initialises the given algorithm and performs the given number of iterations,
+     * starting from the seed {@code 0}.
+     */
+    public static <A extends AbstractAlgorithm> A run(A algorithm, int iterations) {
+        Rand.setSeed(0);
+        algorithm.performInitialisation();
+        for (int i = 0; i < iterations; i++) {
+            algorithm.performIteration();
+        }
+        return algorithm;
+    }
+
+    /**
+     * Does the same as {@link #run(AbstractAlgorithm, int)}, but with all the
+     * tasks of the algorithm executed in a single thread of the pool.
+     */
+    public static <A extends AbstractAlgorithm> A runOnOneThread(final A algorithm, final int iterations) {
+        List<Callable<A>> tasks = new ArrayList<Callable<A>>();
+        tasks.add(new Callable<A>() {
+            @Override
+            public A call() {
+                return run(algorithm, iterations);
+            }
+        });
+        // a second task, so that the run is handed to the pool if it has several threads
+        tasks.add(new Callable<A>() {
+            @Override
+            public A call() {
+                return null;
+            }
+        });
+        return ParallelExecutor.invokeAll(tasks).get(0);
+    }
+
+    /**
+     * Gets the positions of the given entities, in order.
+     */
+    public static List<StructuredType> positions(Iterable<? extends Entity> entities) {
+        List<StructuredType> positions = new ArrayList<StructuredType>();
+        for (Entity entity : entities) {
+            positions.add(entity.getPosition());
+        }
+        return positions;
+    }
+}
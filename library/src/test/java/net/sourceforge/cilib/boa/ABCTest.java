@@ -7,15 +7,20 @@
 package net.sourceforge.cilib.boa;
 
 import java.util.HashMap;
+import net.sourceforge.cilib.algorithm.ParallelTestHelper;
 import net.sourceforge.cilib.boa.bee.HoneyBee;
 import net.sourceforge.cilib.controlparameter.ConstantControlParameter;
 import net.sourceforge.cilib.functions.continuous.unconstrained.Ackley;
+import net.sourceforge.cilib.functions.continuous.unconstrained.Spherical;
 import net.sourceforge.cilib.measurement.generic.Iterations;
 import net.sourceforge.cilib.problem.FunctionOptimisationProblem;
+import net.sourceforge.cilib.problem.solution.OptimisationSolution;
 import net.sourceforge.cilib.stoppingcondition.Maximum;
 import net.sourceforge.cilib.stoppingcondition.MeasuredStoppingCondition;
 import net.sourceforge.cilib.type.types.Type;
+import net.sourceforge.cilib.type.types.container.Vector;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import org.junit.Test;
 
 public class ABCTest {
@@ -51,4 +56,66 @@ public class ABCTest {
 
         assertEquals(100, map.size());
     }
+
+    @Test
+    public void bestSolutionIsTrackedByValue() {
+        ABC abc = createABC();
+        abc.performInitialisation();
+
+        double previous = Double.MAX_VALUE;
+        for (int i = 0; i < 20; i++) {
+            abc.performIteration();
+            OptimisationSolution best = abc.getBestSolution();
+            double value = best.getFitness().getValue();
+            assertTrue(value <= previous);
+            assertEquals(new Spherical().f((Vector) best.getPosition()), value, 0.0);
+            previous = value;
+        }
+    }
+
+    @Test
+    public void parallelRunEvaluatesAsSequentialRun() {
+        ABC sequential = ParallelTestHelper.run(createABC(), 20);
+        ABC abc = createABC();
+        abc.setParallel(true);
+        ParallelTestHelper.run(abc, 0);
+
+        double previous = Double.MAX_VALUE;
+        for (int i = 0; i < 20; i++) {
+            abc.performIteration();
+            OptimisationSolution best = abc.getBestSolution();
+            double value = best.getFitness().getValue();
+            assertTrue(value <= previous);
+            assertEquals(new Spherical().f((Vector) best.getPosition()), value, 0.0);
+            previous = value;
+        }
+        assertEquals(20, abc.getTopology().length());
+        assertEquals(sequential.getOptimisationProblem().getFitnessEvaluations(),
+            abc.getOptimisationProblem().getFitnessEvaluations());
+    }
+
+    @Test
+    public void parallelResultsDoNotDependOnThreads() {
+        ABC pool = createABC();
+        pool.setParallel(true);
+        ABC oneThread = createABC();
+        oneThread.setParallel(true);
+
+        OptimisationSolution expected = ParallelTestHelper.run(pool, 10).getBestSolution();
+        OptimisationSolution actual = ParallelTestHelper.runOnOneThread(oneThread, 10).getBestSolution();
+        assertEquals(expected.getPosition(), actual.getPosition());
+        assertEquals(expected.getFitness().getValue(), actual.getFitness().getValue(), 0.0);
+        assertEquals(ParallelTestHelper.positions(pool.getTopology()), ParallelTestHelper.positions(oneThread.getTopology()));
+    }
+
+    private static ABC createABC() {
+        FunctionOptimisationProblem problem = new FunctionOptimisationProblem();
+        problem.setDomain("R(-5.12:5.12)^5");
+        problem.setFunction(new Spherical());
+
+        ABC abc = new ABC();
+        abc.getInitialisationStrategy().setEntityNumber(20);
+        abc.setOptimisationProblem(problem);
+        return abc;
+    }
 }
@@ -250,6 +250,70 @@ public class CascadeCorrelationAlgorithmTest {
         assertEquals(1.0, resultWeights.doubleValueOf(15), Maths.EPSILON);
     }
 
+    @Test
+    public void testPhase1CandidatePool() {
+
+        NeuralNetwork network = new NeuralNetwork();
+        network.getArchitecture().setArchitectureBuilder(new CascadeArchitectureBuilder());
+        network.getArchitecture().getArchitectureBuilder().addLayer(new LayerConfiguration(2));
+        network.getArchitecture().getArchitectureBuilder().addLayer(new LayerConfiguration(2));
+        StringBasedDomainRegistry domain = new StringBasedDomainRegistry();
+        domain.setDomainString("R(-3:3)");
+        PresetNeuronDomain domainProvider = new PresetNeuronDomain();
+        domainProvider.setWeightDomainPrototype(domain);
+        network.getArchitecture().getArchitectureBuilder().getLayerBuilder().setDomainProvider(domainProvider);
+        network.setOperationVisitor(new CascadeVisitor());
+        network.initialise();
+
+        StandardPatternDataTable trainingSet = new StandardPatternDataTable();
+        Vector input = Vector.of(0.1, 0.2);
+        Vector output = Vector.of(0, 0);
+        StandardPattern pattern = new StandardPattern(input, output);
+        trainingSet.addRow(pattern);
+        input = Vector.of(0.2, 0.4);
+        pattern = new StandardPattern(input, output);
+        trainingSet.addRow(pattern);
+
+        final NNTrainingProblem problem = mock(NNTrainingProblem.class);
+        when(problem.getTrainingSet()).thenReturn(trainingSet);
+        when(problem.getValidationSet()).thenReturn(new StandardPatternDataTable());
+        when(problem.getGeneralisationSet()).thenReturn(new StandardPatternDataTable());
+        when(problem.getNeuralNetwork()).thenReturn(network);
+
+        final AbstractAlgorithm p1Alg = mock(AbstractAlgorithm.class);
+        final AbstractAlgorithm[] p1AlgClones = new AbstractAlgorithm[3];
+        double[] correlations = {0.2, 0.7, 0.4};
+        for (int i = 0; i < p1AlgClones.length; i++) {
+            p1AlgClones[i] = mock(AbstractAlgorithm.class);
+            when(p1AlgClones[i].getBestSolution()).thenReturn(new OptimisationSolution(Vector.fill(i + 1.0, 3), new MaximisationFitness(correlations[i])));
+            doNothing().when(p1AlgClones[i]).performInitialisation();
+            doNothing().when(p1AlgClones[i]).runAlgorithm();
+        }
+        when(p1Alg.getClone()).thenReturn(p1AlgClones[0], p1AlgClones[1], p1AlgClones[2]);
+
+        CascadeCorrelationAlgorithm cascadeAlg = new CascadeCorrelationAlgorithm();
+        cascadeAlg.setOptimisationProblem(problem);
+        cascadeAlg.setPhase1Algorithm(p1Alg);
+        cascadeAlg.setCandidatePoolSize(3);
+        cascadeAlg.performInitialisation();
+
+        network.setWeights(Vector.of(0.0,0.0,0.0,0.0,0.0,0.0));
+
+        cascadeAlg.phase1();
+
+        List<Layer> resultLayers = network.getArchitecture().getLayers();
+        assertEquals(3, resultLayers.size());
+        assertEquals(1, resultLayers.get(1).size());
+
+        Vector resultWeights = network.getWeights();
+        assertEquals(11, resultWeights.size());
+        assertEquals(2.0, resultWeights.doubleValueOf(0), Maths.EPSILON);
+        assertEquals(2.0, resultWeights.doubleValueOf(1), Maths.EPSILON);
+        assertEquals(2.0, resultWeights.doubleValueOf(2), Maths.EPSILON);
+        assertEquals(0.0, resultWeights.doubleValueOf(3), Maths.EPSILON);
+        assertTrue(Double.isNaN(resultWeights.doubleValueOf(6)));
+    }
+
     /*@Test
     public void testAlgorithmIteration() {
 
@@ -9,11 +9,15 @@ package net.sourceforge.cilib.coevolution.cooperative;
 import java.util.List;
 import net.sourceforge.cilib.algorithm.population.SinglePopulationBasedAlgorithm;
 import net.sourceforge.cilib.coevolution.cooperative.contextupdate.SelectiveContextUpdateStrategy;
+import net.sourceforge.cilib.coevolution.cooperative.contextupdate.StandardContextUpdateStrategy;
 import net.sourceforge.cilib.coevolution.cooperative.contributionselection.ContributionSelectionStrategy;
 import net.sourceforge.cilib.coevolution.cooperative.problem.CooperativeCoevolutionProblemAdapter;
 import net.sourceforge.cilib.coevolution.cooperative.problem.SequentialDimensionAllocation;
 import net.sourceforge.cilib.coevolution.cooperative.problemdistribution.ProblemDistributionStrategy;
 import net.sourceforge.cilib.entity.Entity;
+import net.sourceforge.cilib.functions.continuous.unconstrained.Spherical;
+import net.sourceforge.cilib.math.random.generator.Rand;
+import net.sourceforge.cilib.problem.FunctionOptimisationProblem;
 import net.sourceforge.cilib.problem.Problem;
 import net.sourceforge.cilib.problem.solution.InferiorFitness;
 import net.sourceforge.cilib.problem.solution.MinimisationFitness;
@@ -24,7 +28,9 @@ import net.sourceforge.cilib.type.StringBasedDomainRegistry;
 import net.sourceforge.cilib.type.types.container.Vector;
 import net.sourceforge.cilib.util.calculator.FitnessCalculator;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.*;
 
@@ -96,4 +102,88 @@ public class CooperativeCoevolutionTest {
         verify(subPopulation, atLeast(1)).performIteration();
         verify(distribution, atLeast(1)).performDistribution(any(List.class), any(Problem.class), any(Vector.class));
     }
+
+    private static CooperativeCoevolutionAlgorithm createParallelAlgorithm() {
+        FunctionOptimisationProblem problem = new FunctionOptimisationProblem();
+        problem.setFunction(new Spherical());
+        problem.setDomain("R(-5.0:5.0)^6");
+
+        CooperativeCoevolutionAlgorithm algorithm = new CooperativeCoevolutionAlgorithm();
+        algorithm.addPopulationBasedAlgorithm(new PSO());
+        algorithm.addPopulationBasedAlgorithm(new PSO());
+        algorithm.addPopulationBasedAlgorithm(new PSO());
+        algorithm.setParallel(true);
+        algorithm.setOptimisationProblem(problem);
+        algorithm.performInitialisation();
+        return algorithm;
+    }
+
+    @Test
+    public void parallelCoevolutionTest() {
+        Rand.setSeed(13);
+        CooperativeCoevolutionAlgorithm first = createParallelAlgorithm();
+        double initial = first.getContext().getFitness().getValue();
+        for (int i = 0; i < 5; i++) {
+            first.performIteration();
+        }
+
+        Rand.setSeed(13);
+        CooperativeCoevolutionAlgorithm second = createParallelAlgorithm();
+        for (int i = 0; i < 5; i++) {
+            second.performIteration();
+        }
+
+        assertEquals(first.getContext().getPosition(), second.getContext().getPosition());
+        assertTrue(first.getContext().getFitness().getValue() <= initial);
+        assertTrue(first.getClone().isParallel());
+    }
+
+    @Test
+    public void parallelContextSnapshotTest() {
+        final ContributionSelectionStrategy strategy = mock(ContributionSelectionStrategy.class);
+        when(strategy.getContribution(any(SinglePopulationBasedAlgorithm.class))).thenReturn(Vector.of(1.0), Vector.of(2.0));
+
+        final DomainRegistry problemDomain = new StringBasedDomainRegistry();
+        problemDomain.setDomainString("R(0.0:4.0)^2");
+        final Problem problem = mock(Problem.class);
+        when(problem.getClone()).thenReturn(problem);
+        when(problem.getDomain()).thenReturn(problemDomain);
+
+        final CooperativeCoevolutionProblemAdapter subProb = mock(CooperativeCoevolutionProblemAdapter.class);
+        when(subProb.getProblemAllocation()).thenReturn(new SequentialDimensionAllocation(0, 1), new SequentialDimensionAllocation(1, 1));
+
+        final PSO subPopulation = mock(PSO.class);
+        when(subPopulation.getOptimisationProblem()).thenReturn(subProb);
+        when(subPopulation.getClone()).thenReturn(subPopulation);
+        when(subPopulation.getContributionSelectionStrategy()).thenReturn(strategy);
+        when(subPopulation.getBestSolution()).thenReturn(new OptimisationSolution(Vector.of(4.0), InferiorFitness.instance()));
+
+        final CooperativeCoevolutionAlgorithm testAlgorithm = new CooperativeCoevolutionAlgorithm();
+        testAlgorithm.addPopulationBasedAlgorithm(subPopulation);
+        testAlgorithm.addPopulationBasedAlgorithm(subPopulation);
+        testAlgorithm.setProblemDistribution(mock(ProblemDistributionStrategy.class));
+
+        final FitnessCalculator<Entity> calculator = mock(FitnessCalculator.class);
+        when(calculator.getFitness(any(ContextEntity.class))).thenReturn(InferiorFitness.instance(), new MinimisationFitness(2.0), new MinimisationFitness(1.0));
+        when(calculator.getClone()).thenReturn(calculator);
+        testAlgorithm.getContext().getBehaviour().setFitnessCalculator(calculator);
+        testAlgorithm.setContextUpdate(new StandardContextUpdateStrategy());
+        testAlgorithm.setOptimisationProblem(problem);
+        testAlgorithm.setParallel(true);
+
+        testAlgorithm.performInitialisation();
+        Vector snapshot = Vector.copyOf(testAlgorithm.getContext().getPosition());
+        testAlgorithm.performIteration();
+
+        //both participants see the context at the start of the iteration
+        ArgumentCaptor<Vector> contexts = ArgumentCaptor.forClass(Vector.class);
+        verify(subProb, times(2)).updateContext(contexts.capture());
+        assertEquals(snapshot, contexts.getAllValues().get(0));
+        assertEquals(snapshot, contexts.getAllValues().get(1));
+
+        //the contributions are merged in participant order: both participants
+        //were allocated the second dimension by the mock, so the last one wins
+        assertEquals(4.0, testAlgorithm.getContext().getPosition().get(0).doubleValue(), 0.0);
+        assertEquals(2.0, testAlgorithm.getContext().getPosition().get(1).doubleValue(), 0.0);
+    }
 }
@@ -0,0 +1,112 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.coevolution.cooperative.problem;
+
+import net.sourceforge.cilib.controlparameter.ConstantControlParameter;
+import net.sourceforge.cilib.functions.ContinuousFunction;
+import net.sourceforge.cilib.functions.continuous.decorators.PermutationFunctionDecorator;
+import net.sourceforge.cilib.functions.continuous.decorators.ShiftedFunctionDecorator;
+import net.sourceforge.cilib.functions.continuous.unconstrained.Ackley;
+import net.sourceforge.cilib.functions.continuous.unconstrained.Elliptic;
+import net.sourceforge.cilib.functions.continuous.unconstrained.Rastrigin;
+import net.sourceforge.cilib.functions.continuous.unconstrained.Spherical;
+import net.sourceforge.cilib.math.random.generator.Rand;
+import net.sourceforge.cilib.problem.FunctionOptimisationProblem;
+import net.sourceforge.cilib.type.types.container.Vector;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class CooperativeCoevolutionProblemAdapterTest {
+
+    private static FunctionOptimisationProblem createProblem(ContinuousFunction function) {
+        FunctionOptimisationProblem problem = new FunctionOptimisationProblem();
+        problem.setFunction(function);
+        problem.setDomain("R(-5.0:5.0)^8");
+        return problem;
+    }
+
+    private static Vector randomVector(FunctionOptimisationProblem problem) {
+        return Vector.newBuilder().copyOf((Vector) problem.getDomain().getBuiltRepresentation()).buildRandom();
+    }
+
+    /**
+     * Compares the fitness calculated by the adapter with the fitness of the
+     * full context vector.
+     */
+    private static void assertPartialEvaluation(ContinuousFunction function) {
+        FunctionOptimisationProblem problem = createProblem(function);
+        Vector context = randomVector(problem);
+        CooperativeCoevolutionProblemAdapter adapter =
+                new CooperativeCoevolutionProblemAdapter(problem, new SequentialDimensionAllocation(3, 3), context);
+
+        for (int i = 0; i < 5; i++) {
+            if (i == 3) {
+                context = randomVector(problem);
+                adapter.updateContext(context);
+            }
+            Vector solution = Vector.of(Rand.nextDouble(), -Rand.nextDouble(), 3 * Rand.nextDouble());
+            Vector full = Vector.copyOf(context);
+            for (int j = 0; j < 3; j++) {
+                full.set(3 + j, solution.get(j));
+            }
+            double expected = function.f(full);
+            assertEquals(expected, adapter.getFitness(solution).getValue(), 1e-9 * Math.max(1.0, Math.abs(expected)));
+        }
+    }
+
+    @Test
+    public void testSeparableFunctions() {
+        Rand.setSeed(3);
+        assertPartialEvaluation(new Spherical());
+        assertPartialEvaluation(new Rastrigin());
+        assertPartialEvaluation(new Elliptic());
+    }
+
+    @Test
+    public void testDecoratedFunctions() {
+        Rand.setSeed(5);
+        ShiftedFunctionDecorator shifted = new ShiftedFunctionDecorator();
+        shifted.setFunction(new Rastrigin());
+        shifted.setRandomShift(true);
+        PermutationFunctionDecorator permuted = new PermutationFunctionDecorator();
+        permuted.setFunction(shifted);
+        assertPartialEvaluation(permuted);
+
+        ShiftedFunctionDecorator vertical = new ShiftedFunctionDecorator();
+        vertical.setFunction(new Elliptic());
+        vertical.setVerticalShift(ConstantControlParameter.of(-450.0));
+        vertical.setHorizontalShift(ConstantControlParameter.of(1.5));
+        assertPartialEvaluation(vertical);
+    }
+
+    @Test
+    public void testNonSeparableFunction() {
+        Rand.setSeed(7);
+        ShiftedFunctionDecorator shifted = new ShiftedFunctionDecorator();
+        shifted.setFunction(new Ackley());
+        assertPartialEvaluation(shifted);
+    }
+
+    @Test
+    public void testFitnessEvaluations() {
+        FunctionOptimisationProblem problem = createProblem(new Spherical());
+        Vector context = Vector.copyOf((Vector) problem.getDomain().getBuiltRepresentation());
+        for (int i = 0; i < context.size(); i++) {
+            context.setReal(i, 1.0);
+        }
+        CooperativeCoevolutionProblemAdapter adapter =
+                new CooperativeCoevolutionProblemAdapter(problem, new SequentialDimensionAllocation(0, 2), context);
+
+        adapter.getFitness(Vector.of(0.0, 2.0));
+        adapter.getFitness(Vector.of(1.0, 2.0));
+
+        assertEquals(2, adapter.getFitnessEvaluations());
+        assertEquals(2, problem.getFitnessEvaluations());
+        assertEquals(7.0, adapter.getFitness(Vector.of(0.0, 1.0)).getValue(), 0.0);
+    }
+}
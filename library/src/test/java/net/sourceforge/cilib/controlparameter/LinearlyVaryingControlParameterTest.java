@@ -0,0 +1,95 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.controlparameter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import net.sourceforge.cilib.algorithm.AbstractAlgorithm;
+import net.sourceforge.cilib.algorithm.Algorithm;
+import net.sourceforge.cilib.problem.solution.OptimisationSolution;
+import net.sourceforge.cilib.stoppingcondition.StoppingCondition;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LinearlyVaryingControlParameterTest {
+
+    @Test
+    public void parameterIsFixedWithinIteration() {
+        CountingStoppingCondition condition = new CountingStoppingCondition();
+        ParameterAlgorithm algorithm = new ParameterAlgorithm();
+        algorithm.addStoppingCondition(condition);
+        algorithm.performInitialisation();
+
+        algorithm.performIteration();
+        algorithm.performIteration();
+        int calls = condition.calls;
+        algorithm.performIteration();
+
+        Assert.assertEquals(1, condition.calls - calls);
+        Assert.assertEquals(Arrays.asList(0.5, 0.5, 0.5), algorithm.values.subList(6, 9));
+    }
+
+    @Test
+    public void parameterUsesCurrentProgressOutsideIteration() {
+        CountingStoppingCondition condition = new CountingStoppingCondition();
+        ParameterAlgorithm algorithm = new ParameterAlgorithm();
+        algorithm.addStoppingCondition(condition);
+        algorithm.performInitialisation();
+        algorithm.performIteration();
+
+        Assert.assertEquals(1, algorithm.getProgress().getIterations());
+        Assert.assertEquals(0.25, algorithm.getProgress().getPercentageComplete(), 0.0);
+    }
+
+    private static class CountingStoppingCondition extends StoppingCondition {
+        private int calls;
+
+        @Override
+        public double getPercentageCompleted(Algorithm algorithm) {
+            calls++;
+            return algorithm.getIterations() / 4.0;
+        }
+
+        @Override
+        public Boolean f(Algorithm algorithm) {
+            return algorithm.getIterations() >= 4;
+        }
+
+        @Override
+        public CountingStoppingCondition getClone() {
+            return this;
+        }
+    }
+
+    private static class ParameterAlgorithm extends AbstractAlgorithm {
+        private final LinearlyVaryingControlParameter parameter = new LinearlyVaryingControlParameter(0.0, 1.0);
+        private final List<Double> values = new ArrayList<Double>();
+
+        @Override
+        public ParameterAlgorithm getClone() {
+            return this;
+        }
+
+        @Override
+        protected void algorithmIteration() {
+            for (int i = 0; i < 3; i++) {
+                values.add(parameter.getParameter());
+            }
+        }
+
+        @Override
+        public OptimisationSolution getBestSolution() {
+            return null;
+        }
+
+        @Override
+        public Iterable<OptimisationSolution> getSolutions() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.ec.iterationstrategies;
+
+import net.sourceforge.cilib.algorithm.ParallelTestHelper;
+import net.sourceforge.cilib.algorithm.initialisation.ClonedPopulationInitialisationStrategy;
+import net.sourceforge.cilib.ec.EC;
+import net.sourceforge.cilib.ec.Individual;
+import net.sourceforge.cilib.entity.behaviour.DoNothingBehaviour;
+import net.sourceforge.cilib.functions.continuous.unconstrained.Spherical;
+import net.sourceforge.cilib.problem.FunctionOptimisationProblem;
+import net.sourceforge.cilib.type.types.container.Vector;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class DifferentialEvolutionIterationStrategyTest {
+
+    @Test
+    public void parallelRunEvaluatesAsSequentialRun() {
+        DifferentialEvolutionIterationStrategy strategy = new DifferentialEvolutionIterationStrategy();
+        EC sequential = ParallelTestHelper.run(createEC(strategy), 20);
+        strategy.setParallel(true);
+        EC parallel = ParallelTestHelper.run(createEC(strategy), 0);
+        double initial = bestFitness(parallel);
+        for (int i = 0; i < 20; i++) {
+            parallel.performIteration();
+        }
+
+        Assert.assertEquals(sequential.getOptimisationProblem().getFitnessEvaluations(),
+            parallel.getOptimisationProblem().getFitnessEvaluations());
+        Assert.assertEquals(20, parallel.getTopology().length());
+        for (Object entity : parallel.getTopology()) {
+            Individual individual = (Individual) entity;
+            Assert.assertEquals(new Spherical().f((Vector) individual.getPosition()), individual.getFitness().getValue(), 0.0);
+        }
+        Assert.assertTrue(bestFitness(parallel) < initial);
+    }
+
+    @Test
+    public void parallelResultsDoNotDependOnThreads() {
+        DifferentialEvolutionIterationStrategy strategy = new DifferentialEvolutionIterationStrategy();
+        strategy.setParallel(true);
+
+        EC oneThread = ParallelTestHelper.runOnOneThread(createEC(strategy), 5);
+        Assert.assertEquals(ParallelTestHelper.positions(ParallelTestHelper.run(createEC(strategy), 5).getTopology()),
+            ParallelTestHelper.positions(oneThread.getTopology()));
+    }
+
+    @Test
+    public void cloneIsParallel() {
+        DifferentialEvolutionIterationStrategy strategy = new DifferentialEvolutionIterationStrategy();
+        Assert.assertFalse(strategy.getClone().isParallel());
+        strategy.setParallel(true);
+        Assert.assertTrue(strategy.getClone().isParallel());
+    }
+
+    private static double bestFitness(EC ec) {
+        double best = Double.MAX_VALUE;
+        for (Object individual : ec.getTopology()) {
+            best = Math.min(best, ((Individual) individual).getFitness().getValue());
+        }
+        return best;
+    }
+
+    private static EC createEC(DifferentialEvolutionIterationStrategy strategy) {
+        FunctionOptimisationProblem problem = new FunctionOptimisationProblem();
+        problem.setFunction(new Spherical());
+        problem.setDomain("R(-5.12:5.12)^5");
+
+        Individual individual = new Individual();
+        individual.setBehaviour(new DoNothingBehaviour());
+        ClonedPopulationInitialisationStrategy initialisation = new ClonedPopulationInitialisationStrategy();
+        initialisation.setEntityType(individual);
+        initialisation.setEntityNumber(20);
+
+        EC ec = new EC();
+        ec.setOptimisationProblem(problem);
+        ec.setInitialisationStrategy(initialisation);
+        ec.setIterationStrategy(strategy.getClone());
+        return ec;
+    }
+}
@@ -0,0 +1,131 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.entity;
+
+import static org.hamcrest.CoreMatchers.is;
+
+import java.util.Set;
+
+import net.sourceforge.cilib.entity.comparator.AscendingFitnessComparator;
+import net.sourceforge.cilib.entity.comparator.SocialBestFitnessComparator;
+import net.sourceforge.cilib.entity.topologies.LBestNeighbourhood;
+import net.sourceforge.cilib.entity.topologies.Neighbourhood;
+import net.sourceforge.cilib.problem.solution.MinimisationFitness;
+import net.sourceforge.cilib.pso.particle.Particle;
+import net.sourceforge.cilib.pso.particle.StandardParticle;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BestEntityCacheTest {
+
+    private static Particle particle(double fitness) {
+        Particle p = new StandardParticle();
+        p.put(Property.FITNESS, new MinimisationFitness(fitness));
+        return p;
+    }
+
+    @Test
+    public void cachedBestEntity() {
+        Particle i1 = particle(0.7);
+        Particle i2 = particle(0.2);
+        Particle i3 = particle(0.5);
+        fj.data.List<Particle> topology = fj.data.List.list(i1, i2, i3);
+
+        BestEntityCache<Particle> cache = new BestEntityCache<Particle>(new AscendingFitnessComparator<Particle>());
+        Assert.assertThat(cache.getBestEntity(topology), is(i2));
+        Assert.assertThat(cache.getBestEntity(topology), is(i2));
+
+        // a better entity replaces the best one
+        i3.put(Property.FITNESS, new MinimisationFitness(0.1));
+        Assert.assertThat(cache.getBestEntity(topology), is(i3));
+
+        // an equal entity only replaces the best one if it follows it
+        i1.put(Property.FITNESS, new MinimisationFitness(0.1));
+        Assert.assertThat(cache.getBestEntity(topology), is(i3));
+
+        // the best entity gets worse
+        i3.put(Property.FITNESS, new MinimisationFitness(0.9));
+        Assert.assertThat(cache.getBestEntity(topology), is(i1));
+        Assert.assertThat(cache.getBestEntity(topology), is(Topologies.getBestEntity(topology)));
+
+        // a different topology
+        fj.data.List<Particle> reversed = topology.reverse();
+        i2.put(Property.FITNESS, new MinimisationFitness(0.1));
+        Assert.assertThat(cache.getBestEntity(reversed), is(i1));
+        Assert.assertThat(cache.getBestEntity(topology), is(i2));
+    }
+
+    @Test
+    public void onlyModifiedEntitiesOfTheTopologyAreCompared() {
+        final int[] comparisons = new int[1];
+        BestEntityCache<Particle> cache = new BestEntityCache<Particle>(new AscendingFitnessComparator<Particle>() {
+            @Override
+            public int compare(Particle o1, Particle o2) {
+                comparisons[0]++;
+                return super.compare(o1, o2);
+            }
+        });
+        fj.data.List<Particle> topology = fj.data.List.nil();
+        for (int i = 0; i < 100; i++) {
+            topology = topology.cons(particle(i + 1));
+        }
+        Particle best = topology.last();
+        Assert.assertThat(cache.getBestEntity(topology), is(best));
+
+        // an entity of another topology
+        comparisons[0] = 0;
+        particle(2.0).put(Property.FITNESS, new MinimisationFitness(0.0));
+        Assert.assertThat(cache.getBestEntity(topology), is(best));
+        Assert.assertEquals(0, comparisons[0]);
+
+        Particle modified = topology.index(10);
+        modified.put(Property.FITNESS, new MinimisationFitness(0.5));
+        Assert.assertThat(cache.getBestEntity(topology), is(modified));
+        Assert.assertEquals(1, comparisons[0]);
+
+        // an entity that left the topology
+        fj.data.List<Particle> remaining = topology.drop(11);
+        Assert.assertThat(cache.getBestEntity(remaining), is(best));
+        comparisons[0] = 0;
+        modified.put(Property.FITNESS, new MinimisationFitness(2.0));
+        Assert.assertThat(cache.getBestEntity(remaining), is(best));
+        Assert.assertEquals(0, comparisons[0]);
+    }
+
+    @Test
+    public void cachedNeighbourhoodBestEntities() {
+        Particle i1 = particle(0.7);
+        Particle i2 = particle(1.0);
+        Particle i3 = particle(0.5);
+        Particle i4 = particle(0.2);
+        fj.data.List<Particle> topology = fj.data.List.list(i1, i2, i3, i4);
+        Neighbourhood<Particle> neighbourhood = new LBestNeighbourhood<Particle>();
+        AscendingFitnessComparator<Particle> comparator = new AscendingFitnessComparator<Particle>();
+
+        BestEntityCache<Particle> cache = new BestEntityCache<Particle>(comparator);
+        Set<Particle> bests = cache.getNeighbourhoodBestEntities(topology, neighbourhood, 0);
+        Assert.assertThat(bests, is(Topologies.getNeighbourhoodBestEntities(topology, neighbourhood, comparator)));
+        Assert.assertSame(bests, cache.getNeighbourhoodBestEntities(topology, neighbourhood, 0));
+        Assert.assertNotSame(bests, cache.getNeighbourhoodBestEntities(topology, neighbourhood, 1));
+
+        i2.put(Property.FITNESS, new MinimisationFitness(0.0));
+        Assert.assertThat(cache.getNeighbourhoodBestEntities(topology, neighbourhood, 1),
+            is(Topologies.getNeighbourhoodBestEntities(topology, neighbourhood, comparator)));
+    }
+
+    @Test
+    public void cacheableComparators() {
+        Assert.assertTrue(BestEntityCache.isCacheable(new SocialBestFitnessComparator<Particle>()));
+        Assert.assertFalse(BestEntityCache.isCacheable(new SocialBestFitnessComparator<Particle>() {
+            @Override
+            public int compare(Particle o1, Particle o2) {
+                return 0;
+            }
+        }));
+    }
+}
@@ -128,4 +128,19 @@ public class TopologiesTest {
         Assert.assertTrue(leastFit.containsAll(Arrays.asList(i1, i2)));
         Assert.assertTrue(other.containsAll(Arrays.asList(i3, i4)));
     }
+
+    @Test
+    public void bestEntityIsLastOfEqualEntities() {
+        Particle i1 = new StandardParticle();
+        Particle i2 = new StandardParticle();
+        Particle i3 = new StandardParticle();
+
+        i1.put(Property.FITNESS, new MinimisationFitness(0.5));
+        i2.put(Property.FITNESS, new MinimisationFitness(0.5));
+        i3.put(Property.FITNESS, new MinimisationFitness(1.0));
+
+        Assert.assertThat(Topologies.getBestEntity(fj.data.List.list(i1, i2, i3)), is(i2));
+        Assert.assertThat(Topologies.getBestEntity(fj.data.List.list(i2, i1, i3)), is(i1));
+        Assert.assertNull(Topologies.getBestEntity(fj.data.List.<Particle>nil()));
+    }
 }
@@ -44,6 +44,8 @@ public class RandToBestCreationTest {
 
         Entity resultEntity = creation.create(entityRandom, current, testTopology);
 
-        Assert.assertEquals(0.1, ((Vector) resultEntity.getPosition()).doubleValueOf(0), 0.001);
+        // 0.5 * best + 0.5 * random = 0.15, plus half the difference of entity1 and
+        // entity2 (the only participants), in either order
+        Assert.assertEquals(0.05, Math.abs(((Vector) resultEntity.getPosition()).doubleValueOf(0) - 0.15), 0.001);
     }
 }
@@ -0,0 +1,87 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.entity.visitor;
+
+import fj.data.List;
+import java.util.Random;
+import net.sourceforge.cilib.pso.particle.Particle;
+import net.sourceforge.cilib.pso.particle.StandardParticle;
+import net.sourceforge.cilib.type.types.container.Vector;
+import net.sourceforge.cilib.util.distancemeasure.EuclideanDistanceMeasure;
+import net.sourceforge.cilib.util.distancemeasure.ManhattanDistanceMeasure;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class DiameterVisitorTest {
+
+    private static List<Particle> createTopology(Random random, int size, int dimension, double spread) {
+        List<Particle> topology = List.nil();
+        for (int i = 0; i < size; i++) {
+            Vector.Builder position = Vector.newBuilder();
+            for (int k = 0; k < dimension; k++) {
+                position.add(random.nextGaussian() * (k == 0 ? spread : 1.0));
+            }
+            Particle particle = new StandardParticle();
+            particle.setPosition(position.build());
+            topology = topology.cons(particle);
+        }
+        return topology;
+    }
+
+    private static double bruteForce(List<Particle> topology, EuclideanDistanceMeasure distance) {
+        double diameter = 0.0;
+        for (Particle a : topology) {
+            for (Particle b : topology) {
+                diameter = Math.max(diameter, distance.distance(a.getPosition(), b.getPosition()));
+            }
+        }
+        return diameter;
+    }
+
+    @Test
+    public void exactDiameter() {
+        Random random = new Random(1);
+        EuclideanDistanceMeasure distance = new EuclideanDistanceMeasure();
+        DiameterVisitor<Particle> visitor = new DiameterVisitor<Particle>();
+
+        for (int trial = 0; trial < 20; trial++) {
+            List<Particle> topology = createTopology(random, 1 + random.nextInt(60), 1 + random.nextInt(10), 1 + 4 * random.nextDouble());
+            Assert.assertEquals(bruteForce(topology, distance), visitor.f(topology), 1e-12);
+        }
+    }
+
+    @Test
+    public void approximateDiameter() {
+        Random random = new Random(2);
+        EuclideanDistanceMeasure distance = new EuclideanDistanceMeasure();
+        DiameterVisitor<Particle> visitor = new DiameterVisitor<Particle>();
+        visitor.setApproximate(true);
+
+        for (int trial = 0; trial < 20; trial++) {
+            List<Particle> topology = createTopology(random, 2 + random.nextInt(60), 1 + random.nextInt(10), 1.0);
+            double diameter = bruteForce(topology, distance);
+            double approximation = visitor.f(topology);
+            Assert.assertTrue(approximation <= diameter + 1e-12);
+            Assert.assertTrue(approximation >= diameter / 2);
+        }
+    }
+
+    @Test
+    public void otherDistanceMeasure() {
+        Particle p1 = new StandardParticle();
+        Particle p2 = new StandardParticle();
+        Particle p3 = new StandardParticle();
+        p1.setPosition(Vector.of(0.0, 0.0));
+        p2.setPosition(Vector.of(1.0, 2.0));
+        p3.setPosition(Vector.of(-1.0, 0.5));
+
+        DiameterVisitor<Particle> visitor = new DiameterVisitor<Particle>();
+        visitor.setDistanceMeasure(new ManhattanDistanceMeasure());
+        Assert.assertEquals(3.5, visitor.f(List.list(p1, p2, p3)), 0.0);
+        Assert.assertEquals(0.0, visitor.f(List.<Particle>nil()), 0.0);
+    }
+}
@@ -0,0 +1,141 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.ff.iterationstrategies;
+
+import java.util.ArrayList;
+import java.util.List;
+import net.sourceforge.cilib.algorithm.ParallelTestHelper;
+import net.sourceforge.cilib.controlparameter.ConstantControlParameter;
+import net.sourceforge.cilib.entity.behaviour.DoNothingBehaviour;
+import net.sourceforge.cilib.ff.FFA;
+import net.sourceforge.cilib.ff.firefly.Firefly;
+import net.sourceforge.cilib.ff.firefly.StandardFirefly;
+import net.sourceforge.cilib.ff.positionupdatestrategies.FireflyPositionUpdateStrategy;
+import net.sourceforge.cilib.ff.positionupdatestrategies.StandardFireflyPositionUpdateStrategy;
+import net.sourceforge.cilib.functions.continuous.unconstrained.Spherical;
+import net.sourceforge.cilib.problem.FunctionOptimisationProblem;
+import net.sourceforge.cilib.type.types.container.StructuredType;
+import net.sourceforge.cilib.type.types.container.Vector;
+import net.sourceforge.cilib.util.distancemeasure.EuclideanDistanceMeasure;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SynchronousFireflyIterationStrategyTest {
+
+    @Test
+    public void evaluatesEveryFireflyAtMostOnce() {
+        SynchronousFireflyIterationStrategy strategy = new SynchronousFireflyIterationStrategy();
+        FFA ffa = createFFA(strategy, new EuclideanDistanceMeasure());
+        ffa.performInitialisation();
+        int evaluations = ffa.getOptimisationProblem().getFitnessEvaluations();
+
+        ffa.performIteration();
+
+        int moved = ffa.getOptimisationProblem().getFitnessEvaluations() - evaluations;
+        Assert.assertTrue(moved > 0);
+        Assert.assertTrue(moved < 20);
+    }
+
+    @Test
+    public void spatialIndexFindsSameAttractors() {
+        SynchronousFireflyIterationStrategy strategy = new SynchronousFireflyIterationStrategy();
+        strategy.setAttractivenessThreshold(0.5);
+
+        // a subclass of the Euclidean distance measure is not spatially indexed
+        List<StructuredType> indexed = run(createFFA(strategy, new EuclideanDistanceMeasure()));
+        List<StructuredType> scanned = run(createFFA(strategy, new EuclideanDistanceMeasure() {
+        }));
+
+        Assert.assertEquals(scanned, indexed);
+    }
+
+    @Test
+    public void parallelIterationMovesTheSameFireflies() {
+        SynchronousFireflyIterationStrategy strategy = new SynchronousFireflyIterationStrategy();
+        FFA sequential = ParallelTestHelper.run(createFFA(strategy, new EuclideanDistanceMeasure()), 1);
+        strategy.setParallel(true);
+        FFA parallel = ParallelTestHelper.run(createFFA(strategy, new EuclideanDistanceMeasure()), 1);
+
+        // which fireflies move only depends on the initial positions
+        Assert.assertEquals(sequential.getOptimisationProblem().getFitnessEvaluations(),
+            parallel.getOptimisationProblem().getFitnessEvaluations());
+        for (Firefly firefly : parallel.getTopology()) {
+            Assert.assertEquals(new Spherical().f(firefly.getPosition()), firefly.getFitness().getValue(), 0.0);
+        }
+    }
+
+    @Test
+    public void parallelResultsDoNotDependOnThreads() {
+        SynchronousFireflyIterationStrategy strategy = new SynchronousFireflyIterationStrategy();
+        strategy.setParallel(true);
+
+        FFA oneThread = ParallelTestHelper.runOnOneThread(createFFA(strategy, new EuclideanDistanceMeasure()), 5);
+        Assert.assertEquals(run(createFFA(strategy, new EuclideanDistanceMeasure())),
+            ParallelTestHelper.positions(oneThread.getTopology()));
+    }
+
+    @Test
+    public void plainStrategyMovesTowardEachAttractorInTurn() {
+        FFA ffa = createFFA(new SynchronousFireflyIterationStrategy(), new EuclideanDistanceMeasure());
+        StandardFirefly firefly = new StandardFirefly();
+        firefly.setBehaviour(new DoNothingBehaviour());
+        firefly.setPositionUpdateStrategy(new FireflyPositionUpdateStrategy() {
+            @Override
+            public FireflyPositionUpdateStrategy getClone() {
+                return this;
+            }
+
+            @Override
+            public Vector updatePosition(Firefly firefly, Firefly other) {
+                return other.getPosition().getClone();
+            }
+        });
+        ffa.getInitialisationStrategy().setEntityType(firefly);
+        ffa.performInitialisation();
+        List<Vector> before = new ArrayList<Vector>();
+        for (Firefly f : ffa.getTopology()) {
+            before.add(f.getPosition().getClone());
+        }
+
+        ffa.performIteration();
+
+        // every firefly that moved jumped to the last of its attractors
+        int moved = 0;
+        for (int i = 0; i < before.size(); i++) {
+            Vector position = ffa.getTopology().index(i).getPosition();
+            if (!position.equals(before.get(i))) {
+                Assert.assertTrue(before.contains(position));
+                moved++;
+            }
+        }
+        Assert.assertTrue(moved > 0);
+    }
+
+    private static List<StructuredType> run(FFA ffa) {
+        return ParallelTestHelper.positions(ParallelTestHelper.run(ffa, 5).getTopology());
+    }
+
+    private static FFA createFFA(SynchronousFireflyIterationStrategy strategy, EuclideanDistanceMeasure distanceMeasure) {
+        StandardFireflyPositionUpdateStrategy positionUpdateStrategy = new StandardFireflyPositionUpdateStrategy();
+        positionUpdateStrategy.setBetaMin(ConstantControlParameter.of(0.0));
+        positionUpdateStrategy.setDistanceMeasure(distanceMeasure);
+        StandardFirefly firefly = new StandardFirefly();
+        firefly.setPositionUpdateStrategy(positionUpdateStrategy);
+        firefly.setBehaviour(new DoNothingBehaviour());
+
+        FunctionOptimisationProblem problem = new FunctionOptimisationProblem();
+        problem.setFunction(new Spherical());
+        problem.setDomain("R(-5.12:5.12)^3");
+
+        FFA ffa = new FFA();
+        ffa.setOptimisationProblem(problem);
+        ffa.setIterationStrategy(strategy.getClone());
+        ffa.getInitialisationStrategy().setEntityNumber(20);
+        ffa.getInitialisationStrategy().setEntityType(firefly);
+        return ffa;
+    }
+}
@@ -6,6 +6,7 @@
  */
 package net.sourceforge.cilib.ff.positionupdatestrategies;
 
+import java.util.Arrays;
 import net.sourceforge.cilib.ff.firefly.*;
 import net.sourceforge.cilib.type.types.Bounds;
 import net.sourceforge.cilib.type.types.Real;
@@ -45,4 +46,39 @@ public class StandardFireflyPositionUpdateStrategyTest {
         attractiveness = 1.0;
         assertEquals(newPosition, Vector.of(Real.valueOf(0.0, bounds), Real.valueOf(0.0, bounds)));
     }
+
+    @Test
+    public void testUpdatePositionWithSeveralFireflies() {
+        StandardFireflyPositionUpdateStrategy p = new StandardFireflyPositionUpdateStrategy();
+        p.setAlpha(ConstantControlParameter.of(0.0));
+
+        Bounds bounds = new Bounds(0.0, 1.0);
+
+        Firefly a = new StandardFirefly();
+        a.setPosition(Vector.of(Real.valueOf(1.0, bounds), Real.valueOf(1.0, bounds)));
+
+        Firefly b = new StandardFirefly();
+        b.setPosition(Vector.of(Real.valueOf(0.0, bounds), Real.valueOf(0.0, bounds)));
+
+        Firefly c = new StandardFirefly();
+        c.setPosition(Vector.of(Real.valueOf(1.0, bounds), Real.valueOf(0.0, bounds)));
+
+        assertEquals(p.updatePosition(a, b), p.updatePosition(a, Arrays.asList(b)));
+
+        Vector newPosition = p.updatePosition(a, Arrays.asList(b, c));
+        double attractivenessB = (1.0 - 0.2) * Math.exp(-2) + 0.2;
+        double attractivenessC = (1.0 - 0.2) * Math.exp(-1) + 0.2;
+        assertEquals(1 - attractivenessB, newPosition.doubleValueOf(0), Maths.EPSILON);
+        assertEquals(1 - attractivenessB - attractivenessC, newPosition.doubleValueOf(1), Maths.EPSILON);
+    }
+
+    @Test
+    public void testAttractionRange() {
+        StandardFireflyPositionUpdateStrategy p = new StandardFireflyPositionUpdateStrategy();
+        assertTrue(Double.isInfinite(p.getAttractionRange(0.2)));
+
+        double range = p.getAttractionRange(0.3);
+        double attractiveness = (1.0 - 0.2) * Math.exp(-range * range) + 0.2;
+        assertEquals(0.3, attractiveness, Maths.EPSILON);
+    }
 }
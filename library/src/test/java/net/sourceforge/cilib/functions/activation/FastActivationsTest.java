@@ -0,0 +1,86 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.functions.activation;
+
+import net.sourceforge.cilib.controlparameter.ConstantControlParameter;
+import net.sourceforge.cilib.math.Maths;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks the error bounds of the approximations. Run as an application to
+ * compare the throughput of the approximations with the exact functions.
+ */
+public class FastActivationsTest {
+
+    private static final double STEP = 1.0E-4;
+
+    private static double exactSigmoid(double x) {
+        return 1.0 / (1.0 + Math.exp(-x));
+    }
+
+    @Test
+    public void sigmoidError() {
+        for (double x = -40.0; x <= 40.0; x += STEP) {
+            double exact = exactSigmoid(x);
+            assertEquals(exact, FastActivations.tableSigmoid(x), FastActivations.TABLE_SIGMOID_ERROR);
+            assertEquals(exact, FastActivations.rationalSigmoid(x), FastActivations.RATIONAL_SIGMOID_ERROR);
+        }
+    }
+
+    @Test
+    public void tanhError() {
+        for (double x = -20.0; x <= 20.0; x += STEP) {
+            double exact = Math.tanh(x);
+            assertEquals(exact, FastActivations.tableTanH(x), FastActivations.TABLE_TANH_ERROR);
+            assertEquals(exact, FastActivations.rationalTanH(x), FastActivations.RATIONAL_TANH_ERROR);
+        }
+    }
+
+    @Test
+    public void monotonic() {
+        double table = 0.0, rational = 0.0, tableT = -1.0, rationalT = -1.0;
+        for (double x = -40.0; x <= 40.0; x += STEP) {
+            assertTrue(FastActivations.tableSigmoid(x) >= table);
+            assertTrue(FastActivations.rationalSigmoid(x) >= rational);
+            assertTrue(FastActivations.tableTanH(x) >= tableT);
+            assertTrue(FastActivations.rationalTanH(x) >= rationalT);
+            table = FastActivations.tableSigmoid(x);
+            rational = FastActivations.rationalSigmoid(x);
+            tableT = FastActivations.tableTanH(x);
+            rationalT = FastActivations.rationalTanH(x);
+        }
+    }
+
+    @Test
+    public void limits() {
+        for (ActivationApproximation approximation : ActivationApproximation.values()) {
+            assertEquals(0.5, approximation.sigmoid(0.0), 0.0);
+            assertEquals(1.0, approximation.sigmoid(Double.POSITIVE_INFINITY), Maths.EPSILON);
+            assertEquals(0.0, approximation.sigmoid(-Double.MAX_VALUE), Maths.EPSILON);
+            assertEquals(0.0, approximation.tanh(0.0), 0.0);
+            assertEquals(-1.0, approximation.tanh(-1000.0), Maths.EPSILON);
+            assertTrue(Double.isNaN(approximation.sigmoid(Double.NaN)));
+        }
+    }
+
+    @Test
+    public void approximatedSigmoid() {
+        Sigmoid exact = new Sigmoid();
+        exact.setLambda(ConstantControlParameter.of(2.0));
+        exact.setGamma(ConstantControlParameter.of(2.0));
+        Sigmoid approximate = exact.getClone();
+        approximate.setApproximation(ActivationApproximation.TABLE);
+
+        assertEquals(ActivationApproximation.TABLE, approximate.getClone().getApproximation());
+        for (double x = -5.0; x <= 5.0; x += 0.01) {
+            assertEquals(exact.f(x), approximate.f(x), 2.0 * FastActivations.TABLE_SIGMOID_ERROR);
+        }
+    }
+}
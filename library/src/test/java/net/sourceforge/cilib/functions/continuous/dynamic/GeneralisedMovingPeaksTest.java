@@ -6,12 +6,24 @@
  */
 package net.sourceforge.cilib.functions.continuous.dynamic;
 
+import java.util.ArrayList;
+import java.util.List;
+import net.sourceforge.cilib.algorithm.AbstractAlgorithm;
+import net.sourceforge.cilib.functions.DynamicFunction;
+import net.sourceforge.cilib.math.random.GaussianDistribution;
+import net.sourceforge.cilib.math.random.UniformDistribution;
+import net.sourceforge.cilib.math.random.generator.Rand;
 import net.sourceforge.cilib.measurement.generic.Iterations;
+import net.sourceforge.cilib.problem.DynamicOptimisationProblem;
 import net.sourceforge.cilib.problem.FunctionOptimisationProblem;
 import net.sourceforge.cilib.problem.objective.Maximise;
 import net.sourceforge.cilib.pso.PSO;
 import net.sourceforge.cilib.stoppingcondition.Maximum;
 import net.sourceforge.cilib.stoppingcondition.MeasuredStoppingCondition;
+import net.sourceforge.cilib.type.types.Bounds;
+import net.sourceforge.cilib.type.types.Real;
+import net.sourceforge.cilib.type.types.container.Vector;
+import static org.junit.Assert.assertEquals;
 import org.junit.Test;
 
 /**
@@ -40,4 +52,166 @@ public class GeneralisedMovingPeaksTest {
         //pso.initialise();
         pso.run();
     }
+
+    /**
+     * The peaks must follow the same seeded trajectory as the original
+     * implementation, which kept the peaks as vectors, and culling must not
+     * change the value of the function.
+     */
+    @Test
+    public void trajectoryIsUnchanged() {
+        GeneralisedMovingPeaks function = new GeneralisedMovingPeaks(1, 10, 0.5, 7.0, 5.0, 0.5);
+        List<Double> expected = trajectory(new Original(10, 0.5, 7.0, 5.0, 0.5));
+        assertEquals(expected, trajectory(function));
+
+        Rand.setSeed(1);
+        for (int i = 0; i < 1000; i++) {
+            Vector x = Vector.newBuilder().repeat(3, Real.valueOf(0.0, new Bounds(0.0, 100.0))).buildRandom();
+            function.setCulling(true);
+            double culled = function.f(x);
+            function.setCulling(false);
+            assertEquals(function.f(x), culled, 0.0);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Double> trajectory(DynamicFunction<Vector, Double> function) {
+        Rand.setSeed(0);
+        DynamicOptimisationProblem problem = new DynamicOptimisationProblem();
+        problem.setDomain("R(0.0:100.0)^3");
+        problem.setFunction((DynamicFunction) function);
+
+        PSO pso = new PSO();
+        pso.setOptimisationProblem(problem);
+        pso.performInitialisation();
+
+        List<Double> trajectory = new ArrayList<Double>();
+        for (int i = 0; i < 50; i++) {
+            pso.performIteration();
+            trajectory.add(pso.getBestSolution().getFitness().getValue());
+            trajectory.add(function.getOptimum());
+        }
+        return trajectory;
+    }
+
+    /**
+     * The original implementation of the moving peaks.
+     */
+    private static class Original extends DynamicFunction<Vector, Double> {
+        private final GaussianDistribution gaussian = new GaussianDistribution();
+        private final UniformDistribution uniform = new UniformDistribution();
+        private final int peaks;
+        private final double widthSeverity, heightSeverity, shiftSeverity, lambda;
+        private double[] peakHeigths, peakWidths;
+        private Vector[] peakPositions, shiftVectors;
+        private int[][] movementDirections;
+
+        Original(int peaks, double widthSeverity, double heightSeverity, double shiftSeverity, double lambda) {
+            this.peaks = peaks;
+            this.widthSeverity = widthSeverity;
+            this.heightSeverity = heightSeverity;
+            this.shiftSeverity = shiftSeverity;
+            this.lambda = lambda;
+        }
+
+        @Override
+        public Double f(Vector input) {
+            if (movementDirections == null) {
+                initialisePeaks(input.size());
+            }
+            double maximum = Double.MIN_VALUE;
+            for (int p = 0; p < peaks; p++) {
+                double thisPeak = 0.0;
+                for (int i = 0; i < input.size(); i++) {
+                    thisPeak += Math.pow(input.doubleValueOf(i) - peakPositions[p].doubleValueOf(i), 2);
+                }
+                thisPeak = peakHeigths[p] / (1 + (peakWidths[p] * thisPeak));
+                if (thisPeak > maximum) {
+                    maximum = thisPeak;
+                }
+            }
+            return maximum;
+        }
+
+        @Override
+        public void changeEnvironment() {
+            Vector bounds = (Vector) AbstractAlgorithm.get().getOptimisationProblem().getDomain().getBuiltRepresentation();
+            double upper = bounds.boundsOf(0).getUpperBound();
+            double lower = bounds.boundsOf(0).getLowerBound();
+
+            Vector.Builder vectorBuilder = Vector.newBuilder();
+            for (int i = 0; i < peakPositions[0].size(); i++) {
+                vectorBuilder.addWithin(0.0, new Bounds(-1.0, 1.0));
+            }
+            Vector random = vectorBuilder.buildRandom().normalize().multiply(shiftSeverity);
+            for (int i = 0; i < peaks; i++) {
+                Vector vector = (random.multiply(1 - lambda)).plus(shiftVectors[i].multiply(lambda));
+                shiftVectors[i] = vector.multiply(shiftSeverity).divide(vector.length());
+            }
+
+            for (int p = 0; p < peaks; p++) {
+                double offset = (heightSeverity * gaussian.getRandomNumber());
+                if (peakHeigths[p] + offset > 70.0 || peakHeigths[p] + offset < 30.0) {
+                    peakHeigths[p] -= offset;
+                } else {
+                    peakHeigths[p] += offset;
+                }
+                offset = (widthSeverity * gaussian.getRandomNumber());
+                if (peakWidths[p] + offset > 12.0 || peakWidths[p] + offset < 1.0) {
+                    peakWidths[p] -= offset;
+                } else {
+                    peakWidths[p] += offset;
+                }
+
+                int dimensions = shiftVectors[0].size();
+                Double[] shift = new Double[dimensions];
+                for (int i = 0; i < dimensions; i++) {
+                    shift[i] = shiftVectors[p].get(i).doubleValue() * movementDirections[p][i];
+                }
+                Vector tempPosition = peakPositions[p].plus(Vector.of(shift));
+                for (int i = 0; i < dimensions; i++) {
+                    if (tempPosition.get(i).doubleValue() > upper || tempPosition.get(i).doubleValue() < lower) {
+                        movementDirections[p][i] *= -1;
+                        shift[i] *= -1;
+                    }
+                }
+                peakPositions[p] = peakPositions[p].plus(Vector.of(shift));
+            }
+        }
+
+        private void initialisePeaks(int dimensions) {
+            movementDirections = new int[peaks][dimensions];
+            peakHeigths = new double[peaks];
+            peakWidths = new double[peaks];
+            peakPositions = new Vector[peaks];
+            shiftVectors = new Vector[peaks];
+
+            Vector bounds = (Vector) AbstractAlgorithm.get().getOptimisationProblem().getDomain().getBuiltRepresentation();
+            double upper = bounds.boundsOf(0).getUpperBound();
+            double lower = bounds.boundsOf(0).getLowerBound();
+
+            Double[] oneVector = new Double[dimensions];
+            Double[] position = new Double[dimensions];
+            for (int p = 0; p < peaks; p++) {
+                for (int i = 0; i < dimensions; i++) {
+                    position[i] = uniform.getRandomNumber(lower, upper);
+                    movementDirections[p][i] = 1;
+                    oneVector[i] = 1.0;
+                }
+                peakPositions[p] = Vector.of(position);
+                peakHeigths[p] = uniform.getRandomNumber(30.0, 70.0);
+                peakWidths[p] = uniform.getRandomNumber(1.0, 12.0);
+                shiftVectors[p] = Vector.of(oneVector);
+            }
+        }
+
+        @Override
+        public Double getOptimum() {
+            double max = Double.MIN_VALUE;
+            for (int p = 0; p < peaks; p++) {
+                max = Math.max(max, peakHeigths[p]);
+            }
+            return max;
+        }
+    }
 }
@@ -0,0 +1,87 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.functions.continuous.hybrid;
+
+import java.util.Arrays;
+import java.util.List;
+import net.sourceforge.cilib.functions.continuous.unconstrained.Spherical;
+import net.sourceforge.cilib.type.types.container.Vector;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+public class HybridCompositionFunctionTest {
+
+    private static final double EPSILON = 1e-10;
+
+    private static HybridCompositionFunction composition(String matrixType) {
+        SingleFunction first = new SingleFunction();
+        first.setFunction(new Spherical());
+        first.setMatrixType(matrixType);
+
+        SingleFunction second = new SingleFunction();
+        second.setFunction(new Spherical());
+        second.setMatrixType(matrixType);
+        second.setHorizontalShift(2.0);
+        second.setSigma(2.0);
+        second.setLambda(0.5);
+        second.setBias(100.0);
+
+        HybridCompositionFunction function = new HybridCompositionFunction();
+        function.addFunction(first);
+        function.addFunction(second);
+        return function;
+    }
+
+    /**
+     * The value at (1, 0.5) of the composition, computed by hand.
+     */
+    private static double[] expectedTerms() {
+        double w1 = Math.exp(-1.25 / (2.0 * 2 * 1 * 1));
+        double w2 = Math.exp(-3.25 / (2.0 * 2 * 2 * 2));
+        double sum = w1 + w2;
+        w1 *= 1.0 - Math.pow(w2, 10.0);
+
+        double f1 = 1.25 / 50.0;
+        double f2 = 13.0 / 200.0;
+        return new double[] {
+            w1 / sum * (2000.0 * f1),
+            w2 / sum * (2000.0 * f2 + 100.0)
+        };
+    }
+
+    @Test
+    public void testApply() {
+        double[] terms = expectedTerms();
+        Vector x = Vector.of(1.0, 0.5);
+
+        assertEquals(terms[0] + terms[1], composition("identity").f(x), EPSILON);
+        // Rotation does not change the value of a spherical function.
+        assertEquals(terms[0] + terms[1], composition("orthonormal").f(x), EPSILON);
+    }
+
+    @Test
+    public void testWeightThreshold() {
+        double[] terms = expectedTerms();
+        HybridCompositionFunction function = composition("identity");
+        function.setWeightThreshold(0.5);
+
+        assertEquals(terms[1], function.f(Vector.of(1.0, 0.5)), EPSILON);
+    }
+
+    @Test
+    public void testBatch() {
+        HybridCompositionFunction function = composition("orthonormal");
+        List<Vector> inputs = Arrays.asList(Vector.of(1.0, 0.5), Vector.of(-3.0, 4.0), Vector.of(2.0, 2.0));
+
+        double[] values = function.evaluate(inputs);
+
+        assertEquals(inputs.size(), values.length);
+        for (int i = 0; i < values.length; i++) {
+            assertEquals(function.f(inputs.get(i)), values[i], 0.0);
+        }
+    }
+}
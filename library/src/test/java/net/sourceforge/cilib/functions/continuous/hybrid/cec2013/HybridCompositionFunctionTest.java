@@ -0,0 +1,63 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.functions.continuous.hybrid.cec2013;
+
+import java.util.Arrays;
+import java.util.List;
+import net.sourceforge.cilib.controlparameter.ConstantControlParameter;
+import net.sourceforge.cilib.functions.continuous.unconstrained.Spherical;
+import net.sourceforge.cilib.type.types.container.Vector;
+import static org.junit.Assert.assertEquals;
+import org.junit.Before;
+import org.junit.Test;
+
+public class HybridCompositionFunctionTest {
+
+    private HybridCompositionFunction function;
+    private SingleFunction first, second;
+
+    @Before
+    public void instantiate() {
+        first = new SingleFunction();
+        first.setFunction(new Spherical());
+        first.setHorizontalShift(ConstantControlParameter.of(0.0));
+
+        second = new SingleFunction();
+        second.setFunction(new Spherical());
+        second.setHorizontalShift(ConstantControlParameter.of(2.0));
+        second.setBias(100.0);
+
+        function = new HybridCompositionFunction();
+        function.addFunction(first);
+        function.addFunction(second);
+    }
+
+    @Test
+    public void testApply() {
+        Vector v = Vector.of(1.0, 2.0, 3.0);
+        double w1 = first.getWeight(v);
+        double w2 = second.getWeight(v);
+
+        double expected = (w1 * first.f(v) + w2 * second.f(v)) / (w1 + w2);
+        assertEquals(expected, function.f(v), 1e-10);
+
+        function.setWeightThreshold(0.5);
+        assertEquals(w2 / (w1 + w2) * second.f(v), function.f(v), 1e-10);
+    }
+
+    @Test
+    public void testBatch() {
+        List<Vector> inputs = Arrays.asList(Vector.of(1.0, 2.0, 3.0), Vector.of(-1.0, 0.5, 4.0));
+
+        double[] values = function.evaluate(inputs);
+
+        assertEquals(inputs.size(), values.length);
+        for (int i = 0; i < values.length; i++) {
+            assertEquals(function.f(inputs.get(i)), values[i], 0.0);
+        }
+    }
+}
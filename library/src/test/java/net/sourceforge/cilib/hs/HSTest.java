@@ -0,0 +1,148 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.hs;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import net.sourceforge.cilib.algorithm.ParallelTestHelper;
+import net.sourceforge.cilib.controlparameter.ConstantControlParameter;
+import net.sourceforge.cilib.functions.continuous.unconstrained.Spherical;
+import net.sourceforge.cilib.math.random.generator.Rand;
+import net.sourceforge.cilib.problem.FunctionOptimisationProblem;
+import net.sourceforge.cilib.problem.solution.OptimisationSolution;
+import net.sourceforge.cilib.type.types.container.Vector;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class HSTest {
+
+    @Test
+    public void improvisesBatchesOfHarmonies() {
+        HS hs = createHS();
+        hs.setImprovisations(ConstantControlParameter.of(4));
+        ParallelTestHelper.run(hs, 10);
+
+        Assert.assertEquals(20 + 10 * 4, hs.getOptimisationProblem().getFitnessEvaluations());
+    }
+
+    @Test
+    public void bestSolutionImproves() {
+        HS hs = createHS();
+        Rand.setSeed(0);
+        hs.performInitialisation();
+        double initial = hs.getBestSolution().getFitness().getValue();
+        for (int i = 0; i < 200; i++) {
+            hs.performIteration();
+        }
+
+        Assert.assertTrue(hs.getBestSolution().getFitness().getValue() < initial);
+    }
+
+    @Test
+    public void parallelRunEvaluatesAsSequentialRun() {
+        HS sequential = createHS();
+        sequential.setImprovisations(ConstantControlParameter.of(8));
+        ParallelTestHelper.run(sequential, 25);
+        HS hs = createHS();
+        hs.setImprovisations(ConstantControlParameter.of(8));
+        hs.setParallel(true);
+        ParallelTestHelper.run(hs, 0);
+        double initial = hs.getBestSolution().getFitness().getValue();
+        for (int i = 0; i < 25; i++) {
+            hs.performIteration();
+        }
+
+        OptimisationSolution best = hs.getBestSolution();
+        Assert.assertEquals(sequential.getOptimisationProblem().getFitnessEvaluations(),
+            hs.getOptimisationProblem().getFitnessEvaluations());
+        Assert.assertEquals(new Spherical().f((Vector) best.getPosition()), best.getFitness().getValue(), 0.0);
+        Assert.assertTrue(best.getFitness().getValue() < initial);
+    }
+
+    @Test
+    public void parallelResultsDoNotDependOnThreads() {
+        HS pool = createHS();
+        pool.setImprovisations(ConstantControlParameter.of(8));
+        pool.setParallel(true);
+        HS oneThread = pool.getClone();
+        oneThread.setOptimisationProblem(createHS().getOptimisationProblem());
+
+        OptimisationSolution expected = ParallelTestHelper.run(pool, 10).getBestSolution();
+        OptimisationSolution actual = ParallelTestHelper.runOnOneThread(oneThread, 10).getBestSolution();
+        Assert.assertEquals(expected.getPosition(), actual.getPosition());
+        Assert.assertEquals(expected.getFitness().getValue(), actual.getFitness().getValue(), 0.0);
+    }
+
+    @Test
+    public void initialHarmoniesAreEvaluated() {
+        HS hs = createHS();
+        Rand.setSeed(0);
+        hs.performInitialisation();
+
+        OptimisationSolution best = hs.getBestSolution();
+        Assert.assertEquals(20, hs.getOptimisationProblem().getFitnessEvaluations());
+        Assert.assertEquals(new Spherical().f((Vector) best.getPosition()), best.getFitness().getValue(), 0.0);
+    }
+
+    @Test
+    public void bestSolutionIsTheBestHarmony() {
+        final List<Double> values = new ArrayList<Double>();
+        FunctionOptimisationProblem problem = new FunctionOptimisationProblem();
+        problem.setFunction(new Spherical() {
+            @Override
+            public Double f(Vector input) {
+                Double value = super.f(input);
+                values.add(value);
+                return value;
+            }
+        });
+        problem.setDomain("R(-5.12:5.12)^5");
+        HS hs = new HS();
+        hs.setOptimisationProblem(problem);
+
+        ParallelTestHelper.run(hs, 10);
+        Assert.assertEquals(Collections.min(values), hs.getBestSolution().getFitness().getValue(), 0.0);
+    }
+
+    @Test
+    public void lastHarmonyCanBeConsidered() {
+        final List<Vector> evaluated = new ArrayList<Vector>();
+        FunctionOptimisationProblem problem = new FunctionOptimisationProblem();
+        problem.setFunction(new Spherical() {
+            @Override
+            public Double f(Vector input) {
+                evaluated.add(Vector.copyOf(input));
+                return super.f(input);
+            }
+        });
+        problem.setDomain("R(-5.12:5.12)");
+        HS hs = new HS();
+        hs.setOptimisationProblem(problem);
+        hs.setHarmonyMemorySize(ConstantControlParameter.of(2));
+        hs.setHarmonyMemoryConsideringRate(ConstantControlParameter.of(1.0));
+        hs.setPitchAdjustingRate(ConstantControlParameter.of(0.0));
+        hs.setImprovisations(ConstantControlParameter.of(10));
+        Rand.setSeed(0);
+        hs.performInitialisation();
+        Vector best = (Vector) hs.getBestSolution().getPosition();
+        Vector worst = evaluated.get(0).equals(best) ? evaluated.get(1) : evaluated.get(0);
+
+        hs.performIteration();
+        Assert.assertTrue(evaluated.subList(2, evaluated.size()).contains(worst));
+    }
+
+    private static HS createHS() {
+        FunctionOptimisationProblem problem = new FunctionOptimisationProblem();
+        problem.setFunction(new Spherical());
+        problem.setDomain("R(-5.12:5.12)^5");
+
+        HS hs = new HS();
+        hs.setOptimisationProblem(problem);
+        return hs;
+    }
+}
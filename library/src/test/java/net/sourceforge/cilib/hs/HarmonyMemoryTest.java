@@ -0,0 +1,63 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.hs;
+
+import net.sourceforge.cilib.entity.Property;
+import net.sourceforge.cilib.problem.solution.MinimisationFitness;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class HarmonyMemoryTest {
+
+    @Test
+    public void keepsBestHarmoniesInOrder() {
+        HarmonyMemory memory = new HarmonyMemory(3);
+        for (double fitness : new double[] {5.0, 2.0, 7.0, 1.0, 9.0, 3.0}) {
+            memory.add(harmony(fitness), new double[] {fitness});
+        }
+
+        Assert.assertEquals(3, memory.size());
+        Assert.assertEquals(1.0, memory.valueOf(0, 0), 0.0);
+        Assert.assertEquals(2.0, memory.valueOf(1, 0), 0.0);
+        Assert.assertEquals(3.0, memory.valueOf(2, 0), 0.0);
+        Assert.assertEquals(1.0, memory.get(0).getFitness().getValue(), 0.0);
+    }
+
+    @Test
+    public void rejectsHarmoniesThatAreNotBetterThanTheWorst() {
+        HarmonyMemory memory = new HarmonyMemory(2);
+        Harmony first = harmony(1.0);
+        Harmony second = harmony(2.0);
+        Assert.assertTrue(memory.add(first, new double[] {1.0}));
+        Assert.assertTrue(memory.add(second, new double[] {2.0}));
+
+        Assert.assertFalse(memory.add(harmony(2.0), new double[] {2.0}));
+        Assert.assertFalse(memory.add(harmony(3.0), new double[] {3.0}));
+        Assert.assertSame(first, memory.get(0));
+        Assert.assertSame(second, memory.get(1));
+    }
+
+    @Test
+    public void copyIsIndependent() {
+        HarmonyMemory memory = new HarmonyMemory(2);
+        memory.add(harmony(1.0), new double[] {1.0});
+
+        HarmonyMemory copy = new HarmonyMemory(memory);
+        copy.add(harmony(0.5), new double[] {0.5});
+
+        Assert.assertEquals(1, memory.size());
+        Assert.assertEquals(1.0, memory.valueOf(0, 0), 0.0);
+        Assert.assertEquals(2, copy.size());
+        Assert.assertEquals(0.5, copy.valueOf(0, 0), 0.0);
+    }
+
+    private static Harmony harmony(double fitness) {
+        Harmony harmony = new Harmony();
+        harmony.put(Property.FITNESS, new MinimisationFitness(fitness));
+        return harmony;
+    }
+}
@@ -0,0 +1,93 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.io;
+
+import net.sourceforge.cilib.io.exception.CIlibIOException;
+import net.sourceforge.cilib.io.transform.DataOperator;
+import net.sourceforge.cilib.io.transform.PatternConversionOperator;
+import net.sourceforge.cilib.io.transform.SeededShuffleOperator;
+import net.sourceforge.cilib.io.transform.SeededStratifiedWindows;
+import net.sourceforge.cilib.io.transform.ShuffleOperator;
+import net.sourceforge.cilib.io.transform.TypeConversionOperator;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests that datasets are shared through the registry.
+ */
+public class DataTableRegistryTest {
+
+    private static final String testFilePath = "library/src/test/resources/datasets/iris.data";
+
+    private DataTableBuilder newBuilder(int classIndex) {
+        DataTableBuilder builder = new DataTableBuilder(new DelimitedTextFileReader());
+        builder.setSourceURL(testFilePath);
+        builder.addDataOperator(new TypeConversionOperator());
+        PatternConversionOperator conversion = new PatternConversionOperator();
+        conversion.setClassIndex(classIndex);
+        builder.addDataOperator(conversion);
+        return builder;
+    }
+
+    @Test
+    public void testEquivalentBuildersShareStore() throws CIlibIOException {
+        PatternStore first = DataTableRegistry.getPatternStore(newBuilder(-1));
+        PatternStore second = DataTableRegistry.getPatternStore(newBuilder(-1));
+
+        Assert.assertSame(first, second);
+        Assert.assertEquals(150, first.size());
+    }
+
+    @Test
+    public void testDifferentPipelinesDoNotShareStore() throws CIlibIOException {
+        PatternStore first = DataTableRegistry.getPatternStore(newBuilder(-1));
+        PatternStore second = DataTableRegistry.getPatternStore(newBuilder(4));
+
+        Assert.assertNotSame(first, second);
+    }
+
+    @Test
+    public void testOperatorStateIsPartOfKey() throws CIlibIOException {
+        PatternStore first = DataTableRegistry.getPatternStore(withOperator(seededShuffle(1)));
+
+        Assert.assertSame(first, DataTableRegistry.getPatternStore(withOperator(seededShuffle(1))));
+        Assert.assertNotSame(first, DataTableRegistry.getPatternStore(withOperator(seededShuffle(2))));
+
+        SeededStratifiedWindows two = new SeededStratifiedWindows();
+        two.setSeed(1);
+        two.setNumOfWindows(2);
+        SeededStratifiedWindows three = two.getClone();
+        three.setNumOfWindows(3);
+        Assert.assertFalse(DataTableRegistry.keyOf(withOperator(two)).equals(DataTableRegistry.keyOf(withOperator(three))));
+    }
+
+    @Test
+    public void testUnseededShuffleIsNotShared() throws CIlibIOException {
+        Assert.assertNull(DataTableRegistry.keyOf(withOperator(new ShuffleOperator())));
+        Assert.assertNotSame(DataTableRegistry.getPatternStore(withOperator(new ShuffleOperator())),
+                DataTableRegistry.getPatternStore(withOperator(new ShuffleOperator())));
+    }
+
+    private static SeededShuffleOperator seededShuffle(long seed) {
+        SeededShuffleOperator shuffle = new SeededShuffleOperator();
+        shuffle.setSeed(seed);
+        return shuffle;
+    }
+
+    private DataTableBuilder withOperator(DataOperator operator) {
+        DataTableBuilder builder = newBuilder(-1);
+        builder.addDataOperator(operator);
+        return builder;
+    }
+
+    @Test(expected = CIlibIOException.class)
+    public void testNonPatternTable() throws CIlibIOException {
+        DataTableBuilder builder = new DataTableBuilder(new DelimitedTextFileReader());
+        builder.setSourceURL(testFilePath);
+        DataTableRegistry.getPatternStore(builder);
+    }
+}
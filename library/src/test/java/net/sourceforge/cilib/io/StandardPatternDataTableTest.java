@@ -198,4 +198,59 @@ public class StandardPatternDataTableTest {
         Assert.assertEquals("age", stringTargetPatterns.getColumnName(0));
         Assert.assertEquals("", stringTargetPatterns.getColumnName(1));
     }
+
+    @Test
+    public void testViewSharesPatterns() {
+        PatternStore store = new PatternStore(vectorTargetPatterns);
+        StandardPatternDataTable view = store.view(new int[] {1, 0});
+
+        Assert.assertTrue(view.isView());
+        Assert.assertEquals(2, view.size());
+        Assert.assertEquals(vectorTargetPatterns.getRow(1), view.getRow(0));
+        Assert.assertSame(store.get(1), view.iterator().next());
+
+        StandardPatternDataTable copy = view.getClone();
+        Assert.assertTrue(copy.isView());
+        Assert.assertSame(store.get(0), copy.select(new int[] {1}).iterator().next());
+    }
+
+    @Test
+    public void testViewCopyOnWrite() {
+        PatternStore store = new PatternStore(stringTargetPatterns);
+        StandardPatternDataTable view = store.view();
+        StandardPattern original = view.getRow(0);
+
+        view.setRow(0, vectorTargetPatterns.getRow(0));
+
+        Assert.assertFalse(view.isView());
+        Assert.assertEquals(vectorTargetPatterns.getRow(0), view.getRow(0));
+        Assert.assertEquals(original, store.get(0));
+        Assert.assertTrue(store.view().isView());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSelectRangeBeyondTable() {
+        new PatternStore(vectorTargetPatterns).view().select(1, vectorTargetPatterns.size() + 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSelectReversedRange() {
+        vectorTargetPatterns.select(1, 0);
+    }
+
+    @Test
+    public void testPermuteAndConcatView() {
+        PatternStore store = new PatternStore(vectorTargetPatterns);
+        StandardPatternDataTable view = store.view();
+
+        view.permute(new int[] {1, 0});
+        Assert.assertTrue(view.isView());
+        Assert.assertSame(store.get(1), view.iterator().next());
+
+        StandardPatternDataTable joined = view.select(1, 2).concat(store.view(new int[] {1}));
+        Assert.assertTrue(joined.isView());
+        Assert.assertEquals(2, joined.size());
+        Assert.assertEquals(store.get(0), joined.getRow(0));
+        Assert.assertEquals(store.get(1), joined.getRow(1));
+    }
 }
@@ -6,11 +6,16 @@
  */
 package net.sourceforge.cilib.io.transform;
 
+import com.google.common.collect.Sets;
 import java.util.List;
+import java.util.Set;
 import net.sourceforge.cilib.io.DataTable;
 import net.sourceforge.cilib.io.DataTableBuilder;
 import net.sourceforge.cilib.io.DelimitedTextFileReader;
+import net.sourceforge.cilib.io.PatternStore;
+import net.sourceforge.cilib.io.StandardPatternDataTable;
 import net.sourceforge.cilib.io.exception.CIlibIOException;
+import net.sourceforge.cilib.io.pattern.StandardPattern;
 import net.sourceforge.cilib.type.types.StringType;
 import org.junit.Assert;
 import org.junit.BeforeClass;
@@ -44,4 +49,26 @@ public class ShuffleOperatorTest {
         }
     }
 
+    @Test
+    public void testShuffleView() throws CIlibIOException {
+        DataTableBuilder dataTableBuilder = new DataTableBuilder(new DelimitedTextFileReader());
+        dataTableBuilder.getDataReader().setSourceURL(testFilePath);
+        dataTableBuilder.addDataOperator(new TypeConversionOperator());
+        dataTableBuilder.addDataOperator(new PatternConversionOperator());
+        dataTableBuilder.buildDataTable();
+        PatternStore store = new PatternStore((StandardPatternDataTable) dataTableBuilder.getDataTable());
+        StandardPatternDataTable view = store.view();
+
+        new ShuffleOperator().operate(view);
+
+        Assert.assertTrue(view.isView());
+        Set<StandardPattern> patterns = Sets.newIdentityHashSet();
+        for (StandardPattern pattern : view) {
+            patterns.add(pattern);
+        }
+        Assert.assertEquals(store.size(), patterns.size());
+        for (int i = 0; i < store.size(); i++) {
+            Assert.assertTrue(patterns.contains(store.get(i)));
+        }
+    }
 }
@@ -0,0 +1,95 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.math.random;
+
+import java.util.Arrays;
+import java.util.List;
+import net.sourceforge.cilib.math.random.generator.Rand;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+public class ProbabilityDistributionFunctionTest {
+
+    private static final List<? extends TwoParameterDistributionFunction> DISTRIBUTIONS = Arrays.asList(
+            new GaussianDistribution(), new CauchyDistribution(), new LaplaceDistribution(),
+            new LevyDistribution(), new UniformDistribution(), new GammaDistribution());
+
+    @Test
+    public void fillDrawsInOrder() {
+        for (TwoParameterDistributionFunction distribution : DISTRIBUTIONS) {
+            double[] expected = new double[10];
+            Rand.setSeed(0);
+            for (int i = 0; i < expected.length; i++) {
+                expected[i] = distribution.getRandomNumber(1.0, 2.0);
+            }
+
+            double[] values = new double[10];
+            Rand.setSeed(0);
+            distribution.fill(values, 1.0, 2.0);
+
+            assertArrayEquals(expected, values, 0.0);
+        }
+    }
+
+    @Test
+    public void fixedArityMatchesVarargs() {
+        for (TwoParameterDistributionFunction distribution : DISTRIBUTIONS) {
+            Rand.setSeed(0);
+            double expected = distribution.getRandomNumber(new double[] {1.0, 2.0});
+            Rand.setSeed(0);
+            assertEquals(expected, distribution.getRandomNumber(1.0, 2.0), 0.0);
+        }
+    }
+
+    @Test
+    public void exponentialFill() {
+        ExponentialDistribution distribution = new ExponentialDistribution();
+        double[] values = new double[10];
+        Rand.setSeed(0);
+        distribution.fill(values, 2.0);
+
+        Rand.setSeed(0);
+        for (double value : values) {
+            assertEquals(distribution.getRandomNumber(2.0), value, 0.0);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void exponentialRequiresSingleParameter() {
+        new ExponentialDistribution().getRandomNumber(1.0, 2.0);
+    }
+
+    @Test
+    public void laplaceMoments() {
+        Rand.setSeed(0);
+        double[] values = new double[100000];
+        new LaplaceDistribution().fill(values, 1.0, 2.0);
+
+        double sum = 0, sumSquares = 0;
+        for (double value : values) {
+            sum += value;
+            sumSquares += value * value;
+        }
+        double mean = sum / values.length;
+        assertEquals(1.0, mean, 0.05);
+        assertEquals(8.0, sumSquares / values.length - mean * mean, 0.3);
+    }
+
+    @Test
+    public void cauchyQuartiles() {
+        Rand.setSeed(0);
+        double[] values = new double[100000];
+        new CauchyDistribution().fill(values, 1.0, 2.0);
+
+        // The quartiles of a Cauchy distribution lie one scale from its location.
+        Arrays.sort(values);
+        assertEquals(-1.0, values[values.length / 4], 0.05);
+        assertEquals(1.0, values[values.length / 2], 0.05);
+        assertEquals(3.0, values[3 * values.length / 4], 0.05);
+    }
+}
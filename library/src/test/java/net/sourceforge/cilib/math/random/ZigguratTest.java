@@ -0,0 +1,58 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.math.random;
+
+import net.sourceforge.cilib.math.random.generator.Rand;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+public class ZigguratTest {
+
+    private static final int SAMPLES = 200000;
+
+    @Test
+    public void normalMoments() {
+        Rand.setSeed(0);
+        double sum = 0, sumSquares = 0;
+        int withinOne = 0, beyondThree = 0, beyondTail = 0;
+        for (int i = 0; i < SAMPLES; i++) {
+            double x = Ziggurat.normal();
+            sum += x;
+            sumSquares += x * x;
+            withinOne += Math.abs(x) < 1 ? 1 : 0;
+            beyondThree += Math.abs(x) > 3 ? 1 : 0;
+            beyondTail += Math.abs(x) > 3.5 ? 1 : 0;
+        }
+
+        double mean = sum / SAMPLES;
+        assertEquals(0.0, mean, 0.01);
+        assertEquals(1.0, sumSquares / SAMPLES - mean * mean, 0.015);
+        assertEquals(0.682689, (double) withinOne / SAMPLES, 0.005);
+        assertEquals(0.002700, (double) beyondThree / SAMPLES, 0.0006);
+        assertEquals(0.000465, (double) beyondTail / SAMPLES, 0.0002);
+    }
+
+    @Test
+    public void exponentialMoments() {
+        Rand.setSeed(0);
+        double sum = 0, sumSquares = 0;
+        int beyondOne = 0, beyondFive = 0;
+        for (int i = 0; i < SAMPLES; i++) {
+            double x = Ziggurat.exponential();
+            sum += x;
+            sumSquares += x * x;
+            beyondOne += x > 1 ? 1 : 0;
+            beyondFive += x > 5 ? 1 : 0;
+        }
+
+        double mean = sum / SAMPLES;
+        assertEquals(1.0, mean, 0.01);
+        assertEquals(1.0, sumSquares / SAMPLES - mean * mean, 0.03);
+        assertEquals(Math.exp(-1), (double) beyondOne / SAMPLES, 0.005);
+        assertEquals(Math.exp(-5), (double) beyondFive / SAMPLES, 0.0006);
+    }
+}
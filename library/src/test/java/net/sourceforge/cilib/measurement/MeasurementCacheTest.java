@@ -0,0 +1,126 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.measurement;
+
+import net.sourceforge.cilib.algorithm.Algorithm;
+import net.sourceforge.cilib.pso.PSO;
+import net.sourceforge.cilib.stoppingcondition.Maximum;
+import net.sourceforge.cilib.stoppingcondition.MeasuredStoppingCondition;
+import net.sourceforge.cilib.type.types.Real;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class MeasurementCacheTest {
+
+    private static int evaluations;
+
+    @Before
+    public void reset() {
+        evaluations = 0;
+    }
+
+    @Test
+    public void sharedWithinIteration() {
+        PSO pso = new PSO();
+        pso.performIteration();
+
+        assertEquals(10.0, MeasurementCache.getValue(new CountingMeasurement(10), pso).doubleValue(), 0.0);
+        assertEquals(10.0, MeasurementCache.getValue(new CountingMeasurement(10), pso).doubleValue(), 0.0);
+        assertEquals(1, evaluations);
+
+        assertEquals(20.0, MeasurementCache.getValue(new CountingMeasurement(20), pso).doubleValue(), 0.0);
+        assertEquals(2, evaluations);
+
+        pso.performIteration();
+        assertEquals(20.0, MeasurementCache.getValue(new CountingMeasurement(10), pso).doubleValue(), 0.0);
+        assertEquals(3, evaluations);
+    }
+
+    @Test
+    public void uncachedMeasurement() {
+        PSO pso = new PSO();
+        UncachedCountingMeasurement measurement = new UncachedCountingMeasurement(10);
+
+        MeasurementCache.getValue(measurement, pso);
+        MeasurementCache.getValue(measurement, pso);
+        assertEquals(2, evaluations);
+    }
+
+    @Test
+    public void suspendedDuringIteration() {
+        PSO pso = new PSO();
+        CountingMeasurement measurement = new CountingMeasurement(10);
+
+        pso.getMeasurementCache().suspend();
+        MeasurementCache.getValue(measurement, pso);
+        MeasurementCache.getValue(measurement, pso);
+        assertEquals(2, evaluations);
+
+        pso.getMeasurementCache().resume();
+        MeasurementCache.getValue(measurement, pso);
+        MeasurementCache.getValue(measurement, pso);
+        assertEquals(3, evaluations);
+    }
+
+    @Test
+    public void resumedAfterFailedIteration() {
+        PSO pso = new PSO() {
+            @Override
+            public void algorithmIteration() {
+                throw new IllegalStateException();
+            }
+        };
+        try {
+            pso.performIteration();
+        } catch (IllegalStateException e) {
+        }
+
+        MeasurementCache.getValue(new CountingMeasurement(10), pso);
+        MeasurementCache.getValue(new CountingMeasurement(10), pso);
+        assertEquals(1, evaluations);
+    }
+
+    @Test
+    public void sharedWithStoppingCondition() {
+        PSO pso = new PSO();
+        MeasuredStoppingCondition condition = new MeasuredStoppingCondition(new CountingMeasurement(1), new Maximum(), 4);
+        pso.addStoppingCondition(condition);
+        pso.performIteration();
+
+        assertEquals(0.25, pso.getPercentageComplete(), 0.0);
+        assertEquals(false, pso.isFinished());
+        assertEquals(1.0, MeasurementCache.getValue(new CountingMeasurement(1), pso).doubleValue(), 0.0);
+        assertEquals(1, evaluations);
+    }
+
+    private static class CountingMeasurement implements Measurement<Real> {
+        private final int value;
+
+        CountingMeasurement(int value) {
+            this.value = value;
+        }
+
+        @Override
+        public CountingMeasurement getClone() {
+            return this;
+        }
+
+        @Override
+        public Real getValue(Algorithm algorithm) {
+            evaluations++;
+            return Real.valueOf(value * algorithm.getIterations());
+        }
+    }
+
+    private static class UncachedCountingMeasurement extends CountingMeasurement implements UncachedMeasurement {
+        UncachedCountingMeasurement(int value) {
+            super(value);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.measurement.single.diversity;
+
+import fj.data.List;
+import net.sourceforge.cilib.algorithm.population.SinglePopulationBasedAlgorithm;
+import net.sourceforge.cilib.pso.particle.Particle;
+import net.sourceforge.cilib.pso.particle.StandardParticle;
+import net.sourceforge.cilib.type.types.container.Vector;
+import net.sourceforge.cilib.util.distancemeasure.ManhattanDistanceMeasure;
+import org.junit.Assert;
+import org.junit.Test;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class AverageDiversityAroundAllEntitiesTest {
+
+    private static SinglePopulationBasedAlgorithm createAlgorithm() {
+        Particle p1 = new StandardParticle();
+        Particle p2 = new StandardParticle();
+        Particle p3 = new StandardParticle();
+
+        p1.setPosition(Vector.of(0, 0));
+        p2.setPosition(Vector.of(3, 4));
+        p3.setPosition(Vector.of(0, 4));
+
+        SinglePopulationBasedAlgorithm algorithm = mock(SinglePopulationBasedAlgorithm.class);
+        when(algorithm.getTopology()).thenReturn(List.list(p1, p2, p3));
+        return algorithm;
+    }
+
+    @Test
+    public void meanDistance() {
+        AverageDiversityAroundAllEntities diversity = new AverageDiversityAroundAllEntities();
+        // the distances are 5, 4 and 3, each counted twice, over 9 pairs
+        Assert.assertEquals(24.0 / 9.0, diversity.getValue(createAlgorithm()).doubleValue(), 1e-12);
+
+        diversity.setDistanceMeasure(new ManhattanDistanceMeasure());
+        Assert.assertEquals(28.0 / 9.0, diversity.getValue(createAlgorithm()).doubleValue(), 1e-12);
+    }
+
+    @Test
+    public void rootMeanSquareDistance() {
+        AverageDiversityAroundAllEntities diversity = new AverageDiversityAroundAllEntities();
+        diversity.setRootMeanSquare(true);
+        Assert.assertEquals(Math.sqrt(2 * (25.0 + 16.0 + 9.0) / 9.0), diversity.getValue(createAlgorithm()).doubleValue(), 1e-12);
+        Assert.assertTrue(diversity.getClone().isRootMeanSquare());
+    }
+
+    @Test
+    public void emptyTopologyHasNoDiversity() {
+        SinglePopulationBasedAlgorithm algorithm = mock(SinglePopulationBasedAlgorithm.class);
+        when(algorithm.getTopology()).thenReturn(List.nil());
+
+        AverageDiversityAroundAllEntities diversity = new AverageDiversityAroundAllEntities();
+        Assert.assertEquals(0.0, diversity.getValue(algorithm).doubleValue(), 0.0);
+        diversity.setRootMeanSquare(true);
+        Assert.assertEquals(0.0, diversity.getValue(algorithm).doubleValue(), 0.0);
+    }
+}
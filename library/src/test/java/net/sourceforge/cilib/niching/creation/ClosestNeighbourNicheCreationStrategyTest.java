@@ -39,5 +39,7 @@ public class ClosestNeighbourNicheCreationStrategyTest {
         Assert.assertEquals(2, swarms._2().head().getTopology().length());
         Assert.assertEquals(Vector.of(0.0, 1.0), ((Entity) swarms._2().head().getTopology().head()).getPosition());
         Assert.assertEquals(Vector.of(1.0, 1.0), ((Entity) swarms._2().head().getTopology().index(1)).getPosition());
+        Assert.assertSame(p1, swarms._2().head().getTopology().head());
+        Assert.assertSame(p3, swarms._1().getTopology().head());
     }
 }
@@ -0,0 +1,74 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.niching.iterators;
+
+import fj.data.List;
+import net.sourceforge.cilib.algorithm.initialisation.ClonedPopulationInitialisationStrategy;
+import net.sourceforge.cilib.algorithm.population.SinglePopulationBasedAlgorithm;
+import net.sourceforge.cilib.entity.Entity;
+import net.sourceforge.cilib.functions.continuous.unconstrained.Spherical;
+import net.sourceforge.cilib.math.random.generator.Rand;
+import net.sourceforge.cilib.niching.NichingSwarms;
+import net.sourceforge.cilib.problem.FunctionOptimisationProblem;
+import net.sourceforge.cilib.pso.PSO;
+import net.sourceforge.cilib.pso.particle.StandardParticle;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ParallelSwarmsIteratorTest {
+
+    private static NichingSwarms createSwarms() {
+        FunctionOptimisationProblem problem = new FunctionOptimisationProblem();
+        problem.setDomain("R(-5.12:5.12)^5");
+        problem.setFunction(new Spherical());
+
+        List<SinglePopulationBasedAlgorithm> subswarms = List.nil();
+        for (int i = 0; i < 4; i++) {
+            PSO pso = new PSO();
+            ClonedPopulationInitialisationStrategy init = new ClonedPopulationInitialisationStrategy();
+            init.setEntityType(new StandardParticle());
+            init.setEntityNumber(5);
+            pso.setInitialisationStrategy(init);
+            pso.setOptimisationProblem(problem);
+            pso.performInitialisation();
+            subswarms = subswarms.snoc(pso);
+        }
+        return NichingSwarms.of(new PSO(), subswarms);
+    }
+
+    @Test
+    public void testDeterministicStreams() {
+        Rand.setSeed(13);
+        NichingSwarms parallel = createSwarms();
+        ParallelSwarmsIterator iterator = new ParallelSwarmsIterator();
+        iterator.setIterator(new SingleNicheIteration());
+        parallel = iterator.f(parallel);
+
+        Rand.setSeed(13);
+        NichingSwarms sequential = createSwarms();
+        long[] seeds = new long[sequential.getSubswarms().length()];
+        for (int i = 0; i < seeds.length; i++) {
+            seeds[i] = Rand.nextLong();
+        }
+        int i = 0;
+        for (SinglePopulationBasedAlgorithm swarm : sequential.getSubswarms()) {
+            Rand.setSeed(seeds[i++]);
+            swarm.performIteration();
+        }
+
+        Assert.assertEquals(4, parallel.getSubswarms().length());
+        for (int s = 0; s < 4; s++) {
+            SinglePopulationBasedAlgorithm expected = sequential.getSubswarms().index(s);
+            SinglePopulationBasedAlgorithm actual = parallel.getSubswarms().index(s);
+            Assert.assertEquals(1, actual.getIterations());
+            for (int p = 0; p < 5; p++) {
+                Assert.assertEquals(((Entity) expected.getTopology().index(p)).getPosition(),
+                        ((Entity) actual.getTopology().index(p)).getPosition());
+            }
+        }
+    }
+}
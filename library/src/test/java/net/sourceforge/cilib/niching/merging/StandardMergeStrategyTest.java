@@ -6,6 +6,7 @@
  */
 package net.sourceforge.cilib.niching.merging;
 
+import net.sourceforge.cilib.algorithm.population.SinglePopulationBasedAlgorithm;
 import net.sourceforge.cilib.niching.NichingFunctionsTest;
 import net.sourceforge.cilib.problem.solution.MinimisationFitness;
 import net.sourceforge.cilib.pso.PSO;
@@ -35,4 +36,28 @@ public class StandardMergeStrategyTest {
         Assert.assertEquals(4, merge.f(pso1, pso2).getTopology().length());
         Assert.assertEquals(merge.f(pso1, pso2).getBestSolution().getPosition(), pso2.getBestSolution().getPosition());
     }
+
+    @Test
+    public void testEntitiesMoved() {
+        PSO pso1 = new PSO();
+        PSO pso2 = new PSO();
+
+        Particle p1 = NichingFunctionsTest.createParticle(new MinimisationFitness(1.0), Vector.of(0.0, 0.0));
+        Particle p2 = NichingFunctionsTest.createParticle(new MinimisationFitness(0.0), Vector.of(1.0, 1.0));
+        Particle p3 = NichingFunctionsTest.createParticle(new MinimisationFitness(2.0), Vector.of(2.0, 2.0));
+
+        pso1.setTopology(fj.data.List.list(p1));
+        pso2.setTopology(fj.data.List.list(p2, p3));
+
+        SinglePopulationBasedAlgorithm merged = new StandardMergeStrategy().f(pso1, pso2);
+
+        Assert.assertNotSame(pso1, merged);
+        Assert.assertSame(p1, merged.getTopology().index(0));
+        Assert.assertSame(p2, merged.getTopology().index(1));
+        Assert.assertSame(p3, merged.getTopology().index(2));
+        Assert.assertSame(p2, p3.getNeighbourhoodBest());
+        Assert.assertSame(p1.getBehaviour(), p3.getBehaviour());
+        Assert.assertEquals(fj.data.List.list(p1), pso1.getTopology());
+        Assert.assertEquals(fj.data.List.list(p2, p3), pso2.getTopology());
+    }
 }
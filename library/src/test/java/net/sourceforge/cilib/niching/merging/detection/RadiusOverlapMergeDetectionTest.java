@@ -6,9 +6,13 @@
  */
 package net.sourceforge.cilib.niching.merging.detection;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import fj.data.List;
+import net.sourceforge.cilib.algorithm.population.SinglePopulationBasedAlgorithm;
 import net.sourceforge.cilib.math.Maths;
+import net.sourceforge.cilib.math.random.generator.MersenneTwister;
 import net.sourceforge.cilib.niching.NichingFunctionsTest;
 import net.sourceforge.cilib.problem.solution.MinimisationFitness;
 import net.sourceforge.cilib.pso.PSO;
@@ -71,4 +75,35 @@ public class RadiusOverlapMergeDetectionTest {
 
         assertTrue(detector.f(pso1, pso2));
     }
+
+    @Test
+    public void testPreparedDetection() {
+        RadiusOverlapMergeDetection detector = new RadiusOverlapMergeDetection();
+        MersenneTwister random = new MersenneTwister(11);
+
+        List<SinglePopulationBasedAlgorithm> swarms = List.nil();
+        for (int i = 0; i < 60; i++) {
+            double x = random.nextDouble() * 20;
+            double y = random.nextDouble() * 20;
+            PSO pso = new PSO();
+            pso.setTopology(List.list(
+                    NichingFunctionsTest.createParticle(new MinimisationFitness(0.0), Vector.of(x, y)),
+                    NichingFunctionsTest.createParticle(new MinimisationFitness(1.0),
+                        Vector.of(x + random.nextDouble(), y - random.nextDouble()))));
+            swarms = swarms.cons(pso);
+        }
+        // single entity swarms, as used for absorption
+        swarms = swarms.cons(new PSO());
+        swarms.head().setTopology(List.list(NichingFunctionsTest.createParticle(new MinimisationFitness(0.0), Vector.of(5.0, 5.0))));
+
+        MergeDetection prepared = detector.prepare(swarms);
+        for (SinglePopulationBasedAlgorithm swarm : swarms) {
+            List<SinglePopulationBasedAlgorithm> expected = swarms.filter(detector.f(swarm));
+            List<SinglePopulationBasedAlgorithm> actual = prepared.detect(swarm, swarms);
+            assertEquals(expected.length(), actual.length());
+            for (int i = 0; i < expected.length(); i++) {
+                assertTrue(expected.index(i) == actual.index(i));
+            }
+        }
+    }
 }
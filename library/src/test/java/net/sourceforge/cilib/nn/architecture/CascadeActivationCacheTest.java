@@ -0,0 +1,127 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.nn.architecture;
+
+import net.sourceforge.cilib.functions.activation.Linear;
+import net.sourceforge.cilib.io.StandardPatternDataTable;
+import net.sourceforge.cilib.io.pattern.StandardPattern;
+import net.sourceforge.cilib.math.Maths;
+import net.sourceforge.cilib.nn.NeuralNetwork;
+import net.sourceforge.cilib.nn.architecture.builder.CascadeArchitectureBuilder;
+import net.sourceforge.cilib.nn.architecture.builder.LayerConfiguration;
+import net.sourceforge.cilib.nn.architecture.visitors.CascadeVisitor;
+import net.sourceforge.cilib.nn.domain.PresetNeuronDomain;
+import net.sourceforge.cilib.type.StringBasedDomainRegistry;
+import net.sourceforge.cilib.type.types.container.Vector;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class CascadeActivationCacheTest {
+
+    private static NeuralNetwork createNetwork(int hiddenLayers) {
+        NeuralNetwork network = new NeuralNetwork();
+        network.getArchitecture().setArchitectureBuilder(new CascadeArchitectureBuilder());
+        network.getArchitecture().getArchitectureBuilder().addLayer(new LayerConfiguration(2, new Linear()));
+        for (int i = 0; i < hiddenLayers; i++) {
+            network.getArchitecture().getArchitectureBuilder().addLayer(new LayerConfiguration(1, new Linear()));
+        }
+        network.getArchitecture().getArchitectureBuilder().addLayer(new LayerConfiguration(2, new Linear()));
+        StringBasedDomainRegistry domain = new StringBasedDomainRegistry();
+        domain.setDomainString("R(-3:3)");
+        PresetNeuronDomain domainProvider = new PresetNeuronDomain();
+        domainProvider.setWeightDomainPrototype(domain);
+        network.getArchitecture().getArchitectureBuilder().getLayerBuilder().setDomainProvider(domainProvider);
+        network.setOperationVisitor(new CascadeVisitor());
+        network.initialise();
+        return network;
+    }
+
+    private static StandardPatternDataTable createPatterns() {
+        StandardPatternDataTable patterns = new StandardPatternDataTable();
+        patterns.addRow(new StandardPattern(Vector.of(0.1, 0.2), Vector.of(0, 0)));
+        patterns.addRow(new StandardPattern(Vector.of(0.2, 0.4), Vector.of(0, 0)));
+        patterns.addRow(new StandardPattern(Vector.of(-0.3, 0.5), Vector.of(0, 0)));
+        return patterns;
+    }
+
+    @Test
+    public void testIncrementalUpdate() {
+        StandardPatternDataTable patterns = createPatterns();
+        CascadeActivationCache cache = new CascadeActivationCache();
+
+        NeuralNetwork network = createNetwork(1);
+        network.setWeights(Vector.of(0.1, 0.2, 0.3, 0.4, 0.5, 0.6, 0.7, 0.8, 0.9, 1.0, 1.1));
+        cache.update(network.getArchitecture(), patterns);
+        assertEquals(4, cache.getNumUnits());
+        double[] firstHidden = cache.getColumns()[3];
+
+        network = createNetwork(2);
+        network.setWeights(Vector.of(0.1, 0.2, 0.3, 0.4, 0.5, 0.6, 0.7, 0.8, 0.9, 1.0,
+                                     1.1, 1.2, 1.3, 1.4, 1.5, 1.6, 1.7));
+        cache.update(network.getArchitecture(), patterns);
+        assertEquals(5, cache.getNumUnits());
+        assertSame(firstHidden, cache.getColumns()[3]);
+
+        for (int curPattern = 0; curPattern < patterns.size(); curPattern++) {
+            Vector input = patterns.getRow(curPattern).getVector();
+            double hn1 = 0.1 * input.doubleValueOf(0) + 0.2 * input.doubleValueOf(1) + 0.3 * -1;
+            double hn2 = 0.4 * input.doubleValueOf(0) + 0.5 * input.doubleValueOf(1) + 0.6 * -1 + 0.7 * hn1;
+            assertEquals(input.doubleValueOf(0), cache.getActivation(0, curPattern), Maths.EPSILON);
+            assertEquals(-1.0, cache.getActivation(2, curPattern), Maths.EPSILON);
+            assertEquals(hn1, cache.getActivation(3, curPattern), Maths.EPSILON);
+            assertEquals(hn2, cache.getActivation(4, curPattern), Maths.EPSILON);
+        }
+
+        network.setWeights(Vector.of(0.1, 0.2, 0.3, 0.4, 0.5, 0.6, 0.0, 0.8, 0.9, 1.0,
+                                     1.1, 1.2, 1.3, 1.4, 1.5, 1.6, 1.7));
+        cache.update(network.getArchitecture(), patterns);
+        assertSame(firstHidden, cache.getColumns()[3]);
+        assertEquals(0.4 * 0.1 + 0.5 * 0.2 - 0.6, cache.getActivation(4, 0), Maths.EPSILON);
+    }
+
+    @Test
+    public void testReorderedPatterns() {
+        StandardPatternDataTable patterns = createPatterns();
+        CascadeActivationCache cache = new CascadeActivationCache();
+
+        NeuralNetwork network = createNetwork(1);
+        network.setWeights(Vector.of(0.1, 0.2, 0.3, 0.4, 0.5, 0.6, 0.7, 0.8, 0.9, 1.0, 1.1));
+        cache.update(network.getArchitecture(), patterns);
+        double first = cache.getActivation(3, 0);
+        double last = cache.getActivation(3, 2);
+
+        patterns.permute(new int[] {2, 1, 0});
+        cache.update(network.getArchitecture(), patterns);
+
+        assertEquals(last, cache.getActivation(3, 0), 0.0);
+        assertEquals(first, cache.getActivation(3, 2), 0.0);
+        assertEquals(0, cache.indexOf(patterns.iterator().next()));
+    }
+
+    @Test
+    public void testCachedVisitor() {
+        StandardPatternDataTable patterns = createPatterns();
+        NeuralNetwork network = createNetwork(2);
+        network.setWeights(Vector.of(0.1, 0.2, 0.3, 0.4, 0.5, 0.6, 0.7, 0.8, 0.9, 1.0,
+                                     1.1, 1.2, 1.3, 1.4, 1.5, 1.6, 1.7));
+
+        CascadeActivationCache cache = new CascadeActivationCache();
+        cache.update(network.getArchitecture(), patterns);
+        CascadeVisitor cachedVisitor = new CascadeVisitor();
+        cachedVisitor.setActivationCache(cache);
+
+        for (StandardPattern pattern : patterns) {
+            Vector expected = network.evaluatePattern(pattern);
+            cachedVisitor.setInput(pattern);
+            cachedVisitor.visit(network.getArchitecture());
+            assertEquals(expected.doubleValueOf(0), cachedVisitor.getOutput().doubleValueOf(0), 0.0);
+            assertEquals(expected.doubleValueOf(1), cachedVisitor.getOutput().doubleValueOf(1), 0.0);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.pso.dynamic;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import net.sourceforge.cilib.problem.solution.MOFitness;
+import net.sourceforge.cilib.problem.solution.MinimisationFitness;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ReevaluationsTest {
+
+    @Test
+    public void singleObjectiveChange() {
+        Assert.assertFalse(Reevaluations.hasChanged(new MinimisationFitness(1.0), new MinimisationFitness(1.0005), 0.001));
+        Assert.assertTrue(Reevaluations.hasChanged(new MinimisationFitness(1.0), new MinimisationFitness(1.01), 0.001));
+    }
+
+    @Test
+    public void multiObjectiveChange() {
+        MOFitness previous = createMOFitness(1.0, 2.0);
+        MOFitness same = createMOFitness(1.0, 2.0);
+        MOFitness changed = createMOFitness(1.0, 3.0);
+
+        Assert.assertFalse(Reevaluations.hasChanged(previous, same, 0.001));
+        Assert.assertTrue(Reevaluations.hasChanged(previous, changed, 0.001));
+    }
+
+    private static MOFitness createMOFitness(double... values) {
+        MOFitness fitness = mock(MOFitness.class);
+        when(fitness.getDimension()).thenReturn(values.length);
+        for (int i = 0; i < values.length; i++) {
+            when(fitness.getFitness(i)).thenReturn(new MinimisationFitness(values[i]));
+        }
+        return fitness;
+    }
+}
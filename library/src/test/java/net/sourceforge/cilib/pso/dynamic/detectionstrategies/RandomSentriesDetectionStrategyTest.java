@@ -0,0 +1,65 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.pso.dynamic.detectionstrategies;
+
+import net.sourceforge.cilib.controlparameter.ConstantControlParameter;
+import net.sourceforge.cilib.functions.continuous.unconstrained.Rastrigin;
+import net.sourceforge.cilib.functions.continuous.unconstrained.Spherical;
+import net.sourceforge.cilib.math.random.generator.Rand;
+import net.sourceforge.cilib.problem.FunctionOptimisationProblem;
+import net.sourceforge.cilib.pso.PSO;
+import net.sourceforge.cilib.pso.dynamic.DynamicIterationStrategy;
+import net.sourceforge.cilib.pso.dynamic.responsestrategies.ReevaluationReactionStrategy;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class RandomSentriesDetectionStrategyTest {
+
+    @Test
+    public void chargesSentriesUntilChange() {
+        for (boolean parallel : new boolean[] {false, true}) {
+            Rand.setSeed(0);
+            FunctionOptimisationProblem problem = new FunctionOptimisationProblem();
+            problem.setFunction(new Spherical());
+            problem.setDomain("R(-5.12:5.12)^5");
+
+            RandomSentriesDetectionStrategy detection = new RandomSentriesDetectionStrategy();
+            detection.setNumberOfSentries(ConstantControlParameter.of(5));
+            detection.setIterationsModulus(1);
+            detection.setParallel(parallel);
+
+            ReevaluationReactionStrategy response = new ReevaluationReactionStrategy();
+            response.setReevaluationRatio(0.5);
+            response.setParallel(parallel);
+
+            DynamicIterationStrategy strategy = new DynamicIterationStrategy();
+            strategy.setDetectionStrategy(detection);
+            strategy.setResponseStrategy(response);
+
+            PSO pso = new PSO();
+            pso.getInitialisationStrategy().setEntityNumber(20);
+            pso.setIterationStrategy(strategy);
+            pso.setOptimisationProblem(problem);
+            pso.performInitialisation();
+            pso.performIteration();
+            pso.performIteration();
+
+            // Every iteration evaluates the 20 particles and the 5 sentries.
+            int evaluations = problem.getFitnessEvaluations();
+            pso.performIteration();
+            Assert.assertEquals(evaluations + 25, problem.getFitnessEvaluations());
+
+            // Sequentially, the first sentry shows the change, while concurrently
+            // every sentry is evaluated. A change also re-evaluates 10 random
+            // particles, and then the whole swarm to update the neighbourhood bests.
+            problem.setFunction(new Rastrigin());
+            pso.performIteration();
+            int sentries = parallel ? 5 : 1;
+            Assert.assertEquals(evaluations + 25 + 20 + sentries + 10 + 20, problem.getFitnessEvaluations());
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.pso.velocityprovider;
+
+import java.util.Iterator;
+import net.sourceforge.cilib.algorithm.AbstractAlgorithm;
+import net.sourceforge.cilib.controlparameter.ConstantControlParameter;
+import net.sourceforge.cilib.controlparameter.ControlParameter;
+import net.sourceforge.cilib.controlparameter.LinearlyVaryingControlParameter;
+import net.sourceforge.cilib.controlparameter.RandomControlParameter;
+import net.sourceforge.cilib.math.random.generator.Rand;
+import net.sourceforge.cilib.pso.PSO;
+import net.sourceforge.cilib.pso.particle.Particle;
+import net.sourceforge.cilib.type.types.container.Vector;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class FDRVelocityProviderTest {
+
+    /**
+     * The velocity of every particle must be exactly that of the original
+     * implementation, which scanned the swarm for every dimension.
+     */
+    @Test
+    public void sameVelocityAsPerDimensionScan() {
+        checkAgainstPerDimensionScan(ConstantControlParameter.of(2.0));
+    }
+
+    /**
+     * The acceleration is read for every dimension, as in the original
+     * implementation, so a random acceleration gives the same velocities too.
+     */
+    @Test
+    public void sameVelocityWithRandomAcceleration() {
+        checkAgainstPerDimensionScan(new RandomControlParameter());
+    }
+
+    private static void checkAgainstPerDimensionScan(final ControlParameter acceleration) {
+        final FDRVelocityProvider provider = new FDRVelocityProvider();
+        provider.setFdrMaximizerAcceleration(acceleration);
+        final StandardVelocityProvider standard = new StandardVelocityProvider();
+        standard.setInertiaWeight(new LinearlyVaryingControlParameter(0.9, 0.4));
+        standard.setCognitiveAcceleration(ConstantControlParameter.of(1));
+        standard.setSocialAcceleration(ConstantControlParameter.of(2));
+
+        final int[] checked = new int[1];
+        VelocityProvider checking = new VelocityProvider() {
+            @Override
+            public Vector get(Particle particle) {
+                long seed = Rand.nextLong();
+                Rand.setSeed(seed);
+                Vector expected = perDimension(standard.get(particle), particle, acceleration);
+                Rand.setSeed(seed);
+                Vector velocity = provider.get(particle);
+                Assert.assertEquals(expected, velocity);
+                checked[0]++;
+                return velocity;
+            }
+
+            @Override
+            public VelocityProvider getClone() {
+                return this;
+            }
+        };
+
+        Rand.setSeed(0);
+        PSO pso = FIPSVelocityProviderTest.createPSO(checking);
+        pso.performInitialisation();
+        for (int i = 0; i < 3; i++) {
+            pso.performIteration();
+        }
+        Assert.assertEquals(24, checked[0]);
+    }
+
+    private static Vector perDimension(Vector standardVelocity, Particle particle, ControlParameter acceleration) {
+        Vector position = (Vector) particle.getPosition();
+
+        Vector.Builder builder = Vector.newBuilder();
+        for (int i = 0; i < particle.getDimension(); ++i) {
+            Iterator<Particle> swarmIterator = ((PSO) AbstractAlgorithm.get()).getTopology().iterator();
+            Particle fdrMaximizer = swarmIterator.next();
+            double maxFDR = 0.0;
+
+            while (swarmIterator.hasNext()) {
+                Particle currentTarget = swarmIterator.next();
+                if (currentTarget != particle) {
+                    double fitnessDifference = currentTarget.getBestFitness().getValue() - particle.getFitness().getValue();
+                    double testFDR = fitnessDifference
+                            / Math.abs(position.doubleValueOf(i) - ((Vector) currentTarget.getBestPosition()).doubleValueOf(i));
+                    if (testFDR > maxFDR) {
+                        maxFDR = testFDR;
+                        fdrMaximizer = currentTarget;
+                    }
+                }
+            }
+
+            builder.add(standardVelocity.doubleValueOf(i) + acceleration.getParameter() * Rand.nextDouble()
+                    * (((Vector) fdrMaximizer.getBestPosition()).doubleValueOf(i) - position.doubleValueOf(i)));
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,97 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.pso.velocityprovider;
+
+import net.sourceforge.cilib.algorithm.AbstractAlgorithm;
+import net.sourceforge.cilib.entity.topologies.LBestNeighbourhood;
+import net.sourceforge.cilib.functions.continuous.unconstrained.Spherical;
+import net.sourceforge.cilib.math.random.generator.Rand;
+import net.sourceforge.cilib.problem.FunctionOptimisationProblem;
+import net.sourceforge.cilib.pso.PSO;
+import net.sourceforge.cilib.pso.behaviour.StandardParticleBehaviour;
+import net.sourceforge.cilib.pso.particle.Particle;
+import net.sourceforge.cilib.pso.particle.StandardParticle;
+import net.sourceforge.cilib.type.types.container.Vector;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class FIPSVelocityProviderTest {
+
+    /**
+     * The velocity of every particle must be exactly that of the original
+     * implementation, which determined the neighbourhood for every dimension.
+     */
+    @Test
+    public void sameVelocityAsPerDimensionNeighbourhood() {
+        final FIPSVelocityProvider provider = new FIPSVelocityProvider();
+        final int[] checked = new int[1];
+        VelocityProvider checking = new VelocityProvider() {
+            @Override
+            public Vector get(Particle particle) {
+                long seed = Rand.nextLong();
+                Rand.setSeed(seed);
+                Vector expected = perDimension(particle);
+                Rand.setSeed(seed);
+                Vector velocity = provider.get(particle);
+                Assert.assertEquals(expected, velocity);
+                checked[0]++;
+                return velocity;
+            }
+
+            @Override
+            public VelocityProvider getClone() {
+                return this;
+            }
+        };
+
+        Rand.setSeed(0);
+        PSO pso = createPSO(checking);
+        pso.setNeighbourhood(new LBestNeighbourhood<Particle>());
+        pso.performInitialisation();
+        for (int i = 0; i < 3; i++) {
+            pso.performIteration();
+        }
+        Assert.assertEquals(24, checked[0]);
+    }
+
+    static PSO createPSO(VelocityProvider velocityProvider) {
+        StandardParticleBehaviour behaviour = new StandardParticleBehaviour();
+        behaviour.setVelocityProvider(velocityProvider);
+        StandardParticle particle = new StandardParticle();
+        particle.setBehaviour(behaviour);
+
+        FunctionOptimisationProblem problem = new FunctionOptimisationProblem();
+        problem.setFunction(new Spherical());
+        problem.setDomain("R(-5.12:5.12)^4");
+
+        PSO pso = new PSO();
+        pso.setOptimisationProblem(problem);
+        pso.getInitialisationStrategy().setEntityNumber(8);
+        pso.getInitialisationStrategy().setEntityType(particle);
+        return pso;
+    }
+
+    private static Vector perDimension(Particle particle) {
+        Vector velocity = (Vector) particle.getVelocity();
+        Vector position = (Vector) particle.getPosition();
+        PSO algorithm = (PSO) AbstractAlgorithm.get();
+
+        Vector.Builder builder = Vector.newBuilder();
+        for (int i = 0; i < particle.getDimension(); ++i) {
+            double informationSum = 0.0;
+            int numberOfNeighbours = 0;
+            for (Particle currentTarget : algorithm.getNeighbourhood().f(algorithm.getTopology(), particle)) {
+                double randomComponent = (1.496180 + 1.496180) * Rand.nextDouble();
+                informationSum += randomComponent
+                        * (((Vector) currentTarget.getBestPosition()).doubleValueOf(i) - position.doubleValueOf(i));
+                numberOfNeighbours++;
+            }
+            builder.add(0.729844 * (velocity.doubleValueOf(i) + (informationSum / numberOfNeighbours)));
+        }
+        return builder.build();
+    }
+}
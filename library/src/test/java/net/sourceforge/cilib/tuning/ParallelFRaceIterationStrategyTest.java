@@ -0,0 +1,339 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.tuning;
+
+import fj.data.List;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.sourceforge.cilib.algorithm.AbstractAlgorithm;
+import net.sourceforge.cilib.functions.continuous.unconstrained.Spherical;
+import net.sourceforge.cilib.math.random.generator.Rand;
+import net.sourceforge.cilib.measurement.generic.Iterations;
+import net.sourceforge.cilib.problem.FunctionOptimisationProblem;
+import net.sourceforge.cilib.problem.solution.MinimisationFitness;
+import net.sourceforge.cilib.problem.solution.OptimisationSolution;
+import net.sourceforge.cilib.stoppingcondition.Maximum;
+import net.sourceforge.cilib.stoppingcondition.MeasuredStoppingCondition;
+import net.sourceforge.cilib.tuning.problem.StandardProblemGenerator;
+import net.sourceforge.cilib.type.types.container.Vector;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ParallelFRaceIterationStrategyTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * A target algorithm of which the fitness is the tuned parameter plus some noise.
+     */
+    private static class NoisyParameterAlgorithm extends AbstractAlgorithm {
+        private static final AtomicInteger runs = new AtomicInteger();
+        private final TuningControlParameter parameter = new TuningControlParameter();
+        private double value;
+
+        NoisyParameterAlgorithm() {
+        }
+
+        NoisyParameterAlgorithm(NoisyParameterAlgorithm copy) {
+            super(copy);
+        }
+
+        @Override
+        public NoisyParameterAlgorithm getClone() {
+            return new NoisyParameterAlgorithm(this);
+        }
+
+        @Override
+        public void algorithmInitialisation() {
+            runs.incrementAndGet();
+        }
+
+        @Override
+        protected void algorithmIteration() {
+            // the parameter vectors share a seed, so decorrelate their noise
+            for (int i = 0; i < parameter.getParameter(); i++) {
+                Rand.nextDouble();
+            }
+            value = parameter.getParameter() + 1.5 * Rand.nextDouble();
+        }
+
+        @Override
+        public OptimisationSolution getBestSolution() {
+            return new OptimisationSolution(Vector.of(value), new MinimisationFitness(value));
+        }
+
+        @Override
+        public Iterable<OptimisationSolution> getSolutions() {
+            return Arrays.asList(getBestSolution());
+        }
+    }
+
+    /**
+     * A target algorithm of which the fitness is the number of fitness evaluations
+     * counted by its problem, which it evaluates once per iteration.
+     */
+    private static class CountingAlgorithm extends AbstractAlgorithm {
+        CountingAlgorithm() {
+        }
+
+        CountingAlgorithm(CountingAlgorithm copy) {
+            super(copy);
+        }
+
+        @Override
+        public CountingAlgorithm getClone() {
+            return new CountingAlgorithm(this);
+        }
+
+        @Override
+        public void algorithmInitialisation() {
+        }
+
+        @Override
+        protected void algorithmIteration() {
+            optimisationProblem.getFitness(Vector.of(0.0, 0.0));
+        }
+
+        @Override
+        public OptimisationSolution getBestSolution() {
+            int evaluations = optimisationProblem.getFitnessEvaluations();
+            return new OptimisationSolution(Vector.of(evaluations), new MinimisationFitness((double) evaluations));
+        }
+
+        @Override
+        public Iterable<OptimisationSolution> getSolutions() {
+            return Arrays.asList(getBestSolution());
+        }
+    }
+
+    private static TuningAlgorithm createTuningAlgorithm(int samples) {
+        FunctionOptimisationProblem problem = new FunctionOptimisationProblem();
+        problem.setFunction(new Spherical());
+        problem.setDomain("R(-1:1)^2");
+        StandardProblemGenerator problems = new StandardProblemGenerator();
+        problems.addProblem(problem);
+
+        NoisyParameterAlgorithm target = new NoisyParameterAlgorithm();
+        target.addStoppingCondition(new MeasuredStoppingCondition(
+                new Iterations(), new Maximum(), 3));
+
+        TuningProblem tuningProblem = new TuningProblem();
+        tuningProblem.setTargetAlgorithm(target);
+        tuningProblem.setProblemsProvider(problems);
+        tuningProblem.setSamples(samples);
+
+        TuningAlgorithm tuning = new TuningAlgorithm();
+        tuning.setOptimisationProblem(tuningProblem);
+        tuning.setIterationStrategy(new ParallelFRaceIterationStrategy());
+        tuning.setParameterList(List.list(Vector.of(3.0), Vector.of(1.0), Vector.of(0.0), Vector.of(2.0)));
+        return tuning;
+    }
+
+    @Test
+    public void testElimination() {
+        Rand.setSeed(3);
+        TuningAlgorithm tuning = createTuningAlgorithm(5);
+        tuning.performIteration();
+
+        assertEquals(List.list(Vector.of(0.0), Vector.of(1.0)), tuning.getParameterList());
+    }
+
+    @Test
+    public void testDeterministic() {
+        Rand.setSeed(11);
+        TuningAlgorithm first = createTuningAlgorithm(2);
+        for (int i = 0; i < 3; i++) {
+            first.performIteration();
+        }
+        double firstNext = Rand.nextDouble();
+
+        Rand.setSeed(11);
+        TuningAlgorithm second = createTuningAlgorithm(2);
+        for (int i = 0; i < 3; i++) {
+            second.performIteration();
+        }
+
+        assertEquals(first.getParameterList(), second.getParameterList());
+        assertEquals(firstNext, Rand.nextDouble(), 0.0);
+    }
+
+    @Test
+    public void testResume() throws Exception {
+        String file = folder.newFile("results").getPath();
+
+        Rand.setSeed(5);
+        TuningAlgorithm interrupted = createTuningAlgorithm(2);
+        ((TuningProblem) interrupted.getOptimisationProblem()).setResultCache(new ResultCache(file));
+        for (int i = 0; i < 3; i++) {
+            interrupted.performIteration();
+        }
+
+        Rand.setSeed(5);
+        TuningAlgorithm resumed = createTuningAlgorithm(2);
+        ((TuningProblem) resumed.getOptimisationProblem()).setResultCache(new ResultCache(file));
+        NoisyParameterAlgorithm.runs.set(0);
+        for (int i = 0; i < 3; i++) {
+            resumed.performIteration();
+        }
+        assertEquals(0, NoisyParameterAlgorithm.runs.get());
+        assertEquals(interrupted.getParameterList(), resumed.getParameterList());
+
+        resumed.performIteration();
+        assertTrue(NoisyParameterAlgorithm.runs.get() > 0);
+    }
+
+    @Test
+    public void testCachedSequentialRace() throws Exception {
+        String file = folder.newFile("results").getPath();
+
+        Rand.setSeed(5);
+        TuningAlgorithm first = createTuningAlgorithm(2);
+        first.setIterationStrategy(new FRaceIterationStrategy());
+        ((TuningProblem) first.getOptimisationProblem()).setResultCache(new ResultCache(file));
+        for (int i = 0; i < 2; i++) {
+            first.performIteration();
+        }
+
+        Rand.setSeed(5);
+        TuningAlgorithm second = createTuningAlgorithm(2);
+        second.setIterationStrategy(new FRaceIterationStrategy());
+        ((TuningProblem) second.getOptimisationProblem()).setResultCache(new ResultCache(file));
+        NoisyParameterAlgorithm.runs.set(0);
+        for (int i = 0; i < 2; i++) {
+            second.performIteration();
+        }
+        assertEquals(0, NoisyParameterAlgorithm.runs.get());
+        assertEquals(first.getParameterList(), second.getParameterList());
+    }
+
+    @Test
+    public void testCancelledRun() {
+        TuningAlgorithm tuning = createTuningAlgorithm(1);
+        final TuningProblem tuningProblem = (TuningProblem) tuning.getOptimisationProblem();
+        tuningProblem.nextProblem();
+        final TuningRun run = tuningProblem.createRun(Vector.of(1.0), 5);
+        run.cancel();
+
+        final double[] result = new double[1];
+        new TuningAlgorithm() {
+            @Override
+            protected void algorithmIteration() {
+                result[0] = run.call();
+            }
+        }.performIteration();
+
+        assertTrue(run.isCancelled());
+        assertTrue(Double.isNaN(result[0]));
+    }
+
+    @Test
+    public void testRunsCountEvaluationsIndependently() {
+        TuningAlgorithm tuning = createTuningAlgorithm(1);
+        final TuningProblem tuningProblem = (TuningProblem) tuning.getOptimisationProblem();
+        CountingAlgorithm target = new CountingAlgorithm();
+        target.addStoppingCondition(new MeasuredStoppingCondition(new Iterations(), new Maximum(), 3));
+        tuningProblem.setTargetAlgorithm(target);
+        tuningProblem.nextProblem();
+
+        final TuningRun first = tuningProblem.createRun(Vector.of(1.0), 5);
+        final TuningRun second = tuningProblem.createRun(Vector.of(2.0), 5);
+        final double[] results = new double[2];
+        new TuningAlgorithm() {
+            @Override
+            protected void algorithmIteration() {
+                results[0] = first.call();
+                results[1] = second.call();
+            }
+        }.performIteration();
+
+        assertEquals(3.0, results[0], 0.0);
+        assertEquals(3.0, results[1], 0.0);
+        assertEquals(0, tuningProblem.getCurrentProblem().getFitnessEvaluations());
+    }
+
+    @Test
+    public void testCacheDoesNotChangeResults() throws Exception {
+        // parallel samples are seeded in the same way as cached ones
+        Rand.setSeed(7);
+        TuningAlgorithm uncached = createTuningAlgorithm(2);
+        uncached.setIterationStrategy(new FRaceIterationStrategy());
+        ((TuningProblem) uncached.getOptimisationProblem()).setParallel(true);
+        for (int i = 0; i < 3; i++) {
+            uncached.performIteration();
+        }
+
+        Rand.setSeed(7);
+        TuningAlgorithm cached = createTuningAlgorithm(2);
+        cached.setIterationStrategy(new FRaceIterationStrategy());
+        ((TuningProblem) cached.getOptimisationProblem()).setResultCache(new ResultCache(folder.newFile("results").getPath()));
+        for (int i = 0; i < 3; i++) {
+            cached.performIteration();
+        }
+
+        assertEquals(uncached.getParameterList(), cached.getParameterList());
+    }
+
+    @Test
+    public void testSequentialSamplesContinueTheStream() {
+        Rand.setSeed(7);
+        TuningAlgorithm tuning = createTuningAlgorithm(2);
+        tuning.setIterationStrategy(new FRaceIterationStrategy());
+        tuning.performIteration();
+        double next = Rand.nextDouble();
+
+        // the same draws as the target algorithm makes, two samples of four parameter vectors
+        Rand.setSeed(7);
+        for (double parameter : new double[] {3.0, 1.0, 0.0, 2.0}) {
+            for (int sample = 0; sample < 2; sample++) {
+                for (int iteration = 0; iteration < 3; iteration++) {
+                    for (int i = 0; i <= parameter; i++) {
+                        Rand.nextDouble();
+                    }
+                }
+            }
+        }
+        assertEquals(Rand.nextDouble(), next, 0.0);
+    }
+
+    @Test
+    public void testEvaluationsCountedAsInSequentialRace() {
+        TuningAlgorithm sequential = createTuningAlgorithm(2);
+        sequential.setIterationStrategy(new FRaceIterationStrategy());
+        sequential.performIteration();
+        // one result per parameter vector
+        assertEquals(4, sequential.getOptimisationProblem().getFitnessEvaluations());
+
+        TuningAlgorithm parallel = createTuningAlgorithm(2);
+        parallel.performIteration();
+        // one result per parameter vector and sample
+        assertEquals(8, parallel.getOptimisationProblem().getFitnessEvaluations());
+    }
+
+    @Test
+    public void testProblemSpecification() {
+        TuningProblem threeIterations = (TuningProblem) createTuningAlgorithm(1).getOptimisationProblem();
+        threeIterations.nextProblem();
+        TuningProblem sameConfiguration = (TuningProblem) createTuningAlgorithm(1).getOptimisationProblem();
+        sameConfiguration.nextProblem();
+        TuningProblem fourIterations = (TuningProblem) createTuningAlgorithm(1).getOptimisationProblem();
+        NoisyParameterAlgorithm target = new NoisyParameterAlgorithm();
+        target.addStoppingCondition(new MeasuredStoppingCondition(new Iterations(), new Maximum(), 4));
+        fourIterations.setTargetAlgorithm(target);
+        fourIterations.nextProblem();
+
+        String specification = threeIterations.getProblemSpecification();
+        assertEquals(specification, sameConfiguration.getProblemSpecification());
+        assertFalse(specification.equals(fourIterations.getProblemSpecification()));
+        assertEquals(0, threeIterations.getCurrentProblem().getFitnessEvaluations());
+    }
+}
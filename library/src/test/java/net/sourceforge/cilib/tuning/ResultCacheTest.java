@@ -0,0 +1,69 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.tuning;
+
+import java.io.File;
+import java.io.FileWriter;
+import net.sourceforge.cilib.type.types.container.Vector;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+public class ResultCacheTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testKey() {
+        String key = ResultCache.key(Vector.of(0.5, 1.0), "problem", 42);
+        assertEquals(key, ResultCache.key(Vector.of(0.5, 1.0), "problem", 42));
+        assertFalse(key.equals(ResultCache.key(Vector.of(0.5, 1.5), "problem", 42)));
+        assertFalse(key.equals(ResultCache.key(Vector.of(0.5, 1.0), "other", 42)));
+        assertFalse(key.equals(ResultCache.key(Vector.of(0.5, 1.0), "problem", 43)));
+    }
+
+    @Test
+    public void testPersistence() throws Exception {
+        File file = new File(folder.getRoot(), "results");
+        ResultCache cache = new ResultCache(file.getPath());
+        cache.put("a", 0.1);
+        cache.put("b", -3.0e-300);
+        assertEquals(0.1, cache.get("a"), 0.0);
+
+        // an interrupted session leaves an incomplete line behind
+        FileWriter writer = new FileWriter(file, true);
+        writer.write("c 3fb99");
+        writer.close();
+
+        ResultCache reloaded = new ResultCache(file.getPath());
+        assertEquals(2, reloaded.size());
+        assertEquals(0.1, reloaded.get("a"), 0.0);
+        assertEquals(-3.0e-300, reloaded.get("b"), 0.0);
+        assertNull(reloaded.get("c"));
+
+        reloaded.put("d", 4.0);
+        assertEquals(3, new ResultCache(file.getPath()).size());
+    }
+
+    @Test
+    public void testClose() throws Exception {
+        File file = new File(folder.getRoot(), "results");
+        ResultCache cache = new ResultCache(file.getPath());
+        cache.put("a", 1.0);
+        cache.close();
+        cache.close();
+
+        cache.put("b", 2.0);
+        cache.close();
+        assertEquals(2, new ResultCache(file.getPath()).size());
+    }
+}
@@ -0,0 +1,58 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import net.sourceforge.cilib.math.random.generator.MersenneTwister;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class KDTreeTest {
+
+    @Test
+    public void queryMatchesLinearScan() {
+        MersenneTwister random = new MersenneTwister(3);
+        double[][] points = new double[500][3];
+        for (double[] point : points) {
+            for (int i = 0; i < point.length; i++) {
+                point[i] = random.nextInt(20) / 2.0;
+            }
+        }
+        KDTree tree = new KDTree(points);
+        assertEquals(500, tree.size());
+
+        for (int query = 0; query < 50; query++) {
+            double[] centre = {random.nextDouble() * 10, random.nextDouble() * 10, random.nextDouble() * 10};
+            double radius = random.nextDouble() * 3;
+
+            List<Integer> expected = new ArrayList<Integer>();
+            for (int i = 0; i < points.length; i++) {
+                if (Math.abs(points[i][0] - centre[0]) <= radius
+                        && Math.abs(points[i][1] - centre[1]) <= radius
+                        && Math.abs(points[i][2] - centre[2]) <= radius) {
+                    expected.add(i);
+                }
+            }
+
+            int[] result = tree.query(centre, radius);
+            int[] expectedArray = new int[expected.size()];
+            for (int i = 0; i < expectedArray.length; i++) {
+                expectedArray[i] = expected.get(i);
+            }
+            assertArrayEquals(expectedArray, result);
+        }
+    }
+
+    @Test
+    public void emptyTree() {
+        KDTree tree = new KDTree(new double[0][]);
+        assertEquals(0, tree.query(new double[] {0.0}, 1.0).length);
+    }
+}
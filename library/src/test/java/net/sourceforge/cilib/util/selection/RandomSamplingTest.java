@@ -0,0 +1,75 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.util.selection;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import net.sourceforge.cilib.math.random.generator.Rand;
+import net.sourceforge.cilib.util.selection.recipes.RandomSelector;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class RandomSamplingTest {
+
+    @Test
+    public void distinctIndicesWithoutExcluded() {
+        Rand.setSeed(0);
+        for (int number = 0; number <= 10; number++) {
+            int[] indices = RandomSampling.sampleIndices(10, number, 3, 7);
+            Assert.assertEquals(Math.min(number, 8), indices.length);
+
+            Set<Integer> distinct = new HashSet<Integer>();
+            for (int index : indices) {
+                Assert.assertTrue(index >= 0 && index < 10 && index != 3 && index != 7);
+                distinct.add(index);
+            }
+            Assert.assertEquals(indices.length, distinct.size());
+        }
+    }
+
+    @Test
+    public void indicesAreUniform() {
+        Rand.setSeed(0);
+        int[] counts = new int[5];
+        for (int i = 0; i < 20000; i++) {
+            for (int index : RandomSampling.sampleIndices(5, 2, 2)) {
+                counts[index]++;
+            }
+        }
+
+        Assert.assertEquals(0, counts[2]);
+        for (int i : new int[] {0, 1, 3, 4}) {
+            Assert.assertEquals(10000, counts[i], 300);
+        }
+    }
+
+    @Test
+    public void sampleElements() {
+        Rand.setSeed(0);
+        fj.data.List<String> elements = fj.data.List.list("a", "b", "c", "d");
+
+        List<String> sample = RandomSampling.sample(elements, 3, "b", "b");
+        Assert.assertEquals(3, sample.size());
+        Assert.assertFalse(sample.contains("b"));
+        Assert.assertEquals(new HashSet<String>(sample).size(), 3);
+
+        Assert.assertTrue(RandomSampling.sample(elements, 1, "a", "b", "c", "d").isEmpty());
+    }
+
+    @Test
+    public void sampleExcludesDuplicatesAndNulls() {
+        Rand.setSeed(0);
+        for (int i = 0; i < 100; i++) {
+            Assert.assertEquals(Arrays.asList("b"), RandomSampling.sample(Arrays.asList("a", "a", "b"), 1, "a"));
+            Assert.assertEquals(Arrays.asList("b"), RandomSampling.sample(Arrays.asList(null, "a", "b", null), 1, "a", null));
+        }
+        Assert.assertEquals(Arrays.asList((String) null), RandomSampling.sample(Arrays.asList(null, "a"), 1, "a"));
+        Assert.assertEquals("b", new RandomSelector<String>().on(Arrays.asList("a", "a", "b")).exclude("a").select());
+    }
+}
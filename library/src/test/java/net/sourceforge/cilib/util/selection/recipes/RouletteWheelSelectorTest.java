@@ -10,6 +10,7 @@ import com.google.common.collect.Lists;
 import java.util.List;
 import net.sourceforge.cilib.ec.Individual;
 import net.sourceforge.cilib.entity.Property;
+import net.sourceforge.cilib.math.random.generator.Rand;
 import net.sourceforge.cilib.problem.solution.InferiorFitness;
 import net.sourceforge.cilib.problem.solution.MaximisationFitness;
 import net.sourceforge.cilib.problem.solution.MinimisationFitness;
@@ -110,4 +111,45 @@ public class RouletteWheelSelectorTest {
         Assert.assertThat(selected, is(notNullValue()));
         Assert.assertThat(topology, hasItem(selected));
     }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void wheelOnEmpty() {
+        List<Integer> elements = Lists.newArrayList();
+        new RouletteWheelSelector<Integer>().wheel(elements);
+    }
+
+    @Test
+    public void wheelSelectsAsOften() {
+        List<String> elements = Lists.newArrayList("a", "b", "c", "d");
+        RouletteWheelSelector<String> selector = new RouletteWheelSelector<String>();
+        RouletteWheelSelector.Wheel<String> wheel = selector.wheel(elements);
+
+        Rand.setSeed(0);
+        int[] spins = new int[elements.size()];
+        int[] selections = new int[elements.size()];
+        for (int i = 0; i < 12000; i++) {
+            spins[elements.indexOf(wheel.spin())]++;
+            selections[elements.indexOf(selector.on(elements).select())]++;
+        }
+
+        // The linear weighting gives the elements weights 0, 1/3, 2/3 and 1.
+        for (int i = 0; i < elements.size(); i++) {
+            Assert.assertEquals(2000.0 * i, spins[i], 250.0);
+            Assert.assertEquals(2000.0 * i, selections[i], 250.0);
+        }
+    }
+
+    @Test
+    public void wheelMinimisationSelection() {
+        fj.data.List<Individual> topology = createDummyTopology();
+        topology.index(0).put(Property.FITNESS, new MinimisationFitness(10000.0));
+        topology.index(1).put(Property.FITNESS, new MinimisationFitness(10000.0));
+        topology.index(2).put(Property.FITNESS, new MinimisationFitness(0.00001));
+
+        RouletteWheelSelector<Individual> selection = new RouletteWheelSelector<Individual>(new EntityWeighting());
+        RouletteWheelSelector.Wheel<Individual> wheel = selection.wheel(topology);
+        for (int i = 0; i < 10; i++) {
+            Assert.assertThat(wheel.spin(), is(topology.index(2)));
+        }
+    }
 }
@@ -17,6 +17,7 @@ import java.util.List;
 
 import net.sourceforge.cilib.algorithm.Algorithm;
 import net.sourceforge.cilib.measurement.Measurement;
+import net.sourceforge.cilib.measurement.MeasurementCache;
 import net.sourceforge.cilib.measurement.StateAwareMeasurement;
 import net.sourceforge.cilib.type.types.Type;
 
@@ -93,7 +94,9 @@ public class MeasurementSuite {
      * {@linkplain Algorithm}. Any measurements that are
      * {@linkplain StateAwareMeasurement state aware} instances will
      * automatically have their internal state saved and restored
-     * as measurements are taken on the current {@linkplain Algorithm}.
+     * as measurements are taken on the current {@linkplain Algorithm}. The values
+     * of the other measurements are shared with the stopping conditions of the
+     * {@linkplain Algorithm} through its {@linkplain MeasurementCache}.
      * @param algorithm The {@linkplain Algorithm} to measure.
      */
     public void measure(Algorithm algorithm) {
@@ -108,7 +111,7 @@ public class MeasurementSuite {
                 value = measurement.getValue(algorithm);
                 measurementStateManager.getState(algorithm, stateAwareMeasurement);
             } else {
-                value = measurement.getValue(algorithm);
+                value = MeasurementCache.getValue(measurement, algorithm);
             }
 
             tmp[index++] = value;